@@ -0,0 +1,59 @@
+package io.neonbee.config;
+
+import java.util.Base64;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.impl.JsonUtil;
+
+/**
+ * Converter and mapper for {@link io.neonbee.config.DataCacheConfig}. NOTE: This class has been automatically generated
+ * from the {@link io.neonbee.config.DataCacheConfig} original class using Vert.x codegen.
+ */
+public class DataCacheConfigConverter {
+
+    private static final Base64.Decoder BASE64_DECODER = JsonUtil.BASE64_DECODER;
+
+    private static final Base64.Encoder BASE64_ENCODER = JsonUtil.BASE64_ENCODER;
+
+    static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, DataCacheConfig obj) {
+        for (java.util.Map.Entry<String, Object> member : json) {
+            switch (member.getKey()) {
+            case "contextKeys":
+                if (member.getValue() instanceof JsonArray) {
+                    java.util.ArrayList<java.lang.String> list = new java.util.ArrayList<>();
+                    ((Iterable<Object>) member.getValue()).forEach(item -> {
+                        if (item instanceof String)
+                            list.add((String) item);
+                    });
+                    obj.setContextKeys(list);
+                }
+                break;
+            case "maximumSize":
+                if (member.getValue() instanceof Number) {
+                    obj.setMaximumSize(((Number) member.getValue()).longValue());
+                }
+                break;
+            case "ttl":
+                if (member.getValue() instanceof Number) {
+                    obj.setTtl(((Number) member.getValue()).intValue());
+                }
+                break;
+            }
+        }
+    }
+
+    static void toJson(DataCacheConfig obj, JsonObject json) {
+        toJson(obj, json.getMap());
+    }
+
+    static void toJson(DataCacheConfig obj, java.util.Map<String, Object> json) {
+        if (obj.getContextKeys() != null) {
+            JsonArray array = new JsonArray();
+            obj.getContextKeys().forEach(item -> array.add(item));
+            json.put("contextKeys", array);
+        }
+        json.put("maximumSize", obj.getMaximumSize());
+        json.put("ttl", obj.getTtl());
+    }
+}
@@ -19,6 +19,11 @@ public class NeonBeeConfigConverter {
     static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, NeonBeeConfig obj) {
         for (java.util.Map.Entry<String, Object> member : json) {
             switch (member.getKey()) {
+            case "dataRequestConcurrency":
+                if (member.getValue() instanceof Number) {
+                    obj.setDataRequestConcurrency(((Number) member.getValue()).intValue());
+                }
+                break;
             case "eventBusCodecs":
                 if (member.getValue() instanceof JsonObject) {
                     java.util.Map<String, java.lang.String> map = new java.util.LinkedHashMap<>();
@@ -29,6 +34,11 @@ public class NeonBeeConfigConverter {
                     obj.setEventBusCodecs(map);
                 }
                 break;
+            case "eventBusJsonWireFormat":
+                if (member.getValue() instanceof Boolean) {
+                    obj.setEventBusJsonWireFormat((Boolean) member.getValue());
+                }
+                break;
             case "eventBusTimeout":
                 if (member.getValue() instanceof Number) {
                     obj.setEventBusTimeout(((Number) member.getValue()).intValue());
@@ -77,6 +87,16 @@ public class NeonBeeConfigConverter {
                     obj.setTrackingDataHandlingStrategy((String) member.getValue());
                 }
                 break;
+            case "trackingQueueSize":
+                if (member.getValue() instanceof Number) {
+                    obj.setTrackingQueueSize(((Number) member.getValue()).intValue());
+                }
+                break;
+            case "trackingSamplingRate":
+                if (member.getValue() instanceof Number) {
+                    obj.setTrackingSamplingRate(((Number) member.getValue()).intValue());
+                }
+                break;
             }
         }
     }
@@ -86,11 +106,13 @@ public class NeonBeeConfigConverter {
     }
 
     static void toJson(NeonBeeConfig obj, java.util.Map<String, Object> json) {
+        json.put("dataRequestConcurrency", obj.getDataRequestConcurrency());
         if (obj.getEventBusCodecs() != null) {
             JsonObject map = new JsonObject();
             obj.getEventBusCodecs().forEach((key, value) -> map.put(key, value));
             json.put("eventBusCodecs", map);
         }
+        json.put("eventBusJsonWireFormat", obj.isEventBusJsonWireFormat());
         json.put("eventBusTimeout", obj.getEventBusTimeout());
         if (obj.getHealthConfig() != null) {
             json.put("healthConfig", obj.getHealthConfig().toJson());
@@ -114,5 +136,7 @@ public class NeonBeeConfigConverter {
         if (obj.getTrackingDataHandlingStrategy() != null) {
             json.put("trackingDataHandlingStrategy", obj.getTrackingDataHandlingStrategy());
         }
+        json.put("trackingQueueSize", obj.getTrackingQueueSize());
+        json.put("trackingSamplingRate", obj.getTrackingSamplingRate());
     }
 }
@@ -1,5 +1,6 @@
 package io.neonbee;
 
+import static io.neonbee.entity.EntityModelManager.EVENT_BUS_MODELS_LOADED_ADDRESS;
 import static io.neonbee.internal.deploy.DeployableModule.fromJar;
 import static io.neonbee.internal.deploy.DeployableVerticle.fromClass;
 import static io.neonbee.internal.deploy.DeployableVerticle.fromVerticle;
@@ -21,12 +22,14 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -37,7 +40,10 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.annotations.VisibleForTesting;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import io.neonbee.cluster.ClusterManagerFactory;
 import io.neonbee.config.HealthConfig;
@@ -45,6 +51,8 @@ import io.neonbee.config.NeonBeeConfig;
 import io.neonbee.config.ServerConfig;
 import io.neonbee.data.DataException;
 import io.neonbee.data.DataQuery;
+import io.neonbee.data.internal.DataRequestLimiter;
+import io.neonbee.data.internal.DataVerticleCache;
 import io.neonbee.entity.EntityModelManager;
 import io.neonbee.entity.EntityWrapper;
 import io.neonbee.health.EventLoopHealthCheck;
@@ -177,6 +185,10 @@ public class NeonBee {
 
     private final CompositeMeterRegistry compositeMeterRegistry;
 
+    private final Map<Integer, DataRequestLimiter> dataRequestLimiters = new ConcurrentHashMap<>();
+
+    private final Map<String, DataVerticleCache> dataVerticleCaches = new ConcurrentHashMap<>();
+
     /**
      * Convenience method for returning the current NeonBee instance.
      * <p>
@@ -409,17 +421,39 @@ public class NeonBee {
                 strategy = new TrackingDataLoggingStrategy();
             }
 
-            vertx.eventBus().addInboundInterceptor(new TrackingInterceptor(MessageDirection.INBOUND, strategy))
-                    .addOutboundInterceptor(new TrackingInterceptor(MessageDirection.OUTBOUND, strategy));
+            int samplingRate = config.getTrackingSamplingRate();
+            if (samplingRate > 0) {
+                int queueSize = config.getTrackingQueueSize();
+                TrackingInterceptor inbound =
+                        new TrackingInterceptor(vertx, MessageDirection.INBOUND, strategy, samplingRate, queueSize);
+                TrackingInterceptor outbound =
+                        new TrackingInterceptor(vertx, MessageDirection.OUTBOUND, strategy, samplingRate, queueSize);
+                vertx.eventBus().addInboundInterceptor(inbound).addOutboundInterceptor(outbound);
+
+                if (compositeMeterRegistry != null) {
+                    for (TrackingInterceptor interceptor : List.of(inbound, outbound)) {
+                        FunctionCounter
+                                .builder("neonbee.tracking.dropped", interceptor, TrackingInterceptor::getDroppedCount)
+                                .description("Number of tracking data dropped, because the tracking queue was full")
+                                .tags("direction", interceptor.getDirection().name().toLowerCase(Locale.ROOT))
+                                .register(compositeMeterRegistry);
+                    }
+                }
+            }
 
             // add any default system codecs (bundled w/ NeonBee) here
-            vertx.eventBus().registerDefaultCodec(DataQuery.class, new DataQueryMessageCodec())
-                    .registerDefaultCodec(EntityWrapper.class, new EntityWrapperMessageCodec(vertx))
+            boolean jsonWireFormat = config.isEventBusJsonWireFormat();
+            EntityWrapperMessageCodec entityWrapperCodec = new EntityWrapperMessageCodec(vertx, jsonWireFormat);
+            vertx.eventBus().registerDefaultCodec(DataQuery.class, new DataQueryMessageCodec(jsonWireFormat))
+                    .registerDefaultCodec(EntityWrapper.class, entityWrapperCodec)
                     .registerDefaultCodec(ImmutableBuffer.class, new ImmutableBufferMessageCodec())
                     .registerDefaultCodec(ImmutableJsonArray.class, new ImmutableJsonArrayMessageCodec())
                     .registerDefaultCodec(ImmutableJsonObject.class, new ImmutableJsonObjectMessageCodec())
                     .registerDefaultCodec(DataException.class, new DataExceptionMessageCodec());
 
+            // the entity wrapper codec caches the EDM of the entity types, which is outdated as soon as models reload
+            vertx.eventBus().consumer(EVENT_BUS_MODELS_LOADED_ADDRESS, message -> entityWrapperCodec.clearCache());
+
             // add any additional default codecs configured in NeonBeeConfig
             config.getEventBusCodecs().forEach(this::registerCodec);
         });
@@ -716,6 +750,45 @@ public class NeonBee {
         localConsumers.remove(verticleAddress);
     }
 
+    /**
+     * Returns the registry of the result caches of the data verticles deployed on this NeonBee instance, keyed by the
+     * qualified name of the data verticle.
+     *
+     * @return the registry of data verticle caches
+     */
+    public Map<String, DataVerticleCache> getDataVerticleCaches() {
+        return dataVerticleCaches;
+    }
+
+    /**
+     * Returns the limiter for the required data requests sent by data verticles at a given depth of the request tree,
+     * which limits the number of requests in flight on this node to the configured
+     * {@link NeonBeeConfig#getDataRequestConcurrency() data request concurrency}. The number of requests in flight and
+     * queued is reported as a gauge for each depth.
+     *
+     * @param depth the depth of the requesting data verticle in the request tree
+     * @return the data request limiter for the given depth
+     */
+    public DataRequestLimiter getDataRequestLimiter(int depth) {
+        if (config.getDataRequestConcurrency() <= 0) {
+            return DataRequestLimiter.UNLIMITED;
+        }
+
+        return dataRequestLimiters.computeIfAbsent(depth, key -> {
+            DataRequestLimiter limiter = new DataRequestLimiter(config.getDataRequestConcurrency());
+            if (compositeMeterRegistry != null) {
+                Tags tags = Tags.of("depth", Integer.toString(key));
+                Gauge.builder("neonbee.data.requests.in.flight", limiter, DataRequestLimiter::getInFlight)
+                        .description("Number of required data requests in flight").tags(tags)
+                        .register(compositeMeterRegistry);
+                Gauge.builder("neonbee.data.requests.queued", limiter, DataRequestLimiter::getQueued)
+                        .description("Number of required data requests waiting for a free slot").tags(tags)
+                        .register(compositeMeterRegistry);
+            }
+            return limiter;
+        });
+    }
+
     /**
      * Returns the ServerConfig if NeonBee is started with WEB profile.
      *
@@ -0,0 +1,125 @@
+package io.neonbee.config;
+
+import java.util.List;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.Fluent;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Configuration of the result cache of a data verticle.
+ * <p>
+ * The results of read requests to a data verticle are cached per node, keyed by the {@link io.neonbee.data.DataQuery}
+ * and the values of the configured context keys. Supported context keys are {@code userPrincipal}, {@code bearerToken}
+ * and {@code sessionId}, any other key refers to a value in the {@link io.neonbee.data.DataContext#data() data} of the
+ * context.
+ * <p>
+ * <b>Attention:</b> By default the {@code userPrincipal} is part of the cache key, so that results are only shared
+ * between requests of the same user. In case the context keys are set to an empty list, cached results are served to
+ * all users and tenants, which is only safe for data verticles whose results do not depend on the requesting user.
+ */
+@DataObject(generateConverter = true, publicConverter = false)
+public class DataCacheConfig {
+    private static final int DEFAULT_TTL = 60;
+
+    private static final long DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private static final List<String> DEFAULT_CONTEXT_KEYS = List.of("userPrincipal");
+
+    private int ttl = DEFAULT_TTL;
+
+    private long maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+    private List<String> contextKeys = DEFAULT_CONTEXT_KEYS;
+
+    /**
+     * Constructs an instance of {@linkplain DataCacheConfig}.
+     */
+    public DataCacheConfig() {}
+
+    /**
+     * Creates a {@linkplain DataCacheConfig} parsing a given JSON object.
+     *
+     * @param json the JSON object to parse
+     */
+    public DataCacheConfig(JsonObject json) {
+        DataCacheConfigConverter.fromJson(json, this);
+    }
+
+    /**
+     * Gets the time to live of cached results.
+     *
+     * @return the time to live in seconds
+     */
+    public int getTtl() {
+        return ttl;
+    }
+
+    /**
+     * Sets the time to live (in seconds) of cached results.
+     *
+     * @param ttl the time to live to set
+     * @return the {@linkplain DataCacheConfig} for fluent use
+     */
+    @Fluent
+    public DataCacheConfig setTtl(int ttl) {
+        this.ttl = ttl;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of results cached per node.
+     *
+     * @return the maximum number of cached results
+     */
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Sets the maximum number of results cached per node.
+     *
+     * @param maximumSize the maximum number of cached results to set
+     * @return the {@linkplain DataCacheConfig} for fluent use
+     */
+    @Fluent
+    public DataCacheConfig setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+        return this;
+    }
+
+    /**
+     * Gets the keys of the context values, which are part of the cache key in addition to the query. Defaults to
+     * {@code userPrincipal}.
+     *
+     * @return the context keys
+     */
+    public List<String> getContextKeys() {
+        return contextKeys;
+    }
+
+    /**
+     * Sets the keys of the context values, which are part of the cache key in addition to the query. E.g. in case the
+     * result of a data verticle depends on the session instead of the user, set {@code sessionId} as a context key.
+     * Setting an empty list shares the cached results between all users, setting null restores the default.
+     *
+     * @param contextKeys the context keys to set
+     * @return the {@linkplain DataCacheConfig} for fluent use
+     */
+    @Fluent
+    public DataCacheConfig setContextKeys(List<String> contextKeys) {
+        this.contextKeys = contextKeys != null ? contextKeys : DEFAULT_CONTEXT_KEYS;
+        return this;
+    }
+
+    /**
+     * Transforms this configuration object into JSON.
+     *
+     * @return a JSON representation of this configuration
+     */
+    public JsonObject toJson() {
+        JsonObject json = new JsonObject();
+        DataCacheConfigConverter.toJson(this, json);
+        return json;
+    }
+}
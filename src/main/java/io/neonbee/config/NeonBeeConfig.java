@@ -48,6 +48,11 @@ public class NeonBeeConfig {
      */
     public static final String DEFAULT_TRACKING_DATA_HANDLING_STRATEGY = TrackingDataLoggingStrategy.class.getName();
 
+    /**
+     * The default tracking sampling rate, tracking every request.
+     */
+    public static final int DEFAULT_TRACKING_SAMPLING_RATE = 1;
+
     /**
      * The default timezone to use e.g. for logging. Defaults to UTC.
      */
@@ -60,8 +65,16 @@ public class NeonBeeConfig {
 
     private Map<String, String> eventBusCodecs = Map.of();
 
+    private boolean eventBusJsonWireFormat;
+
     private String trackingDataHandlingStrategy = DEFAULT_TRACKING_DATA_HANDLING_STRATEGY;
 
+    private int trackingSamplingRate = DEFAULT_TRACKING_SAMPLING_RATE;
+
+    private int trackingQueueSize;
+
+    private int dataRequestConcurrency;
+
     private List<String> platformClasses = List.of("io.vertx.*", "io.neonbee.*", "org.slf4j.*", "org.apache.olingo.*");
 
     private String timeZone = DEFAULT_TIME_ZONE;
@@ -289,6 +302,33 @@ public class NeonBeeConfig {
         return this;
     }
 
+    /**
+     * Whether the codecs bundled with NeonBee encode messages in the JSON wire format of previous NeonBee versions,
+     * instead of their binary wire format.
+     * <p>
+     * The codecs are always able to decode both wire formats. Nodes running a previous version of NeonBee however are
+     * only able to decode the JSON wire format, so this option should be enabled during a rolling upgrade of a cluster
+     * and disabled again, as soon as all nodes of the cluster have been upgraded.
+     *
+     * @return true if the JSON wire format should be used for encoding, false otherwise (default)
+     */
+    public boolean isEventBusJsonWireFormat() {
+        return eventBusJsonWireFormat;
+    }
+
+    /**
+     * Sets whether the codecs bundled with NeonBee should encode messages in the JSON wire format.
+     *
+     * @see #isEventBusJsonWireFormat()
+     * @param eventBusJsonWireFormat true if the JSON wire format should be used for encoding
+     * @return the {@linkplain NeonBeeConfig} for fluent use
+     */
+    @Fluent
+    public NeonBeeConfig setEventBusJsonWireFormat(boolean eventBusJsonWireFormat) {
+        this.eventBusJsonWireFormat = eventBusJsonWireFormat;
+        return this;
+    }
+
     /**
      * Returns the implementation class name of the tracking data handling strategy.
      *
@@ -310,6 +350,79 @@ public class NeonBeeConfig {
         return this;
     }
 
+    /**
+     * Returns the sampling rate of the tracking. One out of this number of requests is tracked, selected by the hash of
+     * the correlation ID, so that either all or none of the messages of a request are tracked.
+     *
+     * @return the sampling rate, 1 to track all requests (default), 0 or less to disable the tracking
+     */
+    public int getTrackingSamplingRate() {
+        return trackingSamplingRate;
+    }
+
+    /**
+     * Sets the sampling rate of the tracking.
+     *
+     * @see #getTrackingSamplingRate()
+     * @param trackingSamplingRate the sampling rate of the tracking
+     * @return the {@linkplain NeonBeeConfig} for fluent use
+     */
+    @Fluent
+    public NeonBeeConfig setTrackingSamplingRate(int trackingSamplingRate) {
+        this.trackingSamplingRate = trackingSamplingRate;
+        return this;
+    }
+
+    /**
+     * Returns the size of the queue for handling the tracking data asynchronously. If set, the tracking data of the
+     * event bus messages is queued and handled by a background worker, instead of by the thread sending or receiving
+     * the message. If the queue is full, the tracking data is dropped. Strategies which amend the data context are
+     * always handled synchronously.
+     *
+     * @return the size of the tracking queue, 0 or less to handle the tracking data synchronously (default)
+     */
+    public int getTrackingQueueSize() {
+        return trackingQueueSize;
+    }
+
+    /**
+     * Sets the size of the queue for handling the tracking data asynchronously.
+     *
+     * @see #getTrackingQueueSize()
+     * @param trackingQueueSize the size of the tracking queue
+     * @return the {@linkplain NeonBeeConfig} for fluent use
+     */
+    @Fluent
+    public NeonBeeConfig setTrackingQueueSize(int trackingQueueSize) {
+        this.trackingQueueSize = trackingQueueSize;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of required data requests in flight on this node, per depth of the request tree. Data
+     * verticles sending the requests returned by {@code requireData} queue any further request, until a request in
+     * flight completed. The limit applies separately to each depth of the request tree, so that requests waiting for
+     * the data of other verticles never occupy the slots these verticles need to request their own required data.
+     *
+     * @return the maximum number of required data requests in flight per depth, 0 or less for no limit (default)
+     */
+    public int getDataRequestConcurrency() {
+        return dataRequestConcurrency;
+    }
+
+    /**
+     * Sets the maximum number of required data requests in flight on this node, per depth of the request tree.
+     *
+     * @see #getDataRequestConcurrency()
+     * @param dataRequestConcurrency the maximum number of required data requests in flight
+     * @return the {@linkplain NeonBeeConfig} for fluent use
+     */
+    @Fluent
+    public NeonBeeConfig setDataRequestConcurrency(int dataRequestConcurrency) {
+        this.dataRequestConcurrency = dataRequestConcurrency;
+        return this;
+    }
+
     /**
      * Platform classes are classes to be considered "provided" by the system class loader. NeonBee modules will attempt
      * to find platform classes in the system class loader first, before loading them (self-first) from their own (so
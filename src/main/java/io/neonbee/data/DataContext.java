@@ -230,5 +230,26 @@ public interface DataContext {
          * @return the deployment id
          */
         String getDeploymentId();
+
+        /**
+         * Returns the timestamps (in microseconds since the epoch) recorded for the phases of this hop, e.g. when the
+         * request was enqueued, when the verticle started processing it, or when the reply was sent. Timestamps are
+         * only recorded in case a timing tracking strategy is configured.
+         *
+         * @return the timestamps by phase, or an empty map if no timestamps were recorded
+         */
+        default Map<String, Long> getTimestamps() {
+            return Map.of();
+        }
+
+        /**
+         * Returns the coordinates of the hops to other verticles, which were requested by the verticle of this
+         * coordinate, including their timestamps and hops. Together they form the latency tree of a request.
+         *
+         * @return the hops of this coordinate, or an empty list if no hops were recorded
+         */
+        default List<DataVerticleCoordinate> getHops() {
+            return List.of();
+        }
     }
 }
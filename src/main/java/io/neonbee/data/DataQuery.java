@@ -27,6 +27,7 @@ import com.google.common.base.Strings;
 
 import io.neonbee.internal.codec.BufferDeserializer;
 import io.neonbee.internal.codec.BufferSerializer;
+import io.neonbee.internal.codec.DataQueryAccess;
 import io.neonbee.internal.helper.CollectionHelper;
 import io.vertx.core.buffer.Buffer;
 
@@ -40,6 +41,10 @@ public final class DataQuery { // NOPMD not a "god class"
 
     private static final int MAX_CONTENT_LENGTH_TO_STRING = 100;
 
+    static {
+        DataQueryAccess.register(DataQuery::new);
+    }
+
     @VisibleForTesting
     @JsonProperty
     DataAction action = READ;
@@ -191,6 +196,27 @@ public final class DataQuery { // NOPMD not a "god class"
         this.body = CollectionHelper.copyOf(body);
     }
 
+    /**
+     * DataQuery using the given parameters, headers and body as they are, instead of copying them. This is intended for
+     * objects created just for the query, thus the constructor is only accessible to the
+     * {@link io.neonbee.internal.codec.DataQueryMessageCodec} decoding queries received from the event bus, see
+     * {@link DataQueryAccess}.
+     *
+     * @param action     The action to perform
+     * @param uriPath    The URI path to request
+     * @param parameters The mutable parameters of this query or null
+     * @param headers    The mutable headers of this query or null
+     * @param body       The body of this query
+     */
+    DataQuery(DataAction action, String uriPath, Map<String, List<String>> parameters,
+            Map<String, List<String>> headers, Buffer body) {
+        this.action = action;
+        this.setUriPath(uriPath);
+        this.parameters = parameters != null ? parameters : new HashMap<>();
+        this.headers = headers != null ? headers : new HashMap<>();
+        this.body = body;
+    }
+
     /**
      * Returns the {@link DataAction} of this data query.
      *
@@ -30,28 +30,21 @@ public class DataRequest {
         RECURSIVE,
 
         /**
-         * An optimized / parallel / tail first resolution strategy for the data
+         * An optimized / parallel resolution strategy for the data
          * <p>
-         * This strategy will first recursively send a message via the event bus to collect all the
-         * {@link DataVerticle#requireData(DataQuery,DataContext)} for all the verticle involved (could also be done
-         * locally to be even faster). The list of data requests is then optimized, e.g. by removing duplicates and
-         * reducing the data requests if possible (e.g. by joining filters). Afterwards the data will be (in parallel)
-         * requested from all the verticle the data request was targeted to. As soon as the first requests are finished,
-         * it will be checked if the data is enough for any further requests to resolve, by sending further requests to
-         * the {@link DataVerticle#requireData(DataQuery,DataContext)} methods via the event bus. This is done via a
-         * handler cascade, build up, when determining the required data. If one request resolves, the next verticle
-         * will be called immediately.
+         * This strategy resolves the required data like the {@link #RECURSIVE} strategy, however the whole dependency
+         * tree is resolved in one shared resolution scope. Identical read requests to the same verticle with the same
+         * {@link DataQuery}, which appear in different branches of the tree, are coalesced. Each unique request is only
+         * sent once per node and its result is passed to all verticle depending on it. All independent requests are
+         * sent in parallel. Requests issued in the tree, which do not specify a resolution strategy explicitly, are
+         * resolved using this strategy as well.
          * <p>
-         * Advantages: Optimizations on the data requests are possible. Initially every data request is send in
-         * parallel.
+         * Advantages: Traffic via the event bus is reduced, if the same data is required in multiple branches of the
+         * tree, e.g. reference data.
          * <p>
-         * Disadvantages: More traffic via the event bus, to first determine the required data and then the required
-         * data is sent back and forth in order for the verticle to get the data they needed in the first place. Also
-         * the outgoing network traffic could be focused on specific nodes.
-         * <p>
-         * Notes: Further optimizations possible, e.g. data requests which are only required by one certain verticle (so
-         * it could not be optimized in the optimization step), could be directly done by the respective data verticle.
-         * This would reduce the amount of data exchanged via the event bus.
+         * Disadvantages: Requests are only coalesced per node, identical requests resolved on different nodes of a
+         * cluster are still sent once per node. Results which cannot be copied (e.g. custom types) are shared between
+         * all dependents on one node.
          */
         OPTIMIZED
     }
@@ -74,6 +67,10 @@ public class DataRequest {
 
     private boolean localPreferred = true;
 
+    private boolean memoized;
+
+    private int priority;
+
     /**
      * Request data from a DataSource.
      *
@@ -282,6 +279,53 @@ public class DataRequest {
         return this;
     }
 
+    /**
+     * Check if the result of this request is memoized for the lifetime of the originating (HTTP) request.
+     *
+     * @return true if the result of this request is memoized, otherwise false.
+     */
+    public boolean isMemoized() {
+        return memoized;
+    }
+
+    /**
+     * Set if the result of this request should be memoized for the lifetime of the originating (HTTP) request.
+     * <p>
+     * Identical memoized read requests (same target and same {@link DataQuery}) issued while processing the same
+     * originating request on one node are only sent once. Any further request receives a copy of the result of the
+     * first request, unless it failed. Only opt in for data, which is not expected to change while the originating
+     * request is processed.
+     *
+     * @param memoized the memoized to set
+     * @return this DataRequest for chaining
+     */
+    public DataRequest setMemoized(boolean memoized) {
+        this.memoized = memoized;
+        return this;
+    }
+
+    /**
+     * Get the priority of this request.
+     *
+     * @return the priority of this request, defaults to 0
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * Set the priority of this request. In case the number of required data requests in flight is limited, queued
+     * requests with a higher priority are sent first. Requests of the same priority are sent in the order they were
+     * queued.
+     *
+     * @param priority the priority to set
+     * @return this DataRequest for chaining
+     */
+    public DataRequest setPriority(int priority) {
+        this.priority = priority;
+        return this;
+    }
+
     @Override
     public String toString() {
         return Optional.ofNullable(dataSource).map(Object::getClass).map(Class::getName)
@@ -6,6 +6,7 @@ import static io.neonbee.data.DataException.FAILURE_CODE_NO_HANDLERS;
 import static io.neonbee.data.DataException.FAILURE_CODE_PROCESSING_FAILED;
 import static io.neonbee.data.DataException.FAILURE_CODE_TIMEOUT;
 import static io.neonbee.data.DataException.FAILURE_CODE_UNKNOWN_STRATEGY;
+import static io.neonbee.data.DataRequest.ResolutionStrategy.OPTIMIZED;
 import static io.neonbee.data.DataRequest.ResolutionStrategy.RECURSIVE;
 import static io.neonbee.data.internal.DataContextImpl.decodeContextFromString;
 import static io.neonbee.entity.EntityVerticle.requestEntity;
@@ -22,6 +23,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -30,14 +33,21 @@ import org.apache.olingo.commons.api.edm.FullQualifiedName;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Strings;
+import com.google.common.collect.Iterators;
 
 import io.micrometer.core.instrument.ImmutableTag;
 import io.micrometer.core.instrument.Tag;
 import io.neonbee.NeonBee;
 import io.neonbee.NeonBeeDeployable;
+import io.neonbee.config.DataCacheConfig;
 import io.neonbee.config.MetricsConfig;
 import io.neonbee.data.DataRequest.ResolutionStrategy;
 import io.neonbee.data.internal.DataContextImpl;
+import io.neonbee.data.internal.DataRequestLimiter;
+import io.neonbee.data.internal.DataVerticleCache;
+import io.neonbee.data.internal.DataVerticleCoordinateImpl.Phase;
+import io.neonbee.data.internal.MemoizedDataRequests;
+import io.neonbee.data.internal.ResolutionScope;
 import io.neonbee.data.internal.metrics.ConfiguredDataVerticleMetrics;
 import io.neonbee.data.internal.metrics.DataVerticleMetrics;
 import io.neonbee.internal.helper.FunctionalHelper;
@@ -62,13 +72,31 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
      */
     public static final String CONTEXT_HEADER = "context";
 
+    /**
+     * The name of the correlation ID header of an event bus message, which allows to correlate a message without having
+     * to decode its context header.
+     */
+    public static final String CORRELATION_ID_HEADER = "correlationId";
+
     /**
      * Metrics configuration name.
      */
     public static final String CONFIG_METRICS_KEY = "metrics";
 
+    /**
+     * Cache configuration name.
+     */
+    public static final String CONFIG_CACHE_KEY = "cache";
+
+    /**
+     * Configuration name of the maximum number of required data requests in flight per verticle instance.
+     */
+    public static final String CONFIG_REQUIRE_DATA_CONCURRENCY_KEY = "requireDataConcurrency";
+
     static final String RESOLUTION_STRATEGY_HEADER = "resolutionStrategy";
 
+    static final String RESOLUTION_SCOPE_HEADER = "resolutionScope";
+
     private static final LoggingFacade LOGGER = LoggingFacade.create();
 
     private static final String SUCCEEDED_RESPONSE_COUNT = "succeeded response count";
@@ -80,6 +108,16 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
 
     private DataVerticleMetrics dataVerticleMetrics;
 
+    private DataVerticleCache dataVerticleCache;
+
+    private final Map<String, MetricNames> requestMetricNames = new ConcurrentHashMap<>();
+
+    private MetricNames retrieveMetricNames;
+
+    private int requireDataConcurrency;
+
+    private final Map<Integer, DataRequestLimiter> requireDataLimiters = new ConcurrentHashMap<>();
+
     /**
      * Requesting data from other DataSources or Data/EntityVerticles.
      *
@@ -91,6 +129,42 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
      * @return a future to the data requested
      */
     public static <U> Future<U> requestData(Vertx vertx, DataRequest request, DataContext context) {
+        return requestData(vertx, request, context, null);
+    }
+
+    /**
+     * Requesting data from other DataSources or Data/EntityVerticles in a given resolution scope.
+     *
+     * @param vertx           The Vertx instance
+     * @param request         The DataRequest specifying the data to request
+     * @param context         The {@link DataContext data context}
+     * @param resolutionScope The identifier of the {@link ResolutionScope} to propagate or null
+     * @param <U>             The type of the returned future
+     * @return a future to the data requested
+     */
+    private static <U> Future<U> requestData(Vertx vertx, DataRequest request, DataContext context,
+            String resolutionScope) {
+        if (request.isMemoized()) {
+            return MemoizedDataRequests.request(request, context, (memoizedRequest,
+                    memoizedContext) -> dispatchData(vertx, memoizedRequest, memoizedContext, resolutionScope))
+                    .map(FunctionalHelper::uncheckedMapper);
+        }
+
+        return dispatchData(vertx, request, context, resolutionScope);
+    }
+
+    /**
+     * Dispatches a data request to the data source, data sink or data verticle specified by the request.
+     *
+     * @param vertx           The Vertx instance
+     * @param request         The DataRequest specifying the data to request
+     * @param context         The {@link DataContext data context}
+     * @param resolutionScope The identifier of the {@link ResolutionScope} to propagate or null
+     * @param <U>             The type of the returned future
+     * @return a future to the data requested
+     */
+    private static <U> Future<U> dispatchData(Vertx vertx, DataRequest request, DataContext context,
+            String resolutionScope) {
         DataSource<?> dataSource = request.getDataSource();
 
         if (dataSource != null) {
@@ -104,42 +178,15 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
 
         String qualifiedName = request.getQualifiedName();
         if (qualifiedName != null) {
-            /*
-             * Event bus outbound message handling.
-             */
-            LOGGER.correlateWith(context).debug("Sending message via the event bus to {}", qualifiedName);
-            String address = getAddress(qualifiedName);
-            return vertx.eventBus()
-                    .<U>request(address, request.getQuery(), requestDeliveryOptions(vertx, request, context, address))
-                    .transform(asyncReply -> {
-                        LOGGER.correlateWith(context).debug("Received event bus reply");
-
-                        if (asyncReply.succeeded()) {
-                            U body = asyncReply.result().body();
-                            if (body instanceof DataException) {
-                                if (LOGGER.isWarnEnabled()) {
-                                    LOGGER.correlateWith(context).warn("Received a event bus reply failure from {}",
-                                            qualifiedName, (DataException) body);
-                                }
-                                return failedFuture((DataException) body);
-                            } else {
-                                DataContext responseDataContext =
-                                        decodeContextFromString(asyncReply.result().headers().get(CONTEXT_HEADER));
-                                context.setData(
-                                        Optional.ofNullable(responseDataContext).map(DataContext::data).orElse(null));
-                                context.mergeResponseData(Optional.ofNullable(responseDataContext)
-                                        .map(DataContext::responseData).orElse(null));
-                                return succeededFuture(asyncReply.result().body());
-                            }
-                        } else {
-                            Throwable cause = asyncReply.cause();
-                            if (LOGGER.isWarnEnabled()) {
-                                LOGGER.correlateWith(context).warn("Failed to receive event bus reply from {}",
-                                        qualifiedName, cause);
-                            }
-                            return failedFuture(mapException(cause));
-                        }
-                    });
+            // serve the request from the cache of the data verticle, if it is deployed on this node and caches results
+            DataVerticleCache cache = DataVerticleCache.lookup(vertx, qualifiedName);
+            if (cache != null) {
+                return cache.request(request.getQuery(), context,
+                        cacheContext -> sendData(vertx, request, cacheContext, resolutionScope))
+                        .map(FunctionalHelper::uncheckedMapper);
+            }
+
+            return sendData(vertx, request, context, resolutionScope);
         }
 
         FullQualifiedName entityTypeName = request.getEntityTypeName();
@@ -150,6 +197,72 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
         return failedFuture(new IllegalArgumentException("Data request did not specify what data to request"));
     }
 
+    /**
+     * Sends a data request to a data verticle via the event bus.
+     *
+     * @param vertx           The Vertx instance
+     * @param request         The DataRequest specifying the data verticle to request the data from
+     * @param context         The {@link DataContext data context}
+     * @param resolutionScope The identifier of the {@link ResolutionScope} to propagate or null
+     * @param <U>             The type of the returned future
+     * @return a future to the data requested
+     */
+    private static <U> Future<U> sendData(Vertx vertx, DataRequest request, DataContext context,
+            String resolutionScope) {
+        /*
+         * Event bus outbound message handling.
+         */
+        String qualifiedName = request.getQualifiedName();
+        LOGGER.correlateWith(context).debug("Sending message via the event bus to {}", qualifiedName);
+        String address = getAddress(qualifiedName);
+        return vertx.eventBus()
+                .<U>request(address, request.getQuery(),
+                        requestDeliveryOptions(vertx, request, context, address, resolutionScope))
+                .transform(asyncReply -> {
+                    LOGGER.correlateWith(context).debug("Received event bus reply");
+
+                    if (asyncReply.succeeded()) {
+                        U body = asyncReply.result().body();
+                        if (body instanceof DataException) {
+                            if (LOGGER.isWarnEnabled()) {
+                                LOGGER.correlateWith(context).warn("Received a event bus reply failure from {}",
+                                        qualifiedName, (DataException) body);
+                            }
+                            return failedFuture((DataException) body);
+                        } else {
+                            DataContext responseDataContext =
+                                    decodeContextFromString(asyncReply.result().headers().get(CONTEXT_HEADER));
+                            context.setData(
+                                    Optional.ofNullable(responseDataContext).map(DataContext::data).orElse(null));
+                            context.mergeResponseData(Optional.ofNullable(responseDataContext)
+                                    .map(DataContext::responseData).orElse(null));
+                            if (context instanceof DataContextImpl) {
+                                ((DataContextImpl) context).addHop(responseDataContext);
+                            }
+                            return succeededFuture(asyncReply.result().body());
+                        }
+                    } else {
+                        Throwable cause = asyncReply.cause();
+                        if (LOGGER.isWarnEnabled()) {
+                            LOGGER.correlateWith(context).warn("Failed to receive event bus reply from {}",
+                                    qualifiedName, cause);
+                        }
+                        return failedFuture(mapException(cause));
+                    }
+                });
+    }
+
+    /**
+     * Invalidates all cached results of the data verticle with the given qualified name on all nodes.
+     *
+     * @param vertx         The Vertx instance
+     * @param qualifiedName The qualified name of the data verticle
+     * @see #getCacheConfig()
+     */
+    public static void invalidateCache(Vertx vertx, String qualifiedName) {
+        DataVerticleCache.invalidate(vertx, qualifiedName);
+    }
+
     /**
      * Convenience method for calling the {@link #requestData(Vertx, DataRequest, DataContext)} method.
      *
@@ -201,14 +314,15 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
     /**
      * Creates a new delivery options object for any given data request and context.
      *
-     * @param vertx   the vertx instance
-     * @param request the data request
-     * @param context the data context
-     * @param address request address
+     * @param vertx           the vertx instance
+     * @param request         the data request
+     * @param context         the data context
+     * @param address         request address
+     * @param resolutionScope the identifier of the resolution scope to propagate or null
      * @return a new DeliveryOptions
      */
     private static DeliveryOptions requestDeliveryOptions(Vertx vertx, DataRequest request, DataContext context,
-            String address) {
+            String address, String resolutionScope) {
         if (context instanceof DataContextImpl) { // will also perform a null check!
             // before encoding the context header, add the current qualified name of the verticle to the path stack
             ((DataContextImpl) context).pushVerticleToPath(request.getQualifiedName());
@@ -227,8 +341,13 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
             deliveryOptions.setSendTimeout(request.getSendTimeout());
         }
 
-        Optional.ofNullable(request.getResolutionStrategy()).map(ResolutionStrategy::name)
+        // requests in a resolution scope are resolved optimized as well, unless they explicitly specify a strategy
+        Optional.ofNullable(request.getResolutionStrategy())
+                .or(() -> Optional.ofNullable(resolutionScope).map(scope -> OPTIMIZED)).map(ResolutionStrategy::name)
                 .ifPresent(value -> deliveryOptions.addHeader(RESOLUTION_STRATEGY_HEADER, value));
+        if (resolutionScope != null) {
+            deliveryOptions.addHeader(RESOLUTION_SCOPE_HEADER, resolutionScope);
+        }
 
         return deliveryOptions;
     }
@@ -247,6 +366,8 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
                 .setCodecName(Optional.ofNullable(codec).map(MessageCodec::name).orElse(null));
         Optional.ofNullable(context).map(DataContextImpl::encodeContextToString)
                 .ifPresent(value -> deliveryOptions.addHeader(CONTEXT_HEADER, value));
+        Optional.ofNullable(context).map(DataContext::correlationId)
+                .ifPresent(value -> deliveryOptions.addHeader(CORRELATION_ID_HEADER, value));
         return deliveryOptions;
     }
 
@@ -334,6 +455,8 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
         super.init(vertx, context);
         JsonObject metrics = getMetricsConfig(NeonBee.get(vertx).getConfig().getMetricsConfig());
         this.dataVerticleMetrics = ConfiguredDataVerticleMetrics.configureMetricsReporting(NeonBee.get(vertx), metrics);
+        this.requireDataConcurrency = Optional.ofNullable(config())
+                .map(config -> config.getInteger(CONFIG_REQUIRE_DATA_CONCURRENCY_KEY)).orElse(0);
 
         // if present, register the custom codec. IMPORTANT: do NOT register the codec in the start method, as the
         // codec will need to be available on all instances, even if no instance of the verticle is started later on
@@ -387,7 +510,7 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
             try {
                 routine = message.body().getAction() == READ
                         ? resolutionRoutineForStrategy(Optional.ofNullable(headers.get(RESOLUTION_STRATEGY_HEADER))
-                                .map(ResolutionStrategy::valueOf).orElse(RECURSIVE))
+                                .map(ResolutionStrategy::valueOf).orElse(RECURSIVE), headers)
                         : new ManipulationRoutine();
             } catch (IllegalArgumentException e) {
                 message.fail(FAILURE_CODE_UNKNOWN_STRATEGY, "Unknown data resolution strategy");
@@ -398,6 +521,7 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
             if (context instanceof DataContextImpl) {
                 // the sender of the message can't know the deployment ID of the receiving verticle, so add it here!
                 ((DataContextImpl) context).amendTopVerticleCoordinate(deploymentID());
+                ((DataContextImpl) context).recordTimestamp(Phase.STARTED);
             }
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.correlateWith(context).debug(
@@ -441,7 +565,7 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
             }
         }).completionHandler(registerDataVerticlePromise);
 
-        registerDataVerticlePromise.future().compose(v -> {
+        registerDataVerticlePromise.future().compose(v -> registerCache()).compose(v -> {
             try {
                 start();
                 NeonBee.get(vertx).registerLocalConsumer(address);
@@ -452,15 +576,55 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
         }).onComplete(promise);
     }
 
+    /**
+     * Registers the cache of this data verticle on this node, in case the data verticle caches its results.
+     *
+     * @return a future, which completes as soon as the cache is registered
+     */
+    private Future<Void> registerCache() {
+        DataCacheConfig cacheConfig = getCacheConfig();
+        if (cacheConfig == null) {
+            return succeededFuture();
+        }
+
+        DataVerticleCache cache =
+                DataVerticleCache.acquire(NeonBee.get(vertx).getDataVerticleCaches(), getQualifiedName(), cacheConfig);
+        dataVerticleCache = cache;
+        Promise<Void> promise = Promise.promise();
+        vertx.eventBus().consumer(DataVerticleCache.getInvalidationAddress(getQualifiedName()),
+                message -> cache.invalidateAll()).completionHandler(promise);
+        return promise.future();
+    }
+
     @Override
     public void stop() throws Exception {
         NeonBee neonBee = NeonBee.get(vertx);
         if (neonBee != null) { // NeonBee can be null, when the close hook has removed NeonBee - Vert.x mapping before
             neonBee.unregisterLocalConsumer(getAddress());
         }
+        if (dataVerticleCache != null) {
+            dataVerticleCache.release();
+            dataVerticleCache = null;
+        }
         super.stop();
     }
 
+    /**
+     * Returns the configuration of the result cache of this data verticle, or null in case the results of this data
+     * verticle must not be cached, which is the default.
+     * <p>
+     * Cached results are served to all requests issued on the same node, before a request is dispatched to the event
+     * bus. All cached results are invalidated, as soon as the data verticle handles any data manipulation or an
+     * invalidation is broadcast using {@link #invalidateCache(Vertx, String)}. By default the configuration is read
+     * from the {@value #CONFIG_CACHE_KEY} attribute of the verticle configuration.
+     *
+     * @return the cache configuration or null
+     */
+    protected DataCacheConfig getCacheConfig() {
+        return Optional.ofNullable(config()).map(config -> config.getJsonObject(CONFIG_CACHE_KEY))
+                .map(DataCacheConfig::new).orElse(null);
+    }
+
     /**
      * In case the data processing of the DataSource requires data, you can pass back as many data requests as needed.
      * The data will be made available in the {@link #retrieveData(DataQuery, DataMap, DataContext)} method via the
@@ -499,15 +663,27 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
         } else {
             tags = List.of(new ImmutableTag("query", request.getQuery().getQuery()));
         }
-        String qualifiedName = request.getQualifiedName();
+        MetricNames names = requestMetricNames.computeIfAbsent(String.valueOf(request.getQualifiedName()),
+                qualifiedName -> new MetricNames("request", qualifiedName));
+
+        dataVerticleMetrics.reportTimingMetric(names.timer, "time to retrieve the data", tags, future);
+        dataVerticleMetrics.reportStatusCounter(names.counter, SUCCEEDED_RESPONSE_COUNT, tags, future);
+        dataVerticleMetrics.reportActiveRequestsGauge(names.activeRequests, "Number of requests waiting for a response",
+                List.of(), future);
+        dataVerticleMetrics.reportNumberOfRequests(names.requests, "Number of requests sent", tags);
+    }
 
-        dataVerticleMetrics.reportTimingMetric("request.data.timer." + qualifiedName, "time to retrieve the data", tags,
-                future);
-        dataVerticleMetrics.reportStatusCounter("request.data.counter." + qualifiedName, SUCCEEDED_RESPONSE_COUNT, tags,
-                future);
-        dataVerticleMetrics.reportActiveRequestsGauge("request.data.active.requests." + qualifiedName,
-                "Number of requests waiting for a response", List.of(), future);
-        dataVerticleMetrics.reportNumberOfRequests("request.counter." + qualifiedName, "Number of requests sent", tags);
+    private static void recordTimestamp(DataContext context, Phase phase) {
+        if (context instanceof DataContextImpl) {
+            ((DataContextImpl) context).recordTimestamp(phase);
+        }
+    }
+
+    private MetricNames getRetrieveMetricNames() {
+        if (retrieveMetricNames == null) {
+            retrieveMetricNames = new MetricNames("retrieve", getAddress());
+        }
+        return retrieveMetricNames;
     }
 
     /**
@@ -527,12 +703,13 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
      * Get an instance of a resolution routine for a certain strategy.
      *
      * @param strategy the strategy to obtain the resolution routine for
+     * @param headers  the headers of the message to resolve
      * @return the resolution routine
      */
-    private ResolutionRoutine resolutionRoutineForStrategy(ResolutionStrategy strategy) {
+    private ResolutionRoutine resolutionRoutineForStrategy(ResolutionStrategy strategy, MultiMap headers) {
         // case RECURSIVE:
-        if (strategy == ResolutionStrategy.OPTIMIZED) {
-            return new OptimizedResolutionRoutine();
+        if (strategy == OPTIMIZED) {
+            return new OptimizedResolutionRoutine(headers.get(RESOLUTION_SCOPE_HEADER));
         }
         return new RecursiveResolutionRoutine();
     }
@@ -560,7 +737,8 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
             // requireData(), where any index of the requireData array corresponded with the indexes of the data array
             Map<DataRequest, AsyncResult<?>> requestResults = new LinkedHashMap<>();
             Map<DataRequest, DataContext> receivedDataContextMap = new LinkedHashMap<>();
-            return requireData(query, context).compose(requests -> {
+            List<Tag> tags = retrieveDataTags();
+            Future<CompositeFuture> requiredData = requireData(query, context).compose(requests -> {
                 // ignore the result of the require data composite future (otherwiseEmpty), the retrieve data method
                 // should decide if it needs to handle success or failure of any of the individual asynchronous results
                 return CompositeFuture.join(
@@ -568,24 +746,26 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
                             // use one copy of DataContext for each request to avoid data clash
                             DataContext requestContext = context.copy();
                             receivedDataContextMap.put(request, requestContext);
-                            return requestResults.computeIfAbsent(request, mapRequest -> {
-                                Future<Object> future = requestData(vertx, request, requestContext);
-                                reportRequestDataMetrics(request, future);
-                                return future;
-                            });
+                            return requestResults.computeIfAbsent(request,
+                                    mapRequest -> requestRequiredData(request, requestContext));
                         }).map(Future.class::cast).collect(Collectors.toList())).otherwiseEmpty();
-            }).compose(requiredCompositeOrNothing -> {
-                List<Tag> tags = retrieveDataTags();
+            });
+            // the time spent waiting for the required data, separately from the time spent in retrieveData
+            dataVerticleMetrics.reportTimingMetric(getRetrieveMetricNames().requireTimer,
+                    "Time to receive the required data", tags, requiredData);
+            return requiredData.compose(requiredCompositeOrNothing -> {
+                recordTimestamp(context, Phase.REQUIRED);
                 try {
                     Map<DataRequest, Map<String, Object>> receivedData = receivedDataContextMap.entrySet().stream()
                             .map(entry -> Map.entry(entry.getKey(), entry.getValue().responseData()))
                             .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
                     context.setReceivedData(receivedData);
-                    Future<T> future = retrieveData(query, new DataMap(requestResults), context);
+                    Future<T> future = retrieveData(query, new DataMap(requestResults), context)
+                            .onComplete(asyncResult -> recordTimestamp(context, Phase.RETRIEVED));
                     reportRetrieveDataMetrics(tags, future);
                     return future;
                 } catch (Exception e) {
-                    dataVerticleMetrics.reportStatusCounter("retrieve.data.counter." + getAddress(),
+                    dataVerticleMetrics.reportStatusCounter(getRetrieveMetricNames().counter,
                             SUCCEEDED_RESPONSE_COUNT, tags, failedFuture(e));
                     // handle any (runtime) exception here and fail the result future
                     return failedFuture(e);
@@ -593,6 +773,56 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
             });
         }
 
+        /**
+         * Requests the data of one of the data requests returned by {@link #requireData(DataQuery, DataContext)}.
+         *
+         * @param request        the data request
+         * @param requestContext the copy of the data context to use for this request
+         * @return a future to the data requested
+         */
+        Future<Object> requestRequiredData(DataRequest request, DataContext requestContext) {
+            return limitRequest(request, requestContext, () -> {
+                Future<Object> future = requestData(vertx, request, requestContext);
+                reportRequestDataMetrics(request, future);
+                return future;
+            });
+        }
+
+        /**
+         * Sends a required data request as soon as a slot is available, both in the limiter of this verticle instance
+         * ({@value DataVerticle#CONFIG_REQUIRE_DATA_CONCURRENCY_KEY}) and in the node-wide limiter
+         * ({@link io.neonbee.config.NeonBeeConfig#getDataRequestConcurrency()}). Limiters are kept per depth of the
+         * request tree, so that requests waiting for required data never occupy the slots needed to resolve it.
+         *
+         * @param request        the data request
+         * @param requestContext the copy of the data context to use for this request
+         * @param requester      the supplier sending the request
+         * @return a future to the data requested
+         */
+        Future<Object> limitRequest(DataRequest request, DataContext requestContext,
+                Supplier<Future<Object>> requester) {
+            NeonBee neonBee = NeonBee.get(vertx);
+            if (requireDataConcurrency <= 0 && neonBee.getConfig().getDataRequestConcurrency() <= 0) {
+                return requester.get();
+            }
+
+            int depth = Iterators.size(requestContext.path());
+            DataRequestLimiter verticleLimiter = requireDataLimiters.computeIfAbsent(depth,
+                    key -> new DataRequestLimiter(requireDataConcurrency));
+            DataRequestLimiter nodeLimiter = neonBee.getDataRequestLimiter(depth);
+            Future<Void> slot = verticleLimiter.acquire(request.getPriority())
+                    .compose(nothing -> nodeLimiter.acquire(request.getPriority()));
+            if (!slot.isComplete()) {
+                dataVerticleMetrics.reportActiveRequestsGauge(getRetrieveMetricNames().queuedRequests,
+                        "Number of required data requests waiting for a free slot", List.of(), slot);
+            }
+
+            return slot.compose(nothing -> requester.get()).onComplete(asyncResult -> {
+                nodeLimiter.release();
+                verticleLimiter.release();
+            });
+        }
+
         /**
          * @return tags for the retrieve data metrics.
          */
@@ -610,21 +840,55 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
         }
 
         private void reportRetrieveDataMetrics(List<Tag> tags, Future<T> future) {
-            String address = getAddress();
-            dataVerticleMetrics.reportTimingMetric("retrieve.data.timer." + address, "Time to retrieve data", tags,
-                    future);
-            dataVerticleMetrics.reportStatusCounter("retrieve.data.counter." + address, SUCCEEDED_RESPONSE_COUNT, tags,
-                    future);
-            dataVerticleMetrics.reportActiveRequestsGauge("retrieve.data.active.requests." + address,
+            MetricNames names = getRetrieveMetricNames();
+            dataVerticleMetrics.reportTimingMetric(names.timer, "Time to retrieve data", tags, future);
+            dataVerticleMetrics.reportStatusCounter(names.counter, SUCCEEDED_RESPONSE_COUNT, tags, future);
+            dataVerticleMetrics.reportActiveRequestsGauge(names.activeRequests,
                     "Number of requests waiting for a response", tags, future);
-            dataVerticleMetrics.reportNumberOfRequests("retrieve.counter." + address, "Number of requests sent", tags);
+            dataVerticleMetrics.reportNumberOfRequests(names.requests, "Number of requests sent", tags);
         }
     }
 
-    private class OptimizedResolutionRoutine implements ResolutionRoutine {
+    /**
+     * Resolves the required data like the {@link RecursiveResolutionRoutine}, however all requests of the dependency
+     * tree are issued in a shared {@link ResolutionScope}. Identical requests appearing in different branches of the
+     * tree are thus only sent once per node and their result is passed to all dependents.
+     */
+    private class OptimizedResolutionRoutine extends RecursiveResolutionRoutine {
+        private final String scopeId;
+
+        private ResolutionScope scope;
+
+        /**
+         * Creates a new optimized resolution routine.
+         *
+         * @param scopeId the identifier of the resolution scope to join, or null to start a new scope
+         */
+        OptimizedResolutionRoutine(String scopeId) {
+            super();
+            this.scopeId = scopeId != null ? scopeId : UUID.randomUUID().toString();
+        }
+
         @Override
         public Future<T> execute(DataQuery query, DataContext context) {
-            return failedFuture(new UnsupportedOperationException("Optimized resolution strategy not available."));
+            scope = ResolutionScope.acquire(scopeId);
+            try {
+                return super.execute(query, context).onComplete(result -> scope.release());
+            } catch (RuntimeException e) {
+                scope.release();
+                throw e;
+            }
+        }
+
+        @Override
+        Future<Object> requestRequiredData(DataRequest request, DataContext requestContext) {
+            // limit inside of the scope, so that only requests actually sent occupy a slot
+            return scope.request(request, requestContext,
+                    (scopedRequest, scopedContext) -> limitRequest(scopedRequest, scopedContext, () -> {
+                        Future<Object> future = requestData(vertx, scopedRequest, scopedContext, scope.getId());
+                        reportRequestDataMetrics(scopedRequest, future);
+                        return future;
+                    }));
         }
     }
 
@@ -632,11 +896,43 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
         @Override
         public Future<T> execute(DataQuery query, DataContext context) {
             try {
-                return manipulateData(query, context);
+                Future<T> future = manipulateData(query, context);
+                if (dataVerticleCache != null) {
+                    // also invalidate on failure, as the manipulation could have been applied partially
+                    future = future.onComplete(asyncResult -> invalidateCache(vertx, getQualifiedName()));
+                }
+                return future;
             } catch (Exception e) {
                 // handle any (runtime) exception here and fail the result future
                 return failedFuture(e);
             }
         }
     }
+
+    /**
+     * The names of the meters reported for requesting data from, or retrieving data of a target verticle. The names
+     * are resolved once per target, in order to not concatenate them for every request.
+     */
+    private static class MetricNames {
+        final String timer;
+
+        final String requireTimer;
+
+        final String counter;
+
+        final String activeRequests;
+
+        final String requests;
+
+        final String queuedRequests;
+
+        MetricNames(String kind, String target) {
+            timer = kind + ".data.timer." + target;
+            requireTimer = kind + ".data.require.timer." + target;
+            counter = kind + ".data.counter." + target;
+            activeRequests = kind + ".data.active.requests." + target;
+            requests = kind + ".counter." + target;
+            queuedRequests = kind + ".data.queued.requests." + target;
+        }
+    }
 }
@@ -21,11 +21,14 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Streams;
 
 import io.neonbee.data.DataContext;
 import io.neonbee.data.DataException;
 import io.neonbee.data.DataRequest;
+import io.neonbee.data.internal.DataVerticleCoordinateImpl.Phase;
 import io.neonbee.internal.handler.CorrelationIdHandler;
 import io.neonbee.logging.LoggingFacade;
 import io.vertx.core.http.HttpHeaders;
@@ -37,6 +40,12 @@ import io.vertx.ext.web.Session;
 
 @SuppressWarnings("PMD.GodClass") // Can be removed after deprecated constructors are removed
 public class DataContextImpl implements DataContext {
+    /**
+     * The key of the response data, under which the latency trees of the hops requested by a root context (a context
+     * without any verticle on the path, e.g. the context of an endpoint) are collected.
+     */
+    public static final String HOPS_RESPONSE_DATA_KEY = "hops";
+
     @VisibleForTesting
     static final String NO_SESSION_ID_AVAILABLE_KEY = "noSessionIdAvailable";
 
@@ -52,10 +61,26 @@ public class DataContextImpl implements DataContext {
 
     private static final String SESSION_ID_KEY = "sessionId";
 
+    private static final String REQUEST_ID_KEY = "requestId";
+
     private static final Pattern BEARER_AUTHENTICATION_PATTERN = Pattern.compile("Bearer\\s(.+)");
 
     private static final String RESPONSE_METADATA_KEY = "responsedata";
 
+    private static final int DECODED_CONTEXTS_MAXIMUM_SIZE = 1024;
+
+    /**
+     * The same context header value is decoded multiple times per hop, by the tracking interceptors and by the
+     * receiving data verticle. As the header values are passed along by reference, decoded contexts are cached by the
+     * identity (weak keys) of the header value, so that every header value only has to be parsed once.
+     * <p>
+     * The cache is shared by all NeonBee instances of this JVM on purpose: due to the identity based keys, a decoded
+     * context is only ever returned for the very same header value instance, which belongs to exactly one message of
+     * one event bus. Thus no context can leak between instances, only the maximum size of the cache is shared.
+     */
+    private static final Cache<String, DataContextImpl> DECODED_CONTEXTS =
+            CacheBuilder.newBuilder().weakKeys().maximumSize(DECODED_CONTEXTS_MAXIMUM_SIZE).build();
+
     private final String correlationId;
 
     private final String bearerToken;
@@ -64,12 +89,28 @@ public class DataContextImpl implements DataContext {
 
     private final String sessionId;
 
+    /**
+     * The identifier generated by the server for the (HTTP) request this context originates from, or null. In contrast
+     * to the correlation id, the request id can never be provided by a client.
+     */
+    private String requestId;
+
     private Map<String, Object> data;
 
     private Map<String, Object> responseData;
 
     private Deque<DataVerticleCoordinate> pathStack;
 
+    /**
+     * The encoded coordinates below the top coordinate of the path, which is reused when the same context is encoded
+     * multiple times, e.g. when requesting data from multiple verticles. Only the top coordinate of a path is ever
+     * amended, thus the prefix only has to be discarded, as soon as one of its coordinates becomes the top again and is
+     * amended or popped.
+     */
+    private String encodedPathPrefix;
+
+    private int encodedPathPrefixDepth;
+
     /**
      * This is a map between {@link DataRequest} to an invoked verticle and the received response data for the request.
      * This map will not be propagated to the upstream verticles by default.
@@ -88,6 +129,7 @@ public class DataContextImpl implements DataContext {
                         .map(BEARER_AUTHENTICATION_PATTERN::matcher).filter(Matcher::matches)
                         .map(matcher -> matcher.group(1)).orElse(null),
                 Optional.ofNullable(routingContext.user()).map(User::principal).orElse(null), null, null);
+        this.requestId = CorrelationIdHandler.getRequestId(routingContext);
     }
 
     @Deprecated
@@ -151,6 +193,9 @@ public class DataContextImpl implements DataContext {
         this.userPrincipal = original.userPrincipal();
         this.setData(original.data());
         this.setPath(original.path());
+        if (original instanceof DataContextImpl) {
+            this.requestId = ((DataContextImpl) original).requestId;
+        }
     }
 
     @Override
@@ -183,6 +228,7 @@ public class DataContextImpl implements DataContext {
      */
     @VisibleForTesting
     protected void setPath(Iterator<DataVerticleCoordinate> path) {
+        discardEncodedPathPrefix(0);
         this.pathStack =
                 streamPath(path).collect(Collector.of(ArrayDeque::new, (deq, t) -> deq.addFirst(t), (d1, d2) -> {
                     d2.addAll(d1);
@@ -198,6 +244,7 @@ public class DataContextImpl implements DataContext {
      */
     @VisibleForTesting
     protected DataContext setPath(Deque<DataVerticleCoordinate> path) {
+        discardEncodedPathPrefix(0);
         this.pathStack = mutableCopyOf(path, ArrayDeque::new);
         return this;
     }
@@ -311,19 +358,88 @@ public class DataContextImpl implements DataContext {
             // actually it's fine for the context to be null, so also a null should be set as header
             return null;
         }
-        return new JsonObject().put(CORRELATION_ID, context.correlationId()).put(SESSION_ID_KEY, context.sessionId())
-                .put(BEARER_TOKEN_KEY, context.bearerToken()).put(USER_PRINCIPAL_KEY, context.userPrincipal())
-                .put(DATA_KEY, new JsonObject(context.data()))
-                .put(RESPONSE_METADATA_KEY, new JsonObject(context.responseData()))
-                .put(PATH_KEY, pathToJson(context.path())).toString();
+        JsonObject contextJson = new JsonObject().put(CORRELATION_ID, context.correlationId())
+                .put(SESSION_ID_KEY, context.sessionId()).put(BEARER_TOKEN_KEY, context.bearerToken())
+                .put(USER_PRINCIPAL_KEY, context.userPrincipal()).put(DATA_KEY, new JsonObject(context.data()))
+                .put(RESPONSE_METADATA_KEY, new JsonObject(context.responseData()));
+        String encodedPath;
+        if (context instanceof DataContextImpl) {
+            contextJson.put(REQUEST_ID_KEY, ((DataContextImpl) context).requestId);
+            encodedPath = ((DataContextImpl) context).encodePath();
+        } else {
+            encodedPath = pathToJson(context.path()).toString();
+        }
+        String encodedContext = contextJson.toString();
+
+        // the encoded object always contains the correlation ID, so the path can be appended after a separator
+        return encodedContext.substring(0, encodedContext.length() - 1) + ",\"" + PATH_KEY + "\":" + encodedPath + '}';
+    }
+
+    /**
+     * Encodes the path of this context. The coordinates below the top coordinate are encoded without their timings and
+     * are reused from the previous call, in case the bottom of the path did not change in the meantime.
+     *
+     * @return the path of this context encoded as JSON array
+     */
+    private String encodePath() {
+        int prefixDepth = pathStack.size() - 1;
+        if (prefixDepth < 0) {
+            return new JsonArray().toString();
+        }
+
+        // after popping the top coordinate, the previously encoded prefix could contain the current top coordinate
+        discardEncodedPathPrefix(prefixDepth);
+        Iterator<DataVerticleCoordinate> path = pathStack.descendingIterator();
+        StringBuilder prefix = new StringBuilder(encodedPathPrefixDepth > 0 ? encodedPathPrefix : "");
+        for (int depth = 0; depth < prefixDepth; depth++) {
+            DataVerticleCoordinate coordinate = path.next();
+            if (depth >= encodedPathPrefixDepth) {
+                if (depth > 0) {
+                    prefix.append(',');
+                }
+                prefix.append(DataVerticleCoordinateImpl.toJson(coordinate, false).toString());
+            }
+        }
+        encodedPathPrefix = prefix.toString();
+        encodedPathPrefixDepth = prefixDepth;
+
+        // only the top coordinate carries its timings, see pathToJson
+        String top = DataVerticleCoordinateImpl.toJson(path.next(), true).toString();
+        return '[' + (prefixDepth > 0 ? encodedPathPrefix + ',' : "") + top + ']';
+    }
+
+    /**
+     * Discards the encoded path prefix, in case it contains the coordinate at the given depth of the path.
+     *
+     * @param depth the depth of the coordinate (counted from the bottom of the path) which is going to change
+     */
+    private void discardEncodedPathPrefix(int depth) {
+        if (encodedPathPrefixDepth > depth) {
+            encodedPathPrefix = null;
+            encodedPathPrefixDepth = 0;
+        }
+    }
+
+    private void discardEncodedTopCoordinate() {
+        discardEncodedPathPrefix(pathStack.size() - 1);
     }
 
     private static JsonArray pathToJson(Iterator<DataVerticleCoordinate> path) {
-        return new JsonArray(streamPath(path).map(JsonObject::mapFrom).collect(Collectors.toList()));
+        // only the top coordinate carries its timings, as the timings of all other coordinates on the path are only
+        // relevant to the verticles, which already passed them
+        JsonArray array = new JsonArray();
+        while (path.hasNext()) {
+            DataVerticleCoordinate coordinate = path.next();
+            array.add(DataVerticleCoordinateImpl.toJson(coordinate, !path.hasNext()));
+        }
+        return array;
     }
 
     /**
      * Decodes a given string to {@link DataContext}.
+     * <p>
+     * Every call returns a new {@link DataContext} instance, however the same string instance is only parsed once and
+     * subsequent calls return copies of the previously decoded context.
      *
      * @param contextString A string to decode
      * @return a new {@link DataContext} instance representing the passed string
@@ -334,21 +450,53 @@ public class DataContextImpl implements DataContext {
             return null;
         }
 
+        DataContextImpl decodedContext = DECODED_CONTEXTS.getIfPresent(contextString);
+        if (decodedContext == null) {
+            decodedContext = parseContext(contextString);
+            DECODED_CONTEXTS.put(contextString, decodedContext);
+        }
+
+        // never hand out the cached instance, as data contexts are mutable
+        return decodedContext.deepCopy();
+    }
+
+    private static DataContextImpl parseContext(String contextString) {
         JsonObject contextJson = new JsonObject(contextString);
-        return new DataContextImpl(contextJson.getString(CORRELATION_ID), contextJson.getString(SESSION_ID_KEY),
-                contextJson.getString(BEARER_TOKEN_KEY), contextJson.getJsonObject(USER_PRINCIPAL_KEY),
+        DataContextImpl context = new DataContextImpl(contextJson.getString(CORRELATION_ID),
+                contextJson.getString(SESSION_ID_KEY), contextJson.getString(BEARER_TOKEN_KEY),
+                contextJson.getJsonObject(USER_PRINCIPAL_KEY),
                 Optional.ofNullable(contextJson.getJsonObject(DATA_KEY)).map(JsonObject::getMap).orElse(null),
                 Optional.ofNullable(contextJson.getJsonObject(RESPONSE_METADATA_KEY)).map(JsonObject::getMap)
                         .orElse(null),
                 Optional.ofNullable(contextJson.getJsonArray(PATH_KEY)).map(DataContextImpl::pathFromJson)
                         .orElse(null));
+        context.requestId = contextJson.getString(REQUEST_ID_KEY);
+        return context;
     }
 
     private static Deque<DataVerticleCoordinate> pathFromJson(JsonArray array) {
-        return array.stream().map(JsonObject.class::cast).map(object -> object.mapTo(DataVerticleCoordinateImpl.class))
+        return array.stream().map(JsonObject.class::cast).map(DataVerticleCoordinateImpl::fromJson)
                 .collect(ArrayDeque::new, Deque::push, Deque::addAll);
     }
 
+    /**
+     * In contrast to {@link #copy()}, this creates a copy including the response data and copies of all coordinates on
+     * the path, so that the copy can be amended without affecting the original. The immutable user principal is
+     * shared.
+     *
+     * @return a deep copy of this context
+     */
+    private DataContextImpl deepCopy() {
+        Deque<DataVerticleCoordinate> path = new ArrayDeque<>(pathStack.size());
+        pathStack.forEach(coordinate -> path.add(coordinate instanceof DataVerticleCoordinateImpl
+                ? ((DataVerticleCoordinateImpl) coordinate).copy()
+                : coordinate));
+        DataContextImpl copy =
+                new DataContextImpl(correlationId, sessionId, bearerToken, userPrincipal, data, responseData, path);
+        copy.requestId = requestId;
+        return copy;
+    }
+
     /**
      * Push a new verticle into the stack.
      *
@@ -373,6 +521,7 @@ public class DataContextImpl implements DataContext {
      * @return current context
      */
     public DataContext amendTopVerticleCoordinate(String deploymentId) {
+        discardEncodedTopCoordinate();
         Optional.ofNullable(pathStack.peek()).map(DataVerticleCoordinateImpl.class::cast).ifPresent(coordinate -> {
             coordinate.setDeploymentId(deploymentId);
             coordinate.setIpAddress(getHostIp());
@@ -380,10 +529,59 @@ public class DataContextImpl implements DataContext {
         return this;
     }
 
+    /**
+     * Starts the timing of the hop to the verticle of the top coordinate on the stack. Only for timed coordinates,
+     * timestamps are recorded and hops are collected.
+     */
+    public void startTiming() {
+        Optional.ofNullable(pathStack.peek()).map(DataVerticleCoordinateImpl.class::cast)
+                .ifPresent(DataVerticleCoordinateImpl::startTiming);
+    }
+
+    /**
+     * Records the current time for a given phase of the hop of the top coordinate on the stack, in case the timing of
+     * the hop was started.
+     *
+     * @param phase the phase to record the timestamp for
+     */
+    public void recordTimestamp(Phase phase) {
+        Optional.ofNullable(pathStack.peek()).map(DataVerticleCoordinateImpl.class::cast)
+                .ifPresent(coordinate -> coordinate.recordTimestamp(phase));
+    }
+
+    /**
+     * Adds the timed hop of a response to this context. The top coordinate of the response context, including its
+     * timestamps and hops, is added to the hops of the top coordinate on this stack. In case the path of this context
+     * is empty, the hop is added to the {@link #HOPS_RESPONSE_DATA_KEY hops} of the response data instead.
+     *
+     * @param responseContext the context received with the response of a hop
+     */
+    public void addHop(DataContext responseContext) {
+        if (!(responseContext instanceof DataContextImpl)) {
+            return;
+        }
+
+        DataVerticleCoordinate hop = ((DataContextImpl) responseContext).pathStack.peek();
+        if (!(hop instanceof DataVerticleCoordinateImpl) || !((DataVerticleCoordinateImpl) hop).isTimed()) {
+            return;
+        }
+
+        DataVerticleCoordinate topVerticle = pathStack.peek();
+        if (topVerticle != null) {
+            ((DataVerticleCoordinateImpl) topVerticle).addHop(hop);
+        } else {
+            Object hops = responseData().get(HOPS_RESPONSE_DATA_KEY);
+            JsonArray hopsArray = hops instanceof JsonArray ? (JsonArray) hops
+                    : hops instanceof List ? new JsonArray((List<?>) hops) : new JsonArray();
+            responseData().put(HOPS_RESPONSE_DATA_KEY, hopsArray.add(DataVerticleCoordinateImpl.toJson(hop)));
+        }
+    }
+
     /**
      * Remove the top coordinate from the stack.
      */
     public void popVerticleFromPath() {
+        discardEncodedTopCoordinate();
         pathStack.pop();
     }
 
@@ -411,6 +609,21 @@ public class DataContextImpl implements DataContext {
         return sessionId;
     }
 
+    /**
+     * Returns the identifier generated by the server for the (HTTP) request this context originates from.
+     *
+     * @return the request id or null, in case the context does not originate from a request
+     */
+    String requestId() {
+        return requestId;
+    }
+
+    @VisibleForTesting
+    DataContextImpl setRequestId(String requestId) {
+        this.requestId = requestId;
+        return this;
+    }
+
     static Stream<DataVerticleCoordinate> streamPath(Iterator<DataVerticleCoordinate> path) {
         return Optional.ofNullable(path).map(Streams::stream).orElseGet(Stream::empty);
     }
@@ -422,6 +635,7 @@ public class DataContextImpl implements DataContext {
 
     @Override
     public void updateResponseTimestamp() {
+        discardEncodedTopCoordinate();
         Optional.ofNullable(pathStack.peek()).map(DataVerticleCoordinateImpl.class::cast)
                 .ifPresent(DataVerticleCoordinateImpl::updateResponseTimestamp);
     }
@@ -0,0 +1,146 @@
+package io.neonbee.data.internal;
+
+import static io.vertx.core.Future.succeededFuture;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+import io.neonbee.data.DataRequest;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+/**
+ * Limits the number of data requests in flight. Every request has to {@link #acquire(int) acquire} a slot before it is
+ * sent and {@link #release() release} it again, as soon as it completed. If no slot is available, the request is
+ * queued until a slot gets released. Queued requests with a higher {@link DataRequest#getPriority() priority} are
+ * dispatched first, requests of the same priority in the order they were queued.
+ * <p>
+ * A limiter with a limit of 0 or less is unlimited, acquiring a slot always succeeds immediately.
+ */
+public final class DataRequestLimiter {
+    /**
+     * A limiter which doesn't limit the number of requests in flight.
+     */
+    public static final DataRequestLimiter UNLIMITED = new DataRequestLimiter(0);
+
+    private static final Comparator<PendingRequest> DISPATCH_ORDER =
+            (first, second) -> first.priority != second.priority ? Integer.compare(second.priority, first.priority)
+                    : Long.compare(first.sequence, second.sequence);
+
+    private final int limit;
+
+    private final Queue<PendingRequest> queue = new PriorityQueue<>(DISPATCH_ORDER);
+
+    private int inFlight;
+
+    private long sequence;
+
+    /**
+     * Creates a new limiter.
+     *
+     * @param limit the maximum number of requests in flight, 0 or less for no limit
+     */
+    public DataRequestLimiter(int limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Returns whether this limiter limits the number of requests in flight.
+     *
+     * @return true if the number of requests is limited, otherwise false
+     */
+    public boolean isLimited() {
+        return limit > 0;
+    }
+
+    /**
+     * Acquires a slot to send a request. In case no slot is available, the request is queued and the returned future
+     * completes on the context of the caller, as soon as a slot got released. Every acquired slot must be released by
+     * calling {@link #release()}.
+     *
+     * @param priority the priority of the request, requests with a higher priority are dispatched first
+     * @return a future, which completes as soon as a slot was acquired
+     */
+    public Future<Void> acquire(int priority) {
+        if (!isLimited()) {
+            return succeededFuture();
+        }
+
+        PendingRequest pending;
+        synchronized (this) {
+            if (inFlight < limit) {
+                inFlight++;
+                return succeededFuture();
+            }
+
+            pending = new PendingRequest(priority, sequence++, Vertx.currentContext());
+            queue.add(pending);
+        }
+        return pending.promise.future();
+    }
+
+    /**
+     * Releases a slot previously acquired with {@link #acquire(int)}. If requests are queued, the slot is passed on to
+     * the queued request with the highest priority.
+     */
+    public void release() {
+        if (!isLimited()) {
+            return;
+        }
+
+        PendingRequest pending;
+        synchronized (this) {
+            pending = queue.poll();
+            if (pending == null) {
+                inFlight--;
+                return;
+            }
+        }
+        pending.dispatch();
+    }
+
+    /**
+     * Returns the number of requests in flight.
+     *
+     * @return the number of requests, which acquired a slot and didn't release it yet
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Returns the number of queued requests.
+     *
+     * @return the number of requests waiting for a slot
+     */
+    public synchronized int getQueued() {
+        return queue.size();
+    }
+
+    private static class PendingRequest {
+        final int priority;
+
+        final long sequence;
+
+        final Context context;
+
+        final Promise<Void> promise = Promise.promise();
+
+        PendingRequest(int priority, long sequence, Context context) {
+            this.priority = priority;
+            this.sequence = sequence;
+            this.context = context;
+        }
+
+        void dispatch() {
+            if (context == null || context == Vertx.currentContext()) {
+                promise.complete();
+            } else {
+                context.runOnContext(nothing -> promise.complete());
+            }
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package io.neonbee.data.internal;
+
+import static io.neonbee.data.DataAction.READ;
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import io.neonbee.NeonBee;
+import io.neonbee.config.DataCacheConfig;
+import io.neonbee.data.DataContext;
+import io.neonbee.data.DataQuery;
+import io.neonbee.entity.EntityWrapper;
+import io.neonbee.internal.helper.CollectionHelper;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+/**
+ * A bounded, per node cache of the results of read requests to one data verticle.
+ * <p>
+ * The cache is shared by all instances of a data verticle deployed on one NeonBee instance, and it is consulted before
+ * a request is dispatched to the event bus. Requests issued on nodes on which the data verticle is not deployed are
+ * thus not cached. Cached results expire after the configured time to live, and all results are invalidated, as soon
+ * as the data verticle handles any data manipulation or an invalidation is broadcast via the event bus.
+ * <p>
+ * For cached results only the response data is merged into the context of the request. Changes to the
+ * {@link DataContext#data() data} of the context made by the data verticle are not propagated.
+ */
+public final class DataVerticleCache {
+    private final Map<String, DataVerticleCache> caches;
+
+    private final String qualifiedName;
+
+    private final List<String> contextKeys;
+
+    private final Cache<List<Object>, CachedResult> results;
+
+    private int references;
+
+    private DataVerticleCache(Map<String, DataVerticleCache> caches, String qualifiedName, DataCacheConfig config) {
+        this.caches = caches;
+        this.qualifiedName = qualifiedName;
+        this.contextKeys = List.copyOf(config.getContextKeys());
+        this.results = CacheBuilder.newBuilder().expireAfterWrite(config.getTtl(), SECONDS)
+                .maximumSize(config.getMaximumSize()).build();
+    }
+
+    /**
+     * Acquires the cache of the data verticle with the given qualified name, creating a new cache with the given
+     * configuration if it doesn't exist in the given registry yet. Every call to this method must be followed by a
+     * call to {@link #release()}.
+     *
+     * @param caches        the registry of caches of one NeonBee instance, see {@link NeonBee#getDataVerticleCaches()}
+     * @param qualifiedName the qualified name of the data verticle
+     * @param config        the cache configuration
+     * @return the cache of the data verticle
+     */
+    public static DataVerticleCache acquire(Map<String, DataVerticleCache> caches, String qualifiedName,
+            DataCacheConfig config) {
+        return caches.compute(qualifiedName, (key, cache) -> {
+            DataVerticleCache acquiredCache = cache != null ? cache : new DataVerticleCache(caches, key, config);
+            acquiredCache.references++;
+            return acquiredCache;
+        });
+    }
+
+    /**
+     * Releases this cache. If no instance of the data verticle uses this cache anymore, it is removed.
+     */
+    public void release() {
+        caches.computeIfPresent(qualifiedName, (key, cache) -> --cache.references > 0 ? cache : null);
+    }
+
+    /**
+     * Returns the cache of the data verticle with the given qualified name, if the data verticle is deployed on the
+     * NeonBee instance of the given Vert.x instance and caches its results.
+     *
+     * @param vertx         the Vert.x instance
+     * @param qualifiedName the qualified name of the data verticle
+     * @return the cache of the data verticle or null
+     */
+    public static DataVerticleCache lookup(Vertx vertx, String qualifiedName) {
+        NeonBee neonBee = NeonBee.get(vertx);
+        return neonBee != null ? neonBee.getDataVerticleCaches().get(qualifiedName) : null;
+    }
+
+    /**
+     * Returns the event bus address, which invalidation messages of the cache of a data verticle are published to.
+     *
+     * @param qualifiedName the qualified name of the data verticle
+     * @return the invalidation address
+     */
+    public static String getInvalidationAddress(String qualifiedName) {
+        return String.format("%s[%s]", DataVerticleCache.class.getSimpleName(), qualifiedName);
+    }
+
+    /**
+     * Invalidates the cache of the data verticle with the given qualified name on this node and broadcasts the
+     * invalidation to all other nodes.
+     *
+     * @param vertx         the Vert.x instance
+     * @param qualifiedName the qualified name of the data verticle
+     */
+    public static void invalidate(Vertx vertx, String qualifiedName) {
+        Optional.ofNullable(lookup(vertx, qualifiedName)).ifPresent(DataVerticleCache::invalidateAll);
+        vertx.eventBus().publish(getInvalidationAddress(qualifiedName), null);
+    }
+
+    /**
+     * Requests data from the cache. In case the result is not cached yet, the data is requested using the given
+     * requester. Only read queries are cached, any other query is always passed to the requester. Every caller
+     * receives its own copy of the cached result, so that callers may modify the result, e.g. sort the entities of an
+     * {@link EntityWrapper}, without affecting other callers.
+     *
+     * @param query     the query of the request
+     * @param context   the data context of the request
+     * @param requester the function to issue the request, in case the result is not cached
+     * @return a future to the data requested
+     */
+    public Future<Object> request(DataQuery query, DataContext context,
+            Function<DataContext, Future<Object>> requester) {
+        if (query == null || query.getAction() != READ) {
+            return requester.apply(context);
+        }
+
+        List<Object> key = keyOf(query, context);
+        CachedResult cachedResult = results.getIfPresent(key);
+        if (cachedResult != null) {
+            return cachedResult.copyTo(context);
+        }
+
+        // cache a copy of the context, so that later modifications of the context are not reflected in the cache
+        DataContext cachedContext = context != null ? context.copy() : null;
+        Promise<Object> promise = Promise.promise();
+        CachedResult newResult = new CachedResult(promise.future(), cachedContext);
+        // put the pending result atomically, so that concurrent misses for the same key wait for one request only
+        cachedResult = results.asMap().putIfAbsent(key, newResult);
+        if (cachedResult != null) {
+            return cachedResult.copyTo(context);
+        }
+
+        promise.future().onFailure(throwable -> results.asMap().remove(key, newResult));
+        requester.apply(cachedContext).map(ResolutionScope::shareable).onComplete(promise);
+        return newResult.copyTo(context);
+    }
+
+    /**
+     * Invalidates all results cached.
+     */
+    public void invalidateAll() {
+        results.invalidateAll();
+    }
+
+    @VisibleForTesting
+    long size() {
+        return results.size();
+    }
+
+    private List<Object> keyOf(DataQuery query, DataContext context) {
+        List<Object> key = new ArrayList<>(contextKeys.size() + 1);
+        // copy the query, as the query of the request is mutable
+        key.add(query.copy());
+        for (String contextKey : contextKeys) {
+            key.add(context != null ? CollectionHelper.copyOf(contextValue(context, contextKey)) : null);
+        }
+        return key;
+    }
+
+    private static Object contextValue(DataContext context, String contextKey) {
+        switch (contextKey) {
+        case "userPrincipal":
+            return context.userPrincipal();
+        case "bearerToken":
+            return context.bearerToken();
+        case "sessionId":
+            return context.sessionId();
+        default:
+            return Optional.ofNullable(context.data()).map(data -> data.get(contextKey)).orElse(null);
+        }
+    }
+
+    private static class CachedResult {
+        final Future<Object> future;
+
+        final DataContext context;
+
+        CachedResult(Future<Object> future, DataContext context) {
+            this.future = future;
+            this.context = context;
+        }
+
+        Future<Object> copyTo(DataContext targetContext) {
+            return future.transform(asyncResult -> {
+                if (targetContext != null && context != null) {
+                    targetContext.mergeResponseData(context.responseData());
+                }
+                return asyncResult.succeeded() ? succeededFuture(copyOf(asyncResult.result()))
+                        : failedFuture(asyncResult.cause());
+            });
+        }
+
+        private static Object copyOf(Object result) {
+            // entity wrappers are not shareable, but are modified in place by the OData endpoint (e.g. sorted)
+            return result instanceof EntityWrapper ? ((EntityWrapper) result).copy() : CollectionHelper.copyOf(result);
+        }
+    }
+}
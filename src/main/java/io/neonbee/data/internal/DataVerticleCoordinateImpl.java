@@ -1,13 +1,38 @@
 package io.neonbee.data.internal;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.time.Instant;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
 
-import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonProperty;
 import io.neonbee.data.DataContext.DataVerticleCoordinate;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 
 public class DataVerticleCoordinateImpl implements DataVerticleCoordinate {
+    private static final String QUALIFIED_NAME_KEY = "qualifiedName";
+
+    private static final String REQUEST_TIMESTAMP_KEY = "requestTimestamp";
+
+    private static final String DEPLOYMENT_ID_KEY = "deploymentId";
+
+    private static final String IP_ADDRESS_KEY = "ipAddress";
+
+    private static final String RESPONSE_TIMESTAMP_KEY = "responseTimestamp";
+
+    private static final String TIMESTAMPS_KEY = "timestamps";
+
+    private static final String HOPS_KEY = "hops";
+
     private final String qualifiedName;
 
     private final String requestTimestamp;
@@ -18,10 +43,152 @@ public class DataVerticleCoordinateImpl implements DataVerticleCoordinate {
 
     private String responseTimestamp;
 
-    @JsonCreator
-    DataVerticleCoordinateImpl(@JsonProperty("qualifiedName") String qualifiedName) {
+    /**
+     * The timestamps of the phases of this hop, null in case timing was not started for this coordinate.
+     */
+    private Map<String, Long> timestamps;
+
+    private List<DataVerticleCoordinate> hops;
+
+    /**
+     * The phases of a hop, for which a timestamp is recorded in case timing was started for a coordinate.
+     */
+    public enum Phase {
+        /**
+         * The request was sent to the event bus by the requesting verticle.
+         */
+        ENQUEUED,
+
+        /**
+         * The verticle started to process the request.
+         */
+        STARTED,
+
+        /**
+         * All data returned by requireData was received.
+         */
+        REQUIRED,
+
+        /**
+         * The data was retrieved by the verticle.
+         */
+        RETRIEVED,
+
+        /**
+         * The reply was sent to the event bus by the verticle.
+         */
+        REPLIED,
+
+        /**
+         * The reply was received by the requesting verticle.
+         */
+        RESPONDED;
+
+        private final String key = name().toLowerCase(Locale.ROOT);
+
+        /**
+         * Returns the key of this phase in the timestamps of a coordinate.
+         *
+         * @return the key of this phase
+         */
+        public String key() {
+            return key;
+        }
+    }
+
+    DataVerticleCoordinateImpl(String qualifiedName) {
+        this(qualifiedName, LocalTime.now(ZoneId.systemDefault()).toString());
+    }
+
+    private DataVerticleCoordinateImpl(String qualifiedName, String requestTimestamp) {
         this.qualifiedName = qualifiedName;
-        this.requestTimestamp = LocalTime.now(ZoneId.systemDefault()).toString();
+        this.requestTimestamp = requestTimestamp;
+    }
+
+    /**
+     * Converts any coordinate into its JSON representation, omitting any values which are not set.
+     *
+     * @param coordinate the coordinate to convert
+     * @return the JSON representation of the coordinate
+     */
+    public static JsonObject toJson(DataVerticleCoordinate coordinate) {
+        return toJson(coordinate, true);
+    }
+
+    /**
+     * Converts any coordinate into its JSON representation, omitting any values which are not set.
+     *
+     * @param coordinate  the coordinate to convert
+     * @param withTimings whether to include the timestamps and hops of the coordinate
+     * @return the JSON representation of the coordinate
+     */
+    static JsonObject toJson(DataVerticleCoordinate coordinate, boolean withTimings) {
+        JsonObject json = new JsonObject().put(QUALIFIED_NAME_KEY, coordinate.getQualifiedName());
+        putIfNotNull(json, REQUEST_TIMESTAMP_KEY, coordinate.getRequestTimestamp());
+        putIfNotNull(json, DEPLOYMENT_ID_KEY, coordinate.getDeploymentId());
+        putIfNotNull(json, IP_ADDRESS_KEY, coordinate.getIpAddress());
+        putIfNotNull(json, RESPONSE_TIMESTAMP_KEY, coordinate.getResponseTimestamp());
+        if (withTimings) {
+            Map<String, Long> timestamps = coordinate.getTimestamps();
+            if (!timestamps.isEmpty()) {
+                json.put(TIMESTAMPS_KEY, new JsonObject(new LinkedHashMap<>(timestamps)));
+            }
+            List<DataVerticleCoordinate> hops = coordinate.getHops();
+            if (!hops.isEmpty()) {
+                json.put(HOPS_KEY, new JsonArray(
+                        hops.stream().map(DataVerticleCoordinateImpl::toJson).collect(Collectors.toList())));
+            }
+        }
+        return json;
+    }
+
+    /**
+     * Creates a coordinate from its JSON representation. In case no request timestamp is set, the current time is used.
+     *
+     * @param json the JSON representation of the coordinate
+     * @return a new coordinate
+     */
+    static DataVerticleCoordinateImpl fromJson(JsonObject json) {
+        String requestTimestamp = json.getString(REQUEST_TIMESTAMP_KEY);
+        DataVerticleCoordinateImpl coordinate = requestTimestamp != null
+                ? new DataVerticleCoordinateImpl(json.getString(QUALIFIED_NAME_KEY), requestTimestamp)
+                : new DataVerticleCoordinateImpl(json.getString(QUALIFIED_NAME_KEY));
+        coordinate.deploymentId = json.getString(DEPLOYMENT_ID_KEY);
+        coordinate.ipAddress = json.getString(IP_ADDRESS_KEY);
+        coordinate.responseTimestamp = json.getString(RESPONSE_TIMESTAMP_KEY);
+        JsonObject timestamps = json.getJsonObject(TIMESTAMPS_KEY);
+        if (timestamps != null) {
+            coordinate.timestamps = new LinkedHashMap<>();
+            timestamps.forEach(entry -> coordinate.timestamps.put(entry.getKey(),
+                    ((Number) entry.getValue()).longValue()));
+        }
+        JsonArray hops = json.getJsonArray(HOPS_KEY);
+        if (hops != null) {
+            coordinate.hops = hops.stream().map(JsonObject.class::cast).map(DataVerticleCoordinateImpl::fromJson)
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+        return coordinate;
+    }
+
+    private static void putIfNotNull(JsonObject json, String key, String value) {
+        if (value != null) {
+            json.put(key, value);
+        }
+    }
+
+    /**
+     * Creates a copy of this coordinate.
+     *
+     * @return a new coordinate with the same values
+     */
+    DataVerticleCoordinateImpl copy() {
+        DataVerticleCoordinateImpl copy = new DataVerticleCoordinateImpl(qualifiedName, requestTimestamp);
+        copy.deploymentId = deploymentId;
+        copy.ipAddress = ipAddress;
+        copy.responseTimestamp = responseTimestamp;
+        copy.timestamps = timestamps != null ? new LinkedHashMap<>(timestamps) : null;
+        copy.hops = hops != null ? new ArrayList<>(hops) : null;
+        return copy;
     }
 
     @Override
@@ -49,6 +216,57 @@ public class DataVerticleCoordinateImpl implements DataVerticleCoordinate {
         return this;
     }
 
+    /**
+     * Starts the timing of this hop, recording the {@link Phase#ENQUEUED enqueued} timestamp.
+     *
+     * @return this coordinate
+     */
+    DataVerticleCoordinateImpl startTiming() {
+        timestamps = new LinkedHashMap<>();
+        return recordTimestamp(Phase.ENQUEUED);
+    }
+
+    /**
+     * Records the current time for a given phase, in case timing was started for this coordinate.
+     *
+     * @param phase the phase to record the timestamp for
+     * @return this coordinate
+     */
+    DataVerticleCoordinateImpl recordTimestamp(Phase phase) {
+        if (timestamps != null) {
+            Instant now = Instant.now();
+            timestamps.put(phase.key(), SECONDS.toMicros(now.getEpochSecond()) + NANOSECONDS.toMicros(now.getNano()));
+        }
+        return this;
+    }
+
+    /**
+     * Returns whether timing was started for this coordinate.
+     *
+     * @return true if timestamps are recorded for this coordinate
+     */
+    boolean isTimed() {
+        return timestamps != null;
+    }
+
+    DataVerticleCoordinateImpl addHop(DataVerticleCoordinate hop) {
+        if (hops == null) {
+            hops = new ArrayList<>();
+        }
+        hops.add(hop);
+        return this;
+    }
+
+    @Override
+    public Map<String, Long> getTimestamps() {
+        return timestamps != null ? Collections.unmodifiableMap(timestamps) : Map.of();
+    }
+
+    @Override
+    public List<DataVerticleCoordinate> getHops() {
+        return hops != null ? Collections.unmodifiableList(hops) : List.of();
+    }
+
     DataVerticleCoordinateImpl setDeploymentId(String instanceId) {
         this.deploymentId = instanceId;
         return this;
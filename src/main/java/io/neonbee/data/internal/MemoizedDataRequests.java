@@ -0,0 +1,70 @@
+package io.neonbee.data.internal;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+import java.util.function.BiFunction;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import io.neonbee.data.DataContext;
+import io.neonbee.data.DataRequest;
+import io.vertx.core.Future;
+
+/**
+ * Memoizes the results of {@link DataRequest#isMemoized() memoized} data requests for the lifetime of the originating
+ * (HTTP) request, identified by the request id generated by the server, see
+ * {@link io.neonbee.internal.handler.CorrelationIdHandler#REQUEST_ID}.
+ * <p>
+ * The correlation id is deliberately not used to scope the results, as it may be provided by a client. The originating
+ * node evicts all results of a request as soon as it completes, see {@link #evict(String)}. As other nodes of a cluster
+ * are not notified when the request completes, results are also evicted a while after they have been memoized. Failed
+ * requests are never memoized.
+ */
+public final class MemoizedDataRequests {
+    private static final long EXPIRE_AFTER_WRITE_MINUTES = 1;
+
+    private static final Cache<String, ResolutionScope> SCOPES =
+            CacheBuilder.newBuilder().expireAfterWrite(EXPIRE_AFTER_WRITE_MINUTES, MINUTES).build();
+
+    /**
+     * This helper class cannot be instantiated.
+     */
+    private MemoizedDataRequests() {}
+
+    /**
+     * Requests data memoized for the request id of the given context. In case the context has no request id, or the
+     * request cannot be memoized, the request is issued using the given requester.
+     *
+     * @param request   the data request
+     * @param context   the data context of the request
+     * @param requester the function to issue the request, in case no identical request was issued before
+     * @return a future to the data requested
+     */
+    public static Future<Object> request(DataRequest request, DataContext context,
+            BiFunction<DataRequest, DataContext, Future<Object>> requester) {
+        String requestId = context instanceof DataContextImpl ? ((DataContextImpl) context).requestId() : null;
+        if (requestId == null) {
+            return requester.apply(request, context);
+        }
+
+        return SCOPES.asMap().computeIfAbsent(requestId, ResolutionScope::new).request(request, context, requester);
+    }
+
+    /**
+     * Evicts all memoized results of the request with the given request id.
+     *
+     * @param requestId the request id of the request which completed
+     */
+    public static void evict(String requestId) {
+        if (requestId != null) {
+            SCOPES.invalidate(requestId);
+        }
+    }
+
+    @VisibleForTesting
+    static boolean isMemoized(String requestId) {
+        return SCOPES.getIfPresent(requestId) != null;
+    }
+}
@@ -0,0 +1,163 @@
+package io.neonbee.data.internal;
+
+import static io.neonbee.data.DataAction.READ;
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import io.neonbee.data.DataContext;
+import io.neonbee.data.DataQuery;
+import io.neonbee.data.DataRequest;
+import io.neonbee.entity.EntityWrapper;
+import io.neonbee.internal.helper.CollectionHelper;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+/**
+ * A resolution scope spans all data requests of one dependency tree resolved with the
+ * {@link DataRequest.ResolutionStrategy#OPTIMIZED optimized} resolution strategy.
+ * <p>
+ * Identical read requests (same target verticle and same {@link DataQuery}) issued in any branch of the tree are
+ * coalesced, so that they are only sent once per node and the result is fanned out to all dependents. A scope is
+ * identified by a unique identifier, which is propagated along the tree. Scopes are reference counted, so that a scope
+ * is removed as soon as no resolution routine on this node is using it anymore.
+ */
+public final class ResolutionScope {
+    private static final Map<String, ResolutionScope> SCOPES = new ConcurrentHashMap<>();
+
+    private final String id;
+
+    private final Map<List<Object>, ScopedResult> results = new ConcurrentHashMap<>();
+
+    private int references;
+
+    ResolutionScope(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Acquires the resolution scope with the given identifier, creating a new scope if it doesn't exist on this node
+     * yet. Every call to this method must be followed by a call to {@link #release()}.
+     *
+     * @param id the identifier of the scope
+     * @return the resolution scope
+     */
+    public static ResolutionScope acquire(String id) {
+        return SCOPES.compute(id, (key, scope) -> {
+            ResolutionScope acquiredScope = scope != null ? scope : new ResolutionScope(key);
+            acquiredScope.references++;
+            return acquiredScope;
+        });
+    }
+
+    /**
+     * Releases this scope. If this scope is not acquired by anyone else anymore, it is removed.
+     */
+    public void release() {
+        SCOPES.computeIfPresent(id, (key, scope) -> --scope.references > 0 ? scope : null);
+    }
+
+    /**
+     * Returns the identifier of this scope.
+     *
+     * @return the identifier
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Requests data in this scope. If an identical request was already issued in this scope, a copy of the (future)
+     * result of the previous request is returned and the response data received for the previous request is merged
+     * into the given context. Otherwise the request is issued using the given requester. Failed results are removed
+     * from the scope, so that identical requests issued after the failure are retried.
+     *
+     * @param request   the data request
+     * @param context   the data context of the request
+     * @param requester the function to issue the request, in case no identical request was issued before
+     * @return a future to the data requested
+     */
+    public Future<Object> request(DataRequest request, DataContext context,
+            BiFunction<DataRequest, DataContext, Future<Object>> requester) {
+        List<Object> key = keyOf(request);
+        if (key == null) {
+            return requester.apply(request, context);
+        }
+
+        Promise<Object> promise = Promise.promise();
+        ScopedResult newResult = new ScopedResult(promise.future(), context);
+        ScopedResult previousResult = results.putIfAbsent(key, newResult);
+        if (previousResult == null) {
+            promise.future().onFailure(cause -> results.remove(key, newResult));
+            requester.apply(request, context).map(ResolutionScope::shareable).onComplete(promise);
+            return promise.future();
+        }
+
+        return previousResult.future.transform(asyncResult -> {
+            context.mergeResponseData(previousResult.context.responseData());
+            return asyncResult.succeeded() ? succeededFuture(CollectionHelper.copyOf(asyncResult.result()))
+                    : failedFuture(asyncResult.cause());
+        });
+    }
+
+    /**
+     * Returns the key to coalesce the request by, or null if the request must not be coalesced. Only read requests to
+     * other (entity) verticle are coalesced, data sources and sinks are local objects which may behave differently for
+     * every invocation.
+     *
+     * @param request the data request
+     * @return the key for this request or null
+     */
+    @VisibleForTesting
+    static List<Object> keyOf(DataRequest request) {
+        DataQuery query = request.getQuery();
+        if (query == null || query.getAction() != READ) {
+            return null;
+        }
+
+        // copy the query, as the query of the request is mutable
+        if (request.getQualifiedName() != null) {
+            return List.of(request.getQualifiedName(), query.copy());
+        } else if (request.getEntityTypeName() != null) {
+            return List.of(request.getEntityTypeName(), query.copy());
+        }
+
+        return null;
+    }
+
+    /**
+     * Makes a result shareable between multiple dependents. Entity wrappers backed by a stream of entities can only be
+     * consumed once, so they are materialized.
+     *
+     * @param result the result to share
+     * @return the shareable result
+     */
+    static Object shareable(Object result) {
+        if (result instanceof EntityWrapper) {
+            ((EntityWrapper) result).getEntities();
+        }
+        return result;
+    }
+
+    @VisibleForTesting
+    static boolean isActive(String id) {
+        return SCOPES.containsKey(id);
+    }
+
+    private static class ScopedResult {
+        final Future<Object> future;
+
+        final DataContext context;
+
+        ScopedResult(Future<Object> future, DataContext context) {
+            this.future = future;
+            this.context = context;
+        }
+    }
+}
@@ -55,6 +55,29 @@ public class ConfiguredDataVerticleMetrics implements DataVerticleMetrics {
      */
     public static final String TIMING = "reportTiming";
 
+    /**
+     * Key for the client-side percentiles (e.g. 0.5, 0.95, 0.99) to publish for timing values.
+     */
+    public static final String TIMING_PERCENTILES = "timingPercentiles";
+
+    /**
+     * Key for publishing a percentile histogram for timing values, suitable to aggregate percentiles on the server.
+     */
+    public static final String TIMING_PERCENTILE_HISTOGRAM = "timingPercentileHistogram";
+
+    /**
+     * Key for the service level objective boundaries in milliseconds, to publish a histogram bucket for each.
+     */
+    public static final String TIMING_SERVICE_LEVEL_OBJECTIVES = "timingServiceLevelObjectives";
+
+    /**
+     * Key for the time in milliseconds after which samples are dropped from the distribution statistics.
+     */
+    public static final String TIMING_DISTRIBUTION_EXPIRY = "timingDistributionExpiry";
+
+    private static final List<String> REPORT_KEYS =
+            List.of(NUMBER_OF_REQUESTS, ACTIVE_REQUESTS, STATUS_COUNTER, TIMING);
+
     @VisibleForTesting
     static final NoopDataVerticleMetrics DUMMY_IMPL = new NoopDataVerticleMetrics();
 
@@ -92,6 +115,10 @@ public class ConfiguredDataVerticleMetrics implements DataVerticleMetrics {
      * "reportStatusCounter", "reportTiming", only the values configured as true will be reported. If you do not specify
      * any of these values, all metrics are reported.
      *
+     * Timing values are reported with count, total and maximum time. The "timingPercentiles",
+     * "timingPercentileHistogram", "timingServiceLevelObjectives" and "timingDistributionExpiry" values configure
+     * additional distribution statistics to publish for the timers of this verticle.
+     *
      * Full example:
      *
      * <pre>
@@ -102,7 +129,11 @@ public class ConfiguredDataVerticleMetrics implements DataVerticleMetrics {
      *     "reportNumberOfRequests" : true,
      *     "reportActiveRequests" : true
      *     "reportStatusCounter" : true,
-     *     "reportTiming" : true
+     *     "reportTiming" : true,
+     *     "timingPercentiles" : [0.5, 0.95, 0.99],
+     *     "timingPercentileHistogram" : false,
+     *     "timingServiceLevelObjectives" : [50, 100, 250, 1000],
+     *     "timingDistributionExpiry" : 120000
      * }
      * }
      * </pre>
@@ -125,7 +156,8 @@ public class ConfiguredDataVerticleMetrics implements DataVerticleMetrics {
                     "Micrometer registry hasn't been registered yet or it has been stopped. Metrics will not be sent.");
             return DUMMY_IMPL;
         } else {
-            DataVerticleMetrics metricsImpl = new DataVerticleMetricsImpl(registry);
+            DataVerticleMetrics metricsImpl =
+                    new DataVerticleMetricsImpl(registry, TimingConfiguration.fromJson(metricsConfig));
             return configureDataVerticleMetrics(metricsConfig, metricsImpl);
         }
     }
@@ -133,8 +165,7 @@ public class ConfiguredDataVerticleMetrics implements DataVerticleMetrics {
     private static DataVerticleMetrics configureDataVerticleMetrics(JsonObject metricsConfig,
             DataVerticleMetrics metricsImpl) {
 
-        int fieldNameSize = metricsConfig.containsKey(METRICS_REGISTRY_NAME) ? 2 : 1;
-        boolean activateAllMetrics = metricsConfig.size() == fieldNameSize;
+        boolean activateAllMetrics = REPORT_KEYS.stream().noneMatch(metricsConfig::containsKey);
         if (activateAllMetrics) {
             return metricsImpl;
         } else {
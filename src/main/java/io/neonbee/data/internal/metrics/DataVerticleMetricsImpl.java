@@ -5,8 +5,13 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 
-import com.google.common.collect.Iterables;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import com.google.common.collect.ImmutableList;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
@@ -14,65 +19,172 @@ import io.micrometer.core.instrument.ImmutableTag;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import io.vertx.core.Future;
 
+/**
+ * Reports the metrics of a {@link io.neonbee.data.DataVerticle} to a {@link MeterRegistry}.
+ * <p>
+ * Meters are only registered once for every combination of name and tags. The resolved meters are cached by name and
+ * by the list of tags as passed in, so that reporting a metric on the hot path is a map lookup followed by an
+ * increment, or a record respectively. As tags like the query of a request can take an unbounded number of values,
+ * only the meters of the {@link #DEFAULT_MAXIMUM_TAGS_PER_NAME most recently used} tags are kept for every name. The
+ * meters of evicted tags are also removed from the registry.
+ */
 public class DataVerticleMetricsImpl implements DataVerticleMetrics {
+    /**
+     * The default maximum number of distinct tags, for which the meters of one name are kept.
+     */
+    @VisibleForTesting
+    static final long DEFAULT_MAXIMUM_TAGS_PER_NAME = 1000;
 
     private static final ImmutableTag SUCCEEDED_TAG = new ImmutableTag("succeeded", "true");
 
     private static final ImmutableTag FAILED_TAG = new ImmutableTag("succeeded", "false");
 
-    private final Map<Meter.Id, LongAdder> activeRequestsMap = new ConcurrentHashMap<>();
+    private final Map<String, Cache<List<Tag>, ActiveRequests>> activeRequestsMap = new ConcurrentHashMap<>();
+
+    private final Map<String, Cache<List<Tag>, Counter>> counters = new ConcurrentHashMap<>();
+
+    private final Map<String, Cache<List<Tag>, StatusCounters>> statusCounters = new ConcurrentHashMap<>();
+
+    private final Map<String, Cache<List<Tag>, Timer>> timers = new ConcurrentHashMap<>();
 
     private final MeterRegistry registry;
 
+    private final TimingConfiguration timingConfiguration;
+
+    private final long maximumTagsPerName;
+
     DataVerticleMetricsImpl(MeterRegistry registry) {
+        this(registry, TimingConfiguration.NONE);
+    }
+
+    DataVerticleMetricsImpl(MeterRegistry registry, TimingConfiguration timingConfiguration) {
+        this(registry, timingConfiguration, DEFAULT_MAXIMUM_TAGS_PER_NAME);
+    }
+
+    @VisibleForTesting
+    DataVerticleMetricsImpl(MeterRegistry registry, TimingConfiguration timingConfiguration,
+            long maximumTagsPerName) {
         this.registry = registry;
+        this.timingConfiguration = timingConfiguration;
+        this.maximumTagsPerName = maximumTagsPerName;
     }
 
     @Override
     public void reportNumberOfRequests(String name, String description, List<Tag> tags) {
-        Counter.builder(name).description(description).tags(tags).register(registry).increment();
+        getCounter(name, description, tags).increment();
     }
 
     @Override
     public void reportActiveRequestsGauge(String name, String description, List<Tag> tags, Future<?> future) {
-        LongAdder longAdder = getGaugeLongAdder(name, description, tags, registry);
+        LongAdder longAdder = getGaugeLongAdder(name, description, tags);
         longAdder.increment();
         future.onComplete(event -> {
             longAdder.decrement();
         });
     }
 
-    private LongAdder getGaugeLongAdder(String name, String description, List<Tag> tags, MeterRegistry registry) {
-        LongAdder longAdder = new LongAdder();
-        Gauge gauge = Gauge.builder(name, longAdder, LongAdder::doubleValue).description(description).tags(tags)
-                .register(registry);
-        activeRequestsMap.computeIfAbsent(gauge.getId(), id -> longAdder);
-        return longAdder;
-    }
-
     @Override
     public void reportStatusCounter(String name, String description, Iterable<Tag> tags, Future<?> future) {
+        StatusCounters counters = getStatusCounters(name, tags);
         future.onComplete(data -> {
-            Counter.builder(name).description("succeeded response count")
-                    .tags(Iterables.concat(tags, List.of(data.succeeded() ? SUCCEEDED_TAG : FAILED_TAG)))
-                    .register(registry).increment();
+            (data.succeeded() ? counters.succeeded : counters.failed).increment();
         });
     }
 
     @Override
     public void reportTimingMetric(String name, String description, Iterable<Tag> tags, Future<?> future) {
+        Timer timer = getTimer(name, description, tags);
         long start = System.nanoTime();
-        future.onComplete(data -> reportTimeMetric(name, description, tags, start));
+        future.onComplete(data -> timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
     }
 
-    private void reportTimeMetric(String name, String description, Iterable<Tag> tags, long start) {
-        long time = System.nanoTime() - start;
+    @VisibleForTesting
+    Counter getCounter(String name, String description, Iterable<Tag> tags) {
+        return getMeters(counters, name, tags,
+                meterTags -> Counter.builder(name).description(description).tags(meterTags).register(registry),
+                List::of);
+    }
 
-        Timer timer = Timer.builder(name).description(description).tags(tags).register(registry);
-        timer.record(time, TimeUnit.NANOSECONDS);
+    @VisibleForTesting
+    LongAdder getGaugeLongAdder(String name, String description, Iterable<Tag> tags) {
+        // the gauge only holds a weak reference to the long adder, so the map keeps it alive for as long as the gauge
+        return getMeters(activeRequestsMap, name, tags, meterTags -> {
+            LongAdder longAdder = new LongAdder();
+            return new ActiveRequests(longAdder, Gauge.builder(name, longAdder, LongAdder::doubleValue)
+                    .description(description).tags(meterTags).register(registry));
+        }, activeRequests -> List.of(activeRequests.gauge)).longAdder;
     }
 
+    @VisibleForTesting
+    Timer getTimer(String name, String description, Iterable<Tag> tags) {
+        return getMeters(timers, name, tags, meterTags -> timingConfiguration
+                .apply(Timer.builder(name).description(description).tags(meterTags)).register(registry), List::of);
+    }
+
+    private StatusCounters getStatusCounters(String name, Iterable<Tag> tags) {
+        return getMeters(statusCounters, name, tags, meterTags -> new StatusCounters(
+                Counter.builder(name).description("succeeded response count").tags(meterTags.and(SUCCEEDED_TAG))
+                        .register(registry),
+                Counter.builder(name).description("succeeded response count").tags(meterTags.and(FAILED_TAG))
+                        .register(registry)),
+                statusCounter -> List.of(statusCounter.succeeded, statusCounter.failed));
+    }
+
+    /**
+     * Returns the cached meters for a given name and tags, or registers new meters in case they are not cached yet.
+     * The tags as passed in are used as key, so that the tags are only normalized when the meters are registered.
+     *
+     * @param meters        the cache of the meters by name and tags
+     * @param name          the name of the meters
+     * @param tags          the tags of the meters
+     * @param registerMeter the function to register the meters for the normalized tags
+     * @param metersOf      the function returning the registered meters, to remove them from the registry on eviction
+     * @param <T>           the type of the cached meters
+     * @return the cached or newly registered meters
+     */
+    private <T> T getMeters(Map<String, Cache<List<Tag>, T>> meters, String name, Iterable<Tag> tags,
+            Function<Tags, T> registerMeter, Function<T, List<Meter>> metersOf) {
+        Cache<List<Tag>, T> cache = meters.get(name);
+        if (cache == null) {
+            RemovalListener<List<Tag>, T> removalListener = notification -> {
+                if (notification.wasEvicted()) {
+                    metersOf.apply(notification.getValue()).forEach(registry::remove);
+                }
+            };
+            cache = meters.computeIfAbsent(name, key -> CacheBuilder.newBuilder().maximumSize(maximumTagsPerName)
+                    .removalListener(removalListener).build());
+        }
+
+        List<Tag> key = tags instanceof List ? (List<Tag>) tags : ImmutableList.copyOf(tags);
+        T meter = cache.getIfPresent(key);
+        // copy the tags on registration, in case the list passed in gets modified after reporting a metric
+        return meter != null ? meter
+                : cache.asMap().computeIfAbsent(List.copyOf(key), tagList -> registerMeter.apply(Tags.of(tagList)));
+    }
+
+    private static class ActiveRequests {
+        final LongAdder longAdder;
+
+        final Gauge gauge;
+
+        ActiveRequests(LongAdder longAdder, Gauge gauge) {
+            this.longAdder = longAdder;
+            this.gauge = gauge;
+        }
+    }
+
+    private static class StatusCounters {
+        final Counter succeeded;
+
+        final Counter failed;
+
+        StatusCounters(Counter succeeded, Counter failed) {
+            this.succeeded = succeeded;
+            this.failed = failed;
+        }
+    }
 }
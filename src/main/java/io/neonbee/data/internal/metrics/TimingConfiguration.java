@@ -0,0 +1,82 @@
+package io.neonbee.data.internal.metrics;
+
+import java.time.Duration;
+
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * The distribution statistics to publish for the timers of a {@link io.neonbee.data.DataVerticle}.
+ * <p>
+ * By default, timers only publish the count, the total and the maximum time. To analyze the tail latency of a
+ * verticle, client-side percentiles, a percentile histogram and / or the buckets of service level objectives can be
+ * published in addition.
+ */
+final class TimingConfiguration {
+    /**
+     * A configuration without any additional distribution statistics.
+     */
+    static final TimingConfiguration NONE = new TimingConfiguration(null, null, null, null);
+
+    private final double[] percentiles;
+
+    private final Boolean percentileHistogram;
+
+    private final Duration[] serviceLevelObjectives;
+
+    private final Duration distributionExpiry;
+
+    TimingConfiguration(double[] percentiles, Boolean percentileHistogram, Duration[] serviceLevelObjectives,
+            Duration distributionExpiry) {
+        this.percentiles = percentiles;
+        this.percentileHistogram = percentileHistogram;
+        this.serviceLevelObjectives = serviceLevelObjectives;
+        this.distributionExpiry = distributionExpiry;
+    }
+
+    /**
+     * Reads the timing configuration from the metrics configuration of a verticle.
+     *
+     * @param metricsConfig the metrics configuration
+     * @return the timing configuration
+     */
+    static TimingConfiguration fromJson(JsonObject metricsConfig) {
+        JsonArray percentiles = metricsConfig.getJsonArray(ConfiguredDataVerticleMetrics.TIMING_PERCENTILES);
+        JsonArray serviceLevelObjectives =
+                metricsConfig.getJsonArray(ConfiguredDataVerticleMetrics.TIMING_SERVICE_LEVEL_OBJECTIVES);
+        Long distributionExpiry = metricsConfig.getLong(ConfiguredDataVerticleMetrics.TIMING_DISTRIBUTION_EXPIRY);
+
+        return new TimingConfiguration(
+                percentiles == null ? null
+                        : percentiles.stream().mapToDouble(percentile -> ((Number) percentile).doubleValue())
+                                .toArray(),
+                metricsConfig.getBoolean(ConfiguredDataVerticleMetrics.TIMING_PERCENTILE_HISTOGRAM),
+                serviceLevelObjectives == null ? null
+                        : serviceLevelObjectives.stream().map(millis -> Duration.ofMillis(((Number) millis).longValue()))
+                                .toArray(Duration[]::new),
+                distributionExpiry == null ? null : Duration.ofMillis(distributionExpiry));
+    }
+
+    /**
+     * Applies this configuration to a timer builder.
+     *
+     * @param builder the builder of the timer
+     * @return the builder
+     */
+    Timer.Builder apply(Timer.Builder builder) {
+        if (percentiles != null) {
+            builder.publishPercentiles(percentiles);
+        }
+        if (percentileHistogram != null) {
+            builder.publishPercentileHistogram(percentileHistogram);
+        }
+        if (serviceLevelObjectives != null) {
+            builder.serviceLevelObjectives(serviceLevelObjectives);
+        }
+        if (distributionExpiry != null) {
+            builder.distributionStatisticExpiry(distributionExpiry);
+        }
+        return builder;
+    }
+}
@@ -10,6 +10,7 @@ import static io.neonbee.internal.helper.FunctionalHelper.entryFunction;
 import static io.neonbee.internal.helper.StringHelper.EMPTY;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static io.vertx.core.Future.succeededFuture;
+import static io.vertx.core.VertxOptions.DEFAULT_WORKER_POOL_SIZE;
 
 import java.util.Comparator;
 import java.util.List;
@@ -18,21 +19,26 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.regex.Pattern;
 
+import org.apache.olingo.server.api.ServiceMetadata;
+
 import com.google.common.base.MoreObjects;
 
 import io.neonbee.NeonBee;
 import io.neonbee.config.EndpointConfig;
 import io.neonbee.endpoint.Endpoint;
 import io.neonbee.endpoint.odatav4.internal.olingo.OlingoEndpointHandler;
+import io.neonbee.endpoint.odatav4.internal.olingo.processor.BatchProcessor;
 import io.neonbee.entity.EntityModel;
 import io.neonbee.internal.RegexBlockList;
 import io.neonbee.internal.SharedDataAccessor;
 import io.neonbee.logging.LoggingFacade;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.Route;
@@ -45,6 +51,38 @@ public class ODataV4Endpoint implements Endpoint {
      */
     public static final String CONFIG_URI_CONVERSION = "uriConversion";
 
+    /**
+     * The key to configure the processing mode.
+     */
+    public static final String CONFIG_PROCESSING_MODE = "processingMode";
+
+    /**
+     * The key to configure the size of the worker pool, in case the {@link ProcessingMode#WORKER_POOL} processing mode
+     * is used.
+     */
+    public static final String CONFIG_WORKER_POOL_SIZE = "workerPoolSize";
+
+    /**
+     * The key to configure the maximum number of entities returned per page of an entity collection. In case more
+     * entities are available, a next link is returned to request the next page.
+     */
+    public static final String CONFIG_MAX_PAGE_SIZE = "maxPageSize";
+
+    /**
+     * The key to configure the maximum number of independent parts of a $batch request processed concurrently.
+     */
+    public static final String CONFIG_BATCH_CONCURRENCY = "batchConcurrency";
+
+    /**
+     * The key to configure the size of the worker pool, which the content of streamed OData responses is written on.
+     */
+    public static final String CONFIG_RESPONSE_WRITER_POOL_SIZE = "responseWriterPoolSize";
+
+    /**
+     * The default size of the worker pool, which the content of streamed OData responses is written on.
+     */
+    public static final int DEFAULT_RESPONSE_WRITER_POOL_SIZE = 8;
+
     /**
      * The default path the OData V4 endpoint is exposed by NeonBee.
      */
@@ -162,6 +200,51 @@ public class ODataV4Endpoint implements Endpoint {
         }
     }
 
+    /**
+     * The mode the OData requests are processed in by the endpoint. Olingo processes requests synchronously, thus
+     * requests are processed on a worker thread by default:
+     * <p>
+     * - ORDERED: processes all requests on a worker thread, requests received on the same context are processed one
+     * after another. This is the default processing mode.
+     * <p>
+     * - UNORDERED: processes all requests on a worker thread, requests received on the same context are processed in
+     * parallel, so a long-running request does not delay other requests queued behind it.
+     * <p>
+     * - WORKER_POOL: processes all requests unordered on a worker pool dedicated to the endpoint, so that OData
+     * requests do not compete with other blocking code for the shared worker threads. The size of the pool can be
+     * configured using the "workerPoolSize" configuration of the endpoint.
+     * <p>
+     * - EVENT_LOOP: processes read-only requests directly on the event loop, as reading only requires to parse the
+     * request, while the data is requested asynchronously. Any other request is processed unordered on a worker
+     * thread.
+     */
+    @SuppressWarnings("checkstyle:JavadocVariable")
+    public enum ProcessingMode {
+        ORDERED, UNORDERED, WORKER_POOL, EVENT_LOOP;
+
+        /**
+         * Parses a given string and returns the related ProcessingMode.
+         *
+         * @param name ProcessingMode represented as string
+         * @return the ProcessingMode, or ORDERED in case String doesn't match a ProcessingMode.
+         */
+        public static ProcessingMode byName(String name) {
+            switch (nullToEmpty(name).toLowerCase(Locale.ROOT).replace('-', '_')) {
+            case "ordered":
+                return ORDERED;
+            case "unordered":
+                return UNORDERED;
+            case "worker_pool":
+                return WORKER_POOL;
+            case "event_loop":
+                return EVENT_LOOP;
+            default:
+                LOGGER.warn("Unknown processing mode {} falling back to \"ordered\" processing", name);
+                return ORDERED;
+            }
+        }
+    }
+
     @Override
     public EndpointConfig getDefaultConfig() {
         // as the EndpointConfig stays mutable, do not extract this to a static variable, but return a new object
@@ -182,6 +265,26 @@ public class ODataV4Endpoint implements Endpoint {
         // matched against the full qualified name of the entity in question (URI conversion is applied by NeonBee).
         RegexBlockList exposedEntities = RegexBlockList.fromJson(config.getValue("exposedEntities"));
 
+        // the mode to process OData requests in, in case of a dedicated worker pool, the pool is shared by all services
+        // of this endpoint (the pool is named after the base path, so that every endpoint gets its own pool)
+        ProcessingMode processingMode = ProcessingMode.byName(config.getString(CONFIG_PROCESSING_MODE));
+        WorkerExecutor workerExecutor = processingMode == ProcessingMode.WORKER_POOL
+                ? vertx.createSharedWorkerExecutor(ODataV4Endpoint.class.getSimpleName() + "-" + basePath,
+                        config.getInteger(CONFIG_WORKER_POOL_SIZE, DEFAULT_WORKER_POOL_SIZE))
+                : null;
+        // streamed responses are written on a worker thread, which blocks until slow clients drain the response, thus
+        // use a dedicated pool, so that slow clients cannot exhaust the worker threads shared with other blocking code
+        WorkerExecutor responseWriterExecutor = vertx.createSharedWorkerExecutor(
+                ODataV4Endpoint.class.getSimpleName() + "-" + basePath + "-response-writer",
+                config.getInteger(CONFIG_RESPONSE_WRITER_POOL_SIZE, DEFAULT_RESPONSE_WRITER_POOL_SIZE));
+        // the maximum number of entities returned per page, by default entity collections are not paged
+        int maxPageSize = config.getInteger(CONFIG_MAX_PAGE_SIZE, 0);
+        // the maximum number of independent parts of a $batch request processed concurrently
+        int batchConcurrency = config.getInteger(CONFIG_BATCH_CONCURRENCY, BatchProcessor.DEFAULT_CONCURRENCY);
+        Function<ServiceMetadata, OlingoEndpointHandler> endpointHandlerFactory = serviceMetadata ->
+                new OlingoEndpointHandler(serviceMetadata, processingMode, workerExecutor, responseWriterExecutor,
+                        maxPageSize, batchConcurrency);
+
         // Register the event bus consumer first, otherwise it could happen that during initialization we are missing an
         // update to the data model, a refresh of the router will only be triggered in case it is already initialized.
         // This is a NON-local consumer, this means the reload could be triggered from anywhere, however currently the
@@ -190,7 +293,8 @@ public class ODataV4Endpoint implements Endpoint {
         vertx.eventBus().consumer(EVENT_BUS_MODELS_LOADED_ADDRESS, message -> {
             // do not refresh the router if it wasn't even initialized
             if (initialized.get()) {
-                refreshRouter(vertx, router, basePath, uriConversion, exposedEntities, models);
+                refreshRouter(vertx, router, basePath, uriConversion, exposedEntities, endpointHandlerFactory,
+                        models);
             }
         });
 
@@ -204,7 +308,8 @@ public class ODataV4Endpoint implements Endpoint {
                 routingContext -> new SharedDataAccessor(vertx, ODataV4Endpoint.class).getLocalLock(asyncLock ->
                 // immediately initialize the router, this will also "arm" the event bus listener
                 (!initialized.getAndSet(true)
-                        ? refreshRouter(vertx, router, basePath, uriConversion, exposedEntities, models)
+                        ? refreshRouter(vertx, router, basePath, uriConversion, exposedEntities,
+                                endpointHandlerFactory, models)
                         : succeededFuture()).onComplete(handler -> {
                             // wait for the refresh to finish (the result doesn't matter), remove the initial route, as
                             // this will redirect all requests to the registered service endpoint handlers (if non have
@@ -227,7 +332,8 @@ public class ODataV4Endpoint implements Endpoint {
     }
 
     private static Future<Void> refreshRouter(Vertx vertx, Router router, String basePath, UriConversion uriConversion,
-            RegexBlockList exposedEntities, AtomicReference<Map<String, EntityModel>> currentModels) {
+            RegexBlockList exposedEntities, Function<ServiceMetadata, OlingoEndpointHandler> endpointHandlerFactory,
+            AtomicReference<Map<String, EntityModel>> currentModels) {
         return NeonBee.get(vertx).getModelManager().getSharedModels().compose(models -> {
             if (models == currentModels.get()) {
                 return succeededFuture(); // no update needed
@@ -267,7 +373,7 @@ public class ODataV4Endpoint implements Endpoint {
                                     routingContext.next();
                                 })
                                 // TODO depending on the config either create Olingo or CDS based OData V4 handlers here
-                                .handler(new OlingoEndpointHandler(edmxModel));
+                                .handler(endpointHandlerFactory.apply(edmxModel));
                         if (LOGGER.isInfoEnabled()) {
                             LOGGER.info("Serving OData service endpoint for {} at {}{} ({} URI mapping)",
                                     schemaNamespace, basePath, uriPath,
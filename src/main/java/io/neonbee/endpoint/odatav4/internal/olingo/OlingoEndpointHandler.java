@@ -1,18 +1,23 @@
 package io.neonbee.endpoint.odatav4.internal.olingo;
 
 import static io.neonbee.endpoint.odatav4.ODataV4Endpoint.normalizeUri;
-import static io.neonbee.internal.helper.BufferHelper.inputStreamToBuffer;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+import static io.vertx.core.Future.succeededFuture;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.apache.olingo.server.core.ODataHandlerException.MessageKeys.AMBIGUOUS_XHTTP_METHOD;
 import static org.apache.olingo.server.core.ODataHandlerException.MessageKeys.HTTP_METHOD_NOT_ALLOWED;
 import static org.apache.olingo.server.core.ODataHandlerException.MessageKeys.INVALID_HTTP_METHOD;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Function;
 
-import org.apache.olingo.commons.api.ex.ODataRuntimeException;
 import org.apache.olingo.commons.api.http.HttpHeader;
 import org.apache.olingo.commons.api.http.HttpMethod;
 import org.apache.olingo.server.api.OData;
@@ -25,62 +30,91 @@ import org.apache.olingo.server.api.ServiceMetadata;
 import org.apache.olingo.server.core.ODataHandlerException;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
 
 import io.neonbee.endpoint.odatav4.ODataV4Endpoint.NormalizedUri;
+import io.neonbee.endpoint.odatav4.ODataV4Endpoint.ProcessingMode;
 import io.neonbee.endpoint.odatav4.internal.olingo.processor.BatchProcessor;
 import io.neonbee.endpoint.odatav4.internal.olingo.processor.CountEntityCollectionProcessor;
 import io.neonbee.endpoint.odatav4.internal.olingo.processor.EntityProcessor;
 import io.neonbee.endpoint.odatav4.internal.olingo.processor.PrimitiveProcessor;
 import io.neonbee.internal.helper.BufferHelper.BufferInputStream;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
 
 public final class OlingoEndpointHandler implements Handler<RoutingContext> {
+    /**
+     * The size of the chunks the content of OData responses is streamed in.
+     */
+    @VisibleForTesting
+    static final int CHUNK_SIZE = 16 * 1024;
+
+    /**
+     * The OData instance is stateless, but looked up reflectively by Olingo, so reuse one instance per thread.
+     */
+    private static final ThreadLocal<OData> ODATA = ThreadLocal.withInitial(OData::newInstance);
+
     private final ServiceMetadata serviceMetadata;
 
+    private final ProcessingMode processingMode;
+
+    private final WorkerExecutor workerExecutor;
+
+    private final WorkerExecutor responseWriterExecutor;
+
+    private final int maxPageSize;
+
+    private final int batchConcurrency;
+
     /**
      * Returns the OlingoEndpointHandler.
      *
      * @param serviceMetadata The metadata of the service
      */
     public OlingoEndpointHandler(ServiceMetadata serviceMetadata) {
+        this(serviceMetadata, ProcessingMode.ORDERED, null, null, 0, BatchProcessor.DEFAULT_CONCURRENCY);
+    }
+
+    /**
+     * Returns the OlingoEndpointHandler.
+     *
+     * @param serviceMetadata        The metadata of the service
+     * @param processingMode         The mode to process the OData requests in
+     * @param workerExecutor         The worker executor to process the OData requests on, required for the
+     *                               {@link ProcessingMode#WORKER_POOL} processing mode, ignored otherwise
+     * @param responseWriterExecutor The worker executor to write the content of streamed responses on, or null to
+     *                               write it on the worker executor of the processing mode
+     * @param maxPageSize            The maximum number of entities to return per page of an entity collection, or 0
+     *                               to only page entity collections, if the client prefers so
+     * @param batchConcurrency       The maximum number of independent parts of a batch request processed concurrently
+     */
+    public OlingoEndpointHandler(ServiceMetadata serviceMetadata, ProcessingMode processingMode,
+            WorkerExecutor workerExecutor, WorkerExecutor responseWriterExecutor, int maxPageSize,
+            int batchConcurrency) {
         this.serviceMetadata = serviceMetadata;
+        this.processingMode = requireNonNull(processingMode);
+        this.workerExecutor = workerExecutor;
+        this.responseWriterExecutor = responseWriterExecutor;
+        this.maxPageSize = maxPageSize;
+        this.batchConcurrency = batchConcurrency;
+        if (processingMode == ProcessingMode.WORKER_POOL) {
+            requireNonNull(workerExecutor, "a worker executor is required for the worker pool processing mode");
+        }
     }
 
     @Override
     public void handle(RoutingContext routingContext) {
         // In case the OData request is asynchronously processed, the processor will complete the processPromise when
         // done, in case Olingo handles the request synchronously, the processPromise will be completed here
-        Vertx vertx = routingContext.vertx();
         Promise<Void> processPromise = Promise.promise();
-        vertx.<ODataResponse>executeBlocking(blockingPromise -> {
-            OData odata = OData.newInstance();
-            ODataHandler odataHandler = odata.createRawHandler(serviceMetadata);
-
-            // add further built-in processors for NeonBee here (every processor must handle the processPromise)
-            odataHandler.register(new CountEntityCollectionProcessor(vertx, routingContext, processPromise));
-            odataHandler.register(new EntityProcessor(vertx, routingContext, processPromise));
-            odataHandler.register(new BatchProcessor(vertx, routingContext, processPromise));
-            odataHandler.register(new PrimitiveProcessor(vertx, routingContext, processPromise));
-
-            try {
-                ODataResponse odataResponse = odataHandler.process(mapToODataRequest(routingContext,
-                        serviceMetadata.getEdm().getEntityContainer().getNamespace()));
-                // check for synchronous processing, complete the processPromise in case a response body is set
-                if ((odataResponse.getStatusCode() != INTERNAL_SERVER_ERROR.code())
-                        || (odataResponse.getContent() != null) || (odataResponse.getODataContent() != null)) {
-                    processPromise.tryComplete();
-                }
-                blockingPromise.complete(odataResponse);
-            } catch (ODataLibraryException e) {
-                blockingPromise.fail(e);
-            }
-        }, asyncODataResponse -> {
+        processRequest(routingContext, processPromise).onComplete(asyncODataResponse -> {
             // failed to map / process OData request, so fail the web request
             if (asyncODataResponse.failed()) {
                 Throwable cause = asyncODataResponse.cause();
@@ -99,16 +133,105 @@ public final class OlingoEndpointHandler implements Handler<RoutingContext> {
                     return;
                 }
 
-                try {
-                    // map the odataResponse to the routingContext.response
-                    mapODataResponse(odataResponse, routingContext.response());
-                } catch (IOException | ODataRuntimeException e) {
-                    routingContext.fail(-1, e);
-                }
+                // map the odataResponse to the routingContext.response
+                mapODataResponse(odataResponse, routingContext.response(),
+                        blockingCodeHandler -> writeBlocking(routingContext.vertx(), blockingCodeHandler))
+                                .onFailure(cause -> failResponse(routingContext, cause));
             });
         });
     }
 
+    private <T> Future<T> writeBlocking(Vertx vertx, Handler<Promise<T>> blockingCodeHandler) {
+        if (responseWriterExecutor != null) {
+            return responseWriterExecutor.executeBlocking(blockingCodeHandler, false);
+        }
+        return workerExecutor != null ? workerExecutor.executeBlocking(blockingCodeHandler, false)
+                : vertx.executeBlocking(blockingCodeHandler, false);
+    }
+
+    private static void failResponse(RoutingContext routingContext, Throwable throwable) {
+        HttpServerResponse response = routingContext.response();
+        if (response.headWritten()) {
+            // parts of the response have been streamed already, thus no error response can be sent anymore, reset the
+            // connection, so that the client does not mistake the truncated response for a complete one
+            response.reset();
+            return;
+        }
+
+        // entities may be processed lazily while writing the response, e.g. when applying a $filter, so propagate the
+        // status code of any application exception that occurred while writing
+        Throwable cause = Throwables.getCausalChain(throwable).stream()
+                .filter(ODataApplicationException.class::isInstance).findFirst().orElse(throwable);
+        routingContext.fail(getStatusCode(cause), cause);
+    }
+
+    /**
+     * Dispatches the processing of the OData request depending on the configured {@link ProcessingMode}.
+     *
+     * @param routingContext the context for the handling of the HTTP request
+     * @param processPromise the promise the processors complete when processing the request asynchronously
+     * @return a future to the (not yet necessarily populated) OData response
+     */
+    private Future<ODataResponse> processRequest(RoutingContext routingContext, Promise<Void> processPromise) {
+        Handler<Promise<ODataResponse>> processHandler = promise -> {
+            try {
+                promise.complete(process(routingContext, processPromise));
+            } catch (ODataLibraryException e) {
+                promise.fail(e);
+            }
+        };
+
+        Vertx vertx = routingContext.vertx();
+        switch (processingMode) {
+        case EVENT_LOOP:
+            if (isReadOnly(routingContext.request())) {
+                // Olingo only parses the request and the processors request the data asynchronously, so it is safe to
+                // process read-only requests on the event loop, any other request could block (e.g. $batch requests)
+                return Future.future(processHandler);
+            }
+            return vertx.executeBlocking(processHandler, false);
+        case WORKER_POOL:
+            return workerExecutor.executeBlocking(processHandler, false);
+        case UNORDERED:
+            return vertx.executeBlocking(processHandler, false);
+        default:
+            return vertx.executeBlocking(processHandler);
+        }
+    }
+
+    private ODataResponse process(RoutingContext routingContext, Promise<Void> processPromise)
+            throws ODataLibraryException {
+        Vertx vertx = routingContext.vertx();
+        ODataHandler odataHandler = ODATA.get().createRawHandler(serviceMetadata);
+
+        // add further built-in processors for NeonBee here (every processor must handle the processPromise)
+        odataHandler.register(new CountEntityCollectionProcessor(vertx, routingContext, processPromise, maxPageSize));
+        odataHandler.register(new EntityProcessor(vertx, routingContext, processPromise));
+        odataHandler.register(new BatchProcessor(vertx, routingContext, processPromise, batchConcurrency));
+        odataHandler.register(new PrimitiveProcessor(vertx, routingContext, processPromise));
+
+        ODataResponse odataResponse = odataHandler.process(
+                mapToODataRequest(routingContext, serviceMetadata.getEdm().getEntityContainer().getNamespace()));
+        // check for synchronous processing, complete the processPromise in case a response body is set
+        if ((odataResponse.getStatusCode() != INTERNAL_SERVER_ERROR.code()) || (odataResponse.getContent() != null)
+                || (odataResponse.getODataContent() != null)) {
+            processPromise.tryComplete();
+        }
+        return odataResponse;
+    }
+
+    /**
+     * Checks if the given request is a read-only request, which does not modify any data.
+     *
+     * @param request the HTTP request
+     * @return true if the request is a read-only request
+     */
+    @VisibleForTesting
+    static boolean isReadOnly(HttpServerRequest request) {
+        io.vertx.core.http.HttpMethod method = request.method();
+        return io.vertx.core.http.HttpMethod.GET.equals(method) || io.vertx.core.http.HttpMethod.HEAD.equals(method);
+    }
+
     private static int getStatusCode(Throwable throwable) {
         return throwable instanceof ODataApplicationException ? ((ODataApplicationException) throwable).getStatusCode()
                 : -1;
@@ -205,13 +328,23 @@ public final class OlingoEndpointHandler implements Handler<RoutingContext> {
 
     /**
      * Maps a ODataResponse to a existing Vert.x HttpServerResponse.
+     * <p>
+     * The content of the response is streamed to the HttpServerResponse in chunks, respecting the back-pressure of the
+     * HttpServerResponse, instead of buffering the whole content in memory first. Contents which fit into one chunk are
+     * sent in one piece, with a content length. The content of the response is either already serialized (and thus
+     * is read without blocking), or it is serialized lazily by Olingo while it is written. As Olingo pushes the lazily
+     * serialized content synchronously, it is written on a worker thread, which waits for the HttpServerResponse to
+     * drain, in case its write queue is full. To not exhaust the worker threads shared with other blocking code, in
+     * case of slow clients, the endpoint writes the content on a dedicated worker pool.
      *
-     * @param odataResponse The ODataResponse to map
-     * @param response      The HttpServerResponse to map to
-     * @throws IOException IOException
+     * @param odataResponse    The ODataResponse to map
+     * @param response         The HttpServerResponse to map to
+     * @param blockingExecutor The executor to execute blocking code with
+     * @return a future, which is completed when the response was ended or failed to be written
      */
     @VisibleForTesting
-    static void mapODataResponse(ODataResponse odataResponse, HttpServerResponse response) throws IOException {
+    static Future<Void> mapODataResponse(ODataResponse odataResponse, HttpServerResponse response,
+            Function<Handler<Promise<Void>>, Future<Void>> blockingExecutor) {
         // status code and headers
         response.setStatusCode(odataResponse.getStatusCode());
         for (Map.Entry<String, List<String>> entry : odataResponse.getAllHeaders().entrySet()) {
@@ -221,13 +354,144 @@ public final class OlingoEndpointHandler implements Handler<RoutingContext> {
         }
         // OData response content
         if (odataResponse.getContent() != null) {
-            response.end(inputStreamToBuffer(odataResponse.getContent()));
+            Promise<Void> promise = Promise.promise();
+            writeContent(odataResponse.getContent(), null, response, promise);
+            return promise.future();
         } else if (odataResponse.getODataContent() != null) {
-            ByteArrayOutputStream byteArrayOutput = new ByteArrayOutputStream();
-            odataResponse.getODataContent().write(byteArrayOutput);
-            response.end(Buffer.buffer(byteArrayOutput.toByteArray()));
+            return blockingExecutor.apply(promise -> {
+                // do not close the output stream if writing fails, as this would end the response with partial content
+                ResponseOutputStream output = new ResponseOutputStream(response);
+                odataResponse.getODataContent().write(output);
+                output.close();
+                promise.complete();
+            });
         } else {
             response.end(); // no content (e.g. for update / delete requests)
+            return succeededFuture();
+        }
+    }
+
+    /**
+     * Writes the content to the response chunk by chunk, until either the content was fully written, or the write queue
+     * of the response is full. In the latter case writing is resumed, as soon as the response drained.
+     *
+     * @param content  the content to write
+     * @param chunk    the chunk read ahead from the content or null
+     * @param response the response to write to
+     * @param promise  the promise to complete when the response was ended
+     */
+    private static void writeContent(InputStream content, Buffer chunk, HttpServerResponse response,
+            Promise<Void> promise) {
+        try {
+            Buffer currentChunk = chunk != null ? chunk : readChunk(content);
+            while (currentChunk != null) {
+                // always read one chunk ahead, so that a content fitting into one chunk can be ended in one piece
+                Buffer nextChunk = readChunk(content);
+                if (nextChunk == null) {
+                    response.end(currentChunk);
+                    promise.complete();
+                    return;
+                }
+
+                response.setChunked(true);
+                response.write(currentChunk);
+                if (response.writeQueueFull()) {
+                    response.drainHandler(nothing -> writeContent(content, nextChunk, response, promise));
+                    return;
+                }
+                currentChunk = nextChunk;
+            }
+
+            response.end();
+            promise.complete();
+        } catch (IOException e) {
+            promise.fail(e);
+        }
+    }
+
+    private static Buffer readChunk(InputStream content) throws IOException {
+        byte[] data = new byte[CHUNK_SIZE];
+        int read = content.readNBytes(data, 0, CHUNK_SIZE);
+        return read > 0 ? Buffer.buffer(read).appendBytes(data, 0, read) : null;
+    }
+
+    /**
+     * An output stream writing to a {@link HttpServerResponse} in chunks. Blocks the writing thread, in case the write
+     * queue of the response is full, thus must not be used on an event loop thread.
+     */
+    @VisibleForTesting
+    static class ResponseOutputStream extends OutputStream {
+        private static final long DRAIN_POLL_INTERVAL_MILLIS = 100;
+
+        private final HttpServerResponse response;
+
+        private Buffer chunk = Buffer.buffer(CHUNK_SIZE);
+
+        private boolean closed;
+
+        /**
+         * Creates a new output stream writing to the given response.
+         *
+         * @param response the response to write to
+         */
+        ResponseOutputStream(HttpServerResponse response) {
+            super();
+            this.response = response;
+        }
+
+        @Override
+        public void write(int data) throws IOException {
+            writeChunkIfFull();
+            chunk.appendByte((byte) data);
+        }
+
+        @Override
+        public void write(byte[] data, int offset, int length) throws IOException {
+            int position = offset;
+            int remaining = length;
+            while (remaining > 0) {
+                writeChunkIfFull();
+                int size = Math.min(remaining, CHUNK_SIZE - chunk.length());
+                chunk.appendBytes(data, position, size);
+                position += size;
+                remaining -= size;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                response.end(chunk);
+            }
+        }
+
+        private void writeChunkIfFull() throws IOException {
+            // a full chunk is only written as soon as more data follows, so that a content fitting into one chunk can
+            // be ended in one piece
+            if (chunk.length() < CHUNK_SIZE) {
+                return;
+            }
+
+            response.setChunked(true);
+            response.write(chunk);
+            chunk = Buffer.buffer(CHUNK_SIZE);
+
+            // the drain handler could be called before it was set, so check the write queue again after setting it
+            while (response.writeQueueFull()) {
+                if (response.closed()) {
+                    throw new IOException("Connection closed while writing the response");
+                }
+
+                CountDownLatch drained = new CountDownLatch(1);
+                response.drainHandler(nothing -> drained.countDown());
+                try {
+                    drained.await(DRAIN_POLL_INTERVAL_MILLIS, MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for the response to drain");
+                }
+            }
         }
     }
 }
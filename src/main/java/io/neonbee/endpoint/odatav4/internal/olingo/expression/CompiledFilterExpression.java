@@ -0,0 +1,517 @@
+package io.neonbee.endpoint.odatav4.internal.olingo.expression;
+
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.PRIMITIVE_BOOLEAN;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.PRIMITIVE_BYTE;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.PRIMITIVE_INT16;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.PRIMITIVE_INT32;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.PRIMITIVE_INT64;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.PRIMITIVE_SBYTE;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.PRIMITIVE_STRING;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmHelper.throwNotImplementedODataException;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.edm.EdmProperty;
+import org.apache.olingo.commons.api.edm.EdmType;
+import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.uri.UriResource;
+import org.apache.olingo.server.api.uri.UriResourceProperty;
+import org.apache.olingo.server.api.uri.queryoption.expression.Binary;
+import org.apache.olingo.server.api.uri.queryoption.expression.BinaryOperatorKind;
+import org.apache.olingo.server.api.uri.queryoption.expression.Expression;
+import org.apache.olingo.server.api.uri.queryoption.expression.ExpressionVisitException;
+import org.apache.olingo.server.api.uri.queryoption.expression.Literal;
+import org.apache.olingo.server.api.uri.queryoption.expression.Member;
+import org.apache.olingo.server.api.uri.queryoption.expression.Method;
+import org.apache.olingo.server.api.uri.queryoption.expression.Unary;
+import org.apache.olingo.server.api.uri.queryoption.expression.UnaryOperatorKind;
+
+import io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmHelper;
+import io.neonbee.endpoint.odatav4.internal.olingo.expression.operands.ExpressionVisitorOperand;
+import io.neonbee.logging.LoggingFacade;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * A $filter expression compiled once per request, which can be evaluated for many entities.
+ * <p>
+ * Evaluating the expression tree with a {@link FilterExpressionVisitor} walks the whole tree for every entity, parses
+ * all literals again and resolves the properties by name. A compiled expression resolves literals and properties once.
+ * Comparisons of string and integer properties with literals, the {@code in} operator and the logical operators are
+ * evaluated directly on the property values, everything else is evaluated with the same operators as the
+ * {@link FilterExpressionVisitor} does. Expressions which are not supported by the compiler are evaluated by a
+ * {@link FilterExpressionVisitor} as a fallback.
+ */
+public final class CompiledFilterExpression {
+    private static final LoggingFacade LOGGER = LoggingFacade.create();
+
+    private static final Set<BinaryOperatorKind> COMPARISON_OPERATORS = EnumSet.of(BinaryOperatorKind.EQ,
+            BinaryOperatorKind.NE, BinaryOperatorKind.GT, BinaryOperatorKind.GE, BinaryOperatorKind.LT,
+            BinaryOperatorKind.LE);
+
+    private final RoutingContext routingContext;
+
+    /**
+     * Visitor used to apply operators and method calls to already evaluated operands only, thus without an entity.
+     */
+    private final FilterExpressionVisitor operators;
+
+    private final CompiledExpression root;
+
+    private CompiledFilterExpression(RoutingContext routingContext, Expression expression) {
+        this.routingContext = routingContext;
+        this.operators = new FilterExpressionVisitor(routingContext, null);
+        this.root = compile(expression);
+    }
+
+    /**
+     * Compiles a $filter expression.
+     *
+     * @param routingContext the current routingContext
+     * @param expression     the expression of the $filter system query option
+     * @return the compiled expression
+     */
+    public static CompiledFilterExpression compile(RoutingContext routingContext, Expression expression) {
+        return new CompiledFilterExpression(routingContext, expression);
+    }
+
+    /**
+     * Checks if an entity matches the expression.
+     *
+     * @param entity the entity to check
+     * @return true if the expression evaluates to true for the entity
+     * @throws ODataApplicationException if the expression cannot be evaluated for the entity
+     * @throws ExpressionVisitException  if the expression cannot be evaluated for the entity
+     */
+    public boolean matches(Entity entity) throws ODataApplicationException, ExpressionVisitException {
+        if (root instanceof Condition) {
+            return Boolean.TRUE.equals(((Condition) root).test(entity));
+        }
+        return Boolean.TRUE.equals(root.evaluate(entity).getValue());
+    }
+
+    private CompiledExpression compile(Expression expression) {
+        if (expression instanceof Literal) {
+            return compileLiteral((Literal) expression);
+        } else if (expression instanceof Member) {
+            return compileMember((Member) expression);
+        } else if (expression instanceof Binary) {
+            return compileBinary((Binary) expression);
+        } else if (expression instanceof Unary) {
+            return compileUnary((Unary) expression);
+        } else if (expression instanceof Method) {
+            return compileMethod((Method) expression);
+        }
+        return fallback(expression);
+    }
+
+    private CompiledExpression compileLiteral(Literal literal) {
+        EdmType literalType = literal.getType();
+        ExpressionVisitorOperand operand = new ExpressionVisitorOperand(routingContext,
+                EdmHelper.extractValueFromLiteral(literal.getText()), literalType);
+        try {
+            // the operators set the type of their operands, which for literals only has to be done once
+            return new LiteralExpression(operand.setType());
+        } catch (ODataApplicationException e) {
+            // the type cannot be set, fail for every entity, as the interpreter would do
+            return new LiteralExpression(operand);
+        }
+    }
+
+    private CompiledExpression compileMember(Member member) {
+        List<UriResource> uriResourceParts = member.getResourcePath().getUriResourceParts();
+        if (uriResourceParts.isEmpty() || !(uriResourceParts.get(0) instanceof UriResourceProperty)
+                || ((UriResourceProperty) uriResourceParts.get(0)).getProperty() == null) {
+            return fallback(member);
+        }
+        return new MemberExpression(((UriResourceProperty) uriResourceParts.get(0)).getProperty());
+    }
+
+    private CompiledExpression compileBinary(Binary binary) {
+        BinaryOperatorKind operator = binary.getOperator();
+        CompiledExpression left = compile(binary.getLeftOperand());
+        if (operator == BinaryOperatorKind.IN) {
+            List<CompiledExpression> right = new ArrayList<>();
+            for (Expression expression : binary.getExpressions()) {
+                right.add(compile(expression));
+            }
+            if (left instanceof MemberExpression && right.stream().allMatch(LiteralExpression.class::isInstance)) {
+                ValueSet values = ValueSet.of((MemberExpression) left, right);
+                if (values != null) {
+                    return new InCondition((MemberExpression) left, values, right);
+                }
+            }
+            return entity -> {
+                List<ExpressionVisitorOperand> rightOperands = new ArrayList<>(right.size());
+                for (CompiledExpression expression : right) {
+                    rightOperands.add(expression.evaluate(entity));
+                }
+                return operators.visitBinaryOperator(operator, left.evaluate(entity), rightOperands);
+            };
+        }
+
+        CompiledExpression right = compile(binary.getRightOperand());
+        if ((operator == BinaryOperatorKind.AND || operator == BinaryOperatorKind.OR) && left instanceof Condition
+                && right instanceof Condition) {
+            return operator == BinaryOperatorKind.AND ? new AndCondition((Condition) left, (Condition) right)
+                    : new OrCondition((Condition) left, (Condition) right);
+        } else if (COMPARISON_OPERATORS.contains(operator)) {
+            if (left instanceof MemberExpression && right instanceof LiteralExpression) {
+                TypedValue value = TypedValue.of((MemberExpression) left, (LiteralExpression) right);
+                if (value != null) {
+                    return new ComparisonCondition(operator, (MemberExpression) left, value, true, right);
+                }
+            } else if (left instanceof LiteralExpression && right instanceof MemberExpression) {
+                TypedValue value = TypedValue.of((MemberExpression) right, (LiteralExpression) left);
+                if (value != null) {
+                    return new ComparisonCondition(operator, (MemberExpression) right, value, false, left);
+                }
+            }
+        }
+
+        return entity -> operators.visitBinaryOperator(operator, left.evaluate(entity), right.evaluate(entity));
+    }
+
+    private CompiledExpression compileUnary(Unary unary) {
+        UnaryOperatorKind operator = unary.getOperator();
+        CompiledExpression operand = compile(unary.getOperand());
+        if (operator == UnaryOperatorKind.NOT && operand instanceof Condition) {
+            return new NotCondition((Condition) operand);
+        }
+        return entity -> operators.visitUnaryOperator(operator, operand.evaluate(entity));
+    }
+
+    private CompiledExpression compileMethod(Method method) {
+        List<CompiledExpression> parameters = new ArrayList<>();
+        for (Expression parameter : method.getParameters()) {
+            parameters.add(compile(parameter));
+        }
+        return entity -> {
+            List<ExpressionVisitorOperand> operands = new ArrayList<>(parameters.size());
+            for (CompiledExpression parameter : parameters) {
+                operands.add(parameter.evaluate(entity));
+            }
+            return operators.visitMethodCall(method.getMethod(), operands);
+        };
+    }
+
+    private CompiledExpression fallback(Expression expression) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.correlateWith(routingContext).debug("Expression '{}' is interpreted for every entity", expression);
+        }
+        return entity -> expression.accept(new FilterExpressionVisitor(routingContext, entity));
+    }
+
+    @FunctionalInterface
+    private interface CompiledExpression {
+        ExpressionVisitorOperand evaluate(Entity entity) throws ODataApplicationException, ExpressionVisitException;
+    }
+
+    /**
+     * A compiled expression with a boolean result, which can be tested without creating operands. As in the
+     * interpreter, the result of a condition may be {@code null}, if it is unknown.
+     */
+    private abstract class Condition implements CompiledExpression {
+        abstract Boolean test(Entity entity) throws ODataApplicationException, ExpressionVisitException;
+
+        @Override
+        public ExpressionVisitorOperand evaluate(Entity entity)
+                throws ODataApplicationException, ExpressionVisitException {
+            return new ExpressionVisitorOperand(routingContext, test(entity), PRIMITIVE_BOOLEAN);
+        }
+    }
+
+    private static final class LiteralExpression implements CompiledExpression {
+        final ExpressionVisitorOperand operand;
+
+        LiteralExpression(ExpressionVisitorOperand operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        public ExpressionVisitorOperand evaluate(Entity entity) {
+            return operand;
+        }
+    }
+
+    private final class MemberExpression implements CompiledExpression {
+        final EdmProperty edmProperty;
+
+        final String name;
+
+        MemberExpression(EdmProperty edmProperty) {
+            this.edmProperty = edmProperty;
+            this.name = edmProperty.getName();
+        }
+
+        Property getProperty(Entity entity) {
+            Property property = entity.getProperty(name);
+            if (property == null) {
+                throw new NoSuchElementException("No value present");
+            }
+            return property;
+        }
+
+        @Override
+        public ExpressionVisitorOperand evaluate(Entity entity) throws ODataApplicationException {
+            Property property = getProperty(entity);
+            if (property.isPrimitive()) {
+                return new ExpressionVisitorOperand(routingContext, property.getValue(), edmProperty.getType(),
+                        edmProperty);
+            }
+            return throwNotImplementedODataException();
+        }
+    }
+
+    /**
+     * The value of a literal, converted to the Java type a property value is compared with.
+     */
+    private static final class TypedValue {
+        final Comparable<?> value;
+
+        private TypedValue(Comparable<?> value) {
+            this.value = value;
+        }
+
+        /**
+         * Converts the value of a literal, if the property and the literal can be compared directly.
+         *
+         * @param member  the member to compare with
+         * @param literal the literal to convert
+         * @return the converted value or null, if comparing the values requires the generic operators
+         */
+        static TypedValue of(MemberExpression member, LiteralExpression literal) {
+            EdmType propertyType = member.edmProperty.getType();
+            ExpressionVisitorOperand operand = literal.operand;
+            if (operand.isNull()) {
+                return null;
+            } else if (PRIMITIVE_STRING.equals(propertyType) && operand.is(PRIMITIVE_STRING)
+                    && operand.getValue() instanceof String) {
+                return new TypedValue((String) operand.getValue());
+            } else if (isInteger(propertyType) && operand.is(PRIMITIVE_BYTE, PRIMITIVE_SBYTE, PRIMITIVE_INT16,
+                    PRIMITIVE_INT32, PRIMITIVE_INT64) && operand.getValue() instanceof BigInteger
+                    && ((BigInteger) operand.getValue()).bitLength() < Long.SIZE) {
+                return new TypedValue(((BigInteger) operand.getValue()).longValue());
+            }
+            return null;
+        }
+
+        /**
+         * Converts the value of a property, if it can be compared directly to this value.
+         *
+         * @param propertyValue the value of the property, not null
+         * @return the converted value or null, if comparing the values requires the generic operators
+         */
+        Comparable<?> convert(Object propertyValue) {
+            if (value instanceof String) {
+                return propertyValue instanceof String ? (String) propertyValue : null;
+            } else if (propertyValue instanceof Long || propertyValue instanceof Integer
+                    || propertyValue instanceof Short || propertyValue instanceof Byte) {
+                return ((Number) propertyValue).longValue();
+            }
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        int compareTo(Comparable<?> propertyValue) {
+            return Integer.signum(((Comparable<Object>) propertyValue).compareTo(value));
+        }
+
+        private static boolean isInteger(EdmType type) {
+            return PRIMITIVE_BYTE.equals(type) || PRIMITIVE_SBYTE.equals(type) || PRIMITIVE_INT16.equals(type)
+                    || PRIMITIVE_INT32.equals(type) || PRIMITIVE_INT64.equals(type);
+        }
+    }
+
+    /**
+     * The values of the literals of an {@code in} operator, converted to the Java type of the property values.
+     */
+    private static final class ValueSet {
+        final TypedValue sample;
+
+        final Set<Comparable<?>> values;
+
+        private ValueSet(TypedValue sample, Set<Comparable<?>> values) {
+            this.sample = sample;
+            this.values = values;
+        }
+
+        static ValueSet of(MemberExpression member, List<CompiledExpression> literals) {
+            TypedValue sample = null;
+            Set<Comparable<?>> values = new HashSet<>();
+            for (CompiledExpression literal : literals) {
+                TypedValue value = TypedValue.of(member, (LiteralExpression) literal);
+                if (value == null || (sample != null && sample.value.getClass() != value.value.getClass())) {
+                    return null;
+                }
+                sample = value;
+                values.add(value.value);
+            }
+            return sample != null ? new ValueSet(sample, values) : null;
+        }
+    }
+
+    private final class ComparisonCondition extends Condition {
+        private final BinaryOperatorKind operator;
+
+        private final MemberExpression member;
+
+        private final TypedValue value;
+
+        private final boolean memberLeft;
+
+        private final CompiledExpression literal;
+
+        ComparisonCondition(BinaryOperatorKind operator, MemberExpression member, TypedValue value,
+                boolean memberLeft, CompiledExpression literal) {
+            this.operator = operator;
+            this.member = member;
+            this.value = value;
+            this.memberLeft = memberLeft;
+            this.literal = literal;
+        }
+
+        @Override
+        Boolean test(Entity entity) throws ODataApplicationException, ExpressionVisitException {
+            Property property = member.getProperty(entity);
+            Object propertyValue = property.getValue();
+            Comparable<?> convertedValue;
+            if (!property.isPrimitive()) {
+                throwNotImplementedODataException();
+            }
+            if (propertyValue == null) {
+                // a null value is only not equal to the (non-null) literal
+                return operator == BinaryOperatorKind.NE;
+            } else if ((convertedValue = value.convert(propertyValue)) == null) {
+                ExpressionVisitorOperand memberOperand = member.evaluate(entity);
+                ExpressionVisitorOperand literalOperand = literal.evaluate(entity);
+                return (Boolean) (memberLeft ? operators.visitBinaryOperator(operator, memberOperand, literalOperand)
+                        : operators.visitBinaryOperator(operator, literalOperand, memberOperand)).getValue();
+            }
+
+            int result = value.compareTo(convertedValue);
+            if (!memberLeft) {
+                result = -result;
+            }
+            switch (operator) {
+            case EQ:
+                return result == 0;
+            case NE:
+                return result != 0;
+            case GT:
+                return result > 0;
+            case GE:
+                return result >= 0;
+            case LT:
+                return result < 0;
+            default:
+                return result <= 0;
+            }
+        }
+    }
+
+    private final class InCondition extends Condition {
+        private final MemberExpression member;
+
+        private final ValueSet values;
+
+        private final List<CompiledExpression> literals;
+
+        InCondition(MemberExpression member, ValueSet values, List<CompiledExpression> literals) {
+            this.member = member;
+            this.values = values;
+            this.literals = literals;
+        }
+
+        @Override
+        Boolean test(Entity entity) throws ODataApplicationException, ExpressionVisitException {
+            Property property = member.getProperty(entity);
+            Object propertyValue = property.getValue();
+            Comparable<?> convertedValue;
+            if (!property.isPrimitive()) {
+                throwNotImplementedODataException();
+            }
+            if (propertyValue == null) {
+                return false;
+            } else if ((convertedValue = values.sample.convert(propertyValue)) == null) {
+                List<ExpressionVisitorOperand> literalOperands = new ArrayList<>(literals.size());
+                for (CompiledExpression literal : literals) {
+                    literalOperands.add(literal.evaluate(entity));
+                }
+                return (Boolean) operators
+                        .visitBinaryOperator(BinaryOperatorKind.IN, member.evaluate(entity), literalOperands)
+                        .getValue();
+            }
+            return values.values.contains(convertedValue);
+        }
+    }
+
+    private final class AndCondition extends Condition {
+        private final Condition left;
+
+        private final Condition right;
+
+        AndCondition(Condition left, Condition right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        Boolean test(Entity entity) throws ODataApplicationException, ExpressionVisitException {
+            Boolean leftResult = left.test(entity);
+            if (Boolean.FALSE.equals(leftResult)) {
+                return false;
+            }
+            Boolean rightResult = right.test(entity);
+            if (Boolean.FALSE.equals(rightResult)) {
+                return false;
+            }
+            return leftResult != null && rightResult != null ? Boolean.TRUE : null;
+        }
+    }
+
+    private final class OrCondition extends Condition {
+        private final Condition left;
+
+        private final Condition right;
+
+        OrCondition(Condition left, Condition right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        Boolean test(Entity entity) throws ODataApplicationException, ExpressionVisitException {
+            Boolean leftResult = left.test(entity);
+            if (Boolean.TRUE.equals(leftResult)) {
+                return true;
+            }
+            Boolean rightResult = right.test(entity);
+            if (Boolean.TRUE.equals(rightResult)) {
+                return true;
+            }
+            return leftResult != null && rightResult != null ? Boolean.FALSE : null;
+        }
+    }
+
+    private final class NotCondition extends Condition {
+        private final Condition operand;
+
+        NotCondition(Condition operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        Boolean test(Entity entity) throws ODataApplicationException, ExpressionVisitException {
+            Boolean result = operand.test(entity);
+            return result != null ? !result : null;
+        }
+    }
+}
@@ -24,4 +24,39 @@ public class EntityChainedComparator implements Comparator<Entity> {
         }
         return 0;
     }
+
+    /**
+     * Extracts the keys of all chained comparators from the passed entity.
+     *
+     * @param entity the entity to extract the keys of
+     * @return the keys of the entity
+     */
+    Object[] extractKeys(Entity entity) {
+        Object[] keys = new Object[entityComparators.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = entityComparators.get(i).extractKey(entity);
+        }
+        return keys;
+    }
+
+    /**
+     * Compares two entities by their previously extracted keys.
+     *
+     * @param keys1   the keys of the first entity
+     * @param keys2   the keys of the second entity
+     * @param entity1 the first entity
+     * @param entity2 the second entity
+     * @return a negative integer, zero, or a positive integer as the first entity is less than, equal to, or greater
+     *         than the second entity
+     * @see #extractKeys(Entity)
+     */
+    int compareKeys(Object[] keys1, Object[] keys2, Entity entity1, Entity entity2) {
+        for (int i = 0; i < keys1.length; i++) {
+            int result = entityComparators.get(i).compareKeys(keys1[i], keys2[i], entity1, entity2);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
 }
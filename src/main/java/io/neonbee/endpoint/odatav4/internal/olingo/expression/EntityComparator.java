@@ -10,6 +10,8 @@ import io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmHelper;
 import io.vertx.ext.web.RoutingContext;
 
 public class EntityComparator implements Comparator<Entity>, EntityComparison {
+    private static final Object NO_KEY = new Object();
+
     private final RoutingContext routingContext;
 
     private final String sortPropertyName;
@@ -34,17 +36,53 @@ public class EntityComparator implements Comparator<Entity>, EntityComparison {
 
     @Override
     public int compare(Entity entity1, Entity entity2) {
-        Object value1 = entity1.getProperty(sortPropertyName).getValue();
-        Object value2 = entity2.getProperty(sortPropertyName).getValue();
+        return compareKeys(extractKey(entity1), extractKey(entity2), entity1, entity2);
+    }
+
+    /**
+     * Extracts the key to sort the entity by, so that the sort property has to be looked up and converted only once
+     * per entity and not on every comparison.
+     *
+     * @param entity the entity to extract the key of
+     * @return the key of the entity, which is null if the sort property is null
+     */
+    Object extractKey(Entity entity) {
+        Object value = entity.getProperty(sortPropertyName).getValue();
+        if (value == null) {
+            return null;
+        }
 
+        Object key = comparisonKey(routingContext, value, propertyTypeKind);
+        return key != null ? key : NO_KEY;
+    }
+
+    /**
+     * Compares two entities by their previously extracted keys. In case no keys of the same type could be extracted,
+     * the values of the sort property of both entities are compared.
+     *
+     * @param key1    the key of the first entity
+     * @param key2    the key of the second entity
+     * @param entity1 the first entity
+     * @param entity2 the second entity
+     * @return a negative integer, zero, or a positive integer as the first entity is less than, equal to, or greater
+     *         than the second entity
+     */
+    @SuppressWarnings("unchecked")
+    int compareKeys(Object key1, Object key2, Entity entity1, Entity entity2) {
         // Sort null values last in case of 'asc' order
-        if (value1 == null) {
-            return (value2 == null) ? 0 : (isDescending ? -1 : 1);
-        } else if (value2 == null) {
+        if (key1 == null) {
+            return (key2 == null) ? 0 : (isDescending ? -1 : 1);
+        } else if (key2 == null) {
             return isDescending ? 1 : -1;
         }
 
-        int compareResult = comparePropertyValues(routingContext, value1, value2, propertyTypeKind, sortPropertyName);
+        int compareResult;
+        if (key1 != NO_KEY && key1.getClass() == key2.getClass()) {
+            compareResult = ((Comparable<Object>) key1).compareTo(key2);
+        } else {
+            compareResult = comparePropertyValues(routingContext, entity1.getProperty(sortPropertyName).getValue(),
+                    entity2.getProperty(sortPropertyName).getValue(), propertyTypeKind, sortPropertyName);
+        }
 
         // If the requested sort order is 'desc' reverse the order
         return isDescending ? -compareResult : compareResult;
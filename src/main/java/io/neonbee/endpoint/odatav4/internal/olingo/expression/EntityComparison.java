@@ -37,6 +37,11 @@ import io.vertx.ext.web.RoutingContext;
 public interface EntityComparison {
     LoggingFacade LOGGER = LoggingFacade.create();
 
+    /**
+     * The greatest long value, up to which all long values are exactly representable as double.
+     */
+    long MAX_EXACT_DOUBLE_LONG = 1L << 53;
+
     /**
      * Converts a passed object to BigInteger if possible.
      *
@@ -312,6 +317,121 @@ public interface EntityComparison {
         }
     }
 
+    /**
+     * Derives a comparison key from a (non-null) entity property value of unknown concrete Java type (Object). Two keys
+     * of the same class compare in their natural order as {@link #comparePropertyValues} would compare the property
+     * values they were derived from. This allows to convert every property value only once, e.g. when sorting entities,
+     * instead of converting both property values on every comparison.
+     * <p>
+     * Keys are derived as follows: integral numbers result in a {@link Long} (or in a {@link BigInteger} if they exceed
+     * the range of a long), decimal numbers result in a {@link BigDecimal}, floating point numbers result in a
+     * {@link Double} if they are exactly representable (otherwise in a {@link BigDecimal}), date and time values result
+     * in their epoch milliseconds, strings result in their case folded representation and binaries result in their
+     * length. Booleans and GUIDs are their own key.
+     *
+     * @param routingContext   the routing context
+     * @param propertyValue    the property value to derive the key from
+     * @param propertyTypeKind the Edm primitive type kind that is taken into account during type conversion
+     * @return the comparison key or null, in case no key can be derived and the property value has to be compared
+     *         using {@link #comparePropertyValues}
+     */
+    @SuppressWarnings({ "PMD.CyclomaticComplexity", "PMD.ReturnEmptyCollectionRatherThanNull" })
+    default Object comparisonKey(RoutingContext routingContext, Object propertyValue,
+            EdmPrimitiveTypeKind propertyTypeKind) {
+        switch (propertyTypeKind) {
+        case Binary:
+            return instanceOfExpectedType(EDM_BINARY_JAVA_TYPES, propertyValue) ? Array.getLength(propertyValue) : null;
+        case Int16:
+        case Int32:
+        case Int64:
+        case Byte:
+        case SByte:
+            if (propertyValue instanceof BigInteger) {
+                BigInteger bigInteger = (BigInteger) propertyValue;
+                return bigInteger.bitLength() < Long.SIZE ? (Object) bigInteger.longValue() : bigInteger;
+            }
+            return instanceOfExpectedType(EDM_INT16_INT32_INT64_BYTE_SBYTE_JAVA_TYPES, propertyValue)
+                    ? ((Number) propertyValue).longValue()
+                    : null;
+        case Decimal:
+        case Duration:
+            if (instanceOfExpectedType(EDM_DECIMAL_DURATION_JAVA_TYPES, propertyValue)) {
+                try {
+                    return toBigDecimal(propertyValue);
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+            return null;
+        case Single:
+        case Double:
+            return floatingPointKey(propertyValue);
+        case Date:
+        case TimeOfDay:
+        case DateTimeOffset:
+            if (instanceOfExpectedType(EDM_DATE_TIMEOFDAY_DATETIMEOFFSET_JAVA_TYPES, propertyValue)) {
+                try {
+                    return dateTimeObjectToLong(routingContext, propertyValue);
+                } catch (ODataApplicationException e) {
+                    return null;
+                }
+            }
+            return null;
+        case Boolean:
+            return propertyValue instanceof Boolean ? propertyValue : null;
+        case String:
+            return propertyValue instanceof String ? foldCase((String) propertyValue) : null;
+        case Guid:
+            return propertyValue instanceof UUID ? propertyValue : null;
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Derives the comparison key of a Edm.Single or Edm.Double property value. A {@link Double} key is only used if the
+     * value is exactly representable as the double parsed from its string representation, which is the value
+     * {@link #comparePropertyValues} compares by.
+     *
+     * @param propertyValue the property value
+     * @return a {@link Double} or {@link BigDecimal} key or null, if no key can be derived
+     */
+    private Object floatingPointKey(Object propertyValue) {
+        double value;
+        if (propertyValue instanceof Double) {
+            value = (Double) propertyValue;
+        } else if (propertyValue instanceof Float) {
+            value = Double.parseDouble(propertyValue.toString());
+        } else if (propertyValue instanceof Integer || propertyValue instanceof Short
+                || propertyValue instanceof Byte) {
+            value = ((Number) propertyValue).doubleValue();
+        } else if (propertyValue instanceof Long && Math.abs((Long) propertyValue) <= MAX_EXACT_DOUBLE_LONG) {
+            value = (Long) propertyValue;
+        } else if (propertyValue instanceof BigDecimal) {
+            return propertyValue;
+        } else {
+            return null;
+        }
+
+        // treat -0.0 and 0.0 equal, not-a-number and infinite values cannot be compared
+        return Double.isFinite(value) ? (Object) (value + 0.0) : null;
+    }
+
+    /**
+     * Folds the case of a string, so that comparing two folded strings results in the same order as comparing the
+     * strings using {@link String#compareToIgnoreCase(String)}.
+     *
+     * @param value the string to fold
+     * @return the case folded string
+     */
+    private String foldCase(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
     private void errorLog(RoutingContext routingContext, Exception e) {
         errorLog(routingContext, null, e);
     }
@@ -1,8 +1,12 @@
 package io.neonbee.endpoint.odatav4.internal.olingo.expression;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.stream.Collectors;
 
 import org.apache.olingo.commons.api.data.Entity;
@@ -14,6 +18,8 @@ import org.apache.olingo.server.api.uri.UriResourcePrimitiveProperty;
 import org.apache.olingo.server.api.uri.queryoption.OrderByOption;
 import org.apache.olingo.server.api.uri.queryoption.expression.Member;
 
+import com.google.common.annotations.VisibleForTesting;
+
 import io.neonbee.logging.LoggingFacade;
 import io.vertx.ext.web.RoutingContext;
 
@@ -34,9 +40,106 @@ public final class OrderExpressionExecutor implements EntityComparison {
      */
     public static List<Entity> executeOrderOption(RoutingContext routingContext, OrderByOption orderByOption,
             List<Entity> entityList) {
-
         // Sorts the list in 'asc' order by default e.g. in the case that nothing is specified
-        Collections.sort(entityList, new EntityChainedComparator(orderByOption.getOrders().stream()
+        return sort(entityList, createComparator(routingContext, orderByOption));
+    }
+
+    /**
+     * Creates new EntityComparators based on the passed order options and returns the first {@code limit} entities of
+     * the passed list in the resulting order. In case only a few entities of a large list are requested (e.g. if the
+     * order options are combined with $top), a bounded heap is used to select the leading entities, instead of sorting
+     * the whole list. Entities which are equal in order keep their relative order, as if the list was sorted.
+     *
+     * @param routingContext the current routingContent
+     * @param orderByOption  the orderByOption
+     * @param entityList     the list of entities to order
+     * @param limit          the maximum number of leading entities required
+     * @return the passed list with the new order, or a new list with the first {@code limit} entities in order
+     */
+    public static List<Entity> executeOrderOption(RoutingContext routingContext, OrderByOption orderByOption,
+            List<Entity> entityList, int limit) {
+        EntityChainedComparator comparator = createComparator(routingContext, orderByOption);
+        return limit >= entityList.size() ? sort(entityList, comparator)
+                : selectFirst(entityList, comparator, Math.max(limit, 0));
+    }
+
+    /**
+     * Sorts the given list in order of the given comparator. The sort keys of every entity are extracted only once
+     * before sorting (decorate, sort, undecorate), instead of looking up the sort properties on every comparison.
+     *
+     * @param entityList the list of entities to sort
+     * @param comparator the comparator defining the order
+     * @return the passed list with the new order
+     */
+    @VisibleForTesting
+    static List<Entity> sort(List<Entity> entityList, EntityChainedComparator comparator) {
+        SortEntry[] entries = new SortEntry[entityList.size()];
+        int position = 0;
+        for (Entity entity : entityList) {
+            entries[position] = new SortEntry(entity, comparator, position++);
+        }
+
+        // Arrays.sort of objects is stable, thus equal entities keep their relative order
+        Arrays.sort(entries, SortEntry.comparing(comparator));
+        ListIterator<Entity> iterator = entityList.listIterator();
+        for (SortEntry entry : entries) {
+            iterator.next();
+            iterator.set(entry.entity);
+        }
+        return entityList;
+    }
+
+    /**
+     * Selects the first {@code limit} entities of the given list in order of the given comparator, by keeping the
+     * leading entities in a heap of size {@code limit} whose root is the last selected entity so far. Ties are broken
+     * by the position in the passed list, to retain the stability of a sort. Same as for sorting, the sort keys of
+     * every entity are extracted only once.
+     *
+     * @param entityList the list of entities to select from
+     * @param comparator the comparator defining the order
+     * @param limit      the number of entities to select, must be less than the size of the list
+     * @return a new list of the first {@code limit} entities in order
+     */
+    @VisibleForTesting
+    static List<Entity> selectFirst(List<Entity> entityList, EntityChainedComparator comparator, int limit) {
+        if (limit == 0) {
+            return new ArrayList<>();
+        }
+
+        Comparator<SortEntry> entryComparator =
+                SortEntry.comparing(comparator).thenComparingInt(entry -> entry.position);
+        PriorityQueue<SortEntry> heap = new PriorityQueue<>(limit, entryComparator.reversed());
+        int position = 0;
+        for (Entity entity : entityList) {
+            SortEntry entry = new SortEntry(entity, comparator, position++);
+            if (heap.size() < limit) {
+                heap.add(entry);
+            } else if (entryComparator.compare(entry, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(entry);
+            }
+        }
+
+        SortEntry[] entries = heap.toArray(new SortEntry[0]);
+        Arrays.sort(entries, entryComparator);
+        List<Entity> selectedEntities = new ArrayList<>(entries.length);
+        for (SortEntry entry : entries) {
+            selectedEntities.add(entry.entity);
+        }
+        return selectedEntities;
+    }
+
+    /**
+     * Creates a comparator for the passed order options. Order options, which do not refer to primitive properties are
+     * ignored.
+     *
+     * @param routingContext the current routingContent
+     * @param orderByOption  the orderByOption
+     * @return a comparator to order entities by the passed order options
+     */
+    public static EntityChainedComparator createComparator(RoutingContext routingContext,
+            OrderByOption orderByOption) {
+        return new EntityChainedComparator(orderByOption.getOrders().stream()
                 .filter(orderByItem -> orderByItem.getExpression() instanceof Member).map(orderByItem -> {
                     /*
                      * See https://docs.oasis-open.org/odata/odata/v4.01/odata-v4.01-part2-url-conventions.html#
@@ -58,8 +161,27 @@ public final class OrderExpressionExecutor implements EntityComparison {
                         }
                     }
                     return null;
-                }).filter(Objects::nonNull).collect(Collectors.toList())));
+                }).filter(Objects::nonNull).collect(Collectors.toList()));
+    }
 
-        return entityList;
+    /**
+     * An entity decorated with its sort keys and its original position in the list.
+     */
+    private static final class SortEntry {
+        final Entity entity;
+
+        final Object[] keys;
+
+        final int position;
+
+        SortEntry(Entity entity, EntityChainedComparator comparator, int position) {
+            this.entity = entity;
+            this.keys = comparator.extractKeys(entity);
+            this.position = position;
+        }
+
+        static Comparator<SortEntry> comparing(EntityChainedComparator comparator) {
+            return (entry1, entry2) -> comparator.compareKeys(entry1.keys, entry2.keys, entry1.entity, entry2.entity);
+        }
     }
 }
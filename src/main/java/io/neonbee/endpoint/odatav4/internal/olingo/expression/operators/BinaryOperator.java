@@ -87,7 +87,9 @@ public class BinaryOperator {
                         .compareTo(rightOperand.getTypedValue(BigDecimal.class));
             } else if ((leftOperand.getValue().getClass() == rightOperand.getValue().getClass())
                     && (leftOperand.getValue() instanceof Comparable<?>)) {
-                result = ((Comparable<Object>) leftOperand.getValue()).compareTo(rightOperand.getValue());
+                // compareTo is only required to return a negative / positive integer, not exactly -1 / 1
+                result = Integer
+                        .signum(((Comparable<Object>) leftOperand.getValue()).compareTo(rightOperand.getValue()));
             } else {
                 result = leftOperand.getValue().equals(rightOperand.getValue()) ? 0 : 1;
             }
@@ -110,11 +112,15 @@ public class BinaryOperator {
         return new ExpressionVisitorOperand(routingContext, result, PRIMITIVE_BOOLEAN);
     }
 
-    public ExpressionVisitorOperand inOperator() {
-        if ((rightOperands != null) && !rightOperands.isEmpty()
-                && rightOperands.stream().anyMatch(rightOperandTyped -> rightOperandTyped.getTypedValue(String.class)
-                        .equals(leftOperand.getTypedValue(String.class)))) {
-            return new ExpressionVisitorOperand(routingContext, true, PRIMITIVE_BOOLEAN);
+    public ExpressionVisitorOperand inOperator() throws ODataApplicationException {
+        if (rightOperands != null) {
+            // compare like the equals operator does, so that e.g. integer properties can be compared to literals
+            for (ExpressionVisitorOperand rightOperandTyped : rightOperands) {
+                if (Boolean.TRUE.equals(new BinaryOperator(routingContext, leftOperand, rightOperandTyped)
+                        .equalsOperator().getValue())) {
+                    return new ExpressionVisitorOperand(routingContext, true, PRIMITIVE_BOOLEAN);
+                }
+            }
         }
         return new ExpressionVisitorOperand(routingContext, false, PRIMITIVE_BOOLEAN);
     }
@@ -1,23 +1,30 @@
 package io.neonbee.endpoint.odatav4.internal.olingo.processor;
 
-import static java.util.Objects.requireNonNull;
+import static io.neonbee.internal.helper.AsyncHelper.allComposite;
+import static io.vertx.core.Future.failedFuture;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
-import java.util.Objects;
+import java.util.concurrent.Callable;
 
 import org.apache.olingo.server.api.processor.Processor;
 
-import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.ext.web.RoutingContext;
 
 public abstract class AsynchronousProcessor implements Processor {
-    private static final String PROCESSING_STACK = "processingStack";
+    /**
+     * The processing stack is only accessed synchronously while Olingo processes a request, however requests of the
+     * same context may be processed on the event loop and on worker threads at the same time, thus every thread has its
+     * own processing stack. The parts of a batch request are processed one after another (see {@link BatchProcessor}),
+     * but not necessarily on the same thread.
+     */
+    private static final ThreadLocal<Deque<List<Future<Void>>>> PROCESSING_STACK =
+            ThreadLocal.withInitial(ArrayDeque::new);
 
     protected Vertx vertx;
 
@@ -27,6 +34,8 @@ public abstract class AsynchronousProcessor implements Processor {
 
     private Promise<Void> subProcessPromise;
 
+    private List<Future<Void>> subProcessLayer;
+
     AsynchronousProcessor(Vertx vertx, RoutingContext routingContext, Promise<Void> processPromise) {
         this.vertx = vertx;
         this.routingContext = routingContext;
@@ -43,18 +52,21 @@ public abstract class AsynchronousProcessor implements Processor {
      * @return the processPromise
      */
     public Promise<Void> getProcessPromise() {
-        if (subProcessPromise != null) {
-            // never create a second subProcessPromise, as it'll never resolve
+        List<Future<Void>> processingLayer = processingStack().peek();
+        if (subProcessPromise != null && subProcessLayer == processingLayer) {
+            // never create a second subProcessPromise on the same layer, as it'll never resolve
             return subProcessPromise;
-        } else if (processingStack().isEmpty()) {
+        } else if (processingLayer == null) {
             // return the main endpoint processPromise if not in batch processing, or in case this is batch
             // processing, but the first call (by the BatchProcessor) to enterBatchProcessing
             return processPromise;
         } else {
             // we are in batch processing (somebody has called enterBatchProcessing before and there is an element
-            // on the processingStack). Thus create a new subProcessPromise and put it onto the stack
+            // on the processingStack). Thus create a new subProcessPromise and put it onto the stack. Every part of a
+            // batch request is processed on its own layer, thus the same processor may create one per layer
             subProcessPromise = Promise.promise();
-            requireNonNull(processingStack().peek(), "head of deque is empty").add(subProcessPromise.future());
+            subProcessLayer = processingLayer;
+            processingLayer.add(subProcessPromise.future());
             return subProcessPromise;
         }
     }
@@ -82,12 +94,31 @@ public abstract class AsynchronousProcessor implements Processor {
         return processingStack().pop();
     }
 
-    private static Deque<List<Future<Void>>> processingStack() {
-        Context context = Vertx.currentContext();
-        Deque<List<Future<Void>>> processingStack = context.get(PROCESSING_STACK);
-        if (Objects.isNull(processingStack)) {
-            context.put(PROCESSING_STACK, processingStack = new ArrayDeque<>());
+    /**
+     * Processes (a part of) a batch request on a new layer of the processingStack, so that all processors called to
+     * process the request(s) put their sub-processPromise onto this layer.
+     *
+     * @param <T>     the type of the result
+     * @param handler the synchronous call into Olingo, processing the request(s)
+     * @return a future to the result of the handler, which completes as soon as all processors called finished
+     */
+    protected <T> Future<T> processOnNewLayer(Callable<T> handler) {
+        Deque<List<Future<Void>>> processingStack = processingStack();
+        List<Future<Void>> processingLayer = new ArrayList<>();
+        processingStack.push(processingLayer);
+
+        T result;
+        try {
+            result = handler.call();
+        } catch (Exception e) {
+            return failedFuture(e);
+        } finally {
+            processingStack.pop();
         }
-        return processingStack;
+        return allComposite(processingLayer).map(result);
+    }
+
+    private static Deque<List<Future<Void>>> processingStack() {
+        return PROCESSING_STACK.get();
     }
 }
@@ -1,15 +1,24 @@
 package io.neonbee.endpoint.odatav4.internal.olingo.processor;
 
+import static com.google.common.base.Strings.nullToEmpty;
 import static io.neonbee.internal.helper.AsyncHelper.allComposite;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static io.vertx.core.Future.succeededFuture;
 
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
+import org.apache.olingo.commons.api.ex.ODataRuntimeException;
 import org.apache.olingo.commons.api.format.ContentType;
 import org.apache.olingo.commons.api.http.HttpHeader;
+import org.apache.olingo.commons.api.http.HttpMethod;
 import org.apache.olingo.commons.api.http.HttpStatusCode;
 import org.apache.olingo.server.api.OData;
 import org.apache.olingo.server.api.ODataApplicationException;
@@ -23,14 +32,35 @@ import org.apache.olingo.server.api.deserializer.batch.BatchRequestPart;
 import org.apache.olingo.server.api.deserializer.batch.ODataResponsePart;
 import org.apache.olingo.server.api.serializer.BatchSerializerException;
 
+import com.google.common.annotations.VisibleForTesting;
+
+import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.TaskQueue;
 import io.vertx.ext.web.RoutingContext;
 
 @edu.umd.cs.findbugs.annotations.SuppressFBWarnings(value = "NM_SAME_SIMPLE_NAME_AS_INTERFACE",
         justification = "Common practice in Olingo to name the implementation of the processor same as the interface")
 public class BatchProcessor extends AsynchronousProcessor
         implements org.apache.olingo.server.api.processor.BatchProcessor {
+    /**
+     * The default maximum number of independent parts of a batch request processed concurrently.
+     */
+    public static final int DEFAULT_CONCURRENCY = 8;
+
+    private final int concurrency;
+
+    /**
+     * The Olingo handler and the processors registered to it are stateful and shared by all parts of a batch request,
+     * thus all parts are handed to Olingo one after another on this queue. Only the data requested by the parts is
+     * retrieved concurrently.
+     */
+    private final TaskQueue partQueue = new TaskQueue();
+
+    private ContextInternal context;
+
     private OData odata;
 
     /**
@@ -41,7 +71,21 @@ public class BatchProcessor extends AsynchronousProcessor
      * @param processPromise the promise to complete when data has been fetched
      */
     public BatchProcessor(Vertx vertx, RoutingContext routingContext, Promise<Void> processPromise) {
+        this(vertx, routingContext, processPromise, DEFAULT_CONCURRENCY);
+    }
+
+    /**
+     * Creates a new BatchProcessor.
+     *
+     * @param vertx          the related Vert.x instance
+     * @param routingContext the routingContext of the related request
+     * @param processPromise the promise to complete when data has been fetched
+     * @param concurrency    the maximum number of independent parts of a batch request processed concurrently
+     */
+    public BatchProcessor(Vertx vertx, RoutingContext routingContext, Promise<Void> processPromise,
+            int concurrency) {
         super(vertx, routingContext, processPromise);
+        this.concurrency = Math.max(concurrency, 1);
     }
 
     @Override
@@ -57,17 +101,17 @@ public class BatchProcessor extends AsynchronousProcessor
                 .rawServiceResolutionUri(request.getRawServiceResolutionUri()).build();
         List<BatchRequestPart> requestParts =
                 odata.createFixedFormatDeserializer().parseBatchRequest(request.getBody(), boundary, options);
+        context = (ContextInternal) vertx.getOrCreateContext();
 
-        // by entering batch processing here, we'll enter a new processing phase
-        Promise<Void> processPromise = enterBatchProcessing();
+        // every part is processed on its own layer of the processing stack, the batch completes after all parts did
+        Promise<Void> processPromise = getProcessPromise();
+        ODataResponsePart[] responseParts = new ODataResponsePart[requestParts.size()];
 
-        List<ODataResponsePart> responseParts = new ArrayList<>();
-        for (BatchRequestPart part : requestParts) {
-            responseParts.add(facade.handleBatchRequest(part));
+        Future<Void> stagesFuture = succeededFuture();
+        for (List<Integer> stage : planStages(requestParts)) {
+            stagesFuture = stagesFuture.compose(v -> processStage(facade, requestParts, stage, responseParts));
         }
-
-        // wrap up the batch processing here, which will complete the current processing phase
-        allComposite(wrapUpBatchProcessing()).onComplete(resultHandler -> {
+        stagesFuture.onComplete(resultHandler -> {
             if (resultHandler.failed()) {
                 processPromise.fail(resultHandler.cause());
                 return;
@@ -75,8 +119,8 @@ public class BatchProcessor extends AsynchronousProcessor
 
             try {
                 String responseBoundary = "batch_" + UUID.randomUUID().toString();
-                InputStream responseContent =
-                        odata.createFixedFormatSerializer().batchResponse(responseParts, responseBoundary);
+                InputStream responseContent = odata.createFixedFormatSerializer()
+                        .batchResponse(Arrays.asList(responseParts), responseBoundary);
 
                 response.setHeader(HttpHeader.CONTENT_TYPE,
                         ContentType.MULTIPART_MIXED + ";boundary=" + responseBoundary);
@@ -84,17 +128,142 @@ public class BatchProcessor extends AsynchronousProcessor
                 response.setStatusCode(HttpStatusCode.ACCEPTED.getStatusCode());
 
                 processPromise.complete();
-            } catch (BatchSerializerException e) {
+            } catch (BatchSerializerException | ODataRuntimeException e) {
+                // the content of the responses may be written lazily, which could fail with a runtime exception
                 processPromise.fail(e);
             }
         });
     }
 
+    /**
+     * Plans the processing of the parts of a batch request in stages, which are processed one after another. As the
+     * parts of a batch request have to be processed in order, only consecutive independent parts (see
+     * {@link #isIndependent(BatchRequestPart)}) are combined into one stage and processed concurrently. Any other part
+     * is a stage of its own, so it is only processed after all preceding parts completed, and all subsequent parts wait
+     * for it to complete.
+     *
+     * @param requestParts the parts of the batch request
+     * @return the stages, containing the indexes of the parts to process in every stage
+     */
+    @VisibleForTesting
+    static List<List<Integer>> planStages(List<BatchRequestPart> requestParts) {
+        List<List<Integer>> stages = new ArrayList<>();
+        List<Integer> independentStage = null;
+        for (int index = 0; index < requestParts.size(); index++) {
+            if (!isIndependent(requestParts.get(index))) {
+                stages.add(List.of(index));
+                independentStage = null;
+            } else if (independentStage != null) {
+                independentStage.add(index);
+            } else {
+                stages.add(independentStage = new ArrayList<>(List.of(index)));
+            }
+        }
+        return stages;
+    }
+
+    /**
+     * Checks if a part of a batch request is independent of all other parts, so that it can be processed concurrently
+     * to other independent parts. Only parts reading data (outside of a change set) are independent, except in case
+     * they refer to the Content-ID of another part of the request.
+     *
+     * @param requestPart the part of the batch request
+     * @return true if the part is independent
+     */
+    @VisibleForTesting
+    static boolean isIndependent(BatchRequestPart requestPart) {
+        if (requestPart.isChangeSet()) {
+            return false;
+        }
+
+        ODataRequest request = requestPart.getRequests().get(0);
+        HttpMethod method = request.getMethod();
+        return (method == HttpMethod.GET || method == HttpMethod.HEAD)
+                && !nullToEmpty(request.getRawODataPath()).startsWith("/$");
+    }
+
+    /**
+     * Processes all parts of one stage, with the data of at most {@link #concurrency} parts being retrieved
+     * concurrently.
+     *
+     * @param facade        the batch facade
+     * @param requestParts  all parts of the batch request
+     * @param stage         the indexes of the parts to process in this stage
+     * @param responseParts the response parts to fill, at the same index as the request part
+     * @return a future which completes as soon as all parts of this stage are processed
+     */
+    private Future<Void> processStage(BatchFacade facade, List<BatchRequestPart> requestParts, List<Integer> stage,
+            ODataResponsePart[] responseParts) {
+        AtomicInteger nextPosition = new AtomicInteger();
+        List<Future<Void>> lanes = new ArrayList<>();
+        for (int lane = 0; lane < Math.min(concurrency, stage.size()); lane++) {
+            lanes.add(processLane(facade, requestParts, stage, nextPosition, responseParts));
+        }
+        return allComposite(lanes).mapEmpty();
+    }
+
+    /**
+     * Processes the next part of a stage and continues with the next part not yet processed by any other lane,
+     * when done.
+     */
+    private Future<Void> processLane(BatchFacade facade, List<BatchRequestPart> requestParts, List<Integer> stage,
+            AtomicInteger nextPosition, ODataResponsePart[] responseParts) {
+        int position = nextPosition.getAndIncrement();
+        if (position >= stage.size()) {
+            return succeededFuture();
+        }
+
+        int index = stage.get(position);
+        return processPart(facade, requestParts.get(index)).compose(responsePart -> {
+            responseParts[index] = responsePart;
+            return processLane(facade, requestParts, stage, nextPosition, responseParts);
+        });
+    }
+
+    private Future<ODataResponsePart> processPart(BatchFacade facade, BatchRequestPart requestPart) {
+        if (requestPart.isChangeSet()) {
+            return processChangeSet(facade, requestPart.getRequests().iterator(), new ArrayList<>());
+        }
+        return processQueued(() -> facade.handleBatchRequest(requestPart));
+    }
+
+    /**
+     * Processes the requests of a change set one after another, as requests of a change set may refer to each other.
+     * Same as {@link #processChangeSet(BatchFacade, List)}, processing stops at the first request failing.
+     */
+    private Future<ODataResponsePart> processChangeSet(BatchFacade facade, Iterator<ODataRequest> requests,
+            List<ODataResponse> responses) {
+        if (!requests.hasNext()) {
+            return succeededFuture(new ODataResponsePart(responses, true));
+        }
+
+        ODataRequest request = requests.next();
+        return processQueued(() -> facade.handleODataRequest(request)).compose(response -> {
+            if (response.getStatusCode() >= BAD_REQUEST.code()) {
+                return succeededFuture(new ODataResponsePart(response, false));
+            }
+            responses.add(response);
+            return processChangeSet(facade, requests, responses);
+        });
+    }
+
+    /**
+     * Same as {@link #processOnNewLayer(Callable)}, but waits for any other part of the batch request to be handed to
+     * Olingo first, as the lanes of a stage continue on whatever thread the previous part of the lane completed on.
+     */
+    private <T> Future<T> processQueued(Callable<T> handler) {
+        return context.<Future<T>>executeBlocking(promise -> promise.complete(processOnNewLayer(handler)), partQueue)
+                .compose(Function.identity());
+    }
+
     /**
      * NOTE: NeonBee does NOT support processing / rolling-back change sets so far! This method will simply execute all
      * ODataRequests consecutively. It would not make sense to fail / roll-back the transaction in this method, as
      * facade.handleODataRequest will return immediately (as the request is processed) asynchronous. This is why the
      * transaction handling has to take place in a different place more likely.
+     * <p>
+     * NeonBee processes the change sets of a batch request itself, waiting for every request to complete before
+     * processing the next one, so this method is only called in case Olingo processes a change set.
      */
     @Override
     public ODataResponsePart processChangeSet(BatchFacade facade, List<ODataRequest> requests)
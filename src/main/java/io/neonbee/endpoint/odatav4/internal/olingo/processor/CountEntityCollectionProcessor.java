@@ -1,33 +1,49 @@
 package io.neonbee.endpoint.odatav4.internal.olingo.processor;
 
+import static com.google.common.base.Strings.nullToEmpty;
 import static io.neonbee.data.DataAction.READ;
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.EntityProcessor.findEntityByKeyPredicates;
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.NavigationPropertyHelper.chooseEntitySet;
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.NavigationPropertyHelper.fetchNavigationTargetEntities;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_COUNT_KEY;
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_EXPAND_KEY;
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_FILTER_KEY;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_NEXT_SKIP_TOKEN_KEY;
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_ORDER_BY_KEY;
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_SKIP_KEY;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_SKIP_TOKEN_KEY;
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_TOP_KEY;
-import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.RESPONSE_HEADER_PREFIX;
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.forwardRequest;
 import static io.neonbee.internal.helper.StringHelper.EMPTY;
+import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
 import static java.util.Optional.ofNullable;
 
 import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.olingo.commons.api.data.ContextURL;
 import org.apache.olingo.commons.api.data.ContextURL.Suffix;
 import org.apache.olingo.commons.api.data.Entity;
-import org.apache.olingo.commons.api.data.EntityCollection;
+import org.apache.olingo.commons.api.data.EntityIterator;
 import org.apache.olingo.commons.api.edm.EdmEntitySet;
 import org.apache.olingo.commons.api.edm.EdmEntityType;
 import org.apache.olingo.commons.api.ex.ODataException;
+import org.apache.olingo.commons.api.ex.ODataRuntimeException;
 import org.apache.olingo.commons.api.format.ContentType;
 import org.apache.olingo.commons.api.http.HttpHeader;
 import org.apache.olingo.commons.api.http.HttpStatusCode;
@@ -45,12 +61,15 @@ import org.apache.olingo.server.api.uri.queryoption.CountOption;
 import org.apache.olingo.server.api.uri.queryoption.FilterOption;
 import org.apache.olingo.server.api.uri.queryoption.OrderByOption;
 import org.apache.olingo.server.api.uri.queryoption.SkipOption;
+import org.apache.olingo.server.api.uri.queryoption.SkipTokenOption;
 import org.apache.olingo.server.api.uri.queryoption.TopOption;
 import org.apache.olingo.server.api.uri.queryoption.expression.ExpressionVisitException;
 
 import com.google.common.annotations.VisibleForTesting;
 
-import io.neonbee.endpoint.odatav4.internal.olingo.expression.FilterExpressionVisitor;
+import io.neonbee.data.DataContext;
+import io.neonbee.data.internal.DataContextImpl;
+import io.neonbee.endpoint.odatav4.internal.olingo.expression.CompiledFilterExpression;
 import io.neonbee.endpoint.odatav4.internal.olingo.expression.OrderExpressionExecutor;
 import io.neonbee.logging.LoggingFacade;
 import io.vertx.core.Future;
@@ -72,6 +91,11 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
 
     private static final LoggingFacade LOGGER = LoggingFacade.create();
 
+    private static final Pattern MAX_PAGE_SIZE_PREFERENCE =
+            Pattern.compile("^(odata\\.)?maxpagesize\\s*=", Pattern.CASE_INSENSITIVE);
+
+    private final int maxPageSize;
+
     private OData odata;
 
     private ServiceMetadata serviceMetadata;
@@ -84,7 +108,22 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
      * @param processPromise the promise to complete when data has been fetched
      */
     public CountEntityCollectionProcessor(Vertx vertx, RoutingContext routingContext, Promise<Void> processPromise) {
+        this(vertx, routingContext, processPromise, 0);
+    }
+
+    /**
+     * Creates a new EntityCollectionProcessor.
+     *
+     * @param vertx          the related Vert.x instance
+     * @param routingContext the routingContext of the related request
+     * @param processPromise the promise to complete when data has been fetched
+     * @param maxPageSize    the maximum number of entities to return per page, continued with a next link, or 0 if
+     *                       the entities should only be paged in case the client prefers so
+     */
+    public CountEntityCollectionProcessor(Vertx vertx, RoutingContext routingContext, Promise<Void> processPromise,
+            int maxPageSize) {
         super(vertx, routingContext, processPromise);
+        this.maxPageSize = maxPageSize;
     }
 
     @Override
@@ -106,43 +145,49 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
         UriResourceEntitySet uriResourceEntitySet = (UriResourceEntitySet) uriInfo.getUriResourceParts().get(0);
         EdmEntityType edmEntityType = uriResourceEntitySet.getEntitySet().getEntityType();
 
-        EntityCollection entityCollection = new EntityCollection();
-        Promise<List<Entity>> responsePromise = Promise.promise();
+        Promise<EntityIterator> responsePromise = Promise.promise();
 
-        // Fetch the data from backend
-        forwardRequest(request, READ, uriInfo, vertx, routingContext, processPromise).onSuccess(ew -> {
-            boolean expandExecuted = ofNullable(routingContext.<Boolean>get(RESPONSE_HEADER_PREFIX + ODATA_EXPAND_KEY))
-                    .orElse(Boolean.FALSE);
+        // only entity sets are paged, the page size is forwarded to the entity verticle, so it can page the result
+        Integer pageSize = resourceParts.size() == 1 ? getPageSize(request, response) : null;
+        if (pageSize != null) {
+            setMaxPageSizePreference(request, pageSize);
+        }
+
+        // Fetch the data from backend, the response hints are read from the context of this request, as the routing
+        // context is shared with all other parts of a batch request, which may be processed concurrently
+        DataContext context = new DataContextImpl(routingContext);
+        forwardRequest(request, READ, null, uriInfo, vertx, routingContext, context, processPromise).onSuccess(ew -> {
+            Map<String, Object> hints = context.responseData();
+            boolean expandExecuted = isExecuted(hints, ODATA_EXPAND_KEY);
             if (resourceParts.size() == 1) {
                 try {
-                    boolean filterExecuted =
-                            ofNullable(routingContext.<Boolean>get(RESPONSE_HEADER_PREFIX + ODATA_FILTER_KEY))
-                                    .orElse(Boolean.FALSE);
-                    List<Entity> resultEntityList = filterExecuted ? ew.getEntities()
+                    Page page = getPage(request, uriInfo, pageSize, hints);
+                    if (isStreamable(uriInfo, hints)) {
+                        streamEntities(uriInfo, ew.getEntityStream(), expandExecuted, page, hints)
+                                .onComplete(responsePromise);
+                        return;
+                    }
+
+                    List<Entity> resultEntityList = isExecuted(hints, ODATA_FILTER_KEY) ? ew.getEntities()
                             : applyFilterQueryOption(uriInfo.getFilterOption(), ew.getEntities());
-                    applyCountOption(uriInfo.getCountOption(), resultEntityList, entityCollection);
+                    Integer count = applyCountOption(uriInfo.getCountOption(), resultEntityList, hints);
                     if (!resultEntityList.isEmpty()) {
-                        boolean orderByExecuted =
-                                ofNullable(routingContext.<Boolean>get(RESPONSE_HEADER_PREFIX + ODATA_ORDER_BY_KEY))
-                                        .orElse(Boolean.FALSE);
-                        if (!orderByExecuted) {
-                            applyOrderByQueryOption(uriInfo.getOrderByOption(), resultEntityList);
+                        if (!isExecuted(hints, ODATA_ORDER_BY_KEY)) {
+                            resultEntityList = applyOrderByQueryOption(uriInfo.getOrderByOption(), resultEntityList,
+                                    getOrderLimit(uriInfo, page));
                         }
-                        boolean skipExecuted =
-                                ofNullable(routingContext.<Boolean>get(RESPONSE_HEADER_PREFIX + ODATA_SKIP_KEY))
-                                        .orElse(Boolean.FALSE);
-                        resultEntityList = skipExecuted ? resultEntityList
+                        resultEntityList = isExecuted(hints, ODATA_SKIP_KEY) ? resultEntityList
                                 : applySkipQueryOption(uriInfo.getSkipOption(), resultEntityList);
-                        boolean topExecuted =
-                                ofNullable(routingContext.<Boolean>get(RESPONSE_HEADER_PREFIX + ODATA_TOP_KEY))
-                                        .orElse(Boolean.FALSE);
-                        resultEntityList = topExecuted ? resultEntityList
+                        resultEntityList = isExecuted(hints, ODATA_TOP_KEY) ? resultEntityList
                                 : applyTopQueryOption(uriInfo.getTopOption(), resultEntityList);
+                        URI next = page.getNextLink(resultEntityList.size());
+                        resultEntityList = page.apply(resultEntityList);
                         Future<List<Entity>> resultEntityListFuture = expandExecuted ? succeededFuture(resultEntityList)
                                 : applyExpandQueryOptions(uriInfo, resultEntityList);
-                        resultEntityListFuture.onComplete(responsePromise);
+                        resultEntityListFuture.map(entities -> entityIterator(entities.stream(), count, next))
+                                .onComplete(responsePromise);
                     } else {
-                        responsePromise.complete(resultEntityList);
+                        responsePromise.complete(entityIterator(Stream.empty(), count, page.getNextLink(0)));
                     }
                 } catch (ODataException e) {
                     processPromise.fail(e);
@@ -156,6 +201,7 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
                             : findEntityByKeyPredicates(routingContext, uriResourceEntitySet, ew.getEntities());
                     if (!expandExecuted) {
                         fetchNavigationTargetEntities(resourceParts.get(1), foundEntity, vertx, routingContext)
+                                .map(entities -> entityIterator(entities.stream(), null, null))
                                 .onComplete(responsePromise);
                     }
                 } catch (ODataApplicationException e) {
@@ -164,15 +210,16 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
             }
         });
 
-        responsePromise.future().onSuccess(finalResultEntities -> {
-            entityCollection.getEntities().addAll(finalResultEntities);
+        responsePromise.future().onSuccess(entityIterator -> {
             EntityCollectionSerializerOptions opts;
             try {
                 EdmEntitySet edmEntitySet =
                         chooseEntitySet(resourceParts, uriResourceEntitySet.getEntitySet(), routingContext);
                 opts = createSerializerOptions(request, uriInfo, edmEntitySet);
-                response.setContent(odata.createSerializer(responseFormat)
-                        .entityCollection(serviceMetadata, edmEntityType, entityCollection, opts).getContent());
+                // the entities are serialized lazily, as soon as the content of the response is written
+                response.setODataContent(odata.createSerializer(responseFormat)
+                        .entityCollectionStreamed(serviceMetadata, edmEntityType, entityIterator, opts)
+                        .getODataContent());
                 response.setStatusCode(HttpStatusCode.OK.getStatusCode());
                 response.setHeader(HttpHeader.CONTENT_TYPE, responseFormat.toContentTypeString());
                 processPromise.complete();
@@ -182,16 +229,203 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
         }).onFailure(processPromise::fail);
     }
 
-    private void applyCountOption(CountOption countOption, List<Entity> filteredEntities,
-            EntityCollection entityCollection) {
+    /**
+     * Determines the maximum number of entities to return per page, which is the lower of the maximum page size
+     * configured for the endpoint and the {@code odata.maxpagesize} preferred by the client. In case the preference of
+     * the client is applied, the {@code Preference-Applied} header is set on the response.
+     *
+     * @param request  the OData request
+     * @param response the OData response
+     * @return the page size or null, if the result should not be paged
+     */
+    private Integer getPageSize(ODataRequest request, ODataResponse response) {
+        List<String> preferHeaders = request.getHeaders(HttpHeader.PREFER);
+        Integer preferredPageSize =
+                preferHeaders != null ? odata.createPreferences(preferHeaders).getMaxPageSize() : null;
+        if (preferredPageSize != null && preferredPageSize > 0
+                && (maxPageSize <= 0 || preferredPageSize < maxPageSize)) {
+            response.setHeader(HttpHeader.PREFERENCE_APPLIED, "odata.maxpagesize=" + preferredPageSize);
+            return preferredPageSize;
+        }
+        return maxPageSize > 0 ? maxPageSize : null;
+    }
+
+    /**
+     * Replaces any {@code odata.maxpagesize} preference of the request with the given page size, so that the page size
+     * is forwarded to the entity verticle along with the request.
+     *
+     * @param request  the OData request
+     * @param pageSize the page size to prefer
+     */
+    private static void setMaxPageSizePreference(ODataRequest request, int pageSize) {
+        List<String> preferences = new ArrayList<>();
+        for (String preferHeader : ofNullable(request.getHeaders(HttpHeader.PREFER)).orElse(List.of())) {
+            for (String preference : preferHeader.split(",")) {
+                String trimmedPreference = preference.trim();
+                if (!trimmedPreference.isEmpty() && !MAX_PAGE_SIZE_PREFERENCE.matcher(trimmedPreference).find()) {
+                    preferences.add(trimmedPreference);
+                }
+            }
+        }
+        preferences.add("odata.maxpagesize=" + pageSize);
+        request.setHeader(HttpHeader.PREFER, String.join(", ", preferences));
+    }
+
+    /**
+     * Determines the page of the result to return. In case the entity verticle handled paging itself, the skip token
+     * reported by the entity verticle is used for the next link, otherwise NeonBee pages the result and issues its own
+     * skip tokens.
+     *
+     * @param request  the OData request
+     * @param uriInfo  the URI info of the request
+     * @param pageSize the page size or null, if the result should not be paged
+     * @param hints    the response hints of the entity verticle
+     * @return the page to return
+     * @throws ODataApplicationException in case the $skiptoken system query option is invalid
+     */
+    private static Page getPage(ODataRequest request, UriInfo uriInfo, Integer pageSize, Map<String, Object> hints)
+            throws ODataApplicationException {
+        if (isExecuted(hints, ODATA_SKIP_TOKEN_KEY)) {
+            String nextSkipToken = (String) hints.get(ODATA_NEXT_SKIP_TOKEN_KEY);
+            return new Page(request, 0, null, nextSkipToken);
+        }
+
+        SkipTokenOption skipTokenOption = uriInfo.getSkipTokenOption();
+        return new Page(request, skipTokenOption != null ? Page.decodeSkipToken(skipTokenOption.getValue()) : 0,
+                pageSize, null);
+    }
+
+    private static boolean isExecuted(Map<String, Object> hints, String queryOptionKey) {
+        return Boolean.TRUE.equals(hints.get(queryOptionKey));
+    }
+
+    /**
+     * Checks if the entities can be processed as a stream. This is the case if neither the order of the entities has to
+     * be changed, nor the entities have to be counted, as both requires all (filtered) entities to be known upfront.
+     *
+     * @param uriInfo the URI info of the request
+     * @param hints   the response hints of the entity verticle
+     * @return true if the entities can be processed as a stream
+     */
+    private static boolean isStreamable(UriInfo uriInfo, Map<String, Object> hints) {
+        return (uriInfo.getOrderByOption() == null || isExecuted(hints, ODATA_ORDER_BY_KEY))
+                && (!isCountRequested(uriInfo) || getCountHint(hints) != null);
+    }
+
+    private static boolean isCountRequested(UriInfo uriInfo) {
+        CountOption countOption = uriInfo.getCountOption();
+        return countOption != null && countOption.getValue();
+    }
+
+    /**
+     * Returns the total count of entities as reported by the entity verticle, in case it handled the query options
+     * itself, so that the entities returned are not sufficient to determine the count.
+     *
+     * @param hints the response hints of the entity verticle
+     * @return the total count of entities or null, if the entity verticle did not report a count
+     */
+    private static Integer getCountHint(Map<String, Object> hints) {
+        return ofNullable((Number) hints.get(ODATA_COUNT_KEY)).map(Number::intValue).orElse(null);
+    }
+
+    /**
+     * Applies the $filter system query option lazily to a stream of entities, in case it was not executed by the entity
+     * verticle already. Failures evaluating the filter expression are thrown as {@link ODataRuntimeException}.
+     *
+     * @param uriInfo  the URI info of the request
+     * @param entities the stream of entities
+     * @param hints    the response hints of the entity verticle
+     * @return the stream of entities matching the filter
+     */
+    private Stream<Entity> filterEntities(UriInfo uriInfo, Stream<Entity> entities, Map<String, Object> hints) {
+        FilterOption filterOption = uriInfo.getFilterOption();
+        if (filterOption == null || isExecuted(hints, ODATA_FILTER_KEY)) {
+            return entities;
+        }
+        CompiledFilterExpression filterExpression = compileFilterQueryOption(filterOption);
+        return entities.filter(entity -> {
+            try {
+                return matchesFilterQueryOption(filterExpression, entity);
+            } catch (ODataException e) {
+                throw new ODataRuntimeException(e);
+            }
+        });
+    }
+
+    /**
+     * Applies the $filter, $skip, $top and $expand system query options lazily to a stream of entities, so that the
+     * entities are filtered and paged on the fly, while the response is serialized. Only in case the entities have to
+     * be expanded, the resulting entities are collected upfront, in order to fetch only the related entities.
+     *
+     * @param uriInfo        the URI info of the request
+     * @param entities       the stream of entities
+     * @param expandExecuted if the $expand system query option was already executed by the entity verticle
+     * @param page           the page of the resulting entities to return
+     * @param hints          the response hints of the entity verticle
+     * @return a future to an iterator over the resulting entities
+     * @throws ODataApplicationException in case the $skip or $top system query options are invalid
+     */
+    private Future<EntityIterator> streamEntities(UriInfo uriInfo, Stream<Entity> entities, boolean expandExecuted,
+            Page page, Map<String, Object> hints) throws ODataApplicationException {
+        Stream<Entity> resultEntities = filterEntities(uriInfo, entities, hints);
+        SkipOption skipOption = uriInfo.getSkipOption();
+        if (skipOption != null && !isExecuted(hints, ODATA_SKIP_KEY)) {
+            resultEntities = resultEntities.skip(validateSkipQueryOption(skipOption));
+        }
+        TopOption topOption = uriInfo.getTopOption();
+        if (topOption != null && !isExecuted(hints, ODATA_TOP_KEY)) {
+            resultEntities = resultEntities.limit(validateTopQueryOption(topOption));
+        }
+
+        Integer count = isCountRequested(uriInfo) ? getCountHint(hints) : null;
+        if (expandExecuted || uriInfo.getExpandOption() == null) {
+            return succeededFuture(page.iterator(resultEntities, count));
+        }
+        // to only fetch the entities related to the resulting entities, they have to be known before expanding, read
+        // one entity ahead of the page, to determine if there is a next page
+        List<Entity> entitiesToExpand;
+        try {
+            entitiesToExpand = page.limitAhead(resultEntities).collect(Collectors.toList());
+        } catch (ODataRuntimeException e) {
+            return failedFuture(e.getCause() != null ? e.getCause() : e);
+        }
+        URI next = page.getNextLink(page.offset + entitiesToExpand.size());
+        List<Entity> pageEntities = page.apply(entitiesToExpand, page.offset);
+        return EntityExpander.create(vertx, uriInfo.getExpandOption(), pageEntities, routingContext)
+                .map(expander -> entityIterator(pageEntities.stream().peek(expander::expand), count, next));
+    }
+
+    private static EntityIterator entityIterator(Stream<Entity> entities, Integer count, URI next) {
+        Iterator<Entity> iterator = entities.iterator();
+        EntityIterator entityIterator = new EntityIterator() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Entity next() {
+                return iterator.next();
+            }
+        };
+        entityIterator.setCount(count);
+        entityIterator.setNext(next);
+        return entityIterator;
+    }
+
+    private static Integer applyCountOption(CountOption countOption, List<Entity> filteredEntities,
+            Map<String, Object> hints) {
         // Apply $count system query option. The $count system query option with a value of true
         // specifies that the total count of items within a collection matching the request be returned
         // along with the result. The $count system query option ignores any $top, $skip, or $expand query
         // options, and returns the total count of results across all pages including only those results
         // matching any specified $filter and $search.
         if ((countOption != null) && countOption.getValue()) {
-            entityCollection.setCount(filteredEntities.size());
+            // in case the entity verticle handled the query options itself, it has to report the count
+            Integer countHint = getCountHint(hints);
+            return countHint != null ? countHint : filteredEntities.size();
         }
+        return null;
     }
 
     private List<Entity> applyFilterQueryOption(FilterOption filterOption, List<Entity> unfilteredEntities)
@@ -201,20 +435,11 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
         if (filterOption != null) {
             LOGGER.correlateWith(routingContext).debug("Applying filter expression on list of entities with size: {}",
                     unfilteredEntities.size());
+            CompiledFilterExpression filterExpression = compileFilterQueryOption(filterOption);
             filteredEntities = new ArrayList<>();
             for (Entity entity : unfilteredEntities) {
-                FilterExpressionVisitor filterExpressionVisitor = new FilterExpressionVisitor(routingContext, entity);
-                LOGGER.correlateWith(routingContext).debug("filterOption name: {}, filterOption text: {}",
-                        filterOption.getName(), filterOption.getText());
-                LOGGER.correlateWith(routingContext).debug("FilterExpressionVisitor for entity '{}' was created",
-                        entity);
-                try {
-                    if (Boolean.TRUE.equals(filterOption.getExpression().accept(filterExpressionVisitor).getValue())) {
-                        filteredEntities.add(entity);
-                    }
-                } catch (ODataApplicationException | ExpressionVisitException e) {
-                    LOGGER.correlateWith(routingContext).error("Exception in filter evaluation", e);
-                    throw e;
+                if (matchesFilterQueryOption(filterExpression, entity)) {
+                    filteredEntities.add(entity);
                 }
             }
             LOGGER.correlateWith(routingContext).debug(
@@ -225,13 +450,30 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
         return filteredEntities;
     }
 
-    private void applyOrderByQueryOption(OrderByOption orderByOption, List<Entity> resultEntityList)
-            throws ODataApplicationException {
+    private CompiledFilterExpression compileFilterQueryOption(FilterOption filterOption) {
+        LOGGER.correlateWith(routingContext).debug("filterOption name: {}, filterOption text: {}",
+                filterOption.getName(), filterOption.getText());
+        return CompiledFilterExpression.compile(routingContext, filterOption.getExpression());
+    }
+
+    private boolean matchesFilterQueryOption(CompiledFilterExpression filterExpression, Entity entity)
+            throws ODataException {
+        try {
+            return filterExpression.matches(entity);
+        } catch (ODataApplicationException | ExpressionVisitException e) {
+            LOGGER.correlateWith(routingContext).error("Exception in filter evaluation", e);
+            throw e;
+        }
+    }
+
+    private List<Entity> applyOrderByQueryOption(OrderByOption orderByOption, List<Entity> resultEntityList,
+            int limit) throws ODataApplicationException {
         if (orderByOption != null) {
             LOGGER.correlateWith(routingContext).debug("orderByOption name: {}, orderByOption text: {}",
                     orderByOption.getName(), orderByOption.getText());
             try {
-                OrderExpressionExecutor.executeOrderOption(routingContext, orderByOption, resultEntityList);
+                return OrderExpressionExecutor.executeOrderOption(routingContext, orderByOption, resultEntityList,
+                        limit);
             } catch (Exception e) {
                 String message = "Error during processing of orderBy option";
                 LOGGER.correlateWith(routingContext).error(message);
@@ -239,59 +481,92 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
                         e);
             }
         }
+        return resultEntityList;
+    }
+
+    /**
+     * Returns the number of leading entities required after ordering, so that only these entities have to be ordered.
+     * In case of a $top system query option, only the entities skipped and the $top entities after are required. In
+     * case NeonBee pages the result, only the entities up to the end of the requested page are required.
+     *
+     * @param uriInfo the URI info of the request
+     * @param page    the requested page
+     * @return the number of leading entities required, or {@link Integer#MAX_VALUE} if all entities are required
+     */
+    private static int getOrderLimit(UriInfo uriInfo, Page page) {
+        long limit = page.limit();
+        TopOption topOption = uriInfo.getTopOption();
+        if (topOption != null && topOption.getValue() >= 0) {
+            limit = Math.min(limit, topOption.getValue());
+        }
+        // an invalid $top or $skip value is rejected after ordering, thus order all entities
+        SkipOption skipOption = uriInfo.getSkipOption();
+        if (limit == Long.MAX_VALUE || (skipOption != null && skipOption.getValue() < 0)) {
+            return Integer.MAX_VALUE;
+        }
+        return (int) Math.min(limit + (skipOption != null ? skipOption.getValue() : 0), Integer.MAX_VALUE);
     }
 
     private List<Entity> applySkipQueryOption(SkipOption skipOption, List<Entity> resultEntityList)
             throws ODataApplicationException {
         List<Entity> skipList = resultEntityList;
         if (skipOption != null) {
-            LOGGER.correlateWith(routingContext).debug("skipOption name: {}, skipOption text: {}, skipOption value: {}",
-                    skipOption.getName(), skipOption.getText(), skipOption.getValue());
-
-            int skipValue = skipOption.getValue();
-            if (skipValue >= 0) {
-                if (skipValue <= resultEntityList.size()) {
-                    skipList = resultEntityList.subList(skipValue, resultEntityList.size());
-                } else {
-                    // Skip all entities
-                    skipList.clear();
-                }
+            int skipValue = validateSkipQueryOption(skipOption);
+            if (skipValue <= resultEntityList.size()) {
+                skipList = resultEntityList.subList(skipValue, resultEntityList.size());
             } else {
-                String message = "Invalid value for $skip";
-                LOGGER.correlateWith(routingContext).error(message);
-                throw new ODataApplicationException(message, HttpStatusCode.BAD_REQUEST.getStatusCode(),
-                        Locale.ENGLISH);
+                // Skip all entities
+                skipList.clear();
             }
         }
         return skipList;
     }
 
+    private int validateSkipQueryOption(SkipOption skipOption) throws ODataApplicationException {
+        LOGGER.correlateWith(routingContext).debug("skipOption name: {}, skipOption text: {}, skipOption value: {}",
+                skipOption.getName(), skipOption.getText(), skipOption.getValue());
+
+        int skipValue = skipOption.getValue();
+        if (skipValue < 0) {
+            String message = "Invalid value for $skip";
+            LOGGER.correlateWith(routingContext).error(message);
+            throw new ODataApplicationException(message, HttpStatusCode.BAD_REQUEST.getStatusCode(), Locale.ENGLISH);
+        }
+        return skipValue;
+    }
+
     private List<Entity> applyTopQueryOption(TopOption topOption, List<Entity> resultEntityList)
             throws ODataApplicationException {
         List<Entity> topList = resultEntityList;
         if (topOption != null) {
-            LOGGER.correlateWith(routingContext).debug("topOption name: {}, topOption text: {}, topOption value: {}",
-                    topOption.getName(), topOption.getText(), topOption.getValue());
-            int topValue = topOption.getValue();
-            if (topValue >= 0) {
-                if (topValue <= resultEntityList.size()) {
-                    topList = resultEntityList.subList(0, topValue);
-                } // else return all available entities
-            } else {
-                throw new ODataApplicationException("Invalid value for $top",
-                        HttpStatusCode.BAD_REQUEST.getStatusCode(), Locale.ENGLISH);
-            }
+            int topValue = validateTopQueryOption(topOption);
+            if (topValue <= resultEntityList.size()) {
+                topList = resultEntityList.subList(0, topValue);
+            } // else return all available entities
         }
         return topList;
     }
 
+    private int validateTopQueryOption(TopOption topOption) throws ODataApplicationException {
+        LOGGER.correlateWith(routingContext).debug("topOption name: {}, topOption text: {}, topOption value: {}",
+                topOption.getName(), topOption.getText(), topOption.getValue());
+
+        int topValue = topOption.getValue();
+        if (topValue < 0) {
+            throw new ODataApplicationException("Invalid value for $top", HttpStatusCode.BAD_REQUEST.getStatusCode(),
+                    Locale.ENGLISH);
+        }
+        return topValue;
+    }
+
     private Future<List<Entity>> applyExpandQueryOptions(UriInfo uriInfo, List<Entity> resultEntityList) {
-        return EntityExpander.create(vertx, uriInfo.getExpandOption(), routingContext).map(expander -> {
-            for (Entity requestedEntity : resultEntityList) {
-                expander.expand(requestedEntity);
-            }
-            return resultEntityList;
-        });
+        return EntityExpander.create(vertx, uriInfo.getExpandOption(), resultEntityList, routingContext)
+                .map(expander -> {
+                    for (Entity requestedEntity : resultEntityList) {
+                        expander.expand(requestedEntity);
+                    }
+                    return resultEntityList;
+                });
     }
 
     private EntityCollectionSerializerOptions createSerializerOptions(ODataRequest request, UriInfo uriInfo,
@@ -312,7 +587,9 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
         Promise<Void> processPromise = getProcessPromise();
 
         // Fetch the data from backend
-        forwardRequest(request, READ, uriInfo, vertx, routingContext, processPromise).onSuccess(ew -> {
+        DataContext context = new DataContextImpl(routingContext);
+        forwardRequest(request, READ, null, uriInfo, vertx, routingContext, context, processPromise).onSuccess(ew -> {
+            Map<String, Object> hints = context.responseData();
             try {
                 /*
                  * The response body MUST contain the exact count of items matching the request after applying any
@@ -320,18 +597,188 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
                  * type text/plain. The returned count MUST NOT be affected by $top, $skip, $orderby, or $expand.
                  * Content negotiation using the Accept request header or the $format system query option is not allowed
                  * with the path segment /$count.
+                 *
+                 * In case the entity verticle handled the count, it reports the count without returning any entities,
+                 * otherwise the entities returned are counted on the fly, without collecting them.
                  */
-                List<Entity> resultEntityList = applyFilterQueryOption(uriInfo.getFilterOption(), ew.getEntities());
+                Integer countHint = getCountHint(hints);
+                long count =
+                        countHint != null ? countHint : filterEntities(uriInfo, ew.getEntityStream(), hints).count();
 
-                ByteArrayInputStream serializerContent = new ByteArrayInputStream(
-                        String.valueOf(resultEntityList.size()).getBytes(StandardCharsets.UTF_8));
+                ByteArrayInputStream serializerContent =
+                        new ByteArrayInputStream(String.valueOf(count).getBytes(StandardCharsets.UTF_8));
                 response.setContent(serializerContent);
                 response.setHeader(HttpHeader.CONTENT_TYPE, ContentType.TEXT_PLAIN.toContentTypeString());
                 response.setStatusCode(HttpStatusCode.OK.getStatusCode());
                 processPromise.complete();
-            } catch (ODataException e) {
-                processPromise.fail(e);
+            } catch (ODataRuntimeException e) {
+                processPromise.fail(e.getCause() != null ? e.getCause() : e);
             }
         });
     }
+
+    /**
+     * A page of the resulting entities, after the $filter, $orderby, $skip and $top system query options have been
+     * applied. The skip tokens issued by NeonBee encode the position of the next page in the result. In case the entity
+     * verticle pages the result itself, the page contains all entities returned and the skip token reported by the
+     * entity verticle is used for the next link.
+     */
+    @VisibleForTesting
+    static final class Page {
+        private final ODataRequest request;
+
+        private final int offset;
+
+        private final Integer size;
+
+        private final String nextSkipToken;
+
+        Page(ODataRequest request, int offset, Integer size, String nextSkipToken) {
+            this.request = request;
+            this.offset = offset;
+            this.size = size;
+            this.nextSkipToken = nextSkipToken;
+        }
+
+        /**
+         * Returns the link to the next page.
+         *
+         * @param resultSize the number of resulting entities
+         * @return the link to the next page or null, if this is the last page
+         */
+        URI getNextLink(int resultSize) {
+            if (nextSkipToken != null) {
+                return nextLink(request, nextSkipToken);
+            }
+            return size != null && resultSize > offset + size ? nextLink(request, encodeSkipToken(offset + size))
+                    : null;
+        }
+
+        /**
+         * Returns the number of leading resulting entities required to return this page and to determine whether a
+         * next page exists.
+         *
+         * @return the number of leading resulting entities required, or {@link Long#MAX_VALUE} for all entities
+         */
+        long limit() {
+            return size != null && nextSkipToken == null ? offset + size + 1L : Long.MAX_VALUE;
+        }
+
+        /**
+         * Returns the entities of this page.
+         *
+         * @param entities the resulting entities
+         * @return the entities of this page
+         */
+        List<Entity> apply(List<Entity> entities) {
+            return apply(entities, 0);
+        }
+
+        /**
+         * Returns the entities of this page.
+         *
+         * @param entities the resulting entities, starting at the given position of the result
+         * @param position the position of the first entity in the result
+         * @return the entities of this page
+         */
+        List<Entity> apply(List<Entity> entities, int position) {
+            int fromIndex = Math.min(Math.max(offset - position, 0), entities.size());
+            int toIndex = size != null ? (int) Math.min(entities.size(), (long) fromIndex + size) : entities.size();
+            return entities.subList(fromIndex, toIndex);
+        }
+
+        /**
+         * Skips to this page and limits the resulting entities to this page plus one entity, to be able to determine
+         * whether a next page exists.
+         *
+         * @param entities the stream of resulting entities
+         * @return the stream of entities of this page plus the first entity of the next page
+         */
+        Stream<Entity> limitAhead(Stream<Entity> entities) {
+            Stream<Entity> pageEntities = entities.skip(offset);
+            return size != null ? pageEntities.limit(size + 1L) : pageEntities;
+        }
+
+        /**
+         * Returns an iterator over the entities of this page, which lazily determines the link to the next page, as
+         * Olingo serializes the next link after all entities have been serialized.
+         *
+         * @param entities the stream of resulting entities
+         * @param count    the total count of entities or null
+         * @return an iterator over the entities of this page
+         */
+        EntityIterator iterator(Stream<Entity> entities, Integer count) {
+            Iterator<Entity> iterator = entities.skip(offset).iterator();
+            EntityIterator entityIterator = new EntityIterator() {
+                private int returned;
+
+                @Override
+                public boolean hasNext() {
+                    return (size == null || returned < size) && iterator.hasNext();
+                }
+
+                @Override
+                public Entity next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    returned++;
+                    return iterator.next();
+                }
+
+                @Override
+                public URI getNext() {
+                    // reads one entity ahead of the page, thus only call this after the page has been serialized
+                    boolean hasNextPage = size != null && returned >= size && iterator.hasNext();
+                    return getNextLink(hasNextPage ? offset + size + 1 : 0);
+                }
+            };
+            entityIterator.setCount(count);
+            return entityIterator;
+        }
+
+        @VisibleForTesting
+        static String encodeSkipToken(int position) {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(Integer.toString(position).getBytes(StandardCharsets.UTF_8));
+        }
+
+        @VisibleForTesting
+        static int decodeSkipToken(String skipToken) throws ODataApplicationException {
+            try {
+                int position =
+                        Integer.parseInt(new String(Base64.getUrlDecoder().decode(skipToken), StandardCharsets.UTF_8));
+                if (position >= 0) {
+                    return position;
+                }
+            } catch (IllegalArgumentException e) {
+                // handled below, NumberFormatException is an IllegalArgumentException as well
+            }
+            throw new ODataApplicationException("Invalid value for $skiptoken",
+                    HttpStatusCode.BAD_REQUEST.getStatusCode(), Locale.ENGLISH);
+        }
+
+        /**
+         * Builds the link to the next page, relative to the requested entity set, keeping all system query options of
+         * the request, but the $skiptoken, which is replaced by the given skip token.
+         *
+         * @param request   the OData request
+         * @param skipToken the skip token of the next page
+         * @return the link to the next page
+         */
+        @VisibleForTesting
+        static URI nextLink(ODataRequest request, String skipToken) {
+            StringJoiner query = new StringJoiner("&");
+            for (String parameter : nullToEmpty(request.getRawQueryPath()).split("&")) {
+                String name = parameter.split("=", 2)[0];
+                if (!parameter.isEmpty() && !"$skiptoken".equals(URLDecoder.decode(name, StandardCharsets.UTF_8))) {
+                    query.add(parameter);
+                }
+            }
+            query.add("$skiptoken=" + URLEncoder.encode(skipToken, StandardCharsets.UTF_8));
+
+            String odataPath = request.getRawODataPath();
+            return URI.create(odataPath.substring(odataPath.lastIndexOf('/') + 1) + "?" + query);
+        }
+    }
 }
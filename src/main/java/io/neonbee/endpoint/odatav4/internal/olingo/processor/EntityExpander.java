@@ -2,10 +2,12 @@ package io.neonbee.endpoint.odatav4.internal.olingo.processor;
 
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.NavigationPropertyHelper.fetchReferencedEntities;
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.NavigationPropertyHelper.getRelatedEntities;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.NavigationPropertyHelper.indexReferencedEntities;
 import static io.neonbee.internal.helper.AsyncHelper.allComposite;
 import static io.vertx.core.Future.succeededFuture;
 import static java.util.stream.Collectors.toList;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,18 +28,24 @@ import io.vertx.ext.web.RoutingContext;
 public final class EntityExpander {
     private final List<EdmNavigationProperty> navigationProperties;
 
-    private final Map<EdmEntityType, List<Entity>> fetchedEntities;
+    private final Map<EdmNavigationProperty, Map<List<Object>, List<Entity>>> referencedEntities;
 
     private EntityExpander(List<EdmNavigationProperty> navigationProperties,
-            Map<EdmEntityType, List<Entity>> fetchedEntities) {
+            Map<EdmNavigationProperty, Map<List<Object>, List<Entity>>> referencedEntities) {
         this.navigationProperties = navigationProperties;
-        this.fetchedEntities = fetchedEntities;
+        this.referencedEntities = referencedEntities;
     }
 
     /**
      * Creating the EntityExpander is an asynchronous operation, because during the creation the EntityExpander fetches
      * all referenced and <b>potentially</b> required entities based on the expand options. When the EntityExpander is
      * created successfully, the expand of an entity happens synchronously.
+     * <p>
+     * The fetched entities are indexed once per navigation property by the values of the referenced properties, so
+     * that expanding an entity does not require to iterate all fetched entities again.
+     * <p>
+     * If the entities to expand are known upfront, prefer
+     * {@link #create(Vertx, ExpandOption, Collection, RoutingContext)} to only fetch the entities related to them.
      *
      * @param vertx          The Vert.x instance
      * @param expandOption   The expand options of the OData request
@@ -45,15 +53,38 @@ public final class EntityExpander {
      * @return A {@link Future} holding a {@link EntityExpander} when it is completed.
      */
     public static Future<EntityExpander> create(Vertx vertx, ExpandOption expandOption, RoutingContext routingContext) {
+        return create(vertx, expandOption, null, routingContext);
+    }
+
+    /**
+     * Creates an EntityExpander, which is able to expand the given entities. Instead of all referenced entities, only
+     * the entities related to any of the given entities are fetched.
+     *
+     * @see NavigationPropertyHelper#fetchReferencedEntities(EdmNavigationProperty, Collection, Vertx, RoutingContext)
+     * @param vertx            The Vert.x instance
+     * @param expandOption     The expand options of the OData request
+     * @param entitiesToExpand The entities to expand, or null to fetch all referenced entities
+     * @param routingContext   The routingContext of the request
+     * @return A {@link Future} holding a {@link EntityExpander} when it is completed.
+     */
+    public static Future<EntityExpander> create(Vertx vertx, ExpandOption expandOption,
+            Collection<Entity> entitiesToExpand, RoutingContext routingContext) {
         if (expandOption != null) {
             List<EdmNavigationProperty> navigationProperties = getNavigationProperties(expandOption);
-            Map<EdmEntityType, List<Entity>> fetchedEntities = new HashMap<>();
+            Map<EdmEntityType, Future<List<Entity>>> fetchedEntities = new HashMap<>();
+            Map<EdmNavigationProperty, Map<List<Object>, List<Entity>>> referencedEntities = new HashMap<>();
 
             List<Future<?>> fetchFutures = navigationProperties.stream().distinct().map(navProb -> {
-                return fetchReferencedEntities(navProb, vertx, routingContext)
-                        .map(entities -> fetchedEntities.put(navProb.getType(), entities));
+                // navigation properties of the same type share all fetched entities, but fetching only the related
+                // entities depends on the navigation property
+                Future<List<Entity>> fetchFuture = entitiesToExpand == null
+                        ? fetchedEntities.computeIfAbsent(navProb.getType(),
+                                type -> fetchReferencedEntities(navProb, vertx, routingContext))
+                        : fetchReferencedEntities(navProb, entitiesToExpand, vertx, routingContext);
+                return fetchFuture
+                        .map(entities -> referencedEntities.put(navProb, indexReferencedEntities(navProb, entities)));
             }).collect(toList());
-            return allComposite(fetchFutures).map(v -> new EntityExpander(navigationProperties, fetchedEntities));
+            return allComposite(fetchFutures).map(v -> new EntityExpander(navigationProperties, referencedEntities));
         } else {
             return succeededFuture(new EntityExpander(List.of(), Map.of()));
         }
@@ -77,7 +108,7 @@ public final class EntityExpander {
             }
 
             List<Entity> entitiesToLink = getRelatedEntities(navigationProperty, entityToExpand,
-                    fetchedEntities.get(navigationProperty.getType()));
+                    referencedEntities.get(navigationProperty));
             linkEntities(entityToExpand, navigationProperty, entitiesToLink);
         }
     }
@@ -173,10 +173,11 @@ public class EntityProcessor extends AsynchronousProcessor
                     Promise<Entity> responsePromise = Promise.promise();
 
                     if (resourceParts.size() == 1) {
-                        EntityExpander.create(vertx, uriInfo.getExpandOption(), routingContext).map(expander -> {
-                            expander.expand(foundEntity);
-                            return foundEntity;
-                        }).onComplete(responsePromise);
+                        EntityExpander.create(vertx, uriInfo.getExpandOption(), List.of(foundEntity), routingContext)
+                                .map(expander -> {
+                                    expander.expand(foundEntity);
+                                    return foundEntity;
+                                }).onComplete(responsePromise);
                     } else {
                         fetchNavigationTargetEntity(resourceParts.get(1), foundEntity, vertx, routingContext)
                                 .onComplete(responsePromise);
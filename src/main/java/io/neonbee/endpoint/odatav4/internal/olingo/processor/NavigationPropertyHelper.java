@@ -1,23 +1,42 @@
 package io.neonbee.endpoint.odatav4.internal.olingo.processor;
 
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_FILTER_KEY;
 import static io.neonbee.entity.EntityVerticle.requestEntity;
+import static io.neonbee.internal.helper.AsyncHelper.allComposite;
 import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
+import static java.util.stream.Collectors.toList;
 import static org.apache.olingo.commons.api.http.HttpStatusCode.INTERNAL_SERVER_ERROR;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
 
 import org.apache.olingo.commons.api.data.Entity;
 import org.apache.olingo.commons.api.edm.EdmEntitySet;
+import org.apache.olingo.commons.api.edm.EdmEntityType;
 import org.apache.olingo.commons.api.edm.EdmNavigationProperty;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveType;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveTypeException;
+import org.apache.olingo.commons.api.edm.EdmProperty;
 import org.apache.olingo.commons.api.edm.EdmReferentialConstraint;
 import org.apache.olingo.commons.api.edm.FullQualifiedName;
 import org.apache.olingo.server.api.ODataApplicationException;
 import org.apache.olingo.server.api.uri.UriResource;
 import org.apache.olingo.server.api.uri.UriResourceNavigation;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Iterables;
+
+import io.neonbee.data.DataContext;
 import io.neonbee.data.DataQuery;
 import io.neonbee.data.DataRequest;
 import io.neonbee.data.internal.DataContextImpl;
@@ -28,6 +47,12 @@ import io.vertx.core.Vertx;
 import io.vertx.ext.web.RoutingContext;
 
 public final class NavigationPropertyHelper {
+    /**
+     * The maximum number of values sent in the {@code $filter} of a single request fetching referenced entities.
+     */
+    @VisibleForTesting
+    static final int MAX_FILTER_VALUES = 100;
+
     private static final LoggingFacade LOGGER = LoggingFacade.create();
 
     /**
@@ -45,8 +70,145 @@ public final class NavigationPropertyHelper {
         return requestEntity(vertx, req, new DataContextImpl(routingContext)).map(EntityWrapper::getEntities);
     }
 
+    /**
+     * Fetches the entities related to the passed source entities via the passed navigation property.
+     * <p>
+     * Instead of fetching the entire entity set of the navigation target, the values of the referenced properties of
+     * the source entities are sent to the target entity verticle as a {@code $filter} with an {@code in} predicate (or
+     * a disjunction of conjunctions, for navigation properties with multiple referential constraints). The values are
+     * sent in chunks of a bounded number of values per request. As entity verticles are free to ignore the
+     * {@code $filter}, the fetched entities are filtered again by the values of each chunk. In case the entity verticle
+     * ignored the {@code $filter} of the first chunk, i.e. it did not report to have applied it and returned entities
+     * not matching it, the entities of the first response are used for all values and no further chunks are sent. In
+     * case no filter can be built (e.g. because a property value cannot be represented as a literal), all entities of
+     * the navigation target are fetched.
+     *
+     * @param navigationProperty the navigation property
+     * @param sourceEntities     the entities with navigation property
+     * @param vertx              the current Vert.x instance
+     * @param routingContext     the current routing context
+     * @return a {@link Future} holding the fetched entities, which are related to any of the source entities
+     */
+    public static Future<List<Entity>> fetchReferencedEntities(EdmNavigationProperty navigationProperty,
+            Collection<Entity> sourceEntities, Vertx vertx, RoutingContext routingContext) {
+        List<String> propertyNames = getPropertyNames(navigationProperty, false);
+        List<String> referencePropertyNames = getPropertyNames(navigationProperty, true);
+        if (propertyNames.isEmpty()) {
+            return fetchReferencedEntities(navigationProperty, vertx, routingContext);
+        }
+
+        Set<List<Object>> keys = new LinkedHashSet<>();
+        for (Entity sourceEntity : sourceEntities) {
+            List<Object> key = getPropertyValues(sourceEntity, propertyNames);
+            if (key != null) {
+                keys.add(key);
+            }
+        }
+        if (keys.isEmpty()) {
+            return succeededFuture(List.of());
+        }
+
+        Map<String, Set<List<Object>>> filters = new LinkedHashMap<>();
+        for (List<List<Object>> chunk : Iterables.partition(keys, MAX_FILTER_VALUES)) {
+            String filter = buildFilter(navigationProperty.getType(), referencePropertyNames, chunk);
+            if (filter == null) {
+                return fetchReferencedEntities(navigationProperty, vertx, routingContext);
+            }
+            filters.put(filter, Set.copyOf(chunk));
+        }
+
+        // send the first chunk only, as most entity verticles ignore the $filter and return all entities, in which
+        // case the entities of the first response are sufficient and no further chunks have to be sent
+        List<Map.Entry<String, Set<List<Object>>>> chunks = new ArrayList<>(filters.entrySet());
+        DataContext firstContext = new DataContextImpl(routingContext);
+        return requestEntity(vertx, filterRequest(navigationProperty, chunks.get(0).getKey()), firstContext)
+                .compose(firstEntityWrapper -> {
+                    List<Entity> firstEntities =
+                            filterEntities(firstEntityWrapper, chunks.get(0).getValue(), referencePropertyNames);
+                    // in case the entity verticle did not report to have applied the $filter and returned entities
+                    // not matching the filter, it ignored the $filter and returned all entities
+                    if (!Boolean.TRUE.equals(firstContext.responseData().get(ODATA_FILTER_KEY))
+                            && firstEntities.size() < firstEntityWrapper.getEntities().size()) {
+                        return succeededFuture(filterEntities(firstEntityWrapper, keys, referencePropertyNames));
+                    }
+
+                    List<Future<List<Entity>>> fetchFutures = new ArrayList<>(chunks.size());
+                    fetchFutures.add(succeededFuture(firstEntities));
+                    for (Map.Entry<String, Set<List<Object>>> chunk : chunks.subList(1, chunks.size())) {
+                        fetchFutures.add(requestEntity(vertx, filterRequest(navigationProperty, chunk.getKey()),
+                                new DataContextImpl(routingContext)).map(entityWrapper -> filterEntities(entityWrapper,
+                                        chunk.getValue(), referencePropertyNames)));
+                    }
+                    return allComposite(fetchFutures).map(v -> fetchFutures.stream().map(Future::result)
+                            .flatMap(List::stream).collect(toList()));
+                });
+    }
+
+    private static DataRequest filterRequest(EdmNavigationProperty navigationProperty, String filter) {
+        FullQualifiedName fqn = navigationProperty.getType().getFullQualifiedName();
+        return new DataRequest(fqn,
+                new DataQuery(fqn.getNamespace() + "/" + fqn.getName()).addParameter("$filter", filter));
+    }
+
+    private static List<Entity> filterEntities(EntityWrapper entityWrapper, Set<List<Object>> keys,
+            List<String> referencePropertyNames) {
+        return entityWrapper.getEntities().stream()
+                .filter(entity -> keys.contains(getPropertyValues(entity, referencePropertyNames))).collect(toList());
+    }
+
+    /**
+     * Builds a {@code $filter} expression, matching all entities with any of the given values in the given properties.
+     *
+     * @param entityType    the type of the entities to filter
+     * @param propertyNames the names of the properties to filter by
+     * @param keys          the values of the properties to match
+     * @return the filter expression or null, if any of the values cannot be represented as a literal
+     */
+    @VisibleForTesting
+    static String buildFilter(EdmEntityType entityType, List<String> propertyNames, List<List<Object>> keys) {
+        boolean singleProperty = propertyNames.size() == 1;
+        StringJoiner filter = singleProperty ? new StringJoiner(",", propertyNames.get(0) + " in (", ")")
+                : new StringJoiner(" or ");
+        for (List<Object> key : keys) {
+            StringJoiner predicate = singleProperty ? filter : new StringJoiner(" and ", "(", ")");
+            for (int i = 0; i < propertyNames.size(); i++) {
+                String literal = toLiteral(entityType, propertyNames.get(i), key.get(i));
+                if (literal == null) {
+                    return null;
+                }
+                predicate.add(singleProperty ? literal : propertyNames.get(i) + " eq " + literal);
+            }
+            if (!singleProperty) {
+                filter.add(predicate.toString());
+            }
+        }
+        return filter.toString();
+    }
+
+    private static String toLiteral(EdmEntityType entityType, String propertyName, Object value) {
+        EdmProperty property = entityType.getStructuralProperty(propertyName);
+        if (property == null || !property.isPrimitive()) {
+            return null;
+        }
+
+        try {
+            EdmPrimitiveType type = (EdmPrimitiveType) property.getType();
+            String literal = type.toUriLiteral(type.valueToString(value, property.isNullable(),
+                    property.getMaxLength(), property.getPrecision(), property.getScale(), property.isUnicode()));
+            // the query of a data query is not encoded, thus values with an ampersand cannot be part of a query, and
+            // values with a percent sign would be decoded again, when the entity verticle parses the query
+            return literal.indexOf('&') < 0 && literal.indexOf('%') < 0 ? literal : null;
+        } catch (EdmPrimitiveTypeException e) {
+            return null;
+        }
+    }
+
     /**
      * Filters the referenced entities based on the navigation property.
+     * <p>
+     * In case the related entities of many source entities are required, use
+     * {@link #indexReferencedEntities(EdmNavigationProperty, List)} once and
+     * {@link #getRelatedEntities(EdmNavigationProperty, Entity, Map)} for every source entity instead.
      *
      * @param navigationProperty the navigation property
      * @param sourceEntity       the entity with navigation property
@@ -55,28 +217,85 @@ public final class NavigationPropertyHelper {
      */
     public static List<Entity> getRelatedEntities(EdmNavigationProperty navigationProperty, Entity sourceEntity,
             List<Entity> referencedEntities) {
-        List<Entity> filteredEntities = new ArrayList<>(referencedEntities);
+        return new ArrayList<>(getRelatedEntities(navigationProperty, sourceEntity,
+                indexReferencedEntities(navigationProperty, referencedEntities)));
+    }
+
+    /**
+     * Looks up the related entities of a source entity in an index of the referenced entities.
+     *
+     * @param navigationProperty the navigation property
+     * @param sourceEntity       the entity with navigation property
+     * @param referencedEntities the index of the referenced entities, created by
+     *                           {@link #indexReferencedEntities(EdmNavigationProperty, List)} for the same navigation
+     *                           property
+     * @return an unmodifiable {@link List} with all related {@link Entity entities}
+     */
+    public static List<Entity> getRelatedEntities(EdmNavigationProperty navigationProperty, Entity sourceEntity,
+            Map<List<Object>, List<Entity>> referencedEntities) {
+        List<Object> key = getPropertyValues(sourceEntity, getPropertyNames(navigationProperty, false));
+        return key == null ? List.of()
+                : Collections.unmodifiableList(referencedEntities.getOrDefault(key, List.of()));
+    }
+
+    /**
+     * Indexes the referenced entities by the values of the properties referenced by the navigation property, so that
+     * the related entities of any source entity can be looked up without iterating all referenced entities again.
+     * Referenced entities with a {@code null} value in any of the referenced properties are not related to any source
+     * entity and thus not indexed.
+     *
+     * @param navigationProperty the navigation property
+     * @param referencedEntities the entities of the referenced type
+     * @return a {@link Map} of the referenced property values to the referenced entities with these values
+     */
+    public static Map<List<Object>, List<Entity>> indexReferencedEntities(EdmNavigationProperty navigationProperty,
+            List<Entity> referencedEntities) {
+        List<String> referencePropertyNames = getPropertyNames(navigationProperty, true);
+        Map<List<Object>, List<Entity>> index = new HashMap<>();
+        for (Entity referencedEntity : referencedEntities) {
+            List<Object> key = getPropertyValues(referencedEntity, referencePropertyNames);
+            if (key != null) {
+                index.computeIfAbsent(key, k -> new ArrayList<>(1)).add(referencedEntity);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns the names of the properties, which relate the source entity and the referenced entities of a navigation
+     * property, in the order of the referential constraints.
+     *
+     * @param navigationProperty the navigation property
+     * @param referenced         if true the names of the properties of the referenced entity are returned, otherwise
+     *                           the names of the properties of the source entity
+     * @return a list of property names
+     */
+    private static List<String> getPropertyNames(EdmNavigationProperty navigationProperty, boolean referenced) {
         boolean isCollection = navigationProperty.isCollection();
         List<EdmReferentialConstraint> constraints =
                 isCollection ? navigationProperty.getPartner().getReferentialConstraints()
                         : navigationProperty.getReferentialConstraints();
 
+        // for collections the constraints are defined on the partner, thus referenced and source property are swapped
+        boolean referencedPropertyName = referenced != isCollection;
+        List<String> propertyNames = new ArrayList<>(constraints.size());
         for (EdmReferentialConstraint constraint : constraints) {
-            String propertyName = isCollection ? constraint.getReferencedPropertyName() : constraint.getPropertyName();
-            String referencePropertyName =
-                    isCollection ? constraint.getPropertyName() : constraint.getReferencedPropertyName();
-
-            Object propertyValue = sourceEntity.getProperty(propertyName).getValue();
-            List<Entity> remainingEntities = List.copyOf(filteredEntities);
-            filteredEntities.clear();
-            for (Entity referenceEntity : remainingEntities) {
-                Object referencePropertyValue = referenceEntity.getProperty(referencePropertyName).getValue();
-                if (propertyValue.equals(referencePropertyValue)) {
-                    filteredEntities.add(referenceEntity);
-                }
+            propertyNames.add(
+                    referencedPropertyName ? constraint.getReferencedPropertyName() : constraint.getPropertyName());
+        }
+        return propertyNames;
+    }
+
+    private static List<Object> getPropertyValues(Entity entity, List<String> propertyNames) {
+        List<Object> values = new ArrayList<>(propertyNames.size());
+        for (String propertyName : propertyNames) {
+            Object value = entity.getProperty(propertyName).getValue();
+            if (value == null) {
+                return null;
             }
+            values.add(value);
         }
-        return filteredEntities;
+        return values;
     }
 
     /**
@@ -135,7 +354,7 @@ public final class NavigationPropertyHelper {
             Vertx vertx, RoutingContext routingContext) {
         if (navigationPart instanceof UriResourceNavigation) {
             EdmNavigationProperty edmNavigationProperty = ((UriResourceNavigation) navigationPart).getProperty();
-            return fetchReferencedEntities(edmNavigationProperty, vertx, routingContext)
+            return fetchReferencedEntities(edmNavigationProperty, List.of(sourceEntity), vertx, routingContext)
                     .map(entities -> getRelatedEntities(edmNavigationProperty, sourceEntity, entities));
         } else {
             return failedFuture("Expected second path segment to be a navigation property");
@@ -1,6 +1,7 @@
 package io.neonbee.endpoint.odatav4.internal.olingo.processor;
 
 import static com.google.common.base.Strings.nullToEmpty;
+import static io.neonbee.entity.EntityVerticle.attachUriInfo;
 import static io.neonbee.entity.EntityVerticle.requestEntity;
 import static java.net.URLDecoder.decode;
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -47,6 +48,15 @@ public final class ProcessorHelper {
     /** OData expand key. */
     public static final String ODATA_EXPAND_KEY = "OData.expand";
 
+    /** OData count key. */
+    public static final String ODATA_COUNT_KEY = "OData.count";
+
+    /** OData skip token key. */
+    public static final String ODATA_SKIP_TOKEN_KEY = "OData.skiptoken";
+
+    /** OData next skip token key. */
+    public static final String ODATA_NEXT_SKIP_TOKEN_KEY = "OData.nextskiptoken";
+
     /** OData key predicate key. */
     public static final String ODATA_KEY_PREDICATE_KEY = "OData.key";
 
@@ -92,12 +102,36 @@ public final class ProcessorHelper {
      */
     public static Future<EntityWrapper> forwardRequest(ODataRequest request, DataAction action, Entity entity,
             UriInfo uriInfo, Vertx vertx, RoutingContext routingContext, Promise<Void> processPromise) {
+        return forwardRequest(request, action, entity, uriInfo, vertx, routingContext,
+                new DataContextImpl(routingContext), processPromise);
+    }
+
+    /**
+     * Maps an ODataRequest into an entity request and sends it to the related entity verticles, using the given data
+     * context. The response hints of the entity verticle are merged into the response data of the given data context,
+     * in addition to being transferred into the routing context. As the routing context is shared by all parts of a
+     * batch request, processors should read the response hints from the data context of their request instead.
+     *
+     * @param request        The ODataRequest
+     * @param action         The DataAction of the request
+     * @param entity         The Entity of the request
+     * @param uriInfo        The UriInfo of the ODataRequest
+     * @param vertx          The Vert.x instance
+     * @param routingContext The routingContext of the request
+     * @param dataContext    The data context to send the request with
+     * @param processPromise the processPromise of the current request
+     * @return a Future of EntityWrapper holding the result of the entity request.
+     */
+    public static Future<EntityWrapper> forwardRequest(ODataRequest request, DataAction action, Entity entity,
+            UriInfo uriInfo, Vertx vertx, RoutingContext routingContext, DataContext dataContext,
+            Promise<Void> processPromise) {
         UriResourceEntitySet uriResourceEntitySet = (UriResourceEntitySet) uriInfo.getUriResourceParts().get(0);
         EdmEntityType entityType = uriResourceEntitySet.getEntitySet().getEntityType();
         Buffer body = Optional.ofNullable(entity)
                 .map(e -> new EntityWrapper(entityType.getFullQualifiedName(), e).toBuffer(vertx)).orElse(null);
         DataQuery query = odataRequestToQuery(request, action, body);
-        DataContext dataContext = new DataContextImpl(routingContext);
+        // the entity verticle would parse the same URI again, reuse the UriInfo in case it is processed on this node
+        attachUriInfo(query, uriInfo);
         return requestEntity(vertx, new DataRequest(entityType.getFullQualifiedName(), query), dataContext)
                 .map(result -> {
                     transferResponseHint(dataContext, routingContext);
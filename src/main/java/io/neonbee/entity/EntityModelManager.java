@@ -362,8 +362,14 @@ public class EntityModelManager {
     public Future<Map<String, EntityModel>> reloadModels() {
         LOGGER.info("Reload models");
         return EntityModelLoader.load(neonBee.getVertx(), externalModelDefinitions).onSuccess(models -> {
+            Map<String, EntityModel> previousModels = bufferedModels;
             bufferedModels = Collections.unmodifiableMap(models);
 
+            // URI infos parsed for the previous models hold strong references to their (now outdated) EDM
+            if (previousModels != null) {
+                EntityVerticle.invalidateParsedUriInfos(previousModels.values());
+            }
+
             // publish the event local only! models must be present locally on very instance in a cluster!
             neonBee.getVertx().eventBus().publish(EVENT_BUS_MODELS_LOADED_ADDRESS, null, LOCAL_DELIVERY);
 
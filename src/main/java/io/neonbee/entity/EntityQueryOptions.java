@@ -0,0 +1,435 @@
+package io.neonbee.entity;
+
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_COUNT_KEY;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_EXPAND_KEY;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_FILTER_KEY;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_NEXT_SKIP_TOKEN_KEY;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_ORDER_BY_KEY;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_SKIP_KEY;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_SKIP_TOKEN_KEY;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_TOP_KEY;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.olingo.server.api.uri.UriInfo;
+import org.apache.olingo.server.api.uri.UriResource;
+import org.apache.olingo.server.api.uri.UriResourceKind;
+import org.apache.olingo.server.api.uri.UriResourceProperty;
+import org.apache.olingo.server.api.uri.queryoption.CountOption;
+import org.apache.olingo.server.api.uri.queryoption.ExpandOption;
+import org.apache.olingo.server.api.uri.queryoption.FilterOption;
+import org.apache.olingo.server.api.uri.queryoption.OrderByItem;
+import org.apache.olingo.server.api.uri.queryoption.OrderByOption;
+import org.apache.olingo.server.api.uri.queryoption.SkipOption;
+import org.apache.olingo.server.api.uri.queryoption.SkipTokenOption;
+import org.apache.olingo.server.api.uri.queryoption.TopOption;
+import org.apache.olingo.server.api.uri.queryoption.expression.Expression;
+import org.apache.olingo.server.api.uri.queryoption.expression.Member;
+
+import io.neonbee.data.DataContext;
+
+/**
+ * A typed view on the system query options of an OData entity collection request, which entity verticles can use to
+ * push the processing of the query options down to their backend (e.g. a database).
+ * <p>
+ * NeonBee applies all system query options which are not handled by the entity verticle after receiving the entities.
+ * The options are applied in the order {@code $filter}, {@code $orderby}, {@code $skip}, {@code $top} and finally
+ * the result is split into pages (server-driven paging, continued with a {@code $skiptoken}). An option can
+ * thus only be handled by the entity verticle, if all preceding options requested were handled as well, which is
+ * ensured by {@link #pushDown(Set)}. Entity verticles report the options which they handled using
+ * {@link #markHandled(DataContext, Set)}. The count of entities is determined after applying {@code $filter}, an entity
+ * verticle handling the count reports it using {@link #setCount(DataContext, long)}.
+ *
+ * <pre>
+ * parseQueryOptions(query).compose(options -&gt; {
+ *     Set&lt;Option&gt; handled = options.pushDown(getSupportedQueryOptions());
+ *     // query the backend, considering all handled options
+ *     options.markHandled(context, handled);
+ *     ...
+ * });
+ * </pre>
+ */
+public final class EntityQueryOptions {
+    /**
+     * The system query options, which can be pushed down to an entity verticle.
+     */
+    public enum Option {
+        /**
+         * The {@code $filter} system query option.
+         */
+        FILTER(ODATA_FILTER_KEY),
+
+        /**
+         * The {@code $orderby} system query option.
+         */
+        ORDER_BY(ODATA_ORDER_BY_KEY),
+
+        /**
+         * The {@code $skip} system query option.
+         */
+        SKIP(ODATA_SKIP_KEY),
+
+        /**
+         * The {@code $top} system query option.
+         */
+        TOP(ODATA_TOP_KEY),
+
+        /**
+         * Server-driven paging, so returning a page of at most {@link EntityQueryOptions#getMaxPageSize() max page
+         * size} entities starting at the position the {@code $skiptoken} system query option refers to. An entity
+         * verticle handling paging reports the skip token of the next page using
+         * {@link EntityQueryOptions#setNextSkipToken(DataContext, String)}.
+         */
+        SKIP_TOKEN(ODATA_SKIP_TOKEN_KEY),
+
+        /**
+         * Counting the entities, in case only the {@link EntityQueryOptions#isCountOnly() count} of entities was
+         * requested (using the {@code /$count} path segment), or the {@link EntityQueryOptions#isCountRequested()
+         * count} was requested in addition to the entities (using {@code $count=true}). An entity verticle handling
+         * the count reports it using {@link EntityQueryOptions#setCount(DataContext, long)}, which is the response
+         * hint of this option. When only the count was requested, the entity verticle does not need to return any
+         * entities.
+         */
+        COUNT(ODATA_COUNT_KEY),
+
+        /**
+         * The {@code $expand} system query option.
+         */
+        EXPAND(ODATA_EXPAND_KEY);
+
+        private final String responseHint;
+
+        Option(String responseHint) {
+            this.responseHint = responseHint;
+        }
+
+        /**
+         * Returns the key of the response data hint, signaling that this option was handled by the entity verticle.
+         *
+         * @return the key of the response hint
+         */
+        public String getResponseHint() {
+            return responseHint;
+        }
+    }
+
+    /**
+     * A key of the {@code $orderby} system query option, referring to a (structural) property of the entity.
+     */
+    public static final class OrderKey {
+        private final String propertyPath;
+
+        private final boolean descending;
+
+        OrderKey(String propertyPath, boolean descending) {
+            this.propertyPath = propertyPath;
+            this.descending = descending;
+        }
+
+        /**
+         * Returns the path of the property to order by, path segments of complex properties are separated by a
+         * forward slash, e.g. {@code address/city}.
+         *
+         * @return the property path
+         */
+        public String getPropertyPath() {
+            return propertyPath;
+        }
+
+        /**
+         * Returns if the entities are ordered descending by this key.
+         *
+         * @return true if the entities are ordered descending, false if ascending
+         */
+        public boolean isDescending() {
+            return descending;
+        }
+
+        @Override
+        public String toString() {
+            return propertyPath + (descending ? " desc" : " asc");
+        }
+    }
+
+    private final Expression filter;
+
+    private final List<OrderKey> orderBy;
+
+    private final boolean orderByPropertiesOnly;
+
+    private final Integer skip;
+
+    private final Integer top;
+
+    private final String skipToken;
+
+    private final Integer maxPageSize;
+
+    private final ExpandOption expand;
+
+    private final boolean countRequested;
+
+    private final boolean countOnly;
+
+    private EntityQueryOptions(UriInfo uriInfo, Integer maxPageSize) {
+        filter = Optional.ofNullable(uriInfo.getFilterOption()).map(FilterOption::getExpression).orElse(null);
+
+        List<OrderByItem> orderByItems =
+                Optional.ofNullable(uriInfo.getOrderByOption()).map(OrderByOption::getOrders).orElse(List.of());
+        List<OrderKey> orderKeys = new ArrayList<>(orderByItems.size());
+        for (OrderByItem item : orderByItems) {
+            String propertyPath = propertyPathOf(item.getExpression());
+            if (propertyPath != null) {
+                orderKeys.add(new OrderKey(propertyPath, item.isDescending()));
+            }
+        }
+        orderBy = Collections.unmodifiableList(orderKeys);
+        orderByPropertiesOnly = orderKeys.size() == orderByItems.size();
+
+        skip = Optional.ofNullable(uriInfo.getSkipOption()).map(SkipOption::getValue).orElse(null);
+        top = Optional.ofNullable(uriInfo.getTopOption()).map(TopOption::getValue).orElse(null);
+        skipToken = Optional.ofNullable(uriInfo.getSkipTokenOption()).map(SkipTokenOption::getValue).orElse(null);
+        this.maxPageSize = maxPageSize;
+        expand = uriInfo.getExpandOption();
+        countRequested = Optional.ofNullable(uriInfo.getCountOption()).map(CountOption::getValue).orElse(false);
+        List<UriResource> resourceParts = uriInfo.getUriResourceParts();
+        countOnly = resourceParts != null && !resourceParts.isEmpty()
+                && resourceParts.get(resourceParts.size() - 1).getKind() == UriResourceKind.count;
+    }
+
+    /**
+     * Creates the query options of a given (parsed) OData URI.
+     *
+     * @param uriInfo the URI info
+     * @return the query options
+     */
+    public static EntityQueryOptions of(UriInfo uriInfo) {
+        return of(uriInfo, null);
+    }
+
+    /**
+     * Creates the query options of a given (parsed) OData URI.
+     *
+     * @param uriInfo     the URI info
+     * @param maxPageSize the maximum number of entities per page, as preferred by the {@code odata.maxpagesize}
+     *                    preference of the request or null, if the result should not be paged
+     * @return the query options
+     */
+    public static EntityQueryOptions of(UriInfo uriInfo, Integer maxPageSize) {
+        return new EntityQueryOptions(uriInfo, maxPageSize);
+    }
+
+    /**
+     * Returns the expression tree of the {@code $filter} system query option.
+     *
+     * @return the filter expression or null, if no filter was requested
+     */
+    public Expression getFilter() {
+        return filter;
+    }
+
+    /**
+     * Returns the keys of the {@code $orderby} system query option. Only keys referring to a property are included,
+     * so in case ordering by other expressions was requested, ordering cannot be pushed down.
+     *
+     * @return an unmodifiable list of order keys, which is empty if no ordering was requested
+     */
+    public List<OrderKey> getOrderBy() {
+        return orderBy;
+    }
+
+    /**
+     * Returns the value of the {@code $skip} system query option.
+     *
+     * @return the number of entities to skip or null, if no skip was requested
+     */
+    public Integer getSkip() {
+        return skip;
+    }
+
+    /**
+     * Returns the value of the {@code $top} system query option.
+     *
+     * @return the maximum number of entities to return or null, if no top was requested
+     */
+    public Integer getTop() {
+        return top;
+    }
+
+    /**
+     * Returns the value of the {@code $skiptoken} system query option. The skip token is opaque, it was either issued
+     * by NeonBee, or by the entity verticle using {@link #setNextSkipToken(DataContext, String)}, in case it handles
+     * paging.
+     *
+     * @return the skip token or null, if the first page is requested
+     */
+    public String getSkipToken() {
+        return skipToken;
+    }
+
+    /**
+     * Returns the maximum number of entities per page, in case the result should be paged.
+     *
+     * @return the maximum page size or null, if no paging was requested
+     */
+    public Integer getMaxPageSize() {
+        return maxPageSize;
+    }
+
+    /**
+     * Returns the {@code $expand} system query option.
+     *
+     * @return the expand option or null, if no expansion was requested
+     */
+    public ExpandOption getExpand() {
+        return expand;
+    }
+
+    /**
+     * Returns if the total count of entities was requested using the {@code $count=true} system query option. In case
+     * an entity verticle handles the {@code $skip} or {@code $top} system query option, it must also report the total
+     * count of entities using {@link #setCount(DataContext, long)}.
+     *
+     * @return true if the count was requested
+     */
+    public boolean isCountRequested() {
+        return countRequested;
+    }
+
+    /**
+     * Returns if only the count of entities was requested, using the {@code /$count} path segment. An entity verticle
+     * handling the {@link Option#COUNT count} then only has to report the count using
+     * {@link #setCount(DataContext, long)} and does not need to return any entities.
+     *
+     * @return true if only the count was requested
+     */
+    public boolean isCountOnly() {
+        return countOnly;
+    }
+
+    /**
+     * Returns all system query options, which were requested.
+     *
+     * @return the requested options
+     */
+    public Set<Option> getRequested() {
+        Set<Option> requested = EnumSet.noneOf(Option.class);
+        if (filter != null) {
+            requested.add(Option.FILTER);
+        }
+        if (!orderBy.isEmpty() || !orderByPropertiesOnly) {
+            requested.add(Option.ORDER_BY);
+        }
+        if (skip != null) {
+            requested.add(Option.SKIP);
+        }
+        if (top != null) {
+            requested.add(Option.TOP);
+        }
+        if (skipToken != null || maxPageSize != null) {
+            requested.add(Option.SKIP_TOKEN);
+        }
+        if (expand != null) {
+            requested.add(Option.EXPAND);
+        }
+        if (countRequested || countOnly) {
+            requested.add(Option.COUNT);
+        }
+        return requested;
+    }
+
+    /**
+     * Determines the requested options, which an entity verticle supporting the given options is able to handle. As
+     * NeonBee applies the options not handled by the entity verticle in order, an option can only be handled, if all
+     * preceding options requested can be handled as well. Ordering can only be handled, if all order keys refer to
+     * properties. Counting can only be handled, if filtering is handled as well.
+     *
+     * @param supported the options supported by the entity verticle
+     * @return the options to handle by the entity verticle
+     */
+    public Set<Option> pushDown(Set<Option> supported) {
+        Set<Option> requested = getRequested();
+        Set<Option> pushDown = EnumSet.noneOf(Option.class);
+        for (Option option : List.of(Option.FILTER, Option.ORDER_BY, Option.SKIP, Option.TOP, Option.SKIP_TOKEN)) {
+            if (!requested.contains(option)) {
+                continue;
+            } else if (!supported.contains(option) || (option == Option.ORDER_BY && !orderByPropertiesOnly)) {
+                break;
+            }
+            pushDown.add(option);
+        }
+        if (requested.contains(Option.EXPAND) && supported.contains(Option.EXPAND)) {
+            pushDown.add(Option.EXPAND);
+        }
+        if (requested.contains(Option.COUNT) && supported.contains(Option.COUNT)
+                && (filter == null || pushDown.contains(Option.FILTER))) {
+            pushDown.add(Option.COUNT);
+        }
+        return pushDown;
+    }
+
+    /**
+     * Reports the options handled by the entity verticle, so that NeonBee does not apply them again. A handled
+     * {@link Option#COUNT count} is reported using {@link #setCount(DataContext, long)} instead.
+     *
+     * @param context the data context of the request
+     * @param handled the options handled by the entity verticle
+     */
+    public void markHandled(DataContext context, Set<Option> handled) {
+        for (Option option : handled) {
+            if (option == Option.COUNT) {
+                continue;
+            }
+            context.responseData().put(option.getResponseHint(), Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Reports the total count of entities matching the request, ignoring any {@code $skip} and {@code $top} system
+     * query option. Reporting the count signals NeonBee that the {@link Option#COUNT count} was handled.
+     *
+     * @param context the data context of the request
+     * @param count   the total count of entities
+     */
+    public static void setCount(DataContext context, long count) {
+        context.responseData().put(ODATA_COUNT_KEY, count);
+    }
+
+    /**
+     * Reports the skip token of the next page, in case the entity verticle handles paging and further entities are
+     * available. The skip token is opaque to NeonBee and passed to the entity verticle, when the next page is
+     * requested. If no skip token is reported, the current page is considered to be the last page.
+     *
+     * @param context   the data context of the request
+     * @param skipToken the skip token of the next page
+     */
+    public static void setNextSkipToken(DataContext context, String skipToken) {
+        context.responseData().put(ODATA_NEXT_SKIP_TOKEN_KEY, skipToken);
+    }
+
+    private static String propertyPathOf(Expression expression) {
+        if (!(expression instanceof Member)) {
+            return null;
+        }
+
+        List<UriResource> parts = ((Member) expression).getResourcePath().getUriResourceParts();
+        if (parts.isEmpty() || !parts.stream().allMatch(UriResourceProperty.class::isInstance)) {
+            return null;
+        }
+        return parts.stream().map(UriResourceProperty.class::cast).map(part -> part.getProperty().getName())
+                .collect(Collectors.joining("/"));
+    }
+
+    @Override
+    public String toString() {
+        return "EntityQueryOptions [filter=" + filter + ", orderBy=" + orderBy + ", skip=" + skip + ", top=" + top
+                + ", skipToken=" + skipToken + ", maxPageSize=" + maxPageSize + ", expand=" + (expand != null)
+                + ", count=" + countRequested + ", countOnly=" + countOnly + "]";
+    }
+}
@@ -8,6 +8,9 @@ import static io.neonbee.internal.verticle.ConsolidationVerticle.ENTITY_TYPE_NAM
 import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -15,11 +18,17 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import org.apache.olingo.commons.api.edm.Edm;
+import org.apache.olingo.commons.api.edm.EdmEntityContainer;
 import org.apache.olingo.commons.api.edm.FullQualifiedName;
+import org.apache.olingo.commons.api.http.HttpHeader;
 import org.apache.olingo.server.api.uri.UriInfo;
+import org.apache.olingo.server.api.uri.UriResourceEntitySet;
 import org.apache.olingo.server.core.uri.parser.Parser;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 import io.neonbee.NeonBee;
 import io.neonbee.data.DataContext;
@@ -86,6 +95,19 @@ public abstract class EntityVerticle extends DataVerticle<EntityWrapper> {
     static final Pattern URI_PATH_PATTERN =
             Pattern.compile("^/*((?:(.*)\\.)?(.*?))/(([A-Za-z_]\\w+).*?)(?:(?<=\\))/(.*))?$");
 
+    @VisibleForTesting
+    static final int PARSED_URI_INFOS_MAXIMUM_SIZE = 1024;
+
+    /**
+     * Parsing the URI of a query is expensive and entity verticles are usually queried with the same few URIs, thus
+     * parsed URI infos are cached by the identity of the EDM (its entity container), the entity path and the query.
+     * As the cached URI infos hold strong references to the EDM, the URI infos of previous models are invalidated
+     * whenever models are reloaded, see {@link #invalidateParsedUriInfos(Collection)}.
+     */
+    @VisibleForTesting
+    static final Cache<List<Object>, UriInfo> PARSED_URI_INFOS =
+            CacheBuilder.newBuilder().maximumSize(PARSED_URI_INFOS_MAXIMUM_SIZE).build();
+
     private static final LoggingFacade LOGGER = LoggingFacade.create();
 
     /**
@@ -175,11 +197,86 @@ public abstract class EntityVerticle extends DataVerticle<EntityWrapper> {
         }
 
         String serviceName = uriMatcher.group(SERVICE_NAMESPACE_GROUP);
+        String entityPath = uriMatcher.group(ENTITY_PATH_GROUP);
+        String queryString = query.getQuery();
         return neonBee.getModelManager().getSharedModel(EntityModelDefinition.retrieveNamespace(serviceName))
-                .compose(entityModel -> AsyncHelper.executeBlocking(neonBee.getVertx(), () -> {
-                    return new Parser(entityModel.getEdmxMetadata(serviceName).getEdm(), getBufferedOData())
-                            .parseUri(uriMatcher.group(ENTITY_PATH_GROUP), query.getQuery(), EMPTY, EMPTY);
-                }));
+                .compose(entityModel -> {
+                    Edm edm = entityModel.getEdmxMetadata(serviceName).getEdm();
+                    List<Object> key = List.of(edm.getEntityContainer(), entityPath, queryString);
+                    UriInfo uriInfo = PARSED_URI_INFOS.getIfPresent(key);
+                    if (uriInfo != null) {
+                        return succeededFuture(uriInfo);
+                    }
+
+                    return AsyncHelper.executeBlocking(neonBee.getVertx(), () -> {
+                        UriInfo parsedUriInfo =
+                                new Parser(edm, getBufferedOData()).parseUri(entityPath, queryString, EMPTY, EMPTY);
+                        PARSED_URI_INFOS.put(key, parsedUriInfo);
+                        return parsedUriInfo;
+                    });
+                });
+    }
+
+    /**
+     * Attaches the already parsed UriInfo to a given DataQuery, so that entity verticles on this node don't have to
+     * parse the URI of the query again, when calling {@link #parseUriInfo(DataQuery)}. The UriInfo must be the result
+     * of parsing the URI path and query of the given DataQuery with the EDM of the service.
+     *
+     * @param query   the DataQuery to attach the UriInfo to
+     * @param uriInfo the UriInfo parsed from the query
+     */
+    public static void attachUriInfo(DataQuery query, UriInfo uriInfo) {
+        Matcher uriMatcher = URI_PATH_PATTERN.matcher(query.getUriPath());
+        if (!uriMatcher.find() || uriInfo.getUriResourceParts().isEmpty()
+                || !(uriInfo.getUriResourceParts().get(0) instanceof UriResourceEntitySet)) {
+            return;
+        }
+
+        EdmEntityContainer entityContainer =
+                ((UriResourceEntitySet) uriInfo.getUriResourceParts().get(0)).getEntitySet().getEntityContainer();
+        PARSED_URI_INFOS.put(List.of(entityContainer, uriMatcher.group(ENTITY_PATH_GROUP), query.getQuery()),
+                uriInfo);
+    }
+
+    /**
+     * Invalidates all parsed URI infos of the given (previous) entity models. Parsed URI infos of any other models,
+     * e.g. the models of other NeonBee instances, stay untouched.
+     *
+     * @param models the entity models to invalidate the parsed URI infos for
+     */
+    static void invalidateParsedUriInfos(Collection<EntityModel> models) {
+        Set<EdmEntityContainer> entityContainers = Collections.newSetFromMap(new IdentityHashMap<>());
+        models.forEach(model -> model.getAllEdmxMetadata().values()
+                .forEach(metadata -> entityContainers.add(metadata.getEdm().getEntityContainer())));
+        PARSED_URI_INFOS.asMap().keySet().removeIf(key -> entityContainers.contains(key.get(0)));
+    }
+
+    /**
+     * Parses the system query options of a given DataQuery, so that they can be handled by this entity verticle. The
+     * maximum page size is taken from the {@code odata.maxpagesize} preference of the {@code Prefer} header.
+     *
+     * @see EntityQueryOptions#pushDown(Set)
+     * @param query the DataQuery to parse
+     * @return a future to the query options of the given DataQuery
+     */
+    protected Future<EntityQueryOptions> parseQueryOptions(DataQuery query) {
+        List<String> preferHeaders = query.getHeaders().entrySet().stream()
+                .filter(header -> HttpHeader.PREFER.equalsIgnoreCase(header.getKey()))
+                .flatMap(header -> header.getValue().stream()).collect(Collectors.toList());
+        Integer maxPageSize = preferHeaders.isEmpty() ? null
+                : getBufferedOData().createPreferences(preferHeaders).getMaxPageSize();
+        return parseUriInfo(query).map(uriInfo -> EntityQueryOptions.of(uriInfo, maxPageSize));
+    }
+
+    /**
+     * Returns the system query options, which this entity verticle is able to handle itself, e.g. by pushing them down
+     * to its backend. By default, no options are supported, so that NeonBee applies all options to the entities
+     * returned by this verticle.
+     *
+     * @return the supported query options
+     */
+    protected Set<EntityQueryOptions.Option> getSupportedQueryOptions() {
+        return Set.of();
     }
 
     /**
@@ -4,10 +4,15 @@ import static io.neonbee.internal.helper.CollectionHelper.mutableCopyOf;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.apache.olingo.commons.api.data.ComplexValue;
 import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
 import org.apache.olingo.commons.api.edm.FullQualifiedName;
 
 import io.neonbee.internal.codec.EntityWrapperMessageCodec;
@@ -19,6 +24,8 @@ public class EntityWrapper {
 
     private List<Entity> entities;
 
+    private Stream<Entity> entityStream;
+
     /**
      * EntityWrapper for one entity and its type.
      *
@@ -60,6 +67,34 @@ public class EntityWrapper {
         this.entities = mutableCopyOf(entities);
     }
 
+    /**
+     * EntityWrapper for a stream of entities and its type.
+     *
+     * @param typeNamespaceAndName The full qualified namespace and name of the type
+     * @param entities             A stream of entities
+     * @see #EntityWrapper(FullQualifiedName, Stream)
+     */
+    public EntityWrapper(String typeNamespaceAndName, Stream<Entity> entities) {
+        this(new FullQualifiedName(typeNamespaceAndName), entities);
+    }
+
+    /**
+     * EntityWrapper for a stream of entities and its type.
+     * <p>
+     * The stream is consumed lazily, which allows entity verticles to produce entities incrementally, e.g. from a
+     * database cursor. In case the entity wrapper is delivered locally, consumers which process the entities using
+     * {@link #getEntityStream()} are able to filter and page the entities, without ever holding all entities in memory.
+     * Calling {@link #getEntities()} or sending the entity wrapper to another node, materializes the stream into a
+     * list.
+     *
+     * @param typeName The full qualified type name
+     * @param entities A stream of entities
+     */
+    public EntityWrapper(FullQualifiedName typeName, Stream<Entity> entities) {
+        this.typeName = typeName;
+        this.entityStream = entities != null ? entities : Stream.empty();
+    }
+
     /**
      * Returns the full qualified type name of the entiteis in this entity wrapper.
      *
@@ -75,21 +110,126 @@ public class EntityWrapper {
      * @return the first entity, or null in case there is none
      */
     public Entity getEntity() {
-        return entities.stream().findFirst().orElse(null);
+        return getEntities().stream().findFirst().orElse(null);
     }
 
     /**
-     * Returns a list of entities of this entity wrapper.
+     * Returns a list of entities of this entity wrapper. In case this entity wrapper is backed by a stream of entities,
+     * the stream is consumed and materialized into a list.
      *
      * @return a list of entities
+     * @throws IllegalStateException in case the stream of entities was already consumed using
+     *                               {@link #getEntityStream()}
      */
     public List<Entity> getEntities() {
+        if (entities == null) {
+            entities = consumeEntityStream().collect(Collectors.toCollection(ArrayList::new));
+        }
         return entities;
     }
 
+    /**
+     * Returns a stream of the entities of this entity wrapper. In case this entity wrapper is backed by a stream of
+     * entities, which was not materialized yet, the stream of entities can only be retrieved once.
+     *
+     * @return a stream of entities
+     * @throws IllegalStateException in case the stream of entities was already consumed
+     */
+    public Stream<Entity> getEntityStream() {
+        return entities != null ? entities.stream() : consumeEntityStream();
+    }
+
+    private Stream<Entity> consumeEntityStream() {
+        if (entityStream == null) {
+            throw new IllegalStateException("The stream of entities of the entity wrapper was already consumed");
+        }
+
+        Stream<Entity> stream = entityStream;
+        entityStream = null;
+        return stream;
+    }
+
+    /**
+     * Creates a copy of this entity wrapper, which can be modified (e.g. sorted or expanded) without affecting this
+     * entity wrapper. The entities and their properties are copied, property values other than complex values and
+     * collections are shared, as they are expected to be immutable.
+     *
+     * @return a copy of this entity wrapper
+     */
+    public EntityWrapper copy() {
+        return new EntityWrapper(typeName,
+                getEntities().stream().map(EntityWrapper::copyOf).collect(Collectors.toCollection(ArrayList::new)));
+    }
+
+    private static Entity copyOf(Entity entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        Entity copy = new Entity();
+        copy.setId(entity.getId());
+        copy.setBaseURI(entity.getBaseURI());
+        copy.setType(entity.getType());
+        copy.setETag(entity.getETag());
+        copy.setSelfLink(entity.getSelfLink());
+        copy.setEditLink(entity.getEditLink());
+        copy.setMediaContentSource(entity.getMediaContentSource());
+        copy.setMediaContentType(entity.getMediaContentType());
+        copy.setMediaETag(entity.getMediaETag());
+        entity.getProperties().stream().map(EntityWrapper::copyOf).forEach(copy.getProperties()::add);
+        copy.getNavigationLinks().addAll(entity.getNavigationLinks());
+        copy.getAssociationLinks().addAll(entity.getAssociationLinks());
+        copy.getNavigationBindings().addAll(entity.getNavigationBindings());
+        copy.getMediaEditLinks().addAll(entity.getMediaEditLinks());
+        copy.getOperations().addAll(entity.getOperations());
+        copy.getAnnotations().addAll(entity.getAnnotations());
+        return copy;
+    }
+
+    private static Property copyOf(Property property) {
+        Property copy = new Property(property.getType(), property.getName(), property.getValueType(),
+                copyOfValue(property.getValue()));
+        copy.getAnnotations().addAll(property.getAnnotations());
+        return copy;
+    }
+
+    private static Object copyOfValue(Object value) {
+        if (value instanceof ComplexValue) {
+            ComplexValue complexValue = (ComplexValue) value;
+            ComplexValue copy = new ComplexValue();
+            copy.setTypeName(complexValue.getTypeName());
+            complexValue.getValue().stream().map(EntityWrapper::copyOf).forEach(copy.getValue()::add);
+            copy.getNavigationLinks().addAll(complexValue.getNavigationLinks());
+            copy.getAssociationLinks().addAll(complexValue.getAssociationLinks());
+            copy.getAnnotations().addAll(complexValue.getAnnotations());
+            return copy;
+        } else if (value instanceof List) {
+            return ((List<?>) value).stream().map(EntityWrapper::copyOfValue)
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+        return value;
+    }
+
+    /**
+     * Returns the entities to compare this entity wrapper by. In case this entity wrapper is backed by a stream of
+     * entities, which was not consumed yet, the stream is materialized into a list, same as {@link #getEntities()}.
+     *
+     * @return the list of entities, or null in case the stream of entities was already consumed
+     */
+    private List<Entity> comparableEntities() {
+        return entities != null || entityStream != null ? getEntities() : null;
+    }
+
+    /**
+     * Entity wrappers are compared by their type name and their entities. Note that an entity wrapper, whose stream of
+     * entities was already consumed using {@link #getEntityStream()}, has no entities to compare by anymore, thus it is
+     * only equal to itself. As an entity wrapper, which was compared or hashed before, has materialized its entities,
+     * the hash code of an entity wrapper never changes.
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(entities, typeName);
+        List<Entity> comparableEntities = comparableEntities();
+        return comparableEntities != null ? Objects.hash(comparableEntities, typeName) : System.identityHashCode(this);
     }
 
     @Override
@@ -101,20 +241,23 @@ public class EntityWrapper {
         }
 
         EntityWrapper other = (EntityWrapper) obj;
-        return Objects.equals(entities, other.entities) && Objects.equals(typeName, other.typeName);
+        List<Entity> comparableEntities = comparableEntities();
+        return comparableEntities != null && comparableEntities.equals(other.comparableEntities())
+                && Objects.equals(typeName, other.typeName);
     }
 
     /**
      * Converts an {@link EntityWrapper} to a {@link Buffer}.
      *
      * A Vertx instance with loaded schema description for the entity must be provided to this method, since the schema
-     * metadata is required during the serialization (conversion to buffer) process.
+     * metadata is required during the serialization (conversion to buffer) process. The buffer is used as body of
+     * data queries, thus it is always in the JSON format, independent of the wire format used on the event bus.
      *
      * @param vertx vertx, in which the schemas are loaded
      * @return a buffer representation of entity wrapper
      */
     public Buffer toBuffer(Vertx vertx) {
-        EntityWrapperMessageCodec codec = new EntityWrapperMessageCodec(vertx);
+        EntityWrapperMessageCodec codec = new EntityWrapperMessageCodec(vertx, true);
         Buffer buffer = Buffer.buffer();
         codec.encodeToWire(buffer, this);
         return buffer;
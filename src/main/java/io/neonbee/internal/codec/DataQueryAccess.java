@@ -0,0 +1,87 @@
+package io.neonbee.internal.codec;
+
+import java.util.List;
+import java.util.Map;
+
+import io.neonbee.data.DataAction;
+import io.neonbee.data.DataQuery;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Grants the {@link DataQueryMessageCodec} access to the package-private constructor of {@link DataQuery}, which takes
+ * ownership of the given parameters, headers and body, instead of copying them like all public constructors and
+ * setters do. Objects decoded from the wire are not referenced anywhere else, thus copying them would be wasted effort.
+ * The constructor is registered by {@link DataQuery} when it is initialized, so that it does not become public API.
+ */
+public final class DataQueryAccess {
+    private static Factory factory;
+
+    /**
+     * This helper class cannot be instantiated.
+     */
+    private DataQueryAccess() {}
+
+    /**
+     * Registers the constructor of {@link DataQuery} taking ownership of the given objects. Can only be called once,
+     * by {@link DataQuery} itself.
+     *
+     * @param factory the factory creating data queries
+     */
+    public static void register(Factory factory) {
+        if (DataQueryAccess.factory != null) {
+            throw new IllegalStateException("The data query factory has already been registered");
+        }
+        DataQueryAccess.factory = factory;
+    }
+
+    /**
+     * Creates a new DataQuery, which takes ownership of the given parameters, headers and body.
+     *
+     * @param action     The action to perform
+     * @param uriPath    The URI path to request
+     * @param parameters The mutable parameters of the query or null
+     * @param headers    The mutable headers of the query or null
+     * @param body       The body of the query
+     * @return a new DataQuery wrapping the given objects
+     */
+    static DataQuery wrap(DataAction action, String uriPath, Map<String, List<String>> parameters,
+            Map<String, List<String>> headers, Buffer body) {
+        return FactoryHolder.FACTORY.create(action, uriPath, parameters, headers, body);
+    }
+
+    /**
+     * Initializes the DataQuery class before the registered factory is first used. Class initialization guarantees that
+     * every thread sees the factory, even if the DataQuery class is initialized on another thread at the same time.
+     */
+    private static final class FactoryHolder {
+        static final Factory FACTORY;
+
+        static {
+            try {
+                Class.forName(DataQuery.class.getName(), true, DataQuery.class.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+            FACTORY = factory;
+        }
+    }
+
+    /**
+     * Creates a DataQuery taking ownership of the given objects.
+     */
+    @FunctionalInterface
+    public interface Factory {
+        /**
+         * Creates a new DataQuery, which takes ownership of the given parameters, headers and body.
+         *
+         * @param action     The action to perform
+         * @param uriPath    The URI path to request
+         * @param parameters The mutable parameters of the query or null
+         * @param headers    The mutable headers of the query or null
+         * @param body       The body of the query
+         * @return a new DataQuery wrapping the given objects
+         */
+        DataQuery create(DataAction action, String uriPath, Map<String, List<String>> parameters,
+                Map<String, List<String>> headers, Buffer body);
+    }
+}
@@ -1,21 +1,81 @@
 package io.neonbee.internal.codec;
 
+import static io.neonbee.internal.codec.WireHelper.appendBuffer;
+import static io.neonbee.internal.codec.WireHelper.appendMultiMap;
+import static io.neonbee.internal.codec.WireHelper.appendString;
+
+import io.neonbee.data.DataAction;
 import io.neonbee.data.DataQuery;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.MessageCodec;
 import io.vertx.core.json.JsonObject;
 
+/**
+ * Encodes a {@link DataQuery} into a compact, versioned binary format, writing the action, URI path, parameters,
+ * headers and the raw body bytes length-prefixed.
+ * <p>
+ * Older versions of NeonBee encoded a {@link DataQuery} as length-prefixed JSON. As the length of a JSON object is
+ * never negative, the binary format is introduced by a negative version marker, so that both formats can be told apart
+ * when decoding. This codec is always able to decode both formats, in order to support clusters with nodes on
+ * different NeonBee versions. As older nodes are only able to decode the JSON format, the codec can be created to
+ * keep encoding in the JSON format, until all nodes of a cluster have been upgraded.
+ */
 public class DataQueryMessageCodec implements MessageCodec<DataQuery, DataQuery> {
+    /**
+     * The marker of the binary wire format in version 1.
+     */
+    static final int BINARY_FORMAT_V1 = -1;
+
+    private final boolean jsonWireFormat;
+
+    /**
+     * Creates a new codec, encoding data queries in the binary wire format.
+     */
+    public DataQueryMessageCodec() {
+        this(false);
+    }
+
+    /**
+     * Creates a new codec.
+     *
+     * @param jsonWireFormat if true, data queries will be encoded in the JSON wire format of previous NeonBee versions
+     */
+    public DataQueryMessageCodec(boolean jsonWireFormat) {
+        this.jsonWireFormat = jsonWireFormat;
+    }
+
     @Override
     public void encodeToWire(Buffer buffer, DataQuery query) {
-        JsonObject.mapFrom(query).writeToBuffer(buffer);
+        if (jsonWireFormat) {
+            JsonObject.mapFrom(query).writeToBuffer(buffer);
+            return;
+        }
+
+        buffer.appendInt(BINARY_FORMAT_V1);
+        appendString(buffer, query.getAction() != null ? query.getAction().name() : null);
+        appendString(buffer, query.getUriPath());
+        appendMultiMap(buffer, query.getParameters());
+        appendMultiMap(buffer, query.getHeaders());
+        appendBuffer(buffer, query.getBody());
     }
 
     @Override
     public DataQuery decodeFromWire(int position, Buffer buffer) {
-        JsonObject jsonObject = new JsonObject();
-        jsonObject.readFromBuffer(position, buffer);
-        return jsonObject.mapTo(DataQuery.class);
+        int marker = buffer.getInt(position);
+        if (marker >= 0) {
+            // the marker is the length of the JSON object, written by a node using the JSON wire format
+            JsonObject jsonObject = new JsonObject();
+            jsonObject.readFromBuffer(position, buffer);
+            return jsonObject.mapTo(DataQuery.class);
+        } else if (marker != BINARY_FORMAT_V1) {
+            throw new IllegalStateException("Unsupported wire format version " + -marker + " of data query");
+        }
+
+        // the decoded maps and buffers are not referenced anywhere else, so the query can take ownership of them
+        WireHelper.Reader reader = new WireHelper.Reader(buffer, position + Integer.BYTES);
+        String action = reader.readString();
+        return DataQueryAccess.wrap(action != null ? DataAction.valueOf(action) : null, reader.readString(),
+                reader.readMultiMap(), reader.readMultiMap(), reader.readBuffer());
     }
 
     @Override
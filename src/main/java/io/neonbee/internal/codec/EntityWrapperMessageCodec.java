@@ -1,18 +1,43 @@
 package io.neonbee.internal.codec;
 
 import static io.neonbee.entity.EntityModelManager.getBufferedOData;
+import static io.neonbee.internal.codec.WireHelper.appendBytes;
+import static io.neonbee.internal.codec.WireHelper.appendString;
 import static org.apache.olingo.commons.api.format.ContentType.APPLICATION_JSON;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.apache.olingo.commons.api.data.ComplexValue;
 import org.apache.olingo.commons.api.data.ContextURL;
+import org.apache.olingo.commons.api.data.Entity;
 import org.apache.olingo.commons.api.data.EntityCollection;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
+import org.apache.olingo.commons.api.edm.EdmComplexType;
 import org.apache.olingo.commons.api.edm.EdmEntitySet;
 import org.apache.olingo.commons.api.edm.EdmEntityType;
+import org.apache.olingo.commons.api.edm.EdmEnumType;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveType;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveTypeException;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveTypeKind;
+import org.apache.olingo.commons.api.edm.EdmProperty;
+import org.apache.olingo.commons.api.edm.EdmStructuredType;
+import org.apache.olingo.commons.api.edm.EdmType;
+import org.apache.olingo.commons.api.edm.EdmTypeDefinition;
 import org.apache.olingo.commons.api.edm.FullQualifiedName;
+import org.apache.olingo.commons.api.edm.constants.EdmTypeKind;
 import org.apache.olingo.server.api.ServiceMetadata;
 import org.apache.olingo.server.api.deserializer.DeserializerException;
 import org.apache.olingo.server.api.deserializer.DeserializerResult;
@@ -24,7 +49,10 @@ import org.apache.olingo.server.api.serializer.SerializerResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.annotations.VisibleForTesting;
+
 import io.neonbee.NeonBee;
+import io.neonbee.entity.EntityModel;
 import io.neonbee.entity.EntityModelDefinition;
 import io.neonbee.entity.EntityWrapper;
 import io.vertx.core.Vertx;
@@ -32,7 +60,37 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.MessageCodec;
 import io.vertx.core.json.JsonObject;
 
+/**
+ * Encodes an {@link EntityWrapper} into a compact, versioned binary format. The properties of every entity are written
+ * in the order of the properties of the entity type in the EDM, so no property names have to be transferred, and the
+ * values of the primitive types are written in their binary representation.
+ * <p>
+ * Older versions of NeonBee encoded an {@link EntityWrapper} as JSON object, containing the entities serialized as
+ * OData JSON string. Same as for the {@link DataQueryMessageCodec}, the binary format is introduced by a negative
+ * version marker, so this codec is always able to decode both formats and can be created to keep encoding in the JSON
+ * format, until all nodes of a cluster have been upgraded.
+ */
 public class EntityWrapperMessageCodec implements MessageCodec<EntityWrapper, EntityWrapper> {
+    /**
+     * The marker of the binary wire format in version 1.
+     */
+    static final int BINARY_FORMAT_V1 = -1;
+
+    /**
+     * Tag of a null value (or a property missing in the entity).
+     */
+    private static final byte NULL_VALUE = 0;
+
+    /**
+     * Tag of a value written in its binary representation.
+     */
+    private static final byte BINARY_VALUE = 1;
+
+    /**
+     * Tag of a value written in its OData literal form, for all types and values without binary representation.
+     */
+    private static final byte LITERAL_VALUE = 2;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
     private static final String ENTITY = "entity";
@@ -45,29 +103,72 @@ public class EntityWrapperMessageCodec implements MessageCodec<EntityWrapper, En
 
     private final Vertx vertx;
 
+    private final boolean jsonWireFormat;
+
     /**
-     * Creates a new EntityWrapperMessageCodec.
+     * The EDM artifacts of the entity types encoded / decoded by this codec. The map is replaced whenever the cache is
+     * cleared, so that artifacts resolved from outdated models concurrently to clearing the cache are discarded.
+     */
+    private volatile Map<FullQualifiedName, EntityTypeArtifacts> entityTypeArtifacts = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new EntityWrapperMessageCodec, encoding entity wrappers in the binary wire format.
      *
      * @param vertx a Vert.x instance required to get the buffered model
      */
     public EntityWrapperMessageCodec(Vertx vertx) {
+        this(vertx, false);
+    }
+
+    /**
+     * Creates a new EntityWrapperMessageCodec.
+     *
+     * @param vertx          a Vert.x instance required to get the buffered model
+     * @param jsonWireFormat if true, entity wrappers will be encoded in the JSON wire format of previous NeonBee
+     *                       versions
+     */
+    public EntityWrapperMessageCodec(Vertx vertx, boolean jsonWireFormat) {
         this.vertx = vertx;
+        this.jsonWireFormat = jsonWireFormat;
+    }
+
+    /**
+     * Clears the EDM artifacts of the entity types cached by this codec. The cache has to be cleared whenever the
+     * models are reloaded.
+     */
+    public void clearCache() {
+        entityTypeArtifacts = new ConcurrentHashMap<>();
     }
 
     @Override
     public void encodeToWire(Buffer buffer, EntityWrapper entityWrapper) {
         FullQualifiedName entityTypeName = entityWrapper.getTypeName();
-        ServiceMetadata serviceMetadata = getServiceMetadata(entityTypeName);
-        if (serviceMetadata == null) {
-            throw new IllegalStateException("Service metadata was not loaded yet for " + entityWrapper.getTypeName());
+        EntityTypeArtifacts artifacts = getEntityTypeArtifacts(entityTypeName);
+        if (jsonWireFormat) {
+            encodeJson(buffer, entityWrapper, artifacts);
+            return;
         }
-        EdmEntityType entityType = serviceMetadata.getEdm().getEntityType(entityTypeName);
-        EdmEntitySet entitySet = serviceMetadata.getEdm().getEntityContainer().getEntitySet(entityTypeName.getName());
-        ContextURL contextUrl = ContextURL.with().entitySet(entitySet).build();
-        EntityCollectionSerializerOptions.Builder optionsBuilder =
-                EntityCollectionSerializerOptions.with().contextURL(contextUrl);
-        EntityCollectionSerializerOptions options = optionsBuilder.build();
 
+        EdmEntityType entityType = artifacts.entityType;
+        try {
+            buffer.appendInt(BINARY_FORMAT_V1);
+            appendString(buffer, entityTypeName.getNamespace());
+            appendString(buffer, entityTypeName.getName());
+
+            List<Entity> entities = entityWrapper.getEntities();
+            buffer.appendInt(entities.size());
+            for (Entity entity : entities) {
+                appendString(buffer, entity.getETag());
+                appendProperties(buffer, entityType, entity.getProperties());
+            }
+        } catch (EdmPrimitiveTypeException e) {
+            LOGGER.warn("Error while serializing entity wrapper.", e);
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void encodeJson(Buffer buffer, EntityWrapper entityWrapper, EntityTypeArtifacts artifacts) {
+        FullQualifiedName entityTypeName = entityWrapper.getTypeName();
         try {
             EntityCollection entityCollection = new EntityCollection();
             entityCollection.getEntities().addAll(entityWrapper.getEntities());
@@ -75,7 +176,8 @@ public class EntityWrapperMessageCodec implements MessageCodec<EntityWrapper, En
                     new JsonObject().put(NAMESPACE, entityTypeName.getNamespace()).put(NAME, entityTypeName.getName()));
             ODataSerializer odataSerializer = getBufferedOData().createSerializer(APPLICATION_JSON);
             SerializerResult odataSerializerResult =
-                    odataSerializer.entityCollection(serviceMetadata, entityType, entityCollection, options);
+                    odataSerializer.entityCollection(artifacts.serviceMetadata, artifacts.entityType, entityCollection,
+                            artifacts.getSerializerOptions());
             json.put(ENTITY, Buffer.buffer(odataSerializerResult.getContent().readAllBytes()).toString());
             buffer.appendString(json.toString());
         } catch (SerializerException | IOException e) {
@@ -84,26 +186,230 @@ public class EntityWrapperMessageCodec implements MessageCodec<EntityWrapper, En
         }
     }
 
+    private static void appendProperties(Buffer buffer, EdmStructuredType structuredType, List<Property> properties)
+            throws EdmPrimitiveTypeException {
+        // index the properties once, instead of searching them for every property of the structured type
+        Map<String, Property> propertiesByName = new HashMap<>(properties.size() * 2);
+        for (Property property : properties) {
+            propertiesByName.putIfAbsent(property.getName(), property);
+        }
+
+        for (String propertyName : structuredType.getPropertyNames()) {
+            EdmProperty edmProperty = structuredType.getStructuralProperty(propertyName);
+            Property property = propertiesByName.get(propertyName);
+            Object value = property != null ? property.getValue() : null;
+
+            if (value == null && Boolean.FALSE.equals(edmProperty.isNullable())) {
+                // same as the Olingo serializer, refuse to encode entities missing a non-nullable property
+                throw new IllegalStateException("Missing value of non-nullable property " + propertyName);
+            }
+
+            if (edmProperty.isCollection()) {
+                // null collections are encoded as empty collections, same as in the JSON format
+                Collection<?> values = value != null ? (Collection<?>) value : List.of();
+                buffer.appendInt(values.size());
+                for (Object item : values) {
+                    appendValue(buffer, edmProperty, item);
+                }
+            } else {
+                appendValue(buffer, edmProperty, value);
+            }
+        }
+    }
+
+    private static void appendValue(Buffer buffer, EdmProperty edmProperty, Object value)
+            throws EdmPrimitiveTypeException {
+        if (value == null) {
+            buffer.appendByte(NULL_VALUE);
+            return;
+        }
+
+        EdmType type = edmProperty.getType();
+        if (type.getKind() == EdmTypeKind.COMPLEX) {
+            buffer.appendByte(BINARY_VALUE);
+            appendProperties(buffer, (EdmComplexType) type, ((ComplexValue) value).getValue());
+        } else if (!appendBinaryValue(buffer, primitiveTypeKind(type), value)) {
+            buffer.appendByte(LITERAL_VALUE);
+            appendString(buffer, ((EdmPrimitiveType) type).valueToString(value, edmProperty.isNullable(),
+                    edmProperty.getMaxLength(), edmProperty.getPrecision(), edmProperty.getScale(),
+                    edmProperty.isUnicode()));
+        }
+    }
+
+    /**
+     * Appends the binary representation of a primitive value, in case the value is of the default Java type (or a
+     * smaller type) of the given primitive type kind.
+     *
+     * @return true if the value was appended, false if the value has to be appended in its OData literal form
+     */
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    private static boolean appendBinaryValue(Buffer buffer, EdmPrimitiveTypeKind kind, Object value) {
+        if (kind == null) {
+            return false;
+        }
+
+        switch (kind) {
+        case Boolean:
+            if (!(value instanceof Boolean)) {
+                return false;
+            }
+            buffer.appendByte(BINARY_VALUE).appendByte((byte) ((Boolean) value ? 1 : 0));
+            return true;
+        case SByte:
+        case Byte:
+        case Int16:
+        case Int32:
+        case Int64:
+            if (!(value instanceof Byte || value instanceof Short || value instanceof Integer || value instanceof Long)
+                    || !inRange(kind, ((Number) value).longValue())) {
+                return false;
+            }
+            buffer.appendByte(BINARY_VALUE).appendLong(((Number) value).longValue());
+            return true;
+        case Single:
+            if (!(value instanceof Float)) {
+                return false;
+            }
+            buffer.appendByte(BINARY_VALUE).appendFloat((Float) value);
+            return true;
+        case Double:
+            if (!(value instanceof Double || value instanceof Float)) {
+                return false;
+            }
+            // widen floats by their decimal representation (0.1f to 0.1 instead of 0.10000000149...), same as the
+            // JSON format does
+            buffer.appendByte(BINARY_VALUE).appendDouble(value instanceof Float ? Double.parseDouble(value.toString())
+                    : (Double) value);
+            return true;
+        case Decimal:
+            if (!(value instanceof BigDecimal)) {
+                return false;
+            }
+            buffer.appendByte(BINARY_VALUE).appendInt(((BigDecimal) value).scale());
+            appendBytes(buffer, ((BigDecimal) value).unscaledValue().toByteArray());
+            return true;
+        case String:
+            if (!(value instanceof String)) {
+                return false;
+            }
+            buffer.appendByte(BINARY_VALUE);
+            appendString(buffer, (String) value);
+            return true;
+        case Guid:
+            if (!(value instanceof UUID)) {
+                return false;
+            }
+            buffer.appendByte(BINARY_VALUE).appendLong(((UUID) value).getMostSignificantBits())
+                    .appendLong(((UUID) value).getLeastSignificantBits());
+            return true;
+        case Binary:
+            if (!(value instanceof byte[])) {
+                return false;
+            }
+            buffer.appendByte(BINARY_VALUE);
+            appendBytes(buffer, (byte[]) value);
+            return true;
+        default:
+            // e.g. temporal types may be represented by many different Java types with different time zone semantics,
+            // so they are written in their OData literal form, to be decoded exactly the same as the JSON format
+            return false;
+        }
+    }
+
+    private static boolean inRange(EdmPrimitiveTypeKind kind, long value) {
+        switch (kind) {
+        case SByte:
+            return value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE;
+        case Byte:
+            return value >= 0 && value <= 255;
+        case Int16:
+            return value >= Short.MIN_VALUE && value <= Short.MAX_VALUE;
+        case Int32:
+            return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE;
+        default:
+            return true;
+        }
+    }
+
+    /**
+     * Returns the kind of a primitive type or type definition, or null in case of other types, e.g. enumerations.
+     */
+    private static EdmPrimitiveTypeKind primitiveTypeKind(EdmType type) {
+        if (type.getKind() == EdmTypeKind.DEFINITION) {
+            type = ((EdmTypeDefinition) type).getUnderlyingType();
+        }
+        return type.getKind() == EdmTypeKind.PRIMITIVE
+                ? EdmPrimitiveTypeKind.valueOfFQN(type.getFullQualifiedName())
+                : null;
+    }
+
+    private EntityTypeArtifacts getEntityTypeArtifacts(FullQualifiedName entityTypeName) {
+        EntityTypeArtifacts artifacts = entityTypeArtifacts.computeIfAbsent(entityTypeName, name -> {
+            ServiceMetadata serviceMetadata = getServiceMetadata(name);
+            return serviceMetadata != null ? new EntityTypeArtifacts(name, serviceMetadata) : null;
+        });
+        if (artifacts == null) {
+            throw new IllegalStateException("Service metadata was not loaded yet for " + entityTypeName);
+        } else if (artifacts.entityType == null) {
+            throw new IllegalStateException("Entity type " + entityTypeName + " is not defined in the service");
+        }
+        return artifacts;
+    }
+
+    @VisibleForTesting
+    EdmEntityType getEntityType(FullQualifiedName entityTypeName) {
+        return getEntityTypeArtifacts(entityTypeName).entityType;
+    }
+
     private ServiceMetadata getServiceMetadata(FullQualifiedName entityTypeName) {
-        return NeonBee.get(vertx).getModelManager()
-                .getBufferedModel(EntityModelDefinition.retrieveNamespace(entityTypeName.getNamespace()))
-                .getEdmxMetadata(entityTypeName.getNamespace());
+        EntityModel entityModel = NeonBee.get(vertx).getModelManager()
+                .getBufferedModel(EntityModelDefinition.retrieveNamespace(entityTypeName.getNamespace()));
+        return entityModel != null ? entityModel.getEdmxMetadata(entityTypeName.getNamespace()) : null;
     }
 
     @Override
     public EntityWrapper decodeFromWire(int position, Buffer buffer) {
+        int marker = buffer.getInt(position);
+        if (marker >= 0) {
+            // the first bytes are the beginning of the JSON object, written by a node using the JSON wire format
+            return decodeJson(position, buffer);
+        } else if (marker != BINARY_FORMAT_V1) {
+            throw new IllegalStateException("Unsupported wire format version " + -marker + " of entity wrapper");
+        }
+
+        WireHelper.Reader reader = new WireHelper.Reader(buffer, position + Integer.BYTES);
+        FullQualifiedName entityTypeName = new FullQualifiedName(reader.readString(), reader.readString());
+        EntityTypeArtifacts artifacts = getEntityTypeArtifacts(entityTypeName);
+        EdmEntityType entityType = artifacts.entityType;
+        try {
+            int size = reader.readInt();
+            List<Entity> entities = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                Entity entity = new Entity();
+                entity.setType(artifacts.entityTypeName);
+                entity.setETag(reader.readString());
+                readProperties(reader, entityType, entity.getProperties());
+                entities.add(entity);
+            }
+            return new EntityWrapper(entityTypeName, entities);
+        } catch (EdmPrimitiveTypeException e) {
+            LOGGER.warn("Error while deserializing entity wrapper.", e);
+            throw new RuntimeException(e);
+        }
+    }
+
+    private EntityWrapper decodeJson(int position, Buffer buffer) {
         JsonObject jsonObject = buffer.getBuffer(position, buffer.length()).toJsonObject();
         JsonObject entityTypeJsonObject = jsonObject.getJsonObject(ENTITY_TYPE);
         FullQualifiedName entityTypeName =
                 new FullQualifiedName(entityTypeJsonObject.getString(NAMESPACE), entityTypeJsonObject.getString(NAME));
-        ServiceMetadata serviceMetadata = getServiceMetadata(entityTypeName);
-        EdmEntityType entityType = serviceMetadata.getEdm().getEntityType(entityTypeName);
+        EntityTypeArtifacts artifacts = getEntityTypeArtifacts(entityTypeName);
         try {
             String payload = jsonObject.getString(ENTITY);
             ODataDeserializer odataDeserializer =
-                    getBufferedOData().createDeserializer(APPLICATION_JSON, serviceMetadata);
-            DeserializerResult odataDeserializerResult = odataDeserializer
-                    .entityCollection(new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8)), entityType);
+                    getBufferedOData().createDeserializer(APPLICATION_JSON, artifacts.serviceMetadata);
+            DeserializerResult odataDeserializerResult = odataDeserializer.entityCollection(
+                    new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8)), artifacts.entityType);
             return new EntityWrapper(entityTypeName, odataDeserializerResult.getEntityCollection().getEntities());
         } catch (DeserializerException e) {
             LOGGER.warn("Error while deserializing entity wrapper.", e);
@@ -111,6 +417,144 @@ public class EntityWrapperMessageCodec implements MessageCodec<EntityWrapper, En
         }
     }
 
+    private static void readProperties(WireHelper.Reader reader, EdmStructuredType structuredType,
+            List<Property> properties) throws EdmPrimitiveTypeException {
+        for (String propertyName : structuredType.getPropertyNames()) {
+            EdmProperty edmProperty = structuredType.getStructuralProperty(propertyName);
+            EdmType type = edmProperty.getType();
+            ValueType valueType = valueType(type, edmProperty.isCollection());
+
+            Object value;
+            if (edmProperty.isCollection()) {
+                int size = reader.readInt();
+                List<Object> values = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    values.add(readValue(reader, edmProperty));
+                }
+                value = values;
+            } else {
+                value = readValue(reader, edmProperty);
+            }
+
+            properties.add(new Property(type.getFullQualifiedName().getFullQualifiedNameAsString(), propertyName,
+                    valueType, value));
+        }
+    }
+
+    private static Object readValue(WireHelper.Reader reader, EdmProperty edmProperty)
+            throws EdmPrimitiveTypeException {
+        byte tag = reader.readByte();
+        if (tag == NULL_VALUE) {
+            return null;
+        }
+
+        EdmType type = edmProperty.getType();
+        if (tag == LITERAL_VALUE) {
+            return ((EdmPrimitiveType) type).valueOfString(reader.readString(), edmProperty.isNullable(),
+                    edmProperty.getMaxLength(), edmProperty.getPrecision(), edmProperty.getScale(),
+                    edmProperty.isUnicode(), defaultType(type));
+        } else if (type.getKind() == EdmTypeKind.COMPLEX) {
+            ComplexValue complexValue = new ComplexValue();
+            complexValue.setTypeName(type.getFullQualifiedName().getFullQualifiedNameAsString());
+            readProperties(reader, (EdmComplexType) type, complexValue.getValue());
+            return complexValue;
+        }
+
+        return readBinaryValue(reader, primitiveTypeKind(type));
+    }
+
+    /**
+     * Reads the binary representation of a primitive value, written by
+     * {@link #appendBinaryValue(Buffer, EdmPrimitiveTypeKind, Object)}, as the default Java type of the primitive
+     * type, same as the Olingo deserializer does.
+     */
+    private static Object readBinaryValue(WireHelper.Reader reader, EdmPrimitiveTypeKind kind) {
+        switch (kind) {
+        case Boolean:
+            return reader.readByte() != 0;
+        case SByte:
+            return (byte) reader.readLong();
+        case Byte:
+        case Int16:
+            return (short) reader.readLong();
+        case Int32:
+            return (int) reader.readLong();
+        case Int64:
+            return reader.readLong();
+        case Single:
+            return Float.intBitsToFloat(reader.readInt());
+        case Double:
+            return Double.longBitsToDouble(reader.readLong());
+        case Decimal:
+            int scale = reader.readInt();
+            return new BigDecimal(new BigInteger(reader.readBytes()), scale);
+        case String:
+            return reader.readString();
+        case Guid:
+            return new UUID(reader.readLong(), reader.readLong());
+        case Binary:
+            return reader.readBytes();
+        default:
+            throw new IllegalStateException("Unexpected binary value of primitive type " + kind);
+        }
+    }
+
+    private static ValueType valueType(EdmType type, boolean collection) {
+        switch (type.getKind()) {
+        case COMPLEX:
+            return collection ? ValueType.COLLECTION_COMPLEX : ValueType.COMPLEX;
+        case ENUM:
+            return collection ? ValueType.COLLECTION_ENUM : ValueType.ENUM;
+        default:
+            return collection ? ValueType.COLLECTION_PRIMITIVE : ValueType.PRIMITIVE;
+        }
+    }
+
+    /**
+     * Returns the default Java type of a primitive type, same as the Olingo deserializer, for enumerations and type
+     * definitions, the default Java type of the underlying type is returned.
+     */
+    private static Class<?> defaultType(EdmType type) {
+        if (type.getKind() == EdmTypeKind.ENUM) {
+            return ((EdmEnumType) type).getUnderlyingType().getDefaultType();
+        } else if (type.getKind() == EdmTypeKind.DEFINITION) {
+            return ((EdmTypeDefinition) type).getUnderlyingType().getDefaultType();
+        }
+        return ((EdmPrimitiveType) type).getDefaultType();
+    }
+
+    /**
+     * The EDM artifacts required to encode / decode entity wrappers of one entity type.
+     */
+    private static final class EntityTypeArtifacts {
+        final String entityTypeName;
+
+        final ServiceMetadata serviceMetadata;
+
+        final EdmEntityType entityType;
+
+        private EntityCollectionSerializerOptions serializerOptions;
+
+        EntityTypeArtifacts(FullQualifiedName entityTypeName, ServiceMetadata serviceMetadata) {
+            this.entityTypeName = entityTypeName.getFullQualifiedNameAsString();
+            this.serviceMetadata = serviceMetadata;
+            this.entityType = serviceMetadata.getEdm().getEntityType(entityTypeName);
+        }
+
+        /**
+         * Returns the options to serialize entities in the JSON format, which are only built if required.
+         */
+        synchronized EntityCollectionSerializerOptions getSerializerOptions() {
+            if (serializerOptions == null) {
+                EdmEntitySet entitySet = serviceMetadata.getEdm().getEntityContainer()
+                        .getEntitySet(entityType.getFullQualifiedName().getName());
+                ContextURL contextUrl = ContextURL.with().entitySet(entitySet).build();
+                serializerOptions = EntityCollectionSerializerOptions.with().contextURL(contextUrl).build();
+            }
+            return serializerOptions;
+        }
+    }
+
     @Override
     public EntityWrapper transform(EntityWrapper entity) {
         return entity;
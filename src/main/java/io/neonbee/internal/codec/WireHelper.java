@@ -0,0 +1,239 @@
+package io.neonbee.internal.codec;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Helper for reading and writing the length-prefixed binary wire formats of the NeonBee message codecs.
+ * <p>
+ * All variable length values are prefixed with their length as an int, a length of {@code -1} denotes {@code null}.
+ */
+public final class WireHelper {
+    private static final int NULL_LENGTH = -1;
+
+    /**
+     * This helper class cannot be instantiated.
+     */
+    private WireHelper() {}
+
+    /**
+     * Appends a length-prefixed UTF-8 string to the buffer.
+     *
+     * @param buffer the buffer to append to
+     * @param value  the string to append, may be null
+     */
+    public static void appendString(Buffer buffer, String value) {
+        if (value == null) {
+            buffer.appendInt(NULL_LENGTH);
+            return;
+        }
+
+        byte[] bytes = value.getBytes(UTF_8);
+        buffer.appendInt(bytes.length);
+        buffer.appendBytes(bytes);
+    }
+
+    /**
+     * Appends a length-prefixed buffer to the buffer.
+     *
+     * @param buffer the buffer to append to
+     * @param value  the buffer to append, may be null
+     */
+    public static void appendBuffer(Buffer buffer, Buffer value) {
+        if (value == null) {
+            buffer.appendInt(NULL_LENGTH);
+            return;
+        }
+
+        buffer.appendInt(value.length());
+        buffer.appendBuffer(value);
+    }
+
+    /**
+     * Appends a length-prefixed byte array to the buffer.
+     *
+     * @param buffer the buffer to append to
+     * @param value  the bytes to append, may be null
+     */
+    public static void appendBytes(Buffer buffer, byte[] value) {
+        if (value == null) {
+            buffer.appendInt(NULL_LENGTH);
+            return;
+        }
+
+        buffer.appendInt(value.length);
+        buffer.appendBytes(value);
+    }
+
+    /**
+     * Appends a map of string lists (e.g. parameters or headers) to the buffer.
+     *
+     * @param buffer the buffer to append to
+     * @param map    the map to append, may be null
+     */
+    public static void appendMultiMap(Buffer buffer, Map<String, List<String>> map) {
+        if (map == null) {
+            buffer.appendInt(NULL_LENGTH);
+            return;
+        }
+
+        buffer.appendInt(map.size());
+        for (Map.Entry<String, List<String>> entry : map.entrySet()) {
+            appendString(buffer, entry.getKey());
+            List<String> values = entry.getValue();
+            if (values == null) {
+                buffer.appendInt(NULL_LENGTH);
+                continue;
+            }
+
+            buffer.appendInt(values.size());
+            for (String value : values) {
+                appendString(buffer, value);
+            }
+        }
+    }
+
+    /**
+     * A reader keeping track of the current position in a buffer, reading values written by the append methods of
+     * the {@link WireHelper}.
+     */
+    public static class Reader {
+        private final Buffer buffer;
+
+        private int position;
+
+        /**
+         * Creates a new reader.
+         *
+         * @param buffer   the buffer to read from
+         * @param position the position to start reading at
+         */
+        public Reader(Buffer buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        /**
+         * Returns the current position of this reader in the buffer.
+         *
+         * @return the current position
+         */
+        public int position() {
+            return position;
+        }
+
+        /**
+         * Reads a single byte.
+         *
+         * @return the byte read
+         */
+        public byte readByte() {
+            return buffer.getByte(position++);
+        }
+
+        /**
+         * Reads an int.
+         *
+         * @return the int read
+         */
+        public int readInt() {
+            int value = buffer.getInt(position);
+            position += Integer.BYTES;
+            return value;
+        }
+
+        /**
+         * Reads a long.
+         *
+         * @return the long read
+         */
+        public long readLong() {
+            long value = buffer.getLong(position);
+            position += Long.BYTES;
+            return value;
+        }
+
+        /**
+         * Reads a length-prefixed UTF-8 string.
+         *
+         * @return the string read, or null
+         */
+        public String readString() {
+            int length = readInt();
+            if (length == NULL_LENGTH) {
+                return null;
+            }
+
+            String value = buffer.getString(position, position + length, UTF_8.name());
+            position += length;
+            return value;
+        }
+
+        /**
+         * Reads a length-prefixed buffer. The returned buffer is a copy, not a slice of the underlying buffer.
+         *
+         * @return the buffer read, or null
+         */
+        public Buffer readBuffer() {
+            int length = readInt();
+            if (length == NULL_LENGTH) {
+                return null;
+            }
+
+            Buffer value = buffer.getBuffer(position, position + length);
+            position += length;
+            return value;
+        }
+
+        /**
+         * Reads a length-prefixed byte array.
+         *
+         * @return the bytes read, or null
+         */
+        public byte[] readBytes() {
+            int length = readInt();
+            if (length == NULL_LENGTH) {
+                return null;
+            }
+
+            byte[] value = buffer.getBytes(position, position + length);
+            position += length;
+            return value;
+        }
+
+        /**
+         * Reads a map of string lists, written using {@link WireHelper#appendMultiMap(Buffer, Map)}.
+         *
+         * @return a mutable map, or null
+         */
+        public Map<String, List<String>> readMultiMap() {
+            int size = readInt();
+            if (size == NULL_LENGTH) {
+                return null;
+            }
+
+            Map<String, List<String>> map = new HashMap<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                String key = readString();
+                int count = readInt();
+                if (count == NULL_LENGTH) {
+                    map.put(key, null);
+                    continue;
+                }
+
+                List<String> values = new ArrayList<>(count);
+                for (int j = 0; j < count; j++) {
+                    values.add(readString());
+                }
+                map.put(key, values);
+            }
+            return map;
+        }
+    }
+}
@@ -2,7 +2,11 @@ package io.neonbee.internal.handler;
 
 import static io.neonbee.config.ServerConfig.CorrelationStrategy.GENERATE_UUID;
 
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
 import io.neonbee.config.ServerConfig.CorrelationStrategy;
+import io.neonbee.data.internal.MemoizedDataRequests;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.PlatformHandler;
 
@@ -12,6 +16,20 @@ public class CorrelationIdHandler implements PlatformHandler {
      */
     public static final String CORRELATION_ID = "correlationId";
 
+    /**
+     * The key for the request id stored in the RoutingContext. Other than the correlation id, which may be provided by
+     * the client, the request id is always generated by the server.
+     */
+    public static final String REQUEST_ID = "requestId";
+
+    /**
+     * Request ids only have to be unique, other than random UUIDs they are not drawn from a secure random number
+     * generator for every request. Instead, a sequence number is appended to a random prefix generated once per node.
+     */
+    private static final String REQUEST_ID_PREFIX = UUID.randomUUID() + "-";
+
+    private static final AtomicLong REQUEST_SEQUENCE = new AtomicLong();
+
     private final CorrelationStrategy strategy;
 
     /**
@@ -32,7 +50,12 @@ public class CorrelationIdHandler implements PlatformHandler {
 
     @Override
     public void handle(RoutingContext routingContext) {
-        routingContext.put(CORRELATION_ID, strategy.getCorrelationId(routingContext));
+        String correlationId = strategy.getCorrelationId(routingContext);
+        routingContext.put(CORRELATION_ID, correlationId);
+        String requestId = REQUEST_ID_PREFIX + Long.toHexString(REQUEST_SEQUENCE.incrementAndGet());
+        routingContext.put(REQUEST_ID, requestId);
+        // memoized data requests are only valid for the lifetime of the request
+        routingContext.addEndHandler(result -> MemoizedDataRequests.evict(requestId));
         routingContext.next();
     }
 
@@ -45,4 +68,14 @@ public class CorrelationIdHandler implements PlatformHandler {
     public static String getCorrelationId(RoutingContext routingContext) {
         return routingContext.get(CORRELATION_ID);
     }
+
+    /**
+     * Convenience method for retrieving the server generated request id from a RoutingContext if present.
+     *
+     * @param routingContext The RoutingContext to retrieve the request id from
+     * @return The request id of the request or null
+     */
+    public static String getRequestId(RoutingContext routingContext) {
+        return routingContext.get(REQUEST_ID);
+    }
 }
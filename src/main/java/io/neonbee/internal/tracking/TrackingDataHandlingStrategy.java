@@ -17,4 +17,14 @@ public interface TrackingDataHandlingStrategy {
     void handleOutBoundReply(DataContext context);
 
     void handleInBoundReply(DataContext context);
+
+    /**
+     * Returns whether this strategy amends the data context passed to it. If so, the amended context is written back
+     * to the message, so that the changes are passed along with it.
+     *
+     * @return true if the amended context should be written back to the message
+     */
+    default boolean isAmendingContext() {
+        return false;
+    }
 }
@@ -18,17 +18,23 @@ public class TrackingDataLoggingStrategy implements TrackingDataHandlingStrategy
 
     @Override
     public void handleInBoundRequest(DataContext context) {
-        LOGGER.correlateWith(context).info("Receive request: {}{}", System.lineSeparator(), context.pathAsString());
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.correlateWith(context).info("Receive request: {}{}", System.lineSeparator(), context.pathAsString());
+        }
     }
 
     @Override
     public void handleOutBoundReply(DataContext context) {
-        LOGGER.correlateWith(context).info("Send reply: {}{}", System.lineSeparator(), context.pathAsString());
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.correlateWith(context).info("Send reply: {}{}", System.lineSeparator(), context.pathAsString());
+        }
     }
 
     @Override
     public void handleInBoundReply(DataContext context) {
         context.updateResponseTimestamp();
-        LOGGER.correlateWith(context).info("Receive reply: {}{}", System.lineSeparator(), context.pathAsString());
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.correlateWith(context).info("Receive reply: {}{}", System.lineSeparator(), context.pathAsString());
+        }
     }
 }
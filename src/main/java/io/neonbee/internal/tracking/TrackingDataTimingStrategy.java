@@ -0,0 +1,65 @@
+package io.neonbee.internal.tracking;
+
+import java.util.Iterator;
+
+import io.neonbee.data.DataContext;
+import io.neonbee.data.internal.DataContextImpl;
+import io.neonbee.data.internal.DataVerticleCoordinateImpl;
+import io.neonbee.data.internal.DataVerticleCoordinateImpl.Phase;
+import io.neonbee.logging.LoggingFacade;
+
+/**
+ * A tracking data handling strategy, which records the timestamps of every hop between data verticles in the
+ * coordinates of the data context.
+ * <p>
+ * For every hop the time when the request was enqueued, when the verticle started processing it, when the required and
+ * the retrieved data was available, when the reply was sent and when the reply was received is recorded. Replies carry
+ * the timed coordinate of the replying verticle back to the requesting verticle, which adds it to its own hops. This
+ * way the root of a request receives a latency tree of all hops involved, which is available in the
+ * {@link DataContextImpl#HOPS_RESPONSE_DATA_KEY hops} of the response data of the root context and which is logged
+ * when the reply of the first hop was received.
+ */
+public class TrackingDataTimingStrategy implements TrackingDataHandlingStrategy {
+    private static final LoggingFacade LOGGER = LoggingFacade.create();
+
+    @Override
+    public void handleOutBoundRequest(DataContext context) {
+        if (context instanceof DataContextImpl) {
+            ((DataContextImpl) context).startTiming();
+        }
+    }
+
+    @Override
+    public void handleInBoundRequest(DataContext context) {
+        // the start of the processing is recorded by the data verticle
+    }
+
+    @Override
+    public void handleOutBoundReply(DataContext context) {
+        if (context instanceof DataContextImpl) {
+            ((DataContextImpl) context).recordTimestamp(Phase.REPLIED);
+        }
+    }
+
+    @Override
+    public void handleInBoundReply(DataContext context) {
+        context.updateResponseTimestamp();
+        if (context instanceof DataContextImpl) {
+            ((DataContextImpl) context).recordTimestamp(Phase.RESPONDED);
+        }
+
+        // the reply to the root context has only the coordinate of the first hop on its path
+        Iterator<DataContext.DataVerticleCoordinate> path = context.path();
+        if (LOGGER.isInfoEnabled() && path.hasNext()) {
+            DataContext.DataVerticleCoordinate hop = path.next();
+            if (!path.hasNext()) {
+                LOGGER.correlateWith(context).info("Latency tree: {}", DataVerticleCoordinateImpl.toJson(hop));
+            }
+        }
+    }
+
+    @Override
+    public boolean isAmendingContext() {
+        return true;
+    }
+}
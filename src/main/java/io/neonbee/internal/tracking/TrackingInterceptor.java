@@ -1,63 +1,170 @@
 package io.neonbee.internal.tracking;
 
 import static io.neonbee.data.DataVerticle.CONTEXT_HEADER;
+import static io.neonbee.data.DataVerticle.CORRELATION_ID_HEADER;
 import static io.neonbee.data.internal.DataContextImpl.decodeContextFromString;
+import static io.neonbee.data.internal.DataContextImpl.encodeContextToString;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.google.common.annotations.VisibleForTesting;
 
 import io.neonbee.data.DataContext;
+import io.neonbee.logging.LoggingFacade;
 import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.DeliveryContext;
 import io.vertx.core.eventbus.Message;
 
 /**
  * A tracking interceptor, which delegates the tracking data handling to a configurable handler.
+ * <p>
+ * The interceptor can be configured to only track a sample of all requests and to hand the tracking data to a bounded
+ * queue, which is drained by a background worker, so that the context of a message is neither decoded nor handled by
+ * the thread sending or receiving the message.
  */
 public class TrackingInterceptor implements Handler<DeliveryContext<Object>> {
+    private static final LoggingFacade LOGGER = LoggingFacade.create();
 
     private final MessageDirection direction;
 
     private final TrackingDataHandlingStrategy handler;
 
+    private final int samplingRate;
+
+    private final Vertx vertx;
+
+    private final int queueSize;
+
+    private final Queue<TrackingData> queue = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    private final AtomicLong dropped = new AtomicLong();
+
     @VisibleForTesting
     public TrackingInterceptor(MessageDirection direction, TrackingDataHandlingStrategy handler) {
+        this(null, direction, handler, 1, 0);
+    }
+
+    /**
+     * Creates a new tracking interceptor.
+     *
+     * @param vertx        the Vert.x instance used to drain the tracking queue, may be null if the queue size is 0
+     * @param direction    the message direction of this interceptor
+     * @param handler      the handler to delegate the tracking data to
+     * @param samplingRate one out of this number of requests is tracked, selected by the hash of the correlation ID
+     * @param queueSize    the size of the tracking queue, 0 or less to handle the tracking data synchronously
+     */
+    public TrackingInterceptor(Vertx vertx, MessageDirection direction, TrackingDataHandlingStrategy handler,
+            int samplingRate, int queueSize) {
+        this.vertx = vertx;
         this.direction = direction;
         this.handler = handler;
+        this.samplingRate = samplingRate;
+        // strategies amending the context must be handled before the message is passed on
+        this.queueSize = handler.isAmendingContext() ? 0 : queueSize;
     }
 
     @Override
     public void handle(DeliveryContext<Object> event) {
         Message<Object> message = event.message();
         String contextHeader = message.headers().get(CONTEXT_HEADER);
-        if (contextHeader != null) {
-            DataContext context = decodeContextFromString(contextHeader);
-            if (message.replyAddress() != null) {
-                switch (direction) {
-                case OUTBOUND:
-                    handler.handleOutBoundRequest(context);
-                    break;
-                case INBOUND:
-                    handler.handleInBoundRequest(context);
-                    break;
-                default:
-                    break;
-                }
+        if (contextHeader != null && isSampled(message.headers().get(CORRELATION_ID_HEADER))) {
+            boolean request = message.replyAddress() != null;
+            if (queueSize > 0) {
+                enqueue(new TrackingData(request, contextHeader));
             } else {
-                switch (direction) {
-                case OUTBOUND:
-                    handler.handleOutBoundReply(context);
-                    break;
-                case INBOUND:
-                    handler.handleInBoundReply(context);
-                    break;
-                default:
-                    break;
+                DataContext context = decodeContextFromString(contextHeader);
+                handle(request, context);
+                if (handler.isAmendingContext()) {
+                    message.headers().set(CONTEXT_HEADER, encodeContextToString(context));
                 }
             }
         }
         event.next();
     }
 
+    /**
+     * Returns whether the messages of the request with a given correlation ID should be tracked.
+     *
+     * @param correlationId the correlation ID of the request
+     * @return true if the request should be tracked
+     */
+    @VisibleForTesting
+    boolean isSampled(String correlationId) {
+        return samplingRate <= 1 || Math.floorMod(Objects.hashCode(correlationId), samplingRate) == 0;
+    }
+
+    private void handle(boolean request, DataContext context) {
+        if (request) {
+            switch (direction) {
+            case OUTBOUND:
+                handler.handleOutBoundRequest(context);
+                break;
+            case INBOUND:
+                handler.handleInBoundRequest(context);
+                break;
+            default:
+                break;
+            }
+        } else {
+            switch (direction) {
+            case OUTBOUND:
+                handler.handleOutBoundReply(context);
+                break;
+            case INBOUND:
+                handler.handleInBoundReply(context);
+                break;
+            default:
+                break;
+            }
+        }
+    }
+
+    private void enqueue(TrackingData data) {
+        if (queued.incrementAndGet() > queueSize) {
+            queued.decrementAndGet();
+            long count = dropped.incrementAndGet();
+            // log the first drop and then every power of two, to not flood the log while the queue stays full
+            if ((count & (count - 1)) == 0 && LOGGER.isWarnEnabled()) {
+                LOGGER.warn("Tracking queue of {} messages is full, dropped {} tracking data so far", direction,
+                        count);
+            }
+            return;
+        }
+
+        queue.offer(data);
+        if (draining.compareAndSet(false, true)) {
+            vertx.executeBlocking(promise -> {
+                drain();
+                promise.complete();
+            }, false);
+        }
+    }
+
+    private void drain() {
+        do {
+            for (TrackingData data = queue.poll(); data != null; data = queue.poll()) {
+                queued.decrementAndGet();
+                try {
+                    handle(data.request, decodeContextFromString(data.contextHeader));
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Failed to handle tracking data", e);
+                }
+            }
+            draining.set(false);
+            // data could have been queued after the last poll, but before draining was reset
+        } while (!queue.isEmpty() && draining.compareAndSet(false, true));
+    }
+
     /**
      * Returns the message direction of this interceptor.
      *
@@ -75,4 +182,24 @@ public class TrackingInterceptor implements Handler<DeliveryContext<Object>> {
     public TrackingDataHandlingStrategy getHandler() {
         return handler;
     }
+
+    /**
+     * Returns the number of tracking data dropped, because the tracking queue was full.
+     *
+     * @return the number of dropped tracking data
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private static class TrackingData {
+        final boolean request;
+
+        final String contextHeader;
+
+        TrackingData(boolean request, String contextHeader) {
+            this.request = request;
+            this.contextHeader = contextHeader;
+        }
+    }
 }
@@ -20,6 +20,7 @@ import static java.util.stream.Collectors.toUnmodifiableList;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -52,8 +53,10 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.neonbee.NeonBeeInstanceConfiguration.ClusterManager;
 import io.neonbee.config.NeonBeeConfig;
+import io.neonbee.data.internal.DataRequestLimiter;
 import io.neonbee.health.DummyHealthCheck;
 import io.neonbee.health.DummyHealthCheckProvider;
 import io.neonbee.health.EventLoopHealthCheck;
@@ -304,6 +307,7 @@ class NeonBeeTest extends NeonBeeTestBase {
         when(eventBus.addOutboundInterceptor(Mockito.any(Handler.class))).thenReturn(eventBus);
         ArgumentCaptor<Handler<DeliveryContext<Object>>> inboundHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
         ArgumentCaptor<Handler<DeliveryContext<Object>>> outboundHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        neonBee.getCompositeMeterRegistry().add(new SimpleMeterRegistry());
         neonBee.decorateEventBus();
         verify(eventBus).addInboundInterceptor(inboundHandlerCaptor.capture());
         verify(eventBus).addOutboundInterceptor(outboundHandlerCaptor.capture());
@@ -313,6 +317,43 @@ class NeonBeeTest extends NeonBeeTestBase {
         assertThat(TrackingDataLoggingStrategy.class).isAssignableTo(inboundHandler.getHandler().getClass());
         assertThat(outboundHandler.getDirection()).isEqualTo(MessageDirection.OUTBOUND);
         assertThat(TrackingDataLoggingStrategy.class).isAssignableTo(outboundHandler.getHandler().getClass());
+        assertThat(neonBee.getCompositeMeterRegistry().get("neonbee.tracking.dropped").tag("direction", "inbound")
+                .functionCounter().count()).isEqualTo(0.0);
+        assertThat(neonBee.getCompositeMeterRegistry().get("neonbee.tracking.dropped").tag("direction", "outbound")
+                .functionCounter().count()).isEqualTo(0.0);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Vert.x should not add eventbus interceptors, if tracking is disabled.")
+    void testDecorateEventbusTrackingDisabled() {
+        Vertx vertx = defaultVertxMock();
+        NeonBee neonBee = registerNeonBeeMock(vertx, new NeonBeeConfig().setTrackingSamplingRate(0));
+        EventBus eventBus = mock(EventBus.class);
+        when(vertx.eventBus()).thenReturn(eventBus);
+        neonBee.decorateEventBus();
+        verify(eventBus, never()).addInboundInterceptor(Mockito.any(Handler.class));
+        verify(eventBus, never()).addOutboundInterceptor(Mockito.any(Handler.class));
+    }
+
+    @Test
+    @DisplayName("NeonBee should provide one data request limiter per depth, if the data request concurrency is set")
+    void testGetDataRequestLimiter() {
+        NeonBee unlimitedNeonBee = registerNeonBeeMock(defaultVertxMock(), new NeonBeeConfig());
+        assertThat(unlimitedNeonBee.getDataRequestLimiter(1)).isSameInstanceAs(DataRequestLimiter.UNLIMITED);
+
+        NeonBee neonBee = registerNeonBeeMock(defaultVertxMock(), new NeonBeeConfig().setDataRequestConcurrency(4));
+        neonBee.getCompositeMeterRegistry().add(new SimpleMeterRegistry());
+        DataRequestLimiter limiter = neonBee.getDataRequestLimiter(1);
+        assertThat(limiter.isLimited()).isTrue();
+        assertThat(neonBee.getDataRequestLimiter(1)).isSameInstanceAs(limiter);
+        assertThat(neonBee.getDataRequestLimiter(2)).isNotSameInstanceAs(limiter);
+
+        limiter.acquire(0);
+        assertThat(neonBee.getCompositeMeterRegistry().get("neonbee.data.requests.in.flight").tag("depth", "1")
+                .gauge().value()).isEqualTo(1.0);
+        assertThat(neonBee.getCompositeMeterRegistry().get("neonbee.data.requests.queued").tag("depth", "1").gauge()
+                .value()).isEqualTo(0.0);
     }
 
     @Test
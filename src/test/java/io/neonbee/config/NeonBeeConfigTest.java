@@ -4,6 +4,7 @@ import static com.google.common.truth.Truth.assertThat;
 import static io.neonbee.config.NeonBeeConfig.DEFAULT_EVENT_BUS_TIMEOUT;
 import static io.neonbee.config.NeonBeeConfig.DEFAULT_TIME_ZONE;
 import static io.neonbee.config.NeonBeeConfig.DEFAULT_TRACKING_DATA_HANDLING_STRATEGY;
+import static io.neonbee.config.NeonBeeConfig.DEFAULT_TRACKING_SAMPLING_RATE;
 import static io.vertx.core.CompositeFuture.all;
 import static org.junit.Assert.assertThrows;
 
@@ -52,7 +53,8 @@ class NeonBeeConfigTest extends NeonBeeTestBase {
             new NeonBeeConfig().setEventBusTimeout(DUMMY_EVENT_BUS_TIMEOUT)
                     .setTrackingDataHandlingStrategy(DUMMY_TRACKING_DATA_HANDLING_STRATEGY).setTimeZone(DUMMY_TIME_ZONE)
                     .setEventBusCodecs(DUMMY_EVENT_BUS_CODECS).setPlatformClasses(DUMMY_PLATFORM_CLASSES)
-                    .setMicrometerRegistries(DUMMY_MICROMETER_REGISTRIES);
+                    .setMicrometerRegistries(DUMMY_MICROMETER_REGISTRIES).setEventBusJsonWireFormat(true)
+                    .setTrackingSamplingRate(10).setTrackingQueueSize(1000).setDataRequestConcurrency(64);
 
     @Override
     protected WorkingDirectoryBuilder provideWorkingDirectoryBuilder(TestInfo testInfo, VertxTestContext testContext) {
@@ -221,6 +223,10 @@ class NeonBeeConfigTest extends NeonBeeTestBase {
         assertThat(defaultConfig.getTrackingDataHandlingStrategy()).isEqualTo(DEFAULT_TRACKING_DATA_HANDLING_STRATEGY);
         assertThat(defaultConfig.getTimeZone()).isEqualTo(DEFAULT_TIME_ZONE);
         assertThat(defaultConfig.getEventBusCodecs()).isEmpty();
+        assertThat(defaultConfig.isEventBusJsonWireFormat()).isFalse();
+        assertThat(defaultConfig.getTrackingSamplingRate()).isEqualTo(DEFAULT_TRACKING_SAMPLING_RATE);
+        assertThat(defaultConfig.getTrackingQueueSize()).isEqualTo(0);
+        assertThat(defaultConfig.getDataRequestConcurrency()).isEqualTo(0);
         assertThat(defaultConfig.getPlatformClasses()).containsExactly("io.vertx.*", "io.neonbee.*", "org.slf4j.*",
                 "org.apache.olingo.*");
         assertThat(defaultConfig.getHealthConfig().isEnabled()).isTrue();
@@ -240,6 +246,10 @@ class NeonBeeConfigTest extends NeonBeeTestBase {
         assertThat(nbc.getEventBusCodecs()).isEqualTo(DUMMY_EVENT_BUS_CODECS);
         assertThat(nbc.getPlatformClasses()).isEqualTo(DUMMY_PLATFORM_CLASSES);
         assertThat(nbc.getMicrometerRegistries()).isEqualTo(DUMMY_MICROMETER_REGISTRIES);
+        assertThat(nbc.isEventBusJsonWireFormat()).isTrue();
+        assertThat(nbc.getTrackingSamplingRate()).isEqualTo(10);
+        assertThat(nbc.getTrackingQueueSize()).isEqualTo(1000);
+        assertThat(nbc.getDataRequestConcurrency()).isEqualTo(64);
     }
 
     public static class TestMicrometerRegistryLoaderImpl implements MicrometerRegistryLoader {
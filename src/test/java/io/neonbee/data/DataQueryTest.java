@@ -3,7 +3,9 @@ package io.neonbee.data;
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -159,4 +161,24 @@ class DataQueryTest {
                 Buffer.buffer("payload1"));
         assertThat(query1.copy().setBody(Buffer.buffer("payload2"))).isNotEqualTo(query1);
     }
+
+    @Test
+    @DisplayName("DataQuery should take ownership of the given objects instead of copying them, if decoded")
+    void testOwningConstructor() {
+        Map<String, List<String>> parameters = new HashMap<>(Map.of("name", new ArrayList<>(List.of("Hodor"))));
+        Map<String, List<String>> headers = new HashMap<>(Map.of("header1", new ArrayList<>(List.of("value1"))));
+        Buffer body = Buffer.buffer("payload");
+        DataQuery query = new DataQuery(DataAction.CREATE, "uri", parameters, headers, body);
+        assertThat(query.getParameters()).isSameInstanceAs(parameters);
+        assertThat(query.getHeaders()).isSameInstanceAs(headers);
+        assertThat(query.getBody()).isSameInstanceAs(body);
+        assertThat(query).isEqualTo(new DataQuery(DataAction.CREATE, "uri", "name=Hodor", headers, body));
+
+        query = new DataQuery(DataAction.READ, "uri", null, null, null);
+        assertThat(query.getParameters()).isEmpty();
+        assertThat(query.getHeaders()).isEmpty();
+        query.addHeader("header1", "value1");
+        query.addParameter("name", "Hodor");
+        assertThat(query.getQuery()).isEqualTo("name=Hodor");
+    }
 }
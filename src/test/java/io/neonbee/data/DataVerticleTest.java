@@ -5,8 +5,14 @@ import static io.neonbee.NeonBeeProfile.NO_WEB;
 import static io.vertx.core.Future.succeededFuture;
 import static java.lang.Boolean.parseBoolean;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -15,13 +21,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import io.neonbee.NeonBeeDeployable;
 import io.neonbee.NeonBeeOptions;
+import io.neonbee.config.DataCacheConfig;
 import io.neonbee.config.MetricsConfig;
+import io.neonbee.data.DataRequest.ResolutionStrategy;
 import io.neonbee.data.internal.metrics.ConfiguredDataVerticleMetrics;
 import io.neonbee.test.base.DataVerticleTestBase;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.json.JsonObject;
 import io.vertx.junit5.Checkpoint;
@@ -126,6 +137,66 @@ class DataVerticleTest extends DataVerticleTestBase {
         })));
     }
 
+    @ParameterizedTest(name = "{index}: {0}")
+    @EnumSource(ResolutionStrategy.class)
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Check that identical requests in different branches are only coalesced when resolving optimized")
+    void testResolutionStrategy(ResolutionStrategy strategy, VertxTestContext testContext) {
+        AtomicInteger leafCalls = new AtomicInteger();
+        String suffix = strategy.name();
+        CompositeFuture
+                .all(deployVerticle(new BranchingDataVerticle("Root" + suffix, "BranchA" + suffix, "BranchB" + suffix)),
+                        deployVerticle(new BranchingDataVerticle("BranchA" + suffix, "Leaf" + suffix)),
+                        deployVerticle(new BranchingDataVerticle("BranchB" + suffix, "Leaf" + suffix)),
+                        deployVerticle(new BranchingDataVerticle("Leaf" + suffix).setCalls(leafCalls)))
+                .compose(v -> this.<String>requestData(
+                        new DataRequest("Root" + suffix).setResolutionStrategy(strategy)))
+                .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+                    assertThat(result).isEqualTo("Root" + suffix + "(BranchA" + suffix + "(Leaf" + suffix + "),BranchB"
+                            + suffix + "(Leaf" + suffix + "))");
+                    assertThat(leafCalls.get()).isEqualTo(strategy == ResolutionStrategy.OPTIMIZED ? 1 : 2);
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Check that cached results are served until the verticle handles a manipulation")
+    void testCacheConfig(VertxTestContext testContext) {
+        AtomicInteger calls = new AtomicInteger();
+        DataVerticle<String> cachingVerticle = new CachingDataVerticle(calls);
+        deployVerticle(cachingVerticle).compose(v -> this.<String>requestData(CachingDataVerticle.NAME))
+                .compose(v -> this.<String>requestData(CachingDataVerticle.NAME))
+                .onSuccess(result -> testContext.verify(() -> {
+                    assertThat(result).isEqualTo("1");
+                    assertThat(calls.get()).isEqualTo(1);
+                }))
+                .compose(v -> this.<String>requestData(
+                        new DataRequest(CachingDataVerticle.NAME, new DataQuery(DataAction.CREATE))))
+                .compose(v -> this.<String>requestData(CachingDataVerticle.NAME))
+                .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+                    assertThat(result).isEqualTo("2");
+                    assertThat(calls.get()).isEqualTo(2);
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Check that the required data requests in flight are limited and queued requests are prioritized")
+    void testRequireDataConcurrency(VertxTestContext testContext) {
+        SlowDataVerticle slowVerticle = new SlowDataVerticle();
+        deployVerticle(slowVerticle).compose(v -> deployVerticle(new FanOutDataVerticle(10, 2)))
+                .compose(v -> this.<List<Integer>>requestData(FanOutDataVerticle.NAME))
+                .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+                    assertThat(result).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9).inOrder();
+                    assertThat(slowVerticle.maxActive.get()).isEqualTo(2);
+                    // the first two requests are sent immediately, the queued requests by descending priority
+                    assertThat(slowVerticle.calls).containsExactly(0, 1, 9, 8, 7, 6, 5, 4, 3, 2).inOrder();
+                    testContext.completeNow();
+                })));
+    }
+
     @Test
     void createQualifiedName() {
         assertThat(DataVerticle.createQualifiedName("namespace", "verticle")).isEqualTo("namespace/verticle");
@@ -260,6 +331,141 @@ class DataVerticleTest extends DataVerticleTestBase {
         }
     }
 
+    private static class CachingDataVerticle extends DataVerticle<String> {
+        static final String NAME = "CachingDataVerticle";
+
+        private final AtomicInteger calls;
+
+        CachingDataVerticle(AtomicInteger calls) {
+            super();
+            this.calls = calls;
+        }
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        @Override
+        protected DataCacheConfig getCacheConfig() {
+            return new DataCacheConfig();
+        }
+
+        @Override
+        public Future<String> retrieveData(DataQuery query, DataMap require, DataContext context) {
+            return succeededFuture(Integer.toString(calls.incrementAndGet()));
+        }
+
+        @Override
+        public Future<String> manipulateData(DataQuery query, DataContext context) {
+            return succeededFuture("manipulated");
+        }
+    }
+
+    private static class BranchingDataVerticle extends DataVerticle<String> {
+        private final String name;
+
+        private final List<String> required;
+
+        private AtomicInteger calls = new AtomicInteger();
+
+        BranchingDataVerticle(String name, String... required) {
+            super();
+            this.name = name;
+            this.required = List.of(required);
+        }
+
+        BranchingDataVerticle setCalls(AtomicInteger calls) {
+            this.calls = calls;
+            return this;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Future<Collection<DataRequest>> requireData(DataQuery query, DataContext context) {
+            return succeededFuture(required.stream().map(requiredName -> new DataRequest(requiredName,
+                    new DataQuery().addParameter("shared", "value"))).collect(Collectors.toList()));
+        }
+
+        @Override
+        public Future<String> retrieveData(DataQuery query, DataMap require, DataContext context) {
+            calls.incrementAndGet();
+            if (required.isEmpty()) {
+                return succeededFuture(name);
+            }
+            return succeededFuture(name + required.stream().map(requiredName -> require.<String>resultFor(requiredName))
+                    .collect(Collectors.joining(",", "(", ")")));
+        }
+    }
+
+    private static class FanOutDataVerticle extends DataVerticle<List<Integer>> {
+        static final String NAME = "FanOutDataVerticle";
+
+        private final int requests;
+
+        private final int concurrency;
+
+        FanOutDataVerticle(int requests, int concurrency) {
+            super();
+            this.requests = requests;
+            this.concurrency = concurrency;
+        }
+
+        @Override
+        public JsonObject config() {
+            return new JsonObject().put(CONFIG_REQUIRE_DATA_CONCURRENCY_KEY, concurrency);
+        }
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        @Override
+        public Future<Collection<DataRequest>> requireData(DataQuery query, DataContext context) {
+            return succeededFuture(IntStream.range(0, requests)
+                    .mapToObj(index -> new DataRequest(SlowDataVerticle.NAME,
+                            new DataQuery().addParameter("index", Integer.toString(index))).setPriority(index))
+                    .collect(Collectors.toList()));
+        }
+
+        @Override
+        public Future<List<Integer>> retrieveData(DataQuery query, DataMap require, DataContext context) {
+            return succeededFuture(require.values().stream().map(AsyncResult::result).map(Integer.class::cast)
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    private static class SlowDataVerticle extends DataVerticle<Integer> {
+        static final String NAME = "SlowDataVerticle";
+
+        final List<Integer> calls = new CopyOnWriteArrayList<>();
+
+        final AtomicInteger maxActive = new AtomicInteger();
+
+        private final AtomicInteger active = new AtomicInteger();
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        @Override
+        public Future<Integer> retrieveData(DataQuery query, DataMap require, DataContext context) {
+            int index = Integer.parseInt(query.getParameter("index"));
+            calls.add(index);
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            return Future.future(promise -> vertx.setTimer(20, timerId -> {
+                active.decrementAndGet();
+                promise.complete(index);
+            }));
+        }
+    }
+
     private static class DataVerticleMetricConfig extends DataVerticle<String> {
 
         private final JsonObject config;
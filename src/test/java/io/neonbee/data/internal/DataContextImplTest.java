@@ -3,6 +3,7 @@ package io.neonbee.data.internal;
 import static com.google.common.truth.Truth.assertThat;
 import static io.neonbee.data.internal.DataContextImpl.NO_SESSION_ID_AVAILABLE_KEY;
 import static io.neonbee.internal.handler.CorrelationIdHandler.CORRELATION_ID;
+import static io.neonbee.internal.handler.CorrelationIdHandler.REQUEST_ID;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
@@ -38,6 +39,7 @@ import io.neonbee.data.DataContext.DataVerticleCoordinate;
 import io.neonbee.data.DataException;
 import io.neonbee.data.DataQuery;
 import io.neonbee.data.DataRequest;
+import io.neonbee.data.internal.DataVerticleCoordinateImpl.Phase;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.json.JsonArray;
@@ -339,6 +341,7 @@ class DataContextImplTest {
         when(requestMock.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer anyExpectedToken123");
         when(userMock.principal()).thenReturn(new JsonObject().put("expectedKey", "expectedValue"));
         when(routingContextMock.get(CORRELATION_ID)).thenReturn("expectedCorrId");
+        when(routingContextMock.get(REQUEST_ID)).thenReturn("expectedRequestId");
         when(routingContextMock.session()).thenReturn(sessionMock);
         when(routingContextMock.user()).thenReturn(userMock);
         when(routingContextMock.request()).thenReturn(requestMock);
@@ -348,6 +351,11 @@ class DataContextImplTest {
         assertThat(dataContext.sessionId()).isEqualTo(expectedSessionValue);
         assertThat(dataContext.bearerToken()).isEqualTo("anyExpectedToken123");
         assertThat(dataContext.userPrincipal().getString("expectedKey")).isEqualTo("expectedValue");
+        assertThat(dataContext.requestId()).isEqualTo("expectedRequestId");
+        assertThat(dataContext.copy().requestId()).isEqualTo("expectedRequestId");
+        assertThat(((DataContextImpl) DataContextImpl
+                .decodeContextFromString(DataContextImpl.encodeContextToString(dataContext))).requestId())
+                        .isEqualTo("expectedRequestId");
     }
 
     @Test
@@ -382,6 +390,78 @@ class DataContextImplTest {
                 .put("responseArray", new JsonArray().add(0)).put("responseNull", (Object) null));
     }
 
+    @Test
+    @DisplayName("test decoding the same context string multiple times")
+    void testDecodeSameStringMultipleTimes() {
+        context.pushVerticleToPath("Data1Verticle");
+        context.amendTopVerticleCoordinate("deploymentId1");
+        context.put("key", new JsonObject().put("nested", "value"));
+        context.responseData().put("responseKey", "responseValue");
+        String contextString = DataContextImpl.encodeContextToString(context);
+
+        DataContextImpl context1 = (DataContextImpl) DataContextImpl.decodeContextFromString(contextString);
+        DataContextImpl context2 = (DataContextImpl) DataContextImpl.decodeContextFromString(contextString);
+        assertThat(context1).isNotSameInstanceAs(context2);
+        assertThat(context1.userPrincipal()).isEqualTo(context2.userPrincipal());
+        assertThat(context2.<JsonObject>get("key").getString("nested")).isEqualTo("value");
+        assertThat(context2.responseData()).containsExactly("responseKey", "responseValue");
+
+        // amending one decoded context must not affect the other
+        context1.amendTopVerticleCoordinate("deploymentId2");
+        context1.<JsonObject>get("key").put("nested", "changed");
+        context1.responseData().put("responseKey", "changed");
+        context1.put("other", "value");
+        assertThat(context2.path().next().getDeploymentId()).isEqualTo("deploymentId1");
+        assertThat(context2.<JsonObject>get("key").getString("nested")).isEqualTo("value");
+        assertThat(context2.responseData()).containsExactly("responseKey", "responseValue");
+        assertThat(context2.data()).doesNotContainKey("other");
+    }
+
+    @Test
+    @DisplayName("test encoding / decoding the path")
+    void testEncodeDecodePath() {
+        context.pushVerticleToPath("Data1Verticle");
+        context.amendTopVerticleCoordinate("deploymentId1");
+        context.updateResponseTimestamp();
+        DataVerticleCoordinate original = context.path().next();
+
+        DataVerticleCoordinate decoded =
+                DataContextImpl.decodeContextFromString(DataContextImpl.encodeContextToString(context)).path().next();
+        assertThat(decoded.getQualifiedName()).isEqualTo(original.getQualifiedName());
+        assertThat(decoded.getDeploymentId()).isEqualTo(original.getDeploymentId());
+        assertThat(decoded.getIpAddress()).isEqualTo(original.getIpAddress());
+        assertThat(decoded.getRequestTimestamp()).isEqualTo(original.getRequestTimestamp());
+        assertThat(decoded.getResponseTimestamp()).isEqualTo(original.getResponseTimestamp());
+    }
+
+    @Test
+    @DisplayName("test encoding the path of the same context multiple times")
+    void testEncodePathMultipleTimes() {
+        context.pushVerticleToPath("Data1Verticle");
+        context.pushVerticleToPath("Data2Verticle");
+        context.amendTopVerticleCoordinate("deploymentId2");
+        for (String name : List.of("Data3Verticle", "Data4Verticle")) {
+            context.pushVerticleToPath(name);
+            JsonArray path = new JsonObject(DataContextImpl.encodeContextToString(context)).getJsonArray("path");
+            assertThat(path.stream().map(JsonObject.class::cast).map(json -> json.getString("qualifiedName"))
+                    .collect(Collectors.toList()))
+                    .containsExactly("Data1Verticle", "Data2Verticle", name).inOrder();
+            context.popVerticleFromPath();
+        }
+
+        // amending the top coordinate must be reflected, even if it was encoded as part of the path before
+        context.amendTopVerticleCoordinate("deploymentId3");
+        JsonArray path = new JsonObject(DataContextImpl.encodeContextToString(context)).getJsonArray("path");
+        assertThat(path.getJsonObject(1).getString("deploymentId")).isEqualTo("deploymentId3");
+
+        context.popVerticleFromPath();
+        context.pushVerticleToPath("Data5Verticle");
+        path = new JsonObject(DataContextImpl.encodeContextToString(context)).getJsonArray("path");
+        assertThat(path.stream().map(JsonObject.class::cast).map(json -> json.getString("qualifiedName"))
+                .collect(Collectors.toList()))
+                .containsExactly("Data1Verticle", "Data5Verticle").inOrder();
+    }
+
     @Test
     @DisplayName("test response meta data handling")
     void testResponseData() {
@@ -420,6 +500,60 @@ class DataContextImplTest {
         assertThat(context.findAllReceivedData(request2.getQualifiedName())).hasSize(2);
     }
 
+    @Test
+    @DisplayName("Only timed coordinates should record timestamps and hops, which are encoded for the top coordinate")
+    void testTimings() {
+        DataContextImpl timedContext = new DataContextImpl();
+        timedContext.pushVerticleToPath("Data1Verticle");
+        timedContext.recordTimestamp(Phase.STARTED);
+        assertThat(timedContext.path().next().getTimestamps()).isEmpty();
+
+        timedContext.startTiming();
+        timedContext.recordTimestamp(Phase.STARTED);
+        timedContext.addHop(hopContext("Data2Verticle", true));
+        timedContext.addHop(hopContext("Data3Verticle", false));
+        DataVerticleCoordinate coordinate = timedContext.path().next();
+        assertThat(coordinate.getTimestamps().keySet()).containsExactly("enqueued", "started").inOrder();
+        assertThat(coordinate.getHops()).hasSize(1);
+
+        DataContext decodedContext =
+                DataContextImpl.decodeContextFromString(DataContextImpl.encodeContextToString(timedContext));
+        DataVerticleCoordinate decodedCoordinate = decodedContext.path().next();
+        assertThat(decodedCoordinate.getTimestamps()).isEqualTo(coordinate.getTimestamps());
+        assertThat(decodedCoordinate.getHops()).hasSize(1);
+        assertThat(decodedCoordinate.getHops().get(0).getQualifiedName()).isEqualTo("Data2Verticle");
+        assertThat(decodedCoordinate.getHops().get(0).getTimestamps()).containsKey("enqueued");
+
+        timedContext.pushVerticleToPath("Data4Verticle");
+        Iterator<DataVerticleCoordinate> path = DataContextImpl
+                .decodeContextFromString(DataContextImpl.encodeContextToString(timedContext)).path();
+        assertThat(path.next().getTimestamps()).isEmpty();
+        assertThat(path.next().getHops()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Hops of a root context should be added to the response data")
+    void testRootHops() {
+        DataContextImpl rootContext = new DataContextImpl();
+        rootContext.addHop(hopContext("Data1Verticle", true));
+        rootContext.addHop(hopContext("Data2Verticle", true));
+        rootContext.addHop(hopContext("Data3Verticle", false));
+
+        JsonArray hops = (JsonArray) rootContext.responseData().get(DataContextImpl.HOPS_RESPONSE_DATA_KEY);
+        assertThat(hops.size()).isEqualTo(2);
+        assertThat(hops.getJsonObject(1).getString("qualifiedName")).isEqualTo("Data2Verticle");
+        assertThat(hops.getJsonObject(1).getJsonObject("timestamps").containsKey("enqueued")).isTrue();
+    }
+
+    private static DataContextImpl hopContext(String qualifiedName, boolean timed) {
+        DataContextImpl hopContext = new DataContextImpl();
+        hopContext.pushVerticleToPath(qualifiedName);
+        if (timed) {
+            hopContext.startTiming();
+        }
+        return hopContext;
+    }
+
     private int contextPathSize(DataContext context) {
         return Iterators.size(context.path());
     }
@@ -0,0 +1,70 @@
+package io.neonbee.data.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.Future;
+
+class DataRequestLimiterTest {
+
+    @Test
+    @DisplayName("An unlimited limiter should always acquire a slot immediately")
+    void testUnlimited() {
+        DataRequestLimiter limiter = new DataRequestLimiter(0);
+        assertThat(limiter.isLimited()).isFalse();
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.acquire(0).succeeded()).isTrue();
+        }
+        assertThat(limiter.getInFlight()).isEqualTo(0);
+        assertThat(limiter.getQueued()).isEqualTo(0);
+        assertThat(DataRequestLimiter.UNLIMITED.isLimited()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Requests exceeding the limit should be queued until a slot is released")
+    void testLimit() {
+        DataRequestLimiter limiter = new DataRequestLimiter(2);
+        assertThat(limiter.acquire(0).succeeded()).isTrue();
+        assertThat(limiter.acquire(0).succeeded()).isTrue();
+        Future<Void> queued = limiter.acquire(0);
+        assertThat(queued.isComplete()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThat(limiter.getQueued()).isEqualTo(1);
+
+        limiter.release();
+        assertThat(queued.succeeded()).isTrue();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThat(limiter.getQueued()).isEqualTo(0);
+
+        limiter.release();
+        limiter.release();
+        assertThat(limiter.getInFlight()).isEqualTo(0);
+        assertThat(limiter.acquire(0).succeeded()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Queued requests should be dispatched by priority first and in the order they were queued second")
+    void testPriority() {
+        DataRequestLimiter limiter = new DataRequestLimiter(1);
+        assertThat(limiter.acquire(0).succeeded()).isTrue();
+
+        List<String> dispatched = new ArrayList<>();
+        limiter.acquire(0).onSuccess(nothing -> dispatched.add("low1"));
+        limiter.acquire(5).onSuccess(nothing -> dispatched.add("high1"));
+        limiter.acquire(0).onSuccess(nothing -> dispatched.add("low2"));
+        limiter.acquire(5).onSuccess(nothing -> dispatched.add("high2"));
+        limiter.acquire(-1).onSuccess(nothing -> dispatched.add("lowest"));
+        assertThat(limiter.getQueued()).isEqualTo(5);
+
+        for (int i = 0; i < 5; i++) {
+            limiter.release();
+        }
+        assertThat(dispatched).containsExactly("high1", "high2", "low1", "low2", "lowest").inOrder();
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+}
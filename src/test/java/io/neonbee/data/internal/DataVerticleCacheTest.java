@@ -0,0 +1,132 @@
+package io.neonbee.data.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.neonbee.config.DataCacheConfig;
+import io.neonbee.data.DataAction;
+import io.neonbee.data.DataQuery;
+import io.neonbee.entity.EntityWrapper;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonObject;
+
+class DataVerticleCacheTest {
+    private final Map<String, DataVerticleCache> caches = new ConcurrentHashMap<>();
+
+    @Test
+    @DisplayName("Check that read results are cached per query and context key")
+    void testRequest() {
+        DataVerticleCache cache = DataVerticleCache.acquire(caches, "testRequest",
+                new DataCacheConfig().setContextKeys(List.of("userPrincipal")));
+        try {
+            AtomicInteger requests = new AtomicInteger();
+            JsonObject alice = new JsonObject().put("user", "alice");
+            JsonObject bob = new JsonObject().put("user", "bob");
+
+            assertThat(cache.request(new DataQuery(), new DataContextImpl("1", alice),
+                    context -> succeededFuture(requests.incrementAndGet())).result()).isEqualTo(1);
+            assertThat(cache.request(new DataQuery(), new DataContextImpl("2", alice),
+                    context -> succeededFuture(requests.incrementAndGet())).result()).isEqualTo(1);
+            assertThat(cache.request(new DataQuery(), new DataContextImpl("3", bob),
+                    context -> succeededFuture(requests.incrementAndGet())).result()).isEqualTo(2);
+            assertThat(cache.request(new DataQuery().addParameter("a", "b"), new DataContextImpl("4", alice),
+                    context -> succeededFuture(requests.incrementAndGet())).result()).isEqualTo(3);
+            assertThat(cache.request(new DataQuery(DataAction.CREATE), new DataContextImpl("5", alice),
+                    context -> succeededFuture(requests.incrementAndGet())).result()).isEqualTo(4);
+            assertThat(cache.size()).isEqualTo(3);
+
+            cache.invalidateAll();
+            assertThat(cache.size()).isEqualTo(0);
+            assertThat(cache.request(new DataQuery(), new DataContextImpl("6", alice),
+                    context -> succeededFuture(requests.incrementAndGet())).result()).isEqualTo(5);
+        } finally {
+            cache.release();
+        }
+    }
+
+    @Test
+    @DisplayName("Check that failures are not cached")
+    void testRequestFailure() {
+        DataVerticleCache cache = DataVerticleCache.acquire(caches, "testRequestFailure", new DataCacheConfig());
+        try {
+            assertThat(cache.request(new DataQuery(), new DataContextImpl(),
+                    context -> failedFuture("anyFailure")).failed()).isTrue();
+            assertThat(cache.size()).isEqualTo(0);
+        } finally {
+            cache.release();
+        }
+    }
+
+    @Test
+    @DisplayName("Check that concurrent misses wait for the first request")
+    void testRequestPending() {
+        DataVerticleCache cache = DataVerticleCache.acquire(caches, "testRequestPending", new DataCacheConfig());
+        try {
+            AtomicInteger requests = new AtomicInteger();
+            Promise<Object> promise = Promise.promise();
+            Future<Object> first = cache.request(new DataQuery(), new DataContextImpl(), context -> {
+                requests.incrementAndGet();
+                return promise.future();
+            });
+            Future<Object> second = cache.request(new DataQuery(), new DataContextImpl(), context -> {
+                requests.incrementAndGet();
+                return succeededFuture("second");
+            });
+            assertThat(second.isComplete()).isFalse();
+
+            promise.complete("first");
+            assertThat(first.result()).isEqualTo("first");
+            assertThat(second.result()).isEqualTo("first");
+            assertThat(requests.get()).isEqualTo(1);
+        } finally {
+            cache.release();
+        }
+    }
+
+    @Test
+    @DisplayName("Check that every caller receives its own copy of cached entity wrappers")
+    void testRequestEntityWrapper() {
+        DataVerticleCache cache = DataVerticleCache.acquire(caches, "testRequestEntityWrapper", new DataCacheConfig());
+        try {
+            Entity hodor = new Entity().addProperty(new Property(null, "Name", ValueType.PRIMITIVE, "Hodor"));
+            Entity sam = new Entity().addProperty(new Property(null, "Name", ValueType.PRIMITIVE, "Sam"));
+            EntityWrapper wrapper = new EntityWrapper("First.Name", List.of(hodor, sam));
+
+            EntityWrapper first = (EntityWrapper) cache
+                    .request(new DataQuery(), new DataContextImpl(), context -> succeededFuture(wrapper)).result();
+            first.getEntities().clear();
+            EntityWrapper second = (EntityWrapper) cache
+                    .request(new DataQuery(), new DataContextImpl(), context -> failedFuture("notCached")).result();
+            assertThat(second).isNotSameInstanceAs(first);
+            assertThat(second.getEntities()).hasSize(2);
+            assertThat(second.getEntities().get(0)).isNotSameInstanceAs(hodor);
+        } finally {
+            cache.release();
+        }
+    }
+
+    @Test
+    @DisplayName("Check that a cache is removed, after it was released by all verticle instances")
+    void testAcquireRelease() {
+        DataVerticleCache cache = DataVerticleCache.acquire(caches, "testAcquireRelease", new DataCacheConfig());
+        assertThat(DataVerticleCache.acquire(caches, "testAcquireRelease", new DataCacheConfig()))
+                .isSameInstanceAs(cache);
+        cache.release();
+        assertThat(caches.get("testAcquireRelease")).isSameInstanceAs(cache);
+        cache.release();
+        assertThat(caches.get("testAcquireRelease")).isNull();
+    }
+}
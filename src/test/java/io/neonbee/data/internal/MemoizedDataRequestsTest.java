@@ -0,0 +1,67 @@
+package io.neonbee.data.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.neonbee.data.DataContext;
+import io.neonbee.data.DataQuery;
+import io.neonbee.data.DataRequest;
+import io.vertx.core.Future;
+
+class MemoizedDataRequestsTest {
+    @Test
+    @DisplayName("Check that requests are memoized per server generated request id")
+    void testRequest() {
+        AtomicInteger requests = new AtomicInteger();
+        BiFunction<DataRequest, DataContext, Future<Object>> requester =
+                (request, context) -> succeededFuture(requests.incrementAndGet());
+
+        assertThat(request(context("testRequest"), requester)).isEqualTo(1);
+        assertThat(request(context("testRequest"), requester)).isEqualTo(1);
+        assertThat(request(context("otherRequest"), requester)).isEqualTo(2);
+        assertThat(request(new DataContextImpl(), requester)).isEqualTo(3);
+        assertThat(request(new DataContextImpl(), requester)).isEqualTo(4);
+
+        // a correlation id provided by a client must not be used to memoize results
+        assertThat(request(new DataContextImpl("testRequest", null, null), requester)).isEqualTo(5);
+
+        MemoizedDataRequests.evict("otherRequest");
+        MemoizedDataRequests.evict("testRequest");
+        assertThat(MemoizedDataRequests.isMemoized("testRequest")).isFalse();
+        assertThat(request(context("testRequest"), requester)).isEqualTo(6);
+        MemoizedDataRequests.evict("testRequest");
+    }
+
+    @Test
+    @DisplayName("Check that failed requests are not memoized")
+    void testRequestFailed() {
+        AtomicInteger requests = new AtomicInteger();
+        BiFunction<DataRequest, DataContext, Future<Object>> requester = (request, context) -> requests
+                .incrementAndGet() == 1 ? failedFuture("failure") : succeededFuture(requests.get());
+
+        assertThat(MemoizedDataRequests.request(memoizedRequest(), context("testRequestFailed"), requester).failed())
+                .isTrue();
+        assertThat(request(context("testRequestFailed"), requester)).isEqualTo(2);
+        assertThat(request(context("testRequestFailed"), requester)).isEqualTo(2);
+        MemoizedDataRequests.evict("testRequestFailed");
+    }
+
+    private static DataContext context(String requestId) {
+        return new DataContextImpl().setRequestId(requestId);
+    }
+
+    private static DataRequest memoizedRequest() {
+        return new DataRequest("any", new DataQuery()).setMemoized(true);
+    }
+
+    private static Object request(DataContext context, BiFunction<DataRequest, DataContext, Future<Object>> requester) {
+        return MemoizedDataRequests.request(memoizedRequest(), context, requester).result();
+    }
+}
@@ -0,0 +1,53 @@
+package io.neonbee.data.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.core.Future.succeededFuture;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.neonbee.data.DataAction;
+import io.neonbee.data.DataQuery;
+import io.neonbee.data.DataRequest;
+import io.vertx.core.Future;
+
+class ResolutionScopeTest {
+    @Test
+    @DisplayName("Check that only read requests are coalesced")
+    void testKeyOf() {
+        assertThat(ResolutionScope.keyOf(new DataRequest("any", new DataQuery().addParameter("a", "b"))))
+                .isEqualTo(ResolutionScope.keyOf(new DataRequest("any", new DataQuery().addParameter("a", "b"))));
+        assertThat(ResolutionScope.keyOf(new DataRequest("any", new DataQuery().addParameter("a", "b"))))
+                .isNotEqualTo(ResolutionScope.keyOf(new DataRequest("any", new DataQuery().addParameter("a", "c"))));
+        assertThat(ResolutionScope.keyOf(new DataRequest("any", new DataQuery(DataAction.CREATE)))).isNull();
+    }
+
+    @Test
+    @DisplayName("Check that a scope is removed, after it was released by all routines")
+    void testAcquireRelease() {
+        ResolutionScope scope = ResolutionScope.acquire("testAcquireRelease");
+        assertThat(ResolutionScope.acquire("testAcquireRelease")).isSameInstanceAs(scope);
+        scope.release();
+        assertThat(ResolutionScope.isActive("testAcquireRelease")).isTrue();
+        scope.release();
+        assertThat(ResolutionScope.isActive("testAcquireRelease")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Check that identical requests are only issued once")
+    void testRequest() {
+        ResolutionScope scope = ResolutionScope.acquire("testRequest");
+        AtomicInteger requests = new AtomicInteger();
+        Future<Object> first = scope.request(new DataRequest("any", new DataQuery()), new DataContextImpl(),
+                (request, context) -> succeededFuture(requests.incrementAndGet()));
+        Future<Object> second = scope.request(new DataRequest("any", new DataQuery()), new DataContextImpl(),
+                (request, context) -> succeededFuture(requests.incrementAndGet()));
+        scope.release();
+
+        assertThat(requests.get()).isEqualTo(1);
+        assertThat(first.result()).isEqualTo(1);
+        assertThat(second.result()).isEqualTo(1);
+    }
+}
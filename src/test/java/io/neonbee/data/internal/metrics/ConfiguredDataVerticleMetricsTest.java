@@ -28,6 +28,7 @@ import io.neonbee.NeonBeeMockHelper;
 import io.neonbee.test.helper.ReflectionHelper;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.micrometer.backends.BackendRegistries;
 
@@ -95,6 +96,22 @@ class ConfiguredDataVerticleMetricsTest {
         }
     }
 
+    @Test
+    @DisplayName("Test timing configuration, all metrics should be reported")
+    void timingConfigEnabled() {
+        JsonObject config = new JsonObject().put(ConfiguredDataVerticleMetrics.ENABLED, true)
+                .put(ConfiguredDataVerticleMetrics.TIMING_PERCENTILES, new JsonArray().add(0.95))
+                .put(ConfiguredDataVerticleMetrics.TIMING_PERCENTILE_HISTOGRAM, true);
+
+        MeterRegistry mockRegistry = mock(MeterRegistry.class);
+        try (MockedStatic<BackendRegistries> registry = mockStatic(BackendRegistries.class)) {
+            registry.when(() -> BackendRegistries.getNow(anyString())).thenReturn(mockRegistry);
+
+            DataVerticleMetrics instance = ConfiguredDataVerticleMetrics.configureMetricsReporting(neonBee, config);
+            assertThat(instance).isInstanceOf(DataVerticleMetricsImpl.class);
+        }
+    }
+
     @Test
     @DisplayName("Test config with all values provided")
     void configWithAllValuesEnabled() {
@@ -3,18 +3,29 @@ package io.neonbee.data.internal.metrics;
 import static com.google.common.truth.Truth.assertThat;
 import static io.vertx.core.http.HttpMethod.GET;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 
+import io.micrometer.core.instrument.ImmutableTag;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.neonbee.config.NeonBeeConfig;
 import io.neonbee.data.DataVerticle;
 import io.neonbee.test.base.DataVerticleTestBase;
 import io.neonbee.test.helper.WorkingDirectoryBuilder;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.junit5.Timeout;
 import io.vertx.junit5.VertxTestContext;
@@ -79,6 +90,9 @@ class DataVerticleMetricsImplTest extends DataVerticleTestBase {
                     assertThat(resp.bodyAsString()).contains(
                             "retrieve_data_timer_DataVerticle_test_TestRequireDataVerticle__seconds_max{name=\"TestRequireDataVerticle\",namespace=\"test\",} ");
 
+                    assertThat(resp.bodyAsString()).contains(
+                            "retrieve_data_require_timer_DataVerticle_test_TestRequireDataVerticle__seconds_count{name=\"TestRequireDataVerticle\",namespace=\"test\",} 1.0");
+
                     assertThat(resp.bodyAsString()).contains(
                             "retrieve_data_counter_DataVerticle_test_TestRequireDataVerticle__total{name=\"TestRequireDataVerticle\",namespace=\"test\",succeeded=\"true\",} 1.0");
                     assertThat(resp.bodyAsString()).contains(
@@ -88,4 +102,87 @@ class DataVerticleMetricsImplTest extends DataVerticleTestBase {
                     testContext.completeNow();
                 }));
     }
+
+    @Test
+    @DisplayName("Meters should be registered once per name and tags")
+    void testMetersAreCached() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        DataVerticleMetricsImpl metrics = new DataVerticleMetricsImpl(registry);
+        List<Tag> tags = List.of(new ImmutableTag("query", "a"));
+
+        List<Tag> equalTags = List.of(new ImmutableTag("query", "a"));
+
+        assertThat(metrics.getCounter("counter", "description", tags))
+                .isSameInstanceAs(metrics.getCounter("counter", "description", equalTags));
+        assertThat(metrics.getCounter("counter", "description", tags))
+                .isNotSameInstanceAs(metrics.getCounter("counter", "description", List.of()));
+        assertThat(metrics.getTimer("timer", "description", tags))
+                .isSameInstanceAs(metrics.getTimer("timer", "description", tags));
+        assertThat(metrics.getGaugeLongAdder("gauge", "description", tags))
+                .isSameInstanceAs(metrics.getGaugeLongAdder("gauge", "description", tags));
+
+        metrics.reportNumberOfRequests("counter", "description", tags);
+        metrics.reportNumberOfRequests("counter", "description", tags);
+        assertThat(registry.get("counter").tags(tags).counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Meters of the least recently used tags should be evicted")
+    void testMetersAreBounded() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        DataVerticleMetricsImpl metrics = new DataVerticleMetricsImpl(registry, TimingConfiguration.NONE, 2);
+        for (int i = 0; i < 10; i++) {
+            metrics.reportNumberOfRequests("counter", "description", List.of(new ImmutableTag("query", "q" + i)));
+        }
+
+        assertThat(registry.find("counter").counters().size()).isAtMost(2);
+        assertThat(registry.find("counter").tag("query", "q9").counter()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Active requests and status counters should be reported for every request")
+    void testActiveRequestsAndStatus() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        DataVerticleMetricsImpl metrics = new DataVerticleMetricsImpl(registry);
+
+        Promise<Void> first = Promise.promise();
+        Promise<Void> second = Promise.promise();
+        for (Future<?> future : List.of(first.future(), second.future())) {
+            metrics.reportActiveRequestsGauge("active", "description", List.of(), future);
+            metrics.reportStatusCounter("status", "description", List.of(), future);
+            metrics.reportTimingMetric("timer", "description", List.of(), future);
+        }
+        assertThat(registry.get("active").gauge().value()).isEqualTo(2.0);
+
+        first.complete();
+        second.fail("failed");
+        assertThat(registry.get("active").gauge().value()).isEqualTo(0.0);
+        assertThat(registry.get("status").tag("succeeded", "true").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("status").tag("succeeded", "false").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("timer").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Timers should publish the configured distribution statistics")
+    void testTimingConfiguration() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        JsonObject config = new JsonObject()
+                .put(ConfiguredDataVerticleMetrics.TIMING_PERCENTILES, new JsonArray(List.of(0.5, 0.99)))
+                .put(ConfiguredDataVerticleMetrics.TIMING_SERVICE_LEVEL_OBJECTIVES,
+                        new JsonArray(List.of(50, 100, 250)))
+                .put(ConfiguredDataVerticleMetrics.TIMING_DISTRIBUTION_EXPIRY, 60000);
+        DataVerticleMetricsImpl metrics = new DataVerticleMetricsImpl(registry, TimingConfiguration.fromJson(config));
+
+        Timer timer = metrics.getTimer("timer", "description", List.of());
+        timer.record(75, TimeUnit.MILLISECONDS);
+
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        assertThat(snapshot.percentileValues()).hasLength(2);
+        assertThat(snapshot.histogramCounts()).hasLength(3);
+        assertThat(snapshot.histogramCounts()[0].count()).isEqualTo(0.0);
+        assertThat(snapshot.histogramCounts()[1].count()).isEqualTo(1.0);
+
+        assertThat(new DataVerticleMetricsImpl(registry).getTimer("plain", "description", List.of()).takeSnapshot()
+                .histogramCounts()).isEmpty();
+    }
 }
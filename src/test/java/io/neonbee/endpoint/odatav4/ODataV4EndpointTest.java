@@ -1,7 +1,9 @@
 package io.neonbee.endpoint.odatav4;
 
 import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.endpoint.odatav4.ODataV4Endpoint.CONFIG_PROCESSING_MODE;
 import static io.neonbee.endpoint.odatav4.ODataV4Endpoint.CONFIG_URI_CONVERSION;
+import static io.neonbee.endpoint.odatav4.ODataV4Endpoint.CONFIG_WORKER_POOL_SIZE;
 import static io.neonbee.endpoint.odatav4.ODataV4Endpoint.UriConversion.CDS;
 import static io.neonbee.endpoint.odatav4.ODataV4Endpoint.UriConversion.LOOSE;
 import static io.neonbee.endpoint.odatav4.ODataV4Endpoint.UriConversion.STRICT;
@@ -18,9 +20,13 @@ import java.lang.reflect.Method;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
 import org.apache.olingo.commons.api.edm.FullQualifiedName;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -35,7 +41,9 @@ import io.neonbee.data.DataAdapter;
 import io.neonbee.data.DataContext;
 import io.neonbee.data.DataException;
 import io.neonbee.data.DataQuery;
+import io.neonbee.endpoint.odatav4.ODataV4Endpoint.ProcessingMode;
 import io.neonbee.endpoint.odatav4.ODataV4Endpoint.UriConversion;
+import io.neonbee.endpoint.odatav4.internal.olingo.processor.BatchProcessor;
 import io.neonbee.entity.EntityVerticle;
 import io.neonbee.entity.EntityWrapper;
 import io.neonbee.internal.verticle.ServerVerticle;
@@ -47,6 +55,7 @@ import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Verticle;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.client.HttpResponse;
 import io.vertx.junit5.Timeout;
@@ -74,9 +83,20 @@ class ODataV4EndpointTest extends ODataEndpointTestBase {
                 uriConversion = CDS;
             }
 
+            // the OData requests should be processed in the processing mode the test is named after
+            ProcessingMode processingMode = ProcessingMode.ORDERED;
+            if (testMethodName.contains("UnorderedProcessingMode")) {
+                processingMode = ProcessingMode.UNORDERED;
+            } else if (testMethodName.contains("WorkerPoolProcessingMode")) {
+                processingMode = ProcessingMode.WORKER_POOL;
+            } else if (testMethodName.contains("EventLoopProcessingMode")) {
+                processingMode = ProcessingMode.EVENT_LOOP;
+            }
+
             DeploymentOptions opts = WorkingDirectoryBuilder.readDeploymentOptions(ServerVerticle.class, root);
             EndpointConfig epc = new EndpointConfig().setType(ODataV4Endpoint.class.getName())
-                    .setAdditionalConfig(new JsonObject().put(CONFIG_URI_CONVERSION, uriConversion.toString()));
+                    .setAdditionalConfig(new JsonObject().put(CONFIG_URI_CONVERSION, uriConversion.toString())
+                            .put(CONFIG_PROCESSING_MODE, processingMode.name()).put(CONFIG_WORKER_POOL_SIZE, 2));
             ServerConfig sc = new ServerConfig(opts.getConfig()).setEndpointConfigs(List.of(epc));
             opts.setConfig(sc.toJson());
             WorkingDirectoryBuilder.writeDeploymentOptions(ServerVerticle.class, opts, root);
@@ -225,6 +245,236 @@ class ODataV4EndpointTest extends ODataEndpointTestBase {
                 .onComplete(testContext.succeeding(result -> testContext.verify(() -> testContext.completeNow())));
     }
 
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Query options handled by the entity verticle must not be applied again")
+    void testQueryOptionPushDown(VertxTestContext testContext) {
+        EntityVerticle dummy = createDummyEntityVerticle(TEST_USERS).withDynamicResponse((dataQuery, dataContext) -> {
+            // the verticle only returns the requested page of entities, but reports the total count
+            dataContext.responseData().put("OData.skip", Boolean.TRUE);
+            dataContext.responseData().put("OData.top", Boolean.TRUE);
+            dataContext.responseData().put("OData.count", 42L);
+            return new EntityWrapper(TEST_USERS, List.of(new Entity().addProperty(
+                    new Property(null, "ID", ValueType.PRIMITIVE, "42")).addProperty(
+                            new Property(null, "name", ValueType.PRIMITIVE, "Answer"))));
+        });
+
+        deployVerticle(dummy)
+                .compose(v -> requestOData(new ODataRequest(TEST_USERS).addQueryParam("$count", "true")
+                        .addQueryParam("$skip", "41").addQueryParam("$top", "1")))
+                .onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+                    JsonObject body = response.bodyAsJsonObject();
+                    assertThat(body.getInteger("@odata.count")).isEqualTo(42);
+                    assertThat(body.getJsonArray("value").getJsonObject(0).getString("ID")).isEqualTo("42");
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Entity verticles handling paging must get the page size and provide the next skip token")
+    void testPagingPushDown(VertxTestContext testContext) {
+        EntityVerticle dummy = createDummyEntityVerticle(TEST_USERS).withDynamicResponse((dataQuery, dataContext) -> {
+            testContext.verify(() -> assertThat(dataQuery.getHeader("Prefer")).isEqualTo("odata.maxpagesize=1"));
+            dataContext.responseData().put("OData.skiptoken", Boolean.TRUE);
+            dataContext.responseData().put("OData.nextskiptoken", "cursor-2");
+            return new EntityWrapper(TEST_USERS, List.of(new Entity().addProperty(
+                    new Property(null, "ID", ValueType.PRIMITIVE, "1")).addProperty(
+                            new Property(null, "name", ValueType.PRIMITIVE, "First"))));
+        });
+
+        deployVerticle(dummy)
+                .compose(v -> requestOData(new ODataRequest(TEST_USERS).addHeader("Prefer", "odata.maxpagesize=1")
+                        .addQueryParam("$skiptoken", "cursor-1")))
+                .onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+                    JsonObject body = response.bodyAsJsonObject();
+                    assertThat(body.getJsonArray("value").size()).isEqualTo(1);
+                    assertThat(body.getString("@odata.nextLink")).isEqualTo("TestUsers?$skiptoken=cursor-2");
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Entity verticles handling the count must not need to return any entities")
+    void testCountPushDown(VertxTestContext testContext) {
+        EntityVerticle dummy = createDummyEntityVerticle(TEST_USERS).withDynamicResponse((dataQuery, dataContext) -> {
+            testContext.verify(() -> assertThat(dataQuery.getUriPath()).endsWith("/$count"));
+            dataContext.responseData().put("OData.count", 42L);
+            return new EntityWrapper(TEST_USERS, List.of());
+        });
+
+        deployVerticle(dummy).compose(v -> requestOData(new ODataRequest(TEST_USERS).setCount()))
+                .onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+                    assertThat(response.bodyAsString()).isEqualTo("42");
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("The parts of a $batch request should be processed and responded in order")
+    void testBatch(VertxTestContext testContext) {
+        assertBatch(testContext);
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("The parts of a $batch request should be processed in the worker pool processing mode")
+    void testBatchWorkerPoolProcessingMode(VertxTestContext testContext) {
+        assertBatch(testContext);
+    }
+
+    private void assertBatch(VertxTestContext testContext) {
+        EntityVerticle dummy = createDummyEntityVerticle(TEST_USERS).withStaticResponse(
+                List.of(new Entity().addProperty(new Property(null, "ID", ValueType.PRIMITIVE, "42"))
+                        .addProperty(new Property(null, "name", ValueType.PRIMITIVE, "Answer"))));
+
+        String part = "--batch_test\r\nContent-Type: application/http\r\nContent-Transfer-Encoding: binary\r\n\r\n"
+                + "GET %s HTTP/1.1\r\nAccept: application/json\r\n\r\n\r\n";
+        Buffer body = Buffer.buffer(String.format(part, "TestUsers") + String.format(part, "TestUsers/$count")
+                + String.format(part, "TestUsers") + "--batch_test--\r\n");
+
+        deployVerticle(dummy).compose(v -> createRequest(HttpMethod.POST, "/odata/Service/$batch")
+                .putHeader("Content-Type", "multipart/mixed;boundary=batch_test").sendBuffer(body))
+                .onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+                    assertThat(response.statusCode()).isEqualTo(202);
+                    String responseBody = response.bodyAsString();
+                    assertThat(responseBody.split("HTTP/1.1 200 OK", -1)).hasLength(4);
+                    // the response parts must be in the order of the request parts, the second part is the $count
+                    assertThat(responseBody).containsMatch("(?s)\"Answer\".*text/plain.*\"Answer\"");
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 5, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("More parts of a $batch request than processed concurrently should all be processed and responded")
+    void testBatchConcurrencyUnorderedProcessingMode(VertxTestContext testContext) {
+        AtomicInteger requests = new AtomicInteger();
+        EntityVerticle dummy = createDummyEntityVerticle(TEST_USERS).withDataAdapter(new DataAdapter<>() {
+            @Override
+            public Future<EntityWrapper> retrieveData(DataQuery query, DataContext context) {
+                // reply after varying delays, so that the lanes continue with the next part in a different order
+                long delay = 1 + requests.getAndIncrement() % 5 * 5;
+                return Future.future(promise -> getNeonBee().getVertx().setTimer(delay,
+                        timerId -> promise.complete(new EntityWrapper(TEST_USERS, List.of(new Entity()
+                                .addProperty(new Property(null, "ID", ValueType.PRIMITIVE, "42"))
+                                .addProperty(new Property(null, "name", ValueType.PRIMITIVE, "Answer")))))));
+            }
+        });
+
+        int parts = BatchProcessor.DEFAULT_CONCURRENCY * 3;
+        String part = "--batch_test\r\nContent-Type: application/http\r\nContent-Transfer-Encoding: binary\r\n\r\n"
+                + "GET TestUsers HTTP/1.1\r\nAccept: application/json\r\n\r\n\r\n";
+        Buffer body = Buffer.buffer(part.repeat(parts) + "--batch_test--\r\n");
+
+        deployVerticle(dummy).compose(v -> createRequest(HttpMethod.POST, "/odata/Service/$batch")
+                .putHeader("Content-Type", "multipart/mixed;boundary=batch_test").sendBuffer(body))
+                .onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+                    assertThat(response.statusCode()).isEqualTo(202);
+                    String responseBody = response.bodyAsString();
+                    assertThat(responseBody.split("HTTP/1.1 200 OK", -1)).hasLength(parts + 1);
+                    assertThat(responseBody.split("\"Answer\"", -1)).hasLength(parts + 1);
+                    assertThat(requests.get()).isEqualTo(parts);
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("The response hints of one part of a $batch request must not affect any other part")
+    void testBatchResponseHints(VertxTestContext testContext) {
+        EntityVerticle dummy = createDummyEntityVerticle(TEST_USERS).withDynamicResponse((dataQuery, dataContext) -> {
+            if (!dataQuery.getUriPath().endsWith("/$count")) {
+                dataContext.responseData().put("OData.count", 42L);
+            }
+            return new EntityWrapper(TEST_USERS,
+                    List.of(new Entity().addProperty(new Property(null, "ID", ValueType.PRIMITIVE, "1")),
+                            new Entity().addProperty(new Property(null, "ID", ValueType.PRIMITIVE, "2"))));
+        });
+
+        String part = "--batch_test\r\nContent-Type: application/http\r\nContent-Transfer-Encoding: binary\r\n\r\n"
+                + "GET %s HTTP/1.1\r\nAccept: application/json\r\n\r\n\r\n";
+        Buffer body = Buffer.buffer(String.format(part, "TestUsers?$count=true")
+                + String.format(part, "TestUsers/$count") + "--batch_test--\r\n");
+
+        deployVerticle(dummy).compose(v -> createRequest(HttpMethod.POST, "/odata/Service/$batch")
+                .putHeader("Content-Type", "multipart/mixed;boundary=batch_test").sendBuffer(body))
+                .onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+                    assertThat(response.statusCode()).isEqualTo(202);
+                    // the count reported for the first part must not be used as the count of the second part
+                    assertThat(response.bodyAsString())
+                            .containsMatch("(?s)\"@odata.count\":42.*text/plain.*\r\n\r\n2\r\n");
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Streamed responses should be written on the worker pool dedicated to writing responses")
+    void testResponseWriterPool(VertxTestContext testContext) {
+        AtomicReference<String> writerThread = new AtomicReference<>();
+        EntityVerticle dummy = createDummyEntityVerticle(TEST_USERS).withDynamicResponse((dataQuery, dataContext) -> {
+            // the entities are streamed, thus they are only consumed while the response is written
+            Entity entity = new Entity().addProperty(new Property(null, "ID", ValueType.PRIMITIVE, "1"));
+            return new EntityWrapper(TEST_USERS,
+                    Stream.of(entity).peek(e -> writerThread.set(Thread.currentThread().getName())));
+        });
+
+        deployVerticle(dummy).compose(v -> requestOData(new ODataRequest(TEST_USERS)))
+                .onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+                    assertThat(response.statusCode()).isEqualTo(200);
+                    assertThat(writerThread.get()).contains("-response-writer");
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    void testProcessingModeByName() {
+        assertThat(ProcessingMode.byName("unordered")).isEqualTo(ProcessingMode.UNORDERED);
+        assertThat(ProcessingMode.byName("WORKER_POOL")).isEqualTo(ProcessingMode.WORKER_POOL);
+        assertThat(ProcessingMode.byName("event-loop")).isEqualTo(ProcessingMode.EVENT_LOOP);
+        assertThat(ProcessingMode.byName("anything")).isEqualTo(ProcessingMode.ORDERED);
+        assertThat(ProcessingMode.byName(null)).isEqualTo(ProcessingMode.ORDERED);
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("OData requests should be processed in the unordered processing mode")
+    void testUnorderedProcessingMode(VertxTestContext testContext) {
+        assertProcessingMode(testContext);
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("OData requests should be processed in the worker pool processing mode")
+    void testWorkerPoolProcessingMode(VertxTestContext testContext) {
+        assertProcessingMode(testContext);
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("OData requests should be processed in the event loop processing mode")
+    void testEventLoopProcessingMode(VertxTestContext testContext) {
+        assertProcessingMode(testContext);
+    }
+
+    private void assertProcessingMode(VertxTestContext testContext) {
+        EntityVerticle dummy = createDummyEntityVerticle(TEST_USERS).withStaticResponse(
+                List.of(new Entity().addProperty(new Property(null, "ID", ValueType.PRIMITIVE, "42"))
+                        .addProperty(new Property(null, "name", ValueType.PRIMITIVE, "Answer"))));
+
+        deployVerticle(dummy).compose(v -> all(
+                // metadata is processed synchronously by Olingo, entity collections asynchronously by NeonBee
+                assertOData(requestMetadata("io.neonbee.handler.TestService"), ODataV4EndpointTest::assertTS1Handler,
+                        testContext),
+                requestOData(new ODataRequest(TEST_USERS)).onSuccess(response -> testContext.verify(() -> {
+                    assertThat(response.bodyAsJsonObject().getJsonArray("value").getJsonObject(0).getString("name"))
+                            .isEqualTo("Answer");
+                })))).onComplete(testContext.succeedingThenComplete());
+    }
+
     private static void assertTS1Handler(Buffer body) {
         assertThat(body.toString()).contains("Namespace=\"io.neonbee.handler.TestService\"");
     }
@@ -1,17 +1,22 @@
 package io.neonbee.endpoint.odatav4.internal.olingo;
 
 import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.endpoint.odatav4.internal.olingo.OlingoEndpointHandler.CHUNK_SIZE;
+import static io.neonbee.endpoint.odatav4.internal.olingo.OlingoEndpointHandler.isReadOnly;
 import static io.neonbee.endpoint.odatav4.internal.olingo.OlingoEndpointHandler.mapODataResponse;
 import static io.neonbee.endpoint.odatav4.internal.olingo.OlingoEndpointHandler.mapToODataRequest;
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
 import java.io.OutputStream;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.apache.olingo.server.api.ODataContent;
 import org.apache.olingo.server.api.ODataRequest;
@@ -24,6 +29,8 @@ import org.mockito.stubbing.Answer;
 import com.google.common.base.Charsets;
 
 import io.neonbee.internal.handler.CorrelationIdHandler;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
@@ -43,7 +50,7 @@ class OlingoEndpointHandlerTest {
         odataResponse.setContent(new ByteArrayInputStream("expected data".getBytes(Charsets.UTF_8)));
 
         HttpServerResponse responseMock = mock(HttpServerResponse.class);
-        assertDoesNotThrow(() -> mapODataResponse(odataResponse, responseMock));
+        assertThat(mapODataResponse(odataResponse, responseMock, Future::future).succeeded()).isTrue();
 
         verify(responseMock).setStatusCode(200);
         verify(responseMock).putHeader("expected1", "value1");
@@ -66,7 +73,7 @@ class OlingoEndpointHandlerTest {
         odataResponse.setODataContent(odataContentMock);
 
         HttpServerResponse responseMock = mock(HttpServerResponse.class);
-        assertDoesNotThrow(() -> mapODataResponse(odataResponse, responseMock));
+        assertThat(mapODataResponse(odataResponse, responseMock, Future::future).succeeded()).isTrue();
 
         ArgumentCaptor<Buffer> endBuffer = ArgumentCaptor.forClass(Buffer.class);
         verify(responseMock).end(endBuffer.capture());
@@ -104,4 +111,87 @@ class OlingoEndpointHandlerTest {
         assertThat(odataReq.getRawODataPath()).isEqualTo(expectedPath);
         assertThat(odataReq.getRawQueryPath()).isEqualTo(expectedQuery);
     }
+
+    @Test
+    @DisplayName("test isReadOnly")
+    void testIsReadOnly() {
+        HttpServerRequest request = mock(HttpServerRequest.class);
+        when(request.method()).thenReturn(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.POST, HttpMethod.PATCH);
+        assertThat(isReadOnly(request)).isTrue();
+        assertThat(isReadOnly(request)).isTrue();
+        assertThat(isReadOnly(request)).isFalse();
+        assertThat(isReadOnly(request)).isFalse();
+    }
+
+    @Test
+    @DisplayName("stream generic response in chunks respecting back-pressure")
+    @SuppressWarnings("unchecked")
+    void checkGenericResponseStreaming() {
+        byte[] content = new byte[CHUNK_SIZE * 2 + 42];
+        ODataResponse odataResponse = new ODataResponse();
+        odataResponse.setContent(new ByteArrayInputStream(content));
+
+        HttpServerResponse responseMock = mock(HttpServerResponse.class);
+        when(responseMock.writeQueueFull()).thenReturn(true, false);
+        Future<Void> result = mapODataResponse(odataResponse, responseMock, Future::future);
+
+        // the write queue is full after the first chunk, so writing must only resume after the response drained
+        ArgumentCaptor<Handler<Void>> drainHandler = ArgumentCaptor.forClass(Handler.class);
+        verify(responseMock).setChunked(true);
+        verify(responseMock).write(any(Buffer.class));
+        verify(responseMock).drainHandler(drainHandler.capture());
+        assertThat(result.isComplete()).isFalse();
+
+        drainHandler.getValue().handle(null);
+        assertThat(result.succeeded()).isTrue();
+
+        ArgumentCaptor<Buffer> chunks = ArgumentCaptor.forClass(Buffer.class);
+        verify(responseMock, times(2)).write(chunks.capture());
+        ArgumentCaptor<Buffer> endBuffer = ArgumentCaptor.forClass(Buffer.class);
+        verify(responseMock).end(endBuffer.capture());
+        assertThat(chunks.getAllValues().stream().map(Buffer::length).collect(Collectors.toList()))
+                .containsExactly(CHUNK_SIZE, CHUNK_SIZE);
+        assertThat(endBuffer.getValue().length()).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("stream OData response in chunks")
+    void checkODataResponseStreaming() {
+        ODataResponse odataResponse = new ODataResponse();
+        ODataContent odataContentMock = mock(ODataContent.class);
+        doAnswer((Answer<ODataContent>) invocation -> {
+            OutputStream output = invocation.<OutputStream>getArgument(0);
+            output.write(new byte[CHUNK_SIZE - 1]);
+            output.write(new byte[CHUNK_SIZE]);
+            output.write(1);
+            return null;
+        }).when(odataContentMock).write(any(OutputStream.class));
+        odataResponse.setODataContent(odataContentMock);
+
+        HttpServerResponse responseMock = mock(HttpServerResponse.class);
+        assertThat(mapODataResponse(odataResponse, responseMock, Future::future).succeeded()).isTrue();
+
+        ArgumentCaptor<Buffer> chunks = ArgumentCaptor.forClass(Buffer.class);
+        verify(responseMock).setChunked(true);
+        verify(responseMock).write(chunks.capture());
+        ArgumentCaptor<Buffer> endBuffer = ArgumentCaptor.forClass(Buffer.class);
+        verify(responseMock).end(endBuffer.capture());
+        assertThat(List.of(chunks.getValue().length(), endBuffer.getValue().length())).containsExactly(CHUNK_SIZE,
+                CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("do not end the response if streaming the OData response fails")
+    void checkODataResponseStreamingFailure() {
+        ODataResponse odataResponse = new ODataResponse();
+        ODataContent odataContentMock = mock(ODataContent.class);
+        doAnswer((Answer<ODataContent>) invocation -> {
+            throw new IllegalStateException("expected");
+        }).when(odataContentMock).write(any(OutputStream.class));
+        odataResponse.setODataContent(odataContentMock);
+
+        HttpServerResponse responseMock = mock(HttpServerResponse.class);
+        assertThat(mapODataResponse(odataResponse, responseMock, Future::future).failed()).isTrue();
+        verify(responseMock, never()).end(any(Buffer.class));
+    }
 }
@@ -5,7 +5,16 @@ import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.EDM_B
 import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.EDM_STRING_JAVA_TYPES;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
 import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.apache.olingo.commons.api.edm.EdmPrimitiveTypeKind;
 
 import org.junit.jupiter.api.Test;
 
@@ -60,4 +69,43 @@ class EntityComparisonTest {
         assertThat(testEntityComparisonImplementation.instanceOfExpectedType(EDM_BINARY_JAVA_TYPES, byteArrayToBeTested,
                 byteArrayToBeTested)).isTrue();
     }
+
+    @Test
+    @SuppressWarnings({ "unchecked", "JavaUtilDate" })
+    void comparisonKeyTest() {
+        // values of the same type kind, which are compared by their keys
+        Map<EdmPrimitiveTypeKind, List<Object>> values = Map.of( //
+                EdmPrimitiveTypeKind.Int32, List.of(-3, (short) 2, 2L, (byte) 7, BigInteger.valueOf(-5)), //
+                EdmPrimitiveTypeKind.Int64, List.of(Long.MAX_VALUE, BigInteger.TEN.pow(30), -1L), //
+                EdmPrimitiveTypeKind.Decimal, List.of(new BigDecimal("0.10"), 0.1d, 1.5f, 0, BigInteger.ONE), //
+                EdmPrimitiveTypeKind.Double, List.of(-0.0d, 0.0f, 0.1f, 0.1d, 3, 1L << 40, new BigDecimal("1E3")), //
+                EdmPrimitiveTypeKind.DateTimeOffset, List.of(Instant.ofEpochSecond(1), 500L, new Date(2000)), //
+                EdmPrimitiveTypeKind.String, List.of("a", "B", "\u00df", "\u1e9e", "SAP", "sap", "Sap Cloud"), //
+                EdmPrimitiveTypeKind.Binary, List.of(BYTES_TEST, BYTES_42), //
+                EdmPrimitiveTypeKind.Boolean, List.of(true, false), //
+                EdmPrimitiveTypeKind.Guid, List.of(UUID.randomUUID(), UUID.randomUUID()));
+
+        values.forEach((kind, kindValues) -> {
+            for (Object value1 : kindValues) {
+                Object key1 = testEntityComparisonImplementation.comparisonKey(null, value1, kind);
+                assertThat(key1).isNotNull();
+                for (Object value2 : kindValues) {
+                    Object key2 = testEntityComparisonImplementation.comparisonKey(null, value2, kind);
+                    if (key1.getClass() == key2.getClass()) {
+                        assertThat(Integer.signum(((Comparable<Object>) key1).compareTo(key2)))
+                                .isEqualTo(Integer.signum(testEntityComparisonImplementation
+                                        .comparePropertyValues(null, value1, value2, kind, "test")));
+                    }
+                }
+            }
+        });
+
+        // values, which cannot be compared or are of unexpected types have no key
+        assertThat(testEntityComparisonImplementation.comparisonKey(null, Double.NaN, EdmPrimitiveTypeKind.Double))
+                .isNull();
+        assertThat(testEntityComparisonImplementation.comparisonKey(null, 1L << 60, EdmPrimitiveTypeKind.Double))
+                .isNull();
+        assertThat(testEntityComparisonImplementation.comparisonKey(null, 42, EdmPrimitiveTypeKind.String)).isNull();
+        assertThat(testEntityComparisonImplementation.comparisonKey(null, "42", EdmPrimitiveTypeKind.Int32)).isNull();
+    }
 }
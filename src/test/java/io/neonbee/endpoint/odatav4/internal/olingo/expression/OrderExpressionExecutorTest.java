@@ -20,6 +20,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.Random;
 import java.util.UUID;
 
 import org.apache.olingo.commons.api.data.Entity;
@@ -569,6 +570,61 @@ class OrderExpressionExecutorTest {
                         "org.apache.olingo.server.api.ODataApplicationException: An error has occurred while comparing two values of property testGuidProperty. The types of the compared values are UUID and String but both must be one of: UUID");
     }
 
+    @Test
+    @DisplayName("Ordering with a limit must only return the leading entities in the same order as a sort")
+    void executeOrderOptionWithLimitTest() {
+        Random random = new Random(42);
+        List<Entity> entityList = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            entityList.add(new Entity() //
+                    .addProperty(new Property(null, "testNumberProperty", ValueType.PRIMITIVE, random.nextInt(10)))
+                    .addProperty(new Property(null, "testIndexProperty", ValueType.PRIMITIVE, i)));
+        }
+        EntityChainedComparator comparator = new EntityChainedComparator(List.of(
+                new EntityComparator(routingContext, "testNumberProperty", false, EdmPrimitiveTypeKind.Int32)));
+        List<Entity> sortedEntityList = new ArrayList<>(entityList);
+        sortedEntityList.sort(comparator);
+
+        // ties must keep the relative order of the passed list, as with a (stable) sort
+        for (int limit : List.of(0, 1, 7, 50, 99)) {
+            assertThat(OrderExpressionExecutor.selectFirst(entityList, comparator, limit))
+                    .containsExactlyElementsIn(sortedEntityList.subList(0, limit)).inOrder();
+        }
+
+        EdmTypeImpl edmType = mock(EdmTypeImpl.class);
+        when(edmType.getKind()).thenReturn(EdmTypeKind.PRIMITIVE);
+        when(edmType.toString()).thenReturn(EdmPrimitiveTypeKind.Int32.toString());
+
+        EdmPropertyImpl edmProperty = mock(EdmPropertyImpl.class);
+        when(edmProperty.getType()).thenReturn(edmType);
+        when(edmProperty.getName()).thenReturn("testNumberProperty");
+
+        UriResourcePrimitiveProperty uriResourcePrimitiveProperty = mock(UriResourcePrimitiveProperty.class);
+        when(uriResourcePrimitiveProperty.getProperty()).thenReturn(edmProperty);
+
+        UriInfoResource resourcePath = mock(UriInfoResource.class);
+        when(resourcePath.getUriResourceParts()).thenReturn(List.of(uriResourcePrimitiveProperty));
+
+        MemberImpl member = mock(MemberImpl.class);
+        when(member.getResourcePath()).thenReturn(resourcePath);
+
+        OrderByItemImpl orderByItem = mock(OrderByItemImpl.class);
+        when(orderByItem.getExpression()).thenReturn(member);
+
+        OrderByOptionImpl orderByOption = mock(OrderByOptionImpl.class);
+        when(orderByOption.getOrders()).thenReturn(List.of(orderByItem));
+
+        List<Entity> limitedEntityList =
+                OrderExpressionExecutor.executeOrderOption(routingContext, orderByOption, entityList, 10);
+        assertThat(limitedEntityList).containsExactlyElementsIn(sortedEntityList.subList(0, 10)).inOrder();
+        // the passed list must not be modified in case a limit is applied
+        assertThat(entityList.get(0).getProperty("testIndexProperty").getValue()).isEqualTo(0);
+
+        // in case the limit exceeds the list, the whole list is sorted
+        assertThat(OrderExpressionExecutor.executeOrderOption(routingContext, orderByOption, entityList, 1000))
+                .containsExactlyElementsIn(sortedEntityList).inOrder();
+    }
+
     @SuppressWarnings("rawtypes")
     @Test
     void classDefinitionTest() throws Exception {
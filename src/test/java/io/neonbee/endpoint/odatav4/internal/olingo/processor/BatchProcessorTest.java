@@ -0,0 +1,57 @@
+package io.neonbee.endpoint.odatav4.internal.olingo.processor;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.BatchProcessor.isIndependent;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.BatchProcessor.planStages;
+
+import java.util.List;
+
+import org.apache.olingo.commons.api.http.HttpMethod;
+import org.apache.olingo.server.api.ODataRequest;
+import org.apache.olingo.server.api.deserializer.batch.BatchRequestPart;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BatchProcessorTest {
+
+    @Test
+    @DisplayName("Only reading parts outside of change sets, not referring to other parts, should be independent")
+    void testIsIndependent() {
+        assertThat(isIndependent(part(HttpMethod.GET, "/Products"))).isTrue();
+        assertThat(isIndependent(part(HttpMethod.HEAD, "/Products"))).isTrue();
+        assertThat(isIndependent(part(HttpMethod.GET, "/Products('1')/Name"))).isTrue();
+
+        assertThat(isIndependent(part(HttpMethod.GET, "/$1/Name"))).isFalse();
+        assertThat(isIndependent(part(HttpMethod.POST, "/Products"))).isFalse();
+        assertThat(isIndependent(part(HttpMethod.PATCH, "/Products('1')"))).isFalse();
+        assertThat(isIndependent(part(HttpMethod.DELETE, "/Products('1')"))).isFalse();
+        assertThat(isIndependent(new BatchRequestPart(true, List.of(request(HttpMethod.GET, "/Products")))))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("Consecutive independent parts should be processed in one stage")
+    void testPlanStages() {
+        assertThat(planStages(List.of())).isEmpty();
+        assertThat(planStages(List.of(part(HttpMethod.GET, "/Products"), part(HttpMethod.GET, "/Categories"),
+                part(HttpMethod.GET, "/Orders")))).containsExactly(List.of(0, 1, 2));
+        assertThat(planStages(List.of(part(HttpMethod.GET, "/Products"), part(HttpMethod.GET, "/Categories"),
+                part(HttpMethod.POST, "/Products"), part(HttpMethod.GET, "/Products"),
+                new BatchRequestPart(true, List.of(request(HttpMethod.DELETE, "/Products('1')"))),
+                part(HttpMethod.PUT, "/Products('2')"), part(HttpMethod.GET, "/Products"),
+                part(HttpMethod.GET, "/Orders"))))
+                .containsExactly(List.of(0, 1), List.of(2), List.of(3), List.of(4), List.of(5), List.of(6, 7))
+                .inOrder();
+    }
+
+    private static BatchRequestPart part(HttpMethod method, String rawODataPath) {
+        return new BatchRequestPart(false, List.of(request(method, rawODataPath)));
+    }
+
+    private static ODataRequest request(HttpMethod method, String rawODataPath) {
+        ODataRequest request = new ODataRequest();
+        request.setMethod(method);
+        request.setRawODataPath(rawODataPath);
+        return request;
+    }
+}
@@ -1,18 +1,30 @@
 package io.neonbee.endpoint.odatav4.internal.olingo.processor;
 
 import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.CountEntityCollectionProcessor.Page.decodeSkipToken;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.CountEntityCollectionProcessor.Page.encodeSkipToken;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.CountEntityCollectionProcessor.Page.nextLink;
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.CountEntityCollectionProcessor.TOO_MANY_PARTS_EXCEPTION;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.EntityIterator;
+import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.ODataRequest;
 import org.apache.olingo.server.api.uri.UriInfo;
 import org.apache.olingo.server.api.uri.UriResource;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import io.neonbee.endpoint.odatav4.internal.olingo.processor.CountEntityCollectionProcessor.Page;
+
 class CountEntityCollectionProcessorTest {
 
     @Test
@@ -26,4 +38,68 @@ class CountEntityCollectionProcessorTest {
                 () -> processor.readEntityCollection(null, null, mockedUriInfo, null));
         assertThat(exception).isEqualTo(TOO_MANY_PARTS_EXCEPTION);
     }
+
+    @Test
+    @DisplayName("Skip tokens issued by NeonBee should be decodable")
+    void testSkipToken() throws ODataApplicationException {
+        assertThat(decodeSkipToken(encodeSkipToken(0))).isEqualTo(0);
+        assertThat(decodeSkipToken(encodeSkipToken(42))).isEqualTo(42);
+        assertThat(encodeSkipToken(42)).matches("[A-Za-z0-9_-]+");
+
+        assertThat(assertThrows(ODataApplicationException.class, () -> decodeSkipToken("invalid")).getStatusCode())
+                .isEqualTo(400);
+        assertThrows(ODataApplicationException.class, () -> decodeSkipToken(encodeSkipToken(-1)));
+    }
+
+    @Test
+    @DisplayName("Next links should keep the query options of the request, but replace the $skiptoken")
+    void testNextLink() {
+        ODataRequest request = new ODataRequest();
+        request.setRawODataPath("/Products");
+        request.setRawQueryPath("%24filter=Name%20eq%20%27a%27&$skiptoken=old&$top=10");
+        assertThat(nextLink(request, "new&token").toString())
+                .isEqualTo("Products?%24filter=Name%20eq%20%27a%27&$top=10&$skiptoken=new%26token");
+
+        request.setRawQueryPath(null);
+        assertThat(nextLink(request, "token").toString()).isEqualTo("Products?$skiptoken=token");
+    }
+
+    @Test
+    @DisplayName("Pages should return the requested entities and link to the next page")
+    void testPage() {
+        ODataRequest request = new ODataRequest();
+        request.setRawODataPath("/Products");
+        List<Entity> entities = IntStream.range(0, 5).mapToObj(i -> new Entity()).collect(Collectors.toList());
+
+        Page firstPage = new Page(request, 0, 2, null);
+        assertThat(firstPage.apply(entities)).containsExactly(entities.get(0), entities.get(1)).inOrder();
+        assertThat(firstPage.getNextLink(entities.size()).toString())
+                .isEqualTo("Products?$skiptoken=" + encodeSkipToken(2));
+
+        Page lastPage = new Page(request, 4, 2, null);
+        assertThat(lastPage.apply(entities)).containsExactly(entities.get(4));
+        assertThat(lastPage.getNextLink(entities.size())).isNull();
+        assertThat(lastPage.apply(entities.subList(3, 5), 3)).containsExactly(entities.get(4));
+
+        // to determine whether a next page exists, one entity after the page is required
+        assertThat(firstPage.limit()).isEqualTo(3);
+        assertThat(lastPage.limit()).isEqualTo(7);
+
+        // the next link of an iterator is only known after the page has been iterated
+        EntityIterator iterator = new Page(request, 2, 2, null).iterator(entities.stream(), null);
+        assertThat(iterator.next()).isSameInstanceAs(entities.get(2));
+        assertThat(iterator.next()).isSameInstanceAs(entities.get(3));
+        assertThat(iterator.hasNext()).isFalse();
+        assertThat(iterator.getNext().toString()).isEqualTo("Products?$skiptoken=" + encodeSkipToken(4));
+        iterator = new Page(request, 4, 2, null).iterator(entities.stream(), null);
+        assertThat(iterator.next()).isSameInstanceAs(entities.get(4));
+        assertThat(iterator.hasNext()).isFalse();
+        assertThat(iterator.getNext()).isNull();
+
+        // in case the entity verticle paged the result, its skip token is used
+        Page verticlePage = new Page(request, 0, null, "cursor");
+        assertThat(verticlePage.apply(entities)).isEqualTo(entities);
+        assertThat(verticlePage.getNextLink(entities.size()).toString()).isEqualTo("Products?$skiptoken=cursor");
+        assertThat(verticlePage.limit()).isEqualTo(Long.MAX_VALUE);
+    }
 }
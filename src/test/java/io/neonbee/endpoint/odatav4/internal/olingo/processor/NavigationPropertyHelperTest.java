@@ -0,0 +1,134 @@
+package io.neonbee.endpoint.odatav4.internal.olingo.processor;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.NavigationPropertyHelper.buildFilter;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.NavigationPropertyHelper.getRelatedEntities;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.NavigationPropertyHelper.indexReferencedEntities;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
+import org.apache.olingo.commons.api.edm.EdmEntityType;
+import org.apache.olingo.commons.api.edm.EdmNavigationProperty;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveTypeKind;
+import org.apache.olingo.commons.api.edm.EdmProperty;
+import org.apache.olingo.commons.api.edm.EdmReferentialConstraint;
+import org.apache.olingo.commons.core.edm.primitivetype.EdmPrimitiveTypeFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NavigationPropertyHelperTest {
+    private static final Entity GERMANY = country("DE", "EU");
+
+    private static final Entity FRANCE = country("FR", "EU");
+
+    private static final Entity UNKNOWN = country("XX", null);
+
+    private static final List<Entity> COUNTRIES = List.of(GERMANY, FRANCE, UNKNOWN);
+
+    @Test
+    @DisplayName("Related entities must be looked up by all referential constraints")
+    void testGetRelatedEntities() {
+        EdmNavigationProperty navigationProperty =
+                navigationProperty(false, constraint("country", "code"), constraint("region", "region"));
+        Map<List<Object>, List<Entity>> index = indexReferencedEntities(navigationProperty, COUNTRIES);
+
+        assertThat(getRelatedEntities(navigationProperty, city("DE", "EU"), index)).containsExactly(GERMANY);
+        assertThat(getRelatedEntities(navigationProperty, city("FR", "EU"), index)).containsExactly(FRANCE);
+        assertThat(getRelatedEntities(navigationProperty, city("FR", "AS"), index)).isEmpty();
+        assertThat(getRelatedEntities(navigationProperty, city("XX", null), index)).isEmpty();
+        assertThat(getRelatedEntities(navigationProperty, city("DE", "EU"), COUNTRIES)).containsExactly(GERMANY);
+    }
+
+    @Test
+    @DisplayName("Related entities of collection navigation properties must be looked up by the partner constraints")
+    void testGetRelatedEntitiesOfCollection() {
+        EdmNavigationProperty navigationProperty = navigationProperty(true, constraint("region", "region"));
+        List<Entity> cities = List.of(city("DE", "EU"), city("FR", "EU"), city("JP", "AS"));
+        Map<List<Object>, List<Entity>> index = indexReferencedEntities(navigationProperty, cities);
+
+        assertThat(getRelatedEntities(navigationProperty, GERMANY, index)).containsExactly(cities.get(0),
+                cities.get(1));
+        assertThat(getRelatedEntities(navigationProperty, UNKNOWN, index)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("A filter for the referenced property values must be built")
+    void testBuildFilter() {
+        EdmEntityType entityType = entityType(EdmPrimitiveTypeKind.String, EdmPrimitiveTypeKind.Int32);
+
+        assertThat(buildFilter(entityType, List.of("code"), List.of(List.of("DE"), List.of("O'Neil"))))
+                .isEqualTo("code in ('DE','O''Neil')");
+        assertThat(buildFilter(entityType, List.of("code", "number"), List.of(List.of("DE", 1), List.of("FR", 2))))
+                .isEqualTo("(code eq 'DE' and number eq 1) or (code eq 'FR' and number eq 2)");
+    }
+
+    @Test
+    @DisplayName("No filter must be built, if any value cannot be represented in the query")
+    void testBuildFilterUnsupported() {
+        EdmEntityType entityType = entityType(EdmPrimitiveTypeKind.String, EdmPrimitiveTypeKind.Int32);
+
+        assertThat(buildFilter(entityType, List.of("code"), List.of(List.of("A&B")))).isNull();
+        assertThat(buildFilter(entityType, List.of("code"), List.of(List.of("100%")))).isNull();
+        assertThat(buildFilter(entityType, List.of("number"), List.of(List.of("one")))).isNull();
+        assertThat(buildFilter(entityType, List.of("unknown"), List.of(List.of("DE")))).isNull();
+    }
+
+    private static EdmEntityType entityType(EdmPrimitiveTypeKind codeType, EdmPrimitiveTypeKind numberType) {
+        EdmEntityType entityType = mock(EdmEntityType.class);
+        EdmProperty code = primitiveProperty(codeType);
+        EdmProperty number = primitiveProperty(numberType);
+        when(entityType.getStructuralProperty("code")).thenReturn(code);
+        when(entityType.getStructuralProperty("number")).thenReturn(number);
+        return entityType;
+    }
+
+    private static EdmProperty primitiveProperty(EdmPrimitiveTypeKind kind) {
+        EdmProperty property = mock(EdmProperty.class);
+        when(property.isPrimitive()).thenReturn(true);
+        when(property.isNullable()).thenReturn(true);
+        when(property.isUnicode()).thenReturn(true);
+        // Mockito would return zero for facets otherwise, which means that no value is valid
+        when(property.getMaxLength()).thenReturn(null);
+        when(property.getPrecision()).thenReturn(null);
+        when(property.getScale()).thenReturn(null);
+        when(property.getType()).thenReturn(EdmPrimitiveTypeFactory.getInstance(kind));
+        return property;
+    }
+
+    private static EdmNavigationProperty navigationProperty(boolean isCollection,
+            EdmReferentialConstraint... constraints) {
+        EdmNavigationProperty navigationProperty = mock(EdmNavigationProperty.class);
+        when(navigationProperty.isCollection()).thenReturn(isCollection);
+        if (isCollection) {
+            EdmNavigationProperty partner = mock(EdmNavigationProperty.class);
+            when(partner.getReferentialConstraints()).thenReturn(List.of(constraints));
+            when(navigationProperty.getPartner()).thenReturn(partner);
+        } else {
+            when(navigationProperty.getReferentialConstraints()).thenReturn(List.of(constraints));
+        }
+        return navigationProperty;
+    }
+
+    private static EdmReferentialConstraint constraint(String propertyName, String referencedPropertyName) {
+        EdmReferentialConstraint constraint = mock(EdmReferentialConstraint.class);
+        when(constraint.getPropertyName()).thenReturn(propertyName);
+        when(constraint.getReferencedPropertyName()).thenReturn(referencedPropertyName);
+        return constraint;
+    }
+
+    private static Entity country(String code, String region) {
+        return new Entity().addProperty(new Property(null, "code", ValueType.PRIMITIVE, code))
+                .addProperty(new Property(null, "region", ValueType.PRIMITIVE, region));
+    }
+
+    private static Entity city(String country, String region) {
+        return new Entity().addProperty(new Property(null, "country", ValueType.PRIMITIVE, country))
+                .addProperty(new Property(null, "region", ValueType.PRIMITIVE, region));
+    }
+}
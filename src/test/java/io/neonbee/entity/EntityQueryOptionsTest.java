@@ -0,0 +1,161 @@
+package io.neonbee.entity;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.NeonBeeProfile.NO_WEB;
+import static io.neonbee.entity.EntityQueryOptions.Option.COUNT;
+import static io.neonbee.entity.EntityQueryOptions.Option.EXPAND;
+import static io.neonbee.entity.EntityQueryOptions.Option.FILTER;
+import static io.neonbee.entity.EntityQueryOptions.Option.ORDER_BY;
+import static io.neonbee.entity.EntityQueryOptions.Option.SKIP;
+import static io.neonbee.entity.EntityQueryOptions.Option.SKIP_TOKEN;
+import static io.neonbee.entity.EntityQueryOptions.Option.TOP;
+import static io.neonbee.test.helper.ResourceHelper.TEST_RESOURCES;
+
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+import io.neonbee.NeonBeeOptions;
+import io.neonbee.data.DataAction;
+import io.neonbee.data.DataContext;
+import io.neonbee.data.DataQuery;
+import io.neonbee.data.internal.DataContextImpl;
+import io.neonbee.test.base.EntityVerticleTestBase;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+
+class EntityQueryOptionsTest extends EntityVerticleTestBase {
+    private static final String URI_PATH = "/io.neonbee.test1.TestService1/AllPropertiesNullable";
+
+    @Override
+    protected void adaptOptions(TestInfo testInfo, NeonBeeOptions.Mutable options) {
+        options.addActiveProfile(NO_WEB);
+    }
+
+    @Override
+    protected List<Path> provideEntityModels() {
+        return List.of(TEST_RESOURCES.resolveRelated("TestService1.csn"));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Query options must be parsed into typed options")
+    void testQueryOptions(Vertx vertx, VertxTestContext testContext) {
+        String query = "$filter=PropertyString eq 'a'&$orderby=PropertyString desc,KeyPropertyString"
+                + "&$skip=5&$top=10&$count=true";
+        parseQueryOptions(vertx, query).onComplete(testContext.succeeding(options -> testContext.verify(() -> {
+            assertThat(options.getFilter()).isNotNull();
+            assertThat(options.getOrderBy().stream().map(Object::toString).collect(Collectors.toList()))
+                    .containsExactly("PropertyString desc", "KeyPropertyString asc").inOrder();
+            assertThat(options.getSkip()).isEqualTo(5);
+            assertThat(options.getTop()).isEqualTo(10);
+            assertThat(options.getExpand()).isNull();
+            assertThat(options.isCountRequested()).isTrue();
+            assertThat(options.isCountOnly()).isFalse();
+            assertThat(options.getRequested()).containsExactly(FILTER, ORDER_BY, SKIP, TOP, COUNT);
+            testContext.completeNow();
+        })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Query options must only be pushed down, if all preceding options are pushed down as well")
+    void testPushDown(Vertx vertx, VertxTestContext testContext) {
+        parseQueryOptions(vertx, "$filter=PropertyString eq 'a'&$orderby=PropertyString&$top=10")
+                .onComplete(testContext.succeeding(options -> testContext.verify(() -> {
+                    assertThat(options.pushDown(EnumSet.allOf(EntityQueryOptions.Option.class)))
+                            .containsExactly(FILTER, ORDER_BY, TOP);
+                    assertThat(options.pushDown(Set.of(FILTER, TOP))).containsExactly(FILTER);
+                    assertThat(options.pushDown(Set.of(ORDER_BY, TOP))).isEmpty();
+                    assertThat(options.pushDown(Set.of(SKIP, EXPAND))).isEmpty();
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Ordering by expressions other than properties must not be pushed down")
+    void testPushDownOrderByExpression(Vertx vertx, VertxTestContext testContext) {
+        parseQueryOptions(vertx, "$orderby=length(PropertyString)&$top=10")
+                .onComplete(testContext.succeeding(options -> testContext.verify(() -> {
+                    assertThat(options.getOrderBy()).isEmpty();
+                    assertThat(options.getRequested()).containsExactly(ORDER_BY, TOP);
+                    assertThat(options.pushDown(EnumSet.allOf(EntityQueryOptions.Option.class))).isEmpty();
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Handled query options and the count must be reported as response hints")
+    void testMarkHandled(Vertx vertx, VertxTestContext testContext) {
+        parseQueryOptions(vertx, "$skip=5&$top=10&$count=true")
+                .onComplete(testContext.succeeding(options -> testContext.verify(() -> {
+                    DataContext context = new DataContextImpl();
+                    options.markHandled(context, options.pushDown(Set.of(SKIP, TOP)));
+                    EntityQueryOptions.setCount(context, 42);
+                    assertThat(context.responseData()).containsExactly("OData.skip", Boolean.TRUE, "OData.top",
+                            Boolean.TRUE, "OData.count", 42L);
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Paging must only be pushed down, if all other options are pushed down as well")
+    void testPushDownPaging(Vertx vertx, VertxTestContext testContext) {
+        EntityVerticle.parseUriInfo(vertx, new DataQuery(DataAction.READ, URI_PATH, "$top=10&$skiptoken=cursor"))
+                .map(uriInfo -> EntityQueryOptions.of(uriInfo, 5))
+                .onComplete(testContext.succeeding(options -> testContext.verify(() -> {
+                    assertThat(options.getSkipToken()).isEqualTo("cursor");
+                    assertThat(options.getMaxPageSize()).isEqualTo(5);
+                    assertThat(options.getRequested()).containsExactly(TOP, SKIP_TOKEN);
+                    assertThat(options.pushDown(Set.of(TOP, SKIP_TOKEN))).containsExactly(TOP, SKIP_TOKEN);
+                    assertThat(options.pushDown(Set.of(SKIP_TOKEN))).isEmpty();
+
+                    DataContext context = new DataContextImpl();
+                    options.markHandled(context, Set.of(SKIP_TOKEN));
+                    EntityQueryOptions.setNextSkipToken(context, "next");
+                    assertThat(context.responseData()).containsExactly("OData.skiptoken", Boolean.TRUE,
+                            "OData.nextskiptoken", "next");
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Counting must only be pushed down, if filtering is pushed down as well")
+    void testPushDownCount(Vertx vertx, VertxTestContext testContext) {
+        DataQuery query = new DataQuery(DataAction.READ, URI_PATH + "/$count", "$filter=PropertyString eq 'a'");
+        EntityVerticle.parseUriInfo(vertx, query).map(EntityQueryOptions::of)
+                .onComplete(testContext.succeeding(options -> testContext.verify(() -> {
+                    assertThat(options.isCountOnly()).isTrue();
+                    assertThat(options.isCountRequested()).isFalse();
+                    assertThat(options.getRequested()).containsExactly(FILTER, COUNT);
+                    assertThat(options.pushDown(Set.of(FILTER, COUNT))).containsExactly(FILTER, COUNT);
+                    assertThat(options.pushDown(Set.of(COUNT))).isEmpty();
+
+                    // the count is reported as the response hint of a handled count
+                    DataContext context = new DataContextImpl();
+                    options.markHandled(context, Set.of(FILTER, COUNT));
+                    EntityQueryOptions.setCount(context, 42);
+                    assertThat(context.responseData()).containsExactly("OData.filter", Boolean.TRUE, "OData.count",
+                            42L);
+                    testContext.completeNow();
+                })));
+    }
+
+    private static Future<EntityQueryOptions> parseQueryOptions(Vertx vertx, String query) {
+        return EntityVerticle.parseUriInfo(vertx, new DataQuery(DataAction.READ, URI_PATH, query))
+                .map(EntityQueryOptions::of);
+    }
+}
@@ -7,6 +7,7 @@ import static io.neonbee.entity.EntityVerticle.CDS_SERVICE_NAME_GROUP;
 import static io.neonbee.entity.EntityVerticle.ENTITY_PATH_GROUP;
 import static io.neonbee.entity.EntityVerticle.ENTITY_PROPERTY_NAME_GROUP;
 import static io.neonbee.entity.EntityVerticle.ENTITY_SET_NAME_GROUP;
+import static io.neonbee.entity.EntityVerticle.PARSED_URI_INFOS;
 import static io.neonbee.entity.EntityVerticle.SERVICE_NAMESPACE_GROUP;
 import static io.neonbee.entity.EntityVerticle.URI_PATH_PATTERN;
 import static io.neonbee.entity.EntityVerticle.sharedEntityMapName;
@@ -195,6 +196,51 @@ class EntityVerticleTest extends EntityVerticleTestBase {
                 })));
     }
 
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Parsed URI infos should be cached and attached URI infos should be reused")
+    void parseUriInfoCacheTest(Vertx vertx, VertxTestContext testContext) {
+        PARSED_URI_INFOS.invalidateAll();
+        DataQuery query = new DataQuery(DataAction.READ, "/io.neonbee.test1.TestService1/AllPropertiesNullable",
+                "$filter=KeyPropertyString eq 'Test123'");
+
+        EntityVerticle.parseUriInfo(vertx, query).compose(uriInfo -> {
+            return EntityVerticle.parseUriInfo(vertx, query.copy()).map(cachedUriInfo -> {
+                testContext.verify(() -> assertThat(cachedUriInfo).isSameInstanceAs(uriInfo));
+                return uriInfo;
+            });
+        }).compose(uriInfo -> {
+            PARSED_URI_INFOS.invalidateAll();
+            EntityVerticle.attachUriInfo(query, uriInfo);
+            return EntityVerticle.parseUriInfo(vertx, query).map(attachedUriInfo -> {
+                testContext.verify(() -> assertThat(attachedUriInfo).isSameInstanceAs(uriInfo));
+                return uriInfo;
+            });
+        }).compose(uriInfo -> EntityVerticle.parseUriInfo(vertx, query.copy().setUriPath(
+                "/io.neonbee.test1.TestService1/AllPropertiesNullable('123')")).map(otherUriInfo -> {
+                    testContext.verify(() -> assertThat(otherUriInfo).isNotSameInstanceAs(uriInfo));
+                    return otherUriInfo;
+                })).onComplete(testContext.succeedingThenComplete());
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Parsed URI infos should be cleared when the models are reloaded")
+    void parseUriInfoCacheReloadTest(Vertx vertx, VertxTestContext testContext) {
+        DataQuery query = new DataQuery(DataAction.READ, "/io.neonbee.test1.TestService1/AllPropertiesNullable");
+
+        EntityVerticle.parseUriInfo(vertx, query).compose(uriInfo -> {
+            testContext.verify(() -> assertThat(PARSED_URI_INFOS.asMap().values()).contains(uriInfo));
+            return getNeonBee().getModelManager().reloadModels().compose(models -> {
+                testContext.verify(() -> assertThat(PARSED_URI_INFOS.asMap().values()).doesNotContain(uriInfo));
+                return EntityVerticle.parseUriInfo(vertx, query);
+            }).map(reloadedUriInfo -> {
+                testContext.verify(() -> assertThat(reloadedUriInfo).isNotSameInstanceAs(uriInfo));
+                return reloadedUriInfo;
+            });
+        }).onComplete(testContext.succeedingThenComplete());
+    }
+
     @Test
     @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
     @DisplayName("requestEntity must call ConsolidationVerticle if more then one EntityVerticle is registered for Entity")
@@ -3,10 +3,15 @@ package io.neonbee.entity;
 import static com.google.common.truth.Truth.assertThat;
 import static io.neonbee.NeonBeeProfile.NO_WEB;
 import static io.neonbee.test.helper.ResourceHelper.TEST_RESOURCES;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Link;
 import org.apache.olingo.commons.api.data.Property;
 import org.apache.olingo.commons.api.data.ValueType;
 import org.apache.olingo.commons.api.edm.FullQualifiedName;
@@ -69,6 +74,56 @@ class EntityWrapperTest extends NeonBeeTestBase {
         assertThat(firstNamesSam).isNotEqualTo(new EntityWrapper("Hodor.Hodor", sam));
     }
 
+    @Test
+    @DisplayName("Check if streamed entities are materialized as expected")
+    void testEntityStream() {
+        Entity hodor = new Entity().addProperty(new Property(null, "Name", ValueType.PRIMITIVE, "Hodor"));
+        Entity sam = new Entity().addProperty(new Property(null, "Name", ValueType.PRIMITIVE, "Sam"));
+
+        EntityWrapper streamed = new EntityWrapper("First.Name", Stream.of(hodor, sam));
+        assertThat(streamed.getEntities()).containsExactly(hodor, sam).inOrder();
+        assertThat(streamed.getEntityStream().collect(Collectors.toList())).containsExactly(hodor, sam).inOrder();
+        assertThat(streamed).isEqualTo(new EntityWrapper("First.Name", List.of(hodor, sam)));
+
+        EntityWrapper consumed = new EntityWrapper("First.Name", Stream.of(hodor, sam));
+        assertThat(consumed.getEntityStream().collect(Collectors.toList())).containsExactly(hodor, sam).inOrder();
+        assertThrows(IllegalStateException.class, consumed::getEntities);
+        assertThrows(IllegalStateException.class, consumed::getEntityStream);
+        // an entity wrapper with a consumed stream of entities must still be comparable, but only equal to itself
+        assertThat(consumed.hashCode()).isEqualTo(consumed.hashCode());
+        assertThat(consumed).isEqualTo(consumed);
+        assertThat(consumed).isNotEqualTo(new EntityWrapper("First.Name", List.of(hodor, sam)));
+        assertThat(new EntityWrapper("First.Name", List.of(hodor, sam))).isNotEqualTo(consumed);
+
+        // hashing an entity wrapper materializes the stream of entities, so that its hash code never changes
+        EntityWrapper hashed = new EntityWrapper("First.Name", Stream.of(hodor, sam));
+        int hashCode = hashed.hashCode();
+        assertThat(hashed.getEntityStream().collect(Collectors.toList())).containsExactly(hodor, sam).inOrder();
+        assertThat(hashed.hashCode()).isEqualTo(hashCode);
+        assertThat(hashed.hashCode()).isEqualTo(new EntityWrapper("First.Name", List.of(hodor, sam)).hashCode());
+
+        assertThat(new EntityWrapper("First.Name", (Stream<Entity>) null).getEntities()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Check that a copy can be modified without affecting the entity wrapper")
+    void testCopy() {
+        Entity hodor = new Entity().addProperty(new Property(null, "Name", ValueType.PRIMITIVE, "Hodor"));
+        Entity sam = new Entity().addProperty(new Property(null, "Name", ValueType.PRIMITIVE, "Sam"));
+        EntityWrapper wrapper = new EntityWrapper("First.Name", List.of(hodor, sam));
+
+        EntityWrapper copy = wrapper.copy();
+        assertThat(copy).isEqualTo(wrapper);
+        assertThat(copy.getEntities().get(0)).isNotSameInstanceAs(hodor);
+
+        copy.getEntities().remove(1);
+        copy.getEntities().get(0).getProperty("Name").setValue(ValueType.PRIMITIVE, "Sam");
+        copy.getEntities().get(0).getNavigationLinks().add(new Link());
+        assertThat(wrapper.getEntities()).containsExactly(hodor, sam).inOrder();
+        assertThat(hodor.getProperty("Name").getValue()).isEqualTo("Hodor");
+        assertThat(hodor.getNavigationLinks()).isEmpty();
+    }
+
     @Test
     @DisplayName("Check if toBuffer works as expected")
     @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
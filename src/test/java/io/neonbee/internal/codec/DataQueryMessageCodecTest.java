@@ -2,6 +2,7 @@ package io.neonbee.internal.codec;
 
 import static com.google.common.truth.Truth.assertThat;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -26,6 +27,57 @@ class DataQueryMessageCodecTest {
         assertThat(decoded).isEqualTo(query);
     }
 
+    @Test
+    void testEncodeBinaryBody() {
+        byte[] bytes = { 0, (byte) 0xFF, (byte) 0xC3, 0x28, 42 };
+        DataQuery binaryQuery = new DataQuery(DataAction.CREATE, "uri").setBody(Buffer.buffer(bytes));
+
+        Buffer buffer = Buffer.buffer();
+        codec.encodeToWire(buffer, binaryQuery);
+        assertThat(buffer.getInt(0)).isEqualTo(DataQueryMessageCodec.BINARY_FORMAT_V1);
+        assertThat(codec.decodeFromWire(0, buffer).getBody().getBytes()).isEqualTo(bytes);
+    }
+
+    @Test
+    void testDecodeTakesOwnership() {
+        Map<String, List<String>> parameters = new HashMap<>();
+        Buffer body = Buffer.buffer("body");
+        DataQuery wrapped = DataQueryAccess.wrap(DataAction.CREATE, "uri", parameters, null, body);
+        assertThat(wrapped.getParameters()).isSameInstanceAs(parameters);
+        assertThat(wrapped.getBody()).isSameInstanceAs(body);
+        assertThat(wrapped.getHeaders()).isEmpty();
+
+        Buffer buffer = Buffer.buffer();
+        codec.encodeToWire(buffer, query);
+        DataQuery decoded = codec.decodeFromWire(0, buffer);
+        // the decoded query must be mutable, as it is not copied when decoding
+        decoded.addParameter("query2", "value").addHeader("header2", "value");
+        assertThat(decoded.getParameterValues("query2")).containsExactly("value");
+        assertThat(decoded.getHeaderValues("header2")).containsExactly("value");
+    }
+
+    @Test
+    void testEncodeEmpty() {
+        DataQuery emptyQuery = new DataQuery();
+
+        Buffer buffer = Buffer.buffer("prefix");
+        codec.encodeToWire(buffer, emptyQuery);
+        assertThat(codec.decodeFromWire(6, buffer)).isEqualTo(emptyQuery);
+    }
+
+    @Test
+    void testDecodeJsonWireFormat() {
+        DataQueryMessageCodec jsonCodec = new DataQueryMessageCodec(true);
+
+        Buffer buffer = Buffer.buffer();
+        jsonCodec.encodeToWire(buffer, query);
+        assertThat(buffer.getInt(0)).isAtLeast(0);
+
+        // both codecs must be able to decode the JSON wire format, e.g. from nodes running older versions
+        assertThat(jsonCodec.decodeFromWire(0, buffer)).isEqualTo(query);
+        assertThat(codec.decodeFromWire(0, buffer)).isEqualTo(query);
+    }
+
     @Test
     void testTransform() {
         assertThat(codec.transform(query)).isEqualTo(query);
@@ -3,12 +3,22 @@ package io.neonbee.internal.codec;
 import static com.google.common.truth.Truth.assertThat;
 import static io.neonbee.NeonBeeProfile.NO_WEB;
 import static io.neonbee.test.helper.ResourceHelper.TEST_RESOURCES;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
+import org.apache.olingo.commons.api.data.ComplexValue;
 import org.apache.olingo.commons.api.data.Entity;
 import org.apache.olingo.commons.api.data.Property;
 import org.apache.olingo.commons.api.data.ValueType;
+import org.apache.olingo.commons.api.edm.EdmEntityType;
+import org.apache.olingo.commons.api.edm.FullQualifiedName;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,6 +30,7 @@ import io.neonbee.test.base.NeonBeeTestBase;
 import io.neonbee.test.helper.WorkingDirectoryBuilder;
 import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.impl.EventBusImpl;
 import io.vertx.junit5.Timeout;
 import io.vertx.junit5.VertxTestContext;
 
@@ -66,6 +77,155 @@ class EntityWrapperMessageCodecTest extends NeonBeeTestBase {
         }).onComplete(testContext.succeedingThenComplete());
     }
 
+    @Test
+    @DisplayName("Should encode all types in the binary format and decode them same as the JSON format")
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    void encodeDecodeTypes(VertxTestContext testContext) {
+        Calendar date = Calendar.getInstance();
+        date.clear();
+        date.set(2022, Calendar.JANUARY, 31);
+        ComplexValue address = new ComplexValue();
+        address.getValue().add(new Property(null, "street", ValueType.PRIMITIVE, "Dietmar-Hopp-Allee"));
+        address.getValue().add(new Property(null, "zip", ValueType.PRIMITIVE, 69190));
+        byte[] binary = { 0, (byte) 0xFF, 42 };
+        BigDecimal decimal = new BigDecimal("-12345678901234567890.50");
+        Entity typesEntity = new Entity()
+                .addProperty(new Property(null, "ID", ValueType.PRIMITIVE, UUID.randomUUID()))
+                .addProperty(new Property(null, "flag", ValueType.PRIMITIVE, true))
+                .addProperty(new Property(null, "int32", ValueType.PRIMITIVE, 32))
+                .addProperty(new Property(null, "int64", ValueType.PRIMITIVE, Long.MIN_VALUE))
+                .addProperty(new Property(null, "decimal", ValueType.PRIMITIVE, decimal))
+                .addProperty(new Property(null, "double", ValueType.PRIMITIVE, 1.5))
+                .addProperty(new Property(null, "binary", ValueType.PRIMITIVE, binary))
+                .addProperty(new Property(null, "date", ValueType.PRIMITIVE, date))
+                .addProperty(new Property(null, "timestamp", ValueType.PRIMITIVE,
+                        Timestamp.valueOf("2022-01-31 12:34:56.1234567")))
+                .addProperty(new Property(null, "address", ValueType.COMPLEX, address))
+                .addProperty(new Property(null, "tags", ValueType.COLLECTION_PRIMITIVE, List.of("a", "b")));
+        Entity nullEntity = new Entity().addProperty(new Property(null, "ID", ValueType.PRIMITIVE, UUID.randomUUID()));
+        Entity floatEntity = new Entity().addProperty(new Property(null, "ID", ValueType.PRIMITIVE, UUID.randomUUID()))
+                .addProperty(new Property(null, "double", ValueType.PRIMITIVE, 0.1f));
+        EntityWrapper typesWrapper = new EntityWrapper("io.neonbee.codec.CodecService.TestTypes",
+                List.of(typesEntity, nullEntity, floatEntity));
+
+        getNeonBee().getModelManager().reloadModels().<Void>compose(map -> {
+            testContext.verify(() -> {
+                Buffer buffer = Buffer.buffer();
+                codec.encodeToWire(buffer, typesWrapper);
+                assertThat(buffer.getInt(0)).isEqualTo(EntityWrapperMessageCodec.BINARY_FORMAT_V1);
+
+                Buffer jsonBuffer = Buffer.buffer();
+                new EntityWrapperMessageCodec(getNeonBee().getVertx(), true).encodeToWire(jsonBuffer, typesWrapper);
+                assertThat(buffer.length()).isLessThan(jsonBuffer.length());
+
+                List<Entity> entities = codec.decodeFromWire(0, buffer).getEntities();
+                List<Entity> jsonEntities = codec.decodeFromWire(0, jsonBuffer).getEntities();
+                assertThat(entities).hasSize(3);
+                for (int i = 0; i < entities.size(); i++) {
+                    for (Property jsonProperty : jsonEntities.get(i).getProperties()) {
+                        Property property = entities.get(i).getProperty(jsonProperty.getName());
+                        assertThat(property.getValueType()).isEqualTo(jsonProperty.getValueType());
+                        if (jsonProperty.getValue() instanceof byte[]) {
+                            assertThat((byte[]) property.getValue()).isEqualTo((byte[]) jsonProperty.getValue());
+                        } else if (jsonProperty.getValue() instanceof BigDecimal) {
+                            // the JSON format doesn't keep trailing zeros, the binary format keeps the scale
+                            assertThat((BigDecimal) property.getValue())
+                                    .isEquivalentAccordingToCompareTo((BigDecimal) jsonProperty.getValue());
+                        } else {
+                            assertThat(property.getValue()).isEqualTo(jsonProperty.getValue());
+                        }
+                    }
+                }
+
+                assertThat(entities.get(0).getProperty("ID").getValue())
+                        .isEqualTo(typesEntity.getProperty("ID").getValue());
+                assertThat(entities.get(0).getProperty("int64").getValue()).isEqualTo(Long.MIN_VALUE);
+                assertThat(entities.get(0).getProperty("decimal").getValue()).isEqualTo(decimal);
+                assertThat((byte[]) entities.get(0).getProperty("binary").getValue()).isEqualTo(binary);
+                assertThat(entities.get(0).getProperty("tags").asCollection()).containsExactly("a", "b").inOrder();
+                assertThat(entities.get(1).getProperty("flag").isNull()).isTrue();
+                assertThat(entities.get(1).getProperty("tags").asCollection()).isEmpty();
+                assertThat(entities.get(2).getProperty("double").getValue()).isEqualTo(0.1);
+            });
+            return Future.succeededFuture(null);
+        }).onComplete(testContext.succeedingThenComplete());
+    }
+
+    @Test
+    @DisplayName("Should decode the JSON wire format and fail for unknown wire formats")
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    void decodeWireFormats(VertxTestContext testContext) {
+        getNeonBee().getModelManager().reloadModels().<Void>compose(map -> {
+            testContext.verify(() -> {
+                Buffer buffer = Buffer.buffer("prefix");
+                new EntityWrapperMessageCodec(getNeonBee().getVertx(), true).encodeToWire(buffer, wrapper);
+                assertThat(buffer.getInt(6)).isAtLeast(0);
+                assertThat(codec.decodeFromWire(6, buffer).getEntity().getProperty("name").getValue())
+                        .isEqualTo("NAME");
+
+                assertThrows(IllegalStateException.class, () -> codec.decodeFromWire(0, Buffer.buffer().appendInt(-2)));
+                assertThrows(IllegalStateException.class, () -> codec.encodeToWire(Buffer.buffer(),
+                        new EntityWrapper("io.neonbee.codec.CodecService.TestUsers", new Entity())));
+            });
+            return Future.succeededFuture(null);
+        }).onComplete(testContext.succeedingThenComplete());
+    }
+
+    @Test
+    @DisplayName("Should cache the EDM of entity types until the cache is cleared")
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    void clearCache(VertxTestContext testContext) {
+        String namespace = "io.neonbee.codec.CodecService";
+        FullQualifiedName entityTypeName = new FullQualifiedName(namespace, "TestUsers");
+        Supplier<EdmEntityType> bufferedEntityType = () -> getNeonBee().getModelManager()
+                .getBufferedModel("io.neonbee.codec").getEdmxMetadata(namespace).getEdm().getEntityType(entityTypeName);
+
+        getNeonBee().getModelManager().reloadModels().compose(map -> {
+            EdmEntityType entityType = codec.getEntityType(entityTypeName);
+            testContext.verify(() -> assertThat(entityType).isSameInstanceAs(bufferedEntityType.get()));
+            return getNeonBee().getModelManager().reloadModels().map(entityType);
+        }).onComplete(testContext.succeeding(entityType -> testContext.verify(() -> {
+            assertThat(bufferedEntityType.get()).isNotSameInstanceAs(entityType);
+            assertThat(codec.getEntityType(entityTypeName)).isSameInstanceAs(entityType);
+
+            codec.clearCache();
+            assertThat(codec.getEntityType(entityTypeName)).isSameInstanceAs(bufferedEntityType.get());
+            testContext.completeNow();
+        })));
+    }
+
+    @Test
+    @DisplayName("NeonBee should clear the cache of the registered codec whenever the models are reloaded")
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    void clearCacheOnReload(VertxTestContext testContext) {
+        String namespace = "io.neonbee.codec.CodecService";
+        FullQualifiedName entityTypeName = new FullQualifiedName(namespace, "TestUsers");
+        Supplier<EdmEntityType> bufferedEntityType = () -> getNeonBee().getModelManager()
+                .getBufferedModel("io.neonbee.codec").getEdmxMetadata(namespace).getEdm().getEntityType(entityTypeName);
+        EntityWrapperMessageCodec registeredCodec = (EntityWrapperMessageCodec) ((EventBusImpl) getNeonBee()
+                .getVertx().eventBus()).codecManager().getCodec(codec.name());
+
+        getNeonBee().getModelManager().getSharedModels().compose(map -> {
+            EdmEntityType entityType = registeredCodec.getEntityType(entityTypeName);
+            testContext.verify(() -> assertThat(entityType).isSameInstanceAs(bufferedEntityType.get()));
+            return getNeonBee().getModelManager().reloadModels().map(entityType);
+        }).onComplete(testContext.succeeding(entityType -> {
+            testContext.verify(() -> assertThat(bufferedEntityType.get()).isNotSameInstanceAs(entityType));
+
+            // the models loaded event is delivered asynchronously, wait for the codec to serve the reloaded models
+            awaitEntityType(testContext, () -> registeredCodec.getEntityType(entityTypeName), bufferedEntityType);
+        }));
+    }
+
+    private void awaitEntityType(VertxTestContext testContext, Supplier<EdmEntityType> actual,
+            Supplier<EdmEntityType> expected) {
+        if (actual.get() == expected.get()) {
+            testContext.completeNow();
+        } else {
+            getNeonBee().getVertx().setTimer(10, timerId -> awaitEntityType(testContext, actual, expected));
+        }
+    }
+
     @Test
     @DisplayName("Transform should return the same object")
     void testTransform() {
@@ -1,18 +1,27 @@
 package io.neonbee.internal.handler;
 
+import static com.google.common.truth.Truth.assertThat;
 import static io.neonbee.config.ServerConfig.CorrelationStrategy.GENERATE_UUID;
 import static io.neonbee.config.ServerConfig.CorrelationStrategy.REQUEST_HEADER;
 import static io.neonbee.internal.handler.CorrelationIdHandler.CORRELATION_ID;
+import static io.neonbee.internal.handler.CorrelationIdHandler.REQUEST_ID;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.matches;
 import static org.mockito.Mockito.RETURNS_MOCKS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
 
+import io.neonbee.data.internal.MemoizedDataRequests;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.ext.web.RoutingContext;
 
@@ -25,6 +34,29 @@ class CorrelationIdHandlerTest {
         verifyUuidCorrelationId(routingContextMock);
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("test a request id is generated and memoized data requests are evicted when the request ends")
+    void evictMemoizedDataRequests() {
+        RoutingContext routingContextMock = mock(RoutingContext.class);
+        new CorrelationIdHandler(GENERATE_UUID).handle(routingContextMock);
+        ArgumentCaptor<String> requestIdCaptor = ArgumentCaptor.forClass(String.class);
+        verify(routingContextMock).put(eq(REQUEST_ID), requestIdCaptor.capture());
+        ArgumentCaptor<Handler<AsyncResult<Void>>> endHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(routingContextMock).addEndHandler(endHandlerCaptor.capture());
+
+        RoutingContext otherRoutingContextMock = mock(RoutingContext.class);
+        new CorrelationIdHandler(GENERATE_UUID).handle(otherRoutingContextMock);
+        ArgumentCaptor<String> otherRequestIdCaptor = ArgumentCaptor.forClass(String.class);
+        verify(otherRoutingContextMock).put(eq(REQUEST_ID), otherRequestIdCaptor.capture());
+        assertThat(otherRequestIdCaptor.getValue()).isNotEqualTo(requestIdCaptor.getValue());
+
+        try (MockedStatic<MemoizedDataRequests> mocked = mockStatic(MemoizedDataRequests.class)) {
+            endHandlerCaptor.getValue().handle(Future.succeededFuture());
+            mocked.verify(() -> MemoizedDataRequests.evict(requestIdCaptor.getValue()));
+        }
+    }
+
     @Test
     @DisplayName("test REQUEST_HEADER correlation strategy fallback to UUID_STRATEGY")
     void requestHeaderStrategyFallback() {
@@ -0,0 +1,110 @@
+package io.neonbee.internal.tracking;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+import io.neonbee.config.NeonBeeConfig;
+import io.neonbee.data.DataContext;
+import io.neonbee.data.DataMap;
+import io.neonbee.data.DataQuery;
+import io.neonbee.data.DataRequest;
+import io.neonbee.data.DataVerticle;
+import io.neonbee.data.internal.DataContextImpl;
+import io.neonbee.test.base.DataVerticleTestBase;
+import io.neonbee.test.helper.WorkingDirectoryBuilder;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+
+class TrackingDataTimingStrategyTest extends DataVerticleTestBase {
+    private static final List<String> PHASES =
+            List.of("enqueued", "started", "required", "retrieved", "replied", "responded");
+
+    @Override
+    protected WorkingDirectoryBuilder provideWorkingDirectoryBuilder(TestInfo testInfo, VertxTestContext testContext) {
+        NeonBeeConfig config = new NeonBeeConfig()
+                .setTrackingDataHandlingStrategy(TrackingDataTimingStrategy.class.getName());
+        return super.provideWorkingDirectoryBuilder(testInfo, testContext).setNeonBeeConfig(config);
+    }
+
+    @BeforeEach
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    void setUp(VertxTestContext testContext) {
+        CompositeFuture.all(deployVerticle(new DataVerticle<String>() {
+            @Override
+            public String getName() {
+                return "Inner";
+            }
+
+            @Override
+            public Future<String> retrieveData(DataQuery query, DataMap require, DataContext context) {
+                return Future.succeededFuture("Inner");
+            }
+        }), deployVerticle(new DataVerticle<String>() {
+            @Override
+            public String getName() {
+                return "Outer";
+            }
+
+            @Override
+            public Future<Collection<DataRequest>> requireData(DataQuery query, DataContext context) {
+                return Future.succeededFuture(List.of(new DataRequest("Inner")));
+            }
+
+            @Override
+            public Future<String> retrieveData(DataQuery query, DataMap require, DataContext context) {
+                return Future.succeededFuture("Outer " + require.resultFor("Inner"));
+            }
+        })).onComplete(testContext.succeedingThenComplete());
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("The root context should receive a latency tree of all hops")
+    void testLatencyTree(VertxTestContext testContext) {
+        DataContext context = new DataContextImpl();
+        requestData(new DataRequest("Outer"), context).onComplete(testContext.succeeding(result -> {
+            testContext.verify(() -> {
+                assertThat(result).isEqualTo("Outer Inner");
+
+                JsonArray hops = (JsonArray) context.responseData().get(DataContextImpl.HOPS_RESPONSE_DATA_KEY);
+                assertThat(hops.size()).isEqualTo(1);
+                JsonObject outer = hops.getJsonObject(0);
+                assertThat(outer.getString("qualifiedName")).isEqualTo("Outer");
+                assertTimestamps(outer.getJsonObject("timestamps"));
+
+                assertThat(outer.getJsonArray("hops").size()).isEqualTo(1);
+                JsonObject inner = outer.getJsonArray("hops").getJsonObject(0);
+                assertThat(inner.getString("qualifiedName")).isEqualTo("Inner");
+                assertTimestamps(inner.getJsonObject("timestamps"));
+
+                // the hop to the inner verticle happened while the outer verticle waited for the required data
+                assertThat(inner.getJsonObject("timestamps").getLong("enqueued"))
+                        .isAtLeast(outer.getJsonObject("timestamps").getLong("started"));
+                assertThat(inner.getJsonObject("timestamps").getLong("responded"))
+                        .isAtMost(outer.getJsonObject("timestamps").getLong("required"));
+            });
+            testContext.completeNow();
+        }));
+    }
+
+    private static void assertTimestamps(JsonObject timestamps) {
+        assertThat(timestamps.fieldNames()).containsExactlyElementsIn(PHASES);
+        long previous = 0;
+        for (String phase : PHASES) {
+            assertThat(timestamps.getLong(phase)).isAtLeast(previous);
+            previous = timestamps.getLong(phase);
+        }
+    }
+}
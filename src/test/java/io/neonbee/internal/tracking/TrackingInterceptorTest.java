@@ -1,20 +1,28 @@
 package io.neonbee.internal.tracking;
 
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.data.DataVerticle.CORRELATION_ID_HEADER;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.Iterator;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import io.neonbee.data.DataContext;
+import io.neonbee.data.DataContext.DataVerticleCoordinate;
 import io.neonbee.data.DataQuery;
 import io.neonbee.data.internal.DataContextImpl;
 import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.DeliveryContext;
 import io.vertx.core.json.JsonObject;
 
@@ -74,4 +82,67 @@ class TrackingInterceptorTest {
         verify(strategy, times(1)).handleInBoundReply(any(DataContext.class));
         reset(strategy);
     }
+
+    @Test
+    @DisplayName("test amending strategy writes the context back to the message")
+    void testAmendingContext() {
+        TrackingInterceptor interceptor =
+                new TrackingInterceptor(MessageDirection.OUTBOUND, new TrackingDataTimingStrategy());
+        interceptor.handle(new TestDeliveryContext<>(message));
+
+        DataContext context = DataContextImpl.decodeContextFromString(message.headers().get("Context"));
+        Iterator<DataVerticleCoordinate> path = context.path();
+        assertThat(path.next().getTimestamps()).isEmpty();
+        assertThat(path.next().getTimestamps()).containsKey("enqueued");
+    }
+
+    @Test
+    @DisplayName("test only sampled requests are tracked")
+    void testSampling() {
+        TrackingDataHandlingStrategy strategy = mock(TrackingDataHandlingStrategy.class);
+        TrackingInterceptor interceptor = new TrackingInterceptor(null, MessageDirection.OUTBOUND, strategy, 2, 0);
+        assertThat(new TrackingInterceptor(MessageDirection.OUTBOUND, strategy).isSampled("any")).isTrue();
+        assertThat(interceptor.isSampled("a")).isEqualTo("a".hashCode() % 2 == 0);
+        assertThat(interceptor.isSampled("b")).isEqualTo("b".hashCode() % 2 == 0);
+
+        String unsampledCorrelationId = interceptor.isSampled("a") ? "b" : "a";
+        message.headers().add(CORRELATION_ID_HEADER, unsampledCorrelationId);
+        interceptor.handle(new TestDeliveryContext<>(message));
+        verify(strategy, never()).handleOutBoundRequest(any(DataContext.class));
+
+        message.headers().set(CORRELATION_ID_HEADER, "a".equals(unsampledCorrelationId) ? "b" : "a");
+        interceptor.handle(new TestDeliveryContext<>(message));
+        verify(strategy, times(1)).handleOutBoundRequest(any(DataContext.class));
+    }
+
+    @Test
+    @DisplayName("test tracking data is handled asynchronously, if a queue is configured")
+    void testAsynchronousHandling() {
+        Vertx vertx = Vertx.vertx();
+        try {
+            TrackingDataHandlingStrategy strategy = mock(TrackingDataHandlingStrategy.class);
+            TrackingInterceptor interceptor = new TrackingInterceptor(vertx, MessageDirection.INBOUND, strategy, 1, 4);
+            for (int i = 0; i < 4; i++) {
+                interceptor.handle(new TestDeliveryContext<>(message));
+            }
+            verify(strategy, timeout(1000).times(4)).handleInBoundRequest(any(DataContext.class));
+            assertThat(interceptor.getDroppedCount()).isEqualTo(0);
+        } finally {
+            vertx.close();
+        }
+    }
+
+    @Test
+    @DisplayName("test tracking data is dropped, if the queue is full")
+    void testQueueFull() {
+        TrackingDataHandlingStrategy strategy = mock(TrackingDataHandlingStrategy.class);
+        Vertx vertx = mock(Vertx.class);
+        TrackingInterceptor interceptor = new TrackingInterceptor(vertx, MessageDirection.INBOUND, strategy, 1, 2);
+        for (int i = 0; i < 5; i++) {
+            interceptor.handle(new TestDeliveryContext<>(message));
+        }
+        // the mocked Vert.x instance never drains the queue
+        assertThat(interceptor.getDroppedCount()).isEqualTo(3);
+        verify(strategy, never()).handleInBoundRequest(any(DataContext.class));
+    }
 }
@@ -43,7 +43,9 @@ class ODataFilterTest extends ODataEndpointTestBase {
     static Stream<Arguments> withFilterOptions() {
         Stream<Arguments> inFunction = Stream.of(Arguments.of(filterOf("KeyPropertyString in ('3', '1')"), List.of()),
                 Arguments.of(filterOf("KeyPropertyString in ('id.3', 'id-1')"),
-                        List.of(EXPECTED_ENTITY_DATA_2, EXPECTED_ENTITY_DATA_4)));
+                        List.of(EXPECTED_ENTITY_DATA_2, EXPECTED_ENTITY_DATA_4)),
+                Arguments.of(filterOf("PropertyInt32 in (1, 42)"),
+                        List.of(EXPECTED_ENTITY_DATA_1, EXPECTED_ENTITY_DATA_4, EXPECTED_ENTITY_DATA_6)));
 
         Stream<Arguments> stringFunctions = Stream.of(
                 Arguments.of(filterOf("contains(PropertyString100,'separat')"), List.of(EXPECTED_ENTITY_DATA_3)),
@@ -110,13 +112,22 @@ class ODataFilterTest extends ODataEndpointTestBase {
         Stream<Arguments> comperatorsInteger = Stream.of(
                 Arguments.of(filterOf("PropertyInt32 gt 3"), List.of(EXPECTED_ENTITY_DATA_5, EXPECTED_ENTITY_DATA_6)),
                 Arguments.of(filterOf("PropertyInt32 lt 4"), List.of(EXPECTED_ENTITY_DATA_1, EXPECTED_ENTITY_DATA_2,
-                        EXPECTED_ENTITY_DATA_3, EXPECTED_ENTITY_DATA_4)));
+                        EXPECTED_ENTITY_DATA_3, EXPECTED_ENTITY_DATA_4)),
+                Arguments.of(filterOf("42 eq PropertyInt32"), List.of(EXPECTED_ENTITY_DATA_6)),
+                Arguments.of(filterOf("not (PropertyInt32 lt 4 and PropertyString eq 'c')"), List
+                        .of(EXPECTED_ENTITY_DATA_1, EXPECTED_ENTITY_DATA_3, EXPECTED_ENTITY_DATA_5,
+                                EXPECTED_ENTITY_DATA_6)));
+
+        Stream<Arguments> comperatorsString = Stream.of(Arguments.of(filterOf("PropertyString gt 'C'"),
+                List.of(EXPECTED_ENTITY_DATA_1, EXPECTED_ENTITY_DATA_2, EXPECTED_ENTITY_DATA_4, EXPECTED_ENTITY_DATA_5,
+                        EXPECTED_ENTITY_DATA_6)),
+                Arguments.of(filterOf("'C' ge PropertyString"), List.of(EXPECTED_ENTITY_DATA_3)));
 
         Stream<Arguments> comperatorsBoolean = Stream.of(Arguments.of(filterOf("PropertyBoolean eq false"), List
                 .of(EXPECTED_ENTITY_DATA_1, EXPECTED_ENTITY_DATA_3, EXPECTED_ENTITY_DATA_5, EXPECTED_ENTITY_DATA_6)));
 
         return Stream.of(inFunction, stringFunctions, comperatorsDouble, comperatorsDate, comperatorsInteger,
-                comperatorsBoolean).flatMap(i -> i);
+                comperatorsString, comperatorsBoolean).flatMap(i -> i);
     }
 
     @BeforeEach
@@ -64,6 +64,18 @@ class ODataOrderTest extends ODataEndpointTestBase {
         }, testContext).onComplete(testContext.succeedingThenComplete());
     }
 
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Respond with 200 if the service is existing and has test entities ordered (ordered with $skip and $top)")
+    void existingEntitiesOrderedSkipTopTest(VertxTestContext testContext) {
+        request.setQuery(Map.of("$orderby", "PropertyString desc,PropertyInt32 desc", "$skip", "1", "$top", "3"));
+
+        assertODataEntitySet(requestOData(request), entities -> {
+            assertThat(entities).containsExactly(EXPECTED_ENTITY_DATA_5, EXPECTED_ENTITY_DATA_2, EXPECTED_ENTITY_DATA_4)
+                    .inOrder();
+        }, testContext).onComplete(testContext.succeedingThenComplete());
+    }
+
     @Test
     @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
     @DisplayName("Test ordering of Edm.Date properties in asc order")
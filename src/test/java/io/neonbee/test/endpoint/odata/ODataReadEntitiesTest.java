@@ -1,6 +1,7 @@
 package io.neonbee.test.endpoint.odata;
 
 import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.endpoint.odatav4.ODataV4Endpoint.CONFIG_MAX_PAGE_SIZE;
 import static io.neonbee.endpoint.odatav4.ODataV4Endpoint.CONFIG_URI_CONVERSION;
 import static io.neonbee.endpoint.odatav4.ODataV4Endpoint.UriConversion.CDS;
 import static io.neonbee.endpoint.odatav4.ODataV4Endpoint.UriConversion.LOOSE;
@@ -17,9 +18,12 @@ import static io.neonbee.test.endpoint.odata.verticle.TestService1EntityVerticle
 
 import java.lang.reflect.Method;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.apache.olingo.commons.api.edm.FullQualifiedName;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,12 +44,15 @@ import io.neonbee.test.helper.WorkingDirectoryBuilder;
 import io.vertx.core.DeploymentOptions;
 import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.client.HttpResponse;
 import io.vertx.junit5.Timeout;
 import io.vertx.junit5.VertxTestContext;
 
 class ODataReadEntitiesTest extends ODataEndpointTestBase {
+    private static final Pattern SKIP_TOKEN = Pattern.compile("\\$skiptoken=([^&]*)");
+
     private static final List<JsonObject> ALL_ENTITIES = List.of(EXPECTED_ENTITY_DATA_1, EXPECTED_ENTITY_DATA_2,
             EXPECTED_ENTITY_DATA_3, EXPECTED_ENTITY_DATA_4, EXPECTED_ENTITY_DATA_5, EXPECTED_ENTITY_DATA_6);
 
@@ -66,9 +73,13 @@ class ODataReadEntitiesTest extends ODataEndpointTestBase {
                 uriConversion = CDS;
             }
 
+            // server-driven paging tests should get a maximum page size configured
+            int maxPageSize = testMethodName.contains("ServerDrivenPaging") ? 4 : 0;
+
             DeploymentOptions opts = WorkingDirectoryBuilder.readDeploymentOptions(ServerVerticle.class, root);
             EndpointConfig epc = new EndpointConfig().setType(ODataV4Endpoint.class.getName())
-                    .setAdditionalConfig(new JsonObject().put(CONFIG_URI_CONVERSION, uriConversion.toString()));
+                    .setAdditionalConfig(new JsonObject().put(CONFIG_URI_CONVERSION, uriConversion.toString())
+                            .put(CONFIG_MAX_PAGE_SIZE, maxPageSize));
             ServerConfig sc = new ServerConfig(opts.getConfig()).setEndpointConfigs(List.of(epc));
             opts.setConfig(sc.toJson());
             WorkingDirectoryBuilder.writeDeploymentOptions(ServerVerticle.class, opts, root);
@@ -187,4 +198,68 @@ class ODataReadEntitiesTest extends ODataEndpointTestBase {
         oDataRequest.setQuery(Map.of("$filter", "KeyPropertyString eq '你好ä'")).setCount();
         assertOData(requestOData(oDataRequest), "0", testContext).onComplete(testContext.succeedingThenComplete());
     }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Respond with pages of the configured maximum page size and a next link")
+    void existingEntitiesServerDrivenPagingTest(VertxTestContext testContext) {
+        List<Object> entities = new ArrayList<>();
+        requestOData(new ODataRequest(TEST_ENTITY_SET_FQN).addQueryParam("$count", "true")).compose(response -> {
+            JsonObject body = response.bodyAsJsonObject();
+            testContext.verify(() -> {
+                assertThat(body.getInteger("@odata.count")).isEqualTo(6);
+                assertThat(body.getJsonArray("value").size()).isEqualTo(4);
+                // the next link is relative to the entity set and keeps all query options of the request
+                assertThat(body.getString("@odata.nextLink")).matches("AllPropertiesNullable\\?(\\$|%24)count=true&.*");
+            });
+            entities.addAll(body.getJsonArray("value").getList());
+            return requestOData(new ODataRequest(TEST_ENTITY_SET_FQN).addQueryParam("$count", "true")
+                    .addQueryParam("$skiptoken", skipTokenOf(body)));
+        }).onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+            JsonObject body = response.bodyAsJsonObject();
+            assertThat(body.getInteger("@odata.count")).isEqualTo(6);
+            assertThat(body.containsKey("@odata.nextLink")).isFalse();
+            entities.addAll(body.getJsonArray("value").getList());
+            assertThat(new JsonArray(entities)).containsExactlyElementsIn(ALL_ENTITIES);
+            testContext.completeNow();
+        })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Respond with pages of the page size preferred by the client, considering $top")
+    void existingEntitiesPreferredPageSizeTest(VertxTestContext testContext) {
+        requestOData(new ODataRequest(TEST_ENTITY_SET_FQN).addQueryParam("$top", "3")
+                .addHeader("Prefer", "odata.maxpagesize=2")).compose(response -> {
+                    JsonObject body = response.bodyAsJsonObject();
+                    testContext.verify(() -> {
+                        assertThat(response.getHeader("Preference-Applied")).isEqualTo("odata.maxpagesize=2");
+                        assertThat(body.getJsonArray("value").size()).isEqualTo(2);
+                    });
+                    return requestOData(new ODataRequest(TEST_ENTITY_SET_FQN).addQueryParam("$top", "3")
+                            .addQueryParam("$skiptoken", skipTokenOf(body)).addHeader("Prefer", "odata.maxpagesize=2"));
+                }).onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+                    JsonObject body = response.bodyAsJsonObject();
+                    assertThat(body.getJsonArray("value").size()).isEqualTo(1);
+                    assertThat(body.containsKey("@odata.nextLink")).isFalse();
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Respond with 400 if the $skiptoken is invalid")
+    void invalidSkipTokenTest(VertxTestContext testContext) {
+        requestOData(new ODataRequest(TEST_ENTITY_SET_FQN).addQueryParam("$skiptoken", "invalid"))
+                .onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+                    assertThat(response.statusCode()).isEqualTo(400);
+                    testContext.completeNow();
+                })));
+    }
+
+    private static String skipTokenOf(JsonObject body) {
+        Matcher matcher = SKIP_TOKEN.matcher(body.getString("@odata.nextLink"));
+        assertThat(matcher.find()).isTrue();
+        return matcher.group(1);
+    }
 }
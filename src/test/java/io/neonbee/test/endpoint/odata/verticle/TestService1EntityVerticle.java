@@ -9,10 +9,10 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
-import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.apache.olingo.commons.api.data.Entity;
 import org.apache.olingo.commons.api.data.Property;
@@ -173,8 +173,9 @@ public class TestService1EntityVerticle extends EntityVerticle {
                     .addProperty(new Property(null, "PropertyDouble", ValueType.PRIMITIVE, 1337.0815d))
                     .addProperty(new Property(null, "PropertyBoolean", ValueType.PRIMITIVE, false));
 
+            // provide the entities as a stream, to verify that streamed entity wrappers are processed correctly
             return Future.succeededFuture(new EntityWrapper(TEST_ENTITY_SET_FQN,
-                    List.of(entity1, entity2, entity3, entity4, entity5, entity6)));
+                    Stream.of(entity1, entity2, entity3, entity4, entity5, entity6)));
         } catch (ParseException e) {
             return Future.failedFuture(e);
         }